@@ -0,0 +1,201 @@
+package org.jinx.cli;
+
+import org.jinx.migration.DatabaseType;
+import org.jinx.migration.execution.JdbcMigrationExecutor;
+import org.jinx.migration.execution.SqlStatementSplitter;
+import org.jinx.migration.integration.MigrationLock;
+import org.jinx.migration.integration.MigrationToolIntegration;
+import org.jinx.migration.telemetry.DdlTelemetryRecorder;
+import org.jinx.migration.telemetry.DdlTelemetryStore;
+import org.jinx.migration.telemetry.JdbcDdlTelemetryStore;
+import org.jinx.migration.telemetry.JsonlDdlTelemetryStore;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Command for applying a generated migration SQL file over JDBC.
+ * Statements run one by one; progress is checkpointed in the database so an interrupted
+ * migration resumes at the failed statement instead of starting over.
+ * The whole run holds the migration advisory lock; after acquiring it every node re-checks the
+ * applied hash and skips a migration that another node already finished.
+ * Per-statement timings are recorded as DDL telemetry (in the database or a local JSONL file)
+ * so that {@code db estimate} can predict the runtime of future migrations.
+ */
+@CommandLine.Command(
+        name = "apply",
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true,
+        description = "생성된 마이그레이션 SQL을 JDBC로 실행합니다. 중단된 경우 실패한 문장부터 이어서 실행합니다."
+)
+public class ApplyCommand implements Callable<Integer> {
+
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(?m)^\\s*--\\s*jinx:version=(\\S+)\\s*$");
+    private static final String MIGRATION_FILE_PATTERN = "V.+__.+\\.sql";
+
+    @CommandLine.Option(names = "--file", description = "실행할 마이그레이션 SQL 파일 (기본: --out 폴더의 최신 V*__*.sql)")
+    private Path migrationFile;
+
+    @CommandLine.Option(names = "--out", description = "마이그레이션 파일 위치", defaultValue = "build/jinx")
+    private Path outputDir;
+
+    @CommandLine.Option(names = "--db-url", description = "데이터베이스 URL", required = true)
+    private String dbUrl;
+
+    @CommandLine.Option(names = "--db-user", description = "데이터베이스 사용자명")
+    private String dbUser;
+
+    @CommandLine.Option(names = "--db-password", description = "데이터베이스 비밀번호")
+    private String dbPassword;
+
+    @CommandLine.Option(names = "--restart", description = "체크포인트를 무시하고 처음부터 다시 실행")
+    private boolean restart;
+
+    @CommandLine.Option(names = "--lock-timeout", description = "다른 노드의 마이그레이션 잠금을 기다리는 최대 시간(초)", defaultValue = "60")
+    private long lockTimeoutSeconds;
+
+    @CommandLine.Option(names = "--telemetry", description = "문장별 실행 측정값 저장 위치 (db, file, none)", defaultValue = "db")
+    private String telemetry;
+
+    @CommandLine.Option(names = "--telemetry-file", description = "--telemetry file일 때의 JSONL 파일 (기본: --out/ddl-telemetry.jsonl)")
+    private Path telemetryFile;
+
+    @Override
+    public Integer call() {
+        try {
+            Path file = migrationFile != null ? migrationFile : findLatestMigration().orElse(null);
+            if (file == null || !Files.exists(file)) {
+                System.err.println("No migration file found. Run 'jinx db migrate' first or pass --file.");
+                return 1;
+            }
+
+            if (!List.of("db", "file", "none").contains(telemetry.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Unsupported --telemetry value: " + telemetry);
+            }
+
+            String script = Files.readString(file);
+            String migrationId = file.getFileName().toString();
+
+            Optional<String> hash = MigrationToolIntegration.extractHashFromMigrationFile(file.toString());
+            try (Connection conn = DriverManager.getConnection(dbUrl, dbUser, dbPassword)) {
+                // 백슬래시 이스케이프 여부가 DB마다 달라 접속한 DB 기준으로 문장을 나눔
+                List<String> statements = SqlStatementSplitter.split(script,
+                        DatabaseType.detect(conn.getMetaData().getDatabaseProductName()));
+                System.out.println("Applying " + migrationId + " (" + statements.size() + " statements)");
+
+                MigrationToolIntegration integration = new MigrationToolIntegration(conn);
+                try (MigrationLock lock = integration.lock(Duration.ofSeconds(lockTimeoutSeconds))) {
+                    if (lock.probablyWaited()) {
+                        System.out.println("Acquired migration lock (another node probably held it)");
+                    }
+                    // 잠금을 기다리는 동안 다른 노드가 같은 마이그레이션을 끝냈을 수 있음
+                    if (!restart && hash.isPresent() && integration.isAppliedViaJinxState(hash.get().substring("sha256:".length()))) {
+                        System.out.println("Migration already applied (" + hash.get() + "), nothing to do");
+                        return 0;
+                    }
+
+                    DdlTelemetryRecorder recorder = telemetry.equalsIgnoreCase("none") ? null
+                            : new DdlTelemetryRecorder(conn, migrationId, hash.map(h -> h.substring("sha256:".length())).orElse(null));
+                    if (recorder != null) {
+                        recorder.prepare(statements);
+                    }
+
+                    JdbcMigrationExecutor.ApplyReport report;
+                    try {
+                        report = new JdbcMigrationExecutor(conn).execute(migrationId, statements, restart, (result, total) -> {
+                            printProgress(result, total);
+                            if (recorder != null) {
+                                recorder.onStatement(result, total);
+                            }
+                        });
+                    } finally {
+                        // 실패한 실행도 그때까지 성공한 문장의 측정값은 남김
+                        if (recorder != null) {
+                            saveTelemetry(conn, recorder);
+                        }
+                    }
+
+                    System.out.printf("Migration applied: %d executed, %d skipped, %d ms%n",
+                            report.executedCount(), report.skippedCount(), report.totalDurationMillis());
+
+                    hash.ifPresent(h -> recordApplication(integration, h, script, report, statements.size()));
+                }
+            }
+            return 0;
+
+        } catch (JdbcMigrationExecutor.StatementExecutionException e) {
+            System.err.println("Migration failed at statement " + (e.getStatementIndex() + 1) + ": " + e.getCause().getMessage());
+            System.err.println("   " + firstLine(e.getSql()));
+            System.err.println("   Fix the problem and re-run to resume from this statement.");
+            return 1;
+        } catch (Exception e) {
+            System.err.println("Apply failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private void printProgress(JdbcMigrationExecutor.StatementResult result, int total) {
+        if (result.skipped()) {
+            System.out.printf("[%d/%d] skipped (already applied)  %s%n", result.index() + 1, total, firstLine(result.sql()));
+        } else {
+            System.out.printf("[%d/%d] %d ms, %d row(s)  %s%n", result.index() + 1, total,
+                    result.durationMillis(), result.rowsAffected(), firstLine(result.sql()));
+        }
+    }
+
+    /**
+     * Records the applied HEAD hash in the jinx state table and schema history, so verify/promote-baseline
+     * see it. The history row keeps the total duration and statement count of this run.
+     */
+    private void recordApplication(MigrationToolIntegration integration, String hash, String script,
+                                   JdbcMigrationExecutor.ApplyReport report, int statementCount) {
+        Matcher version = VERSION_PATTERN.matcher(script);
+        try {
+            integration.recordSchemaApplication(
+                    hash.substring("sha256:".length()),
+                    version.find() ? version.group(1) : null,
+                    report.totalDurationMillis(),
+                    statementCount);
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Could not record schema application - " + e.getMessage());
+        }
+    }
+
+    private void saveTelemetry(Connection conn, DdlTelemetryRecorder recorder) {
+        DdlTelemetryStore store = telemetry.equalsIgnoreCase("file")
+                ? new JsonlDdlTelemetryStore(telemetryFile != null ? telemetryFile : outputDir.resolve("ddl-telemetry.jsonl"))
+                : new JdbcDdlTelemetryStore(conn);
+        try {
+            store.append(recorder.records());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not record DDL telemetry - " + e.getMessage());
+        }
+    }
+
+    private Optional<Path> findLatestMigration() throws IOException {
+        if (!Files.isDirectory(outputDir)) {
+            return Optional.empty();
+        }
+        try (var stream = Files.list(outputDir)) {
+            return stream
+                    .filter(p -> p.getFileName().toString().matches(MIGRATION_FILE_PATTERN))
+                    .max((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()));
+        }
+    }
+
+    private static String firstLine(String sql) {
+        String line = sql.lines().findFirst().orElse("").trim();
+        return line.length() > 80 ? line.substring(0, 77) + "..." : line;
+    }
+}
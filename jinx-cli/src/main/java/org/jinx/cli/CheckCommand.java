@@ -0,0 +1,134 @@
+package org.jinx.cli;
+
+import org.jinx.cli.service.MigrationRenderService;
+import org.jinx.cli.service.SchemaIoService;
+import org.jinx.migration.MigrationGenerator;
+import org.jinx.migration.check.H2Emulation;
+import org.jinx.migration.check.MigrationCheck;
+import org.jinx.migration.check.MigrationCheck.CheckReport;
+import org.jinx.migration.differs.SchemaDiffer;
+import org.jinx.migration.execution.SqlStatementSplitter;
+import org.jinx.migration.introspect.SchemaDrift;
+import org.jinx.model.DialectBundle;
+import org.jinx.model.SchemaModel;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Command for validating a generated migration without a real database.
+ * The baseline schema and the migration are replayed into an in-memory H2 database running in the
+ * dialect's compatibility mode, and the resulting catalog is compared with the HEAD schema.
+ */
+@CommandLine.Command(
+        name = "check",
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true,
+        description = "마이그레이션을 인메모리 H2에 재생해 HEAD 스키마와 일치하는지 검증합니다."
+)
+public class CheckCommand implements Callable<Integer> {
+
+    private static final String MIGRATION_FILE_PATTERN = "V.+__.+\\.sql";
+
+    @CommandLine.Option(names = {"-p", "--path"}, description = "스키마 JSON 파일 폴더", defaultValue = "build/classes/java/main/jinx")
+    private Path schemaDir;
+
+    @CommandLine.Option(names = "--out", description = "baseline 및 마이그레이션 파일 위치", defaultValue = "build/jinx")
+    private Path outputDir;
+
+    @CommandLine.Option(names = {"-d", "--dialect"}, description = "마이그레이션 SQL 방언", defaultValue = "mysql")
+    private String dialect;
+
+    @CommandLine.Option(names = "--file", description = "검증할 마이그레이션 SQL 파일 (기본: --out 폴더의 최신 V*__*.sql, 없으면 baseline→HEAD diff를 생성)")
+    private Path migrationFile;
+
+    @CommandLine.Option(names = "--limitations", description = "이 방언에서 H2가 흉내 내지 못하는 기능 목록만 출력")
+    private boolean limitations;
+
+    @Override
+    public Integer call() {
+        try {
+            DialectBundle bundle = MigrationRenderService.resolveDialect(dialect);
+            if (limitations) {
+                System.out.println("H2 emulation limitations for " + dialect + ":");
+                H2Emulation.limitations(bundle.databaseType()).forEach(l -> System.out.println("   - " + l));
+                return 0;
+            }
+
+            SchemaIoService schemaIo = new SchemaIoService(schemaDir, outputDir);
+            SchemaModel head = schemaIo.loadLatestSchema();
+            if (head == null) {
+                System.err.println("No HEAD schema found in " + schemaDir);
+                return 1;
+            }
+            SchemaModel baseline = schemaIo.loadBaselineSchema();
+
+            Path file = migrationFile != null ? migrationFile : findLatestMigration().orElse(null);
+            List<String> statements;
+            String source;
+            if (file != null) {
+                if (!Files.exists(file)) {
+                    System.err.println("Migration file not found: " + file);
+                    return 1;
+                }
+                statements = SqlStatementSplitter.split(Files.readString(file), bundle.databaseType());
+                source = file.getFileName().toString();
+            } else {
+                statements = SqlStatementSplitter.split(new MigrationGenerator(bundle, head, false)
+                        .generateSql(new SchemaDiffer().diff(baseline, head)), bundle.databaseType());
+                source = "generated baseline -> HEAD diff";
+            }
+
+            CheckReport report = new MigrationCheck(bundle).run(baseline, head, statements);
+            System.out.println("Checking " + source + " against H2 (" + dialect + " mode): "
+                    + report.baselineStatements() + " baseline + " + report.migrationStatements() + " migration statement(s)");
+
+            if (report.failure() != null) {
+                MigrationCheck.Failure f = report.failure();
+                System.err.println("Statement " + (f.index() + 1) + " of the " + f.phase().name().toLowerCase()
+                        + " failed: " + f.message());
+                if (f.sql() != null) {
+                    System.err.println("   " + f.sql());
+                }
+                return 1;
+            }
+            if (!report.emulatedFeatures().isEmpty()) {
+                System.out.println("Not validated (stripped for H2): " + String.join(", ", report.emulatedFeatures()));
+            }
+            for (SchemaDrift d : report.approximations()) {
+                System.out.println("   ~ " + d);
+            }
+
+            if (!report.passed()) {
+                System.out.println("Migration does not produce the HEAD schema: " + report.mismatches().size() + " mismatch(es)");
+                for (SchemaDrift d : report.mismatches()) {
+                    System.out.println("   " + d);
+                }
+                return 1;
+            }
+            System.out.println("Migration check passed (" + report.tablesChecked() + " tables, "
+                    + report.elapsed().toMillis() + " ms)");
+            return 0;
+
+        } catch (Exception e) {
+            System.err.println("Migration check failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private Optional<Path> findLatestMigration() throws IOException {
+        if (!Files.isDirectory(outputDir)) {
+            return Optional.empty();
+        }
+        try (var stream = Files.list(outputDir)) {
+            return stream
+                    .filter(p -> p.getFileName().toString().matches(MIGRATION_FILE_PATTERN))
+                    .max((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()));
+        }
+    }
+}
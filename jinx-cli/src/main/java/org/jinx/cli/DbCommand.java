@@ -4,7 +4,8 @@ import picocli.CommandLine;
 
 /**
  * Database-related subcommands container.
- * Groups migration, verification, and baseline promotion commands.
+ * Groups migration, verification, baseline promotion, plan rendering, apply, fleet rollout, drift detection,
+ * runtime estimation, in-memory migration check, trash purge, index lint and partition maintenance commands.
  */
 @CommandLine.Command(
         name = "db",
@@ -12,7 +13,16 @@ import picocli.CommandLine;
         subcommands = {
                 MigrateCommand.class,
                 VerifyCommand.class,
-                PromoteBaselineCommand.class
+                PromoteBaselineCommand.class,
+                RenderCommand.class,
+                ApplyCommand.class,
+                FleetCommand.class,
+                DriftCommand.class,
+                EstimateCommand.class,
+                CheckCommand.class,
+                PurgeTrashCommand.class,
+                LintIndexesCommand.class,
+                PartitionMaintenanceCommand.class
         }
 )
 public class DbCommand {
@@ -0,0 +1,123 @@
+package org.jinx.cli;
+
+import org.jinx.cli.service.MigrationRenderService;
+import org.jinx.cli.service.SchemaIoService;
+import org.jinx.migration.MigrationGenerator;
+import org.jinx.migration.introspect.SchemaDrift;
+import org.jinx.migration.introspect.SchemaDriftDetector;
+import org.jinx.migration.introspect.SchemaIntrospector;
+import org.jinx.model.DialectBundle;
+import org.jinx.model.SchemaModel;
+import picocli.CommandLine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Command for detecting drift between the expected schema and the live database.
+ * The live schema is read with a handful of bulk catalog queries (not per-table metadata calls),
+ * so the cost stays flat as the number of tables grows.
+ */
+@CommandLine.Command(
+        name = "drift",
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true,
+        description = "라이브 데이터베이스 스키마를 읽어 예상 스키마와의 차이(드리프트)를 보고합니다."
+)
+public class DriftCommand implements Callable<Integer> {
+
+    @CommandLine.Option(names = {"-p", "--path"}, description = "스키마 JSON 파일 폴더", defaultValue = "build/classes/java/main/jinx")
+    private Path schemaDir;
+
+    @CommandLine.Option(names = "--out", description = "baseline 및 교정 SQL 파일 위치", defaultValue = "build/jinx")
+    private Path outputDir;
+
+    @CommandLine.Option(names = "--against", description = "비교할 예상 스키마 (baseline 또는 head)", defaultValue = "baseline")
+    private String against;
+
+    @CommandLine.Option(names = "--db-url", description = "데이터베이스 URL", required = true)
+    private String dbUrl;
+
+    @CommandLine.Option(names = "--db-user", description = "데이터베이스 사용자명")
+    private String dbUser;
+
+    @CommandLine.Option(names = "--db-password", description = "데이터베이스 비밀번호")
+    private String dbPassword;
+
+    @CommandLine.Option(names = "--schema", description = "대상 스키마 (기본: 연결의 현재 스키마)")
+    private String schema;
+
+    @CommandLine.Option(names = {"-d", "--dialect"}, description = "교정 SQL 방언 (기본: 연결된 DB에서 추론)")
+    private String dialect;
+
+    @CommandLine.Option(names = "--parallel", description = "카탈로그 쿼리를 별도 연결에서 병렬로 실행")
+    private boolean parallel;
+
+    @CommandLine.Option(names = "--fix", description = "드리프트를 되돌리는 교정 SQL 파일을 생성")
+    private boolean fix;
+
+    @Override
+    public Integer call() {
+        try {
+            SchemaIoService schemaIo = new SchemaIoService(schemaDir, outputDir);
+            SchemaModel expected = switch (against.toLowerCase(Locale.ROOT)) {
+                case "baseline" -> schemaIo.loadBaselineSchema();
+                case "head" -> schemaIo.loadLatestSchema();
+                default -> throw new IllegalArgumentException("Unsupported --against value: " + against);
+            };
+            if (expected == null) {
+                System.err.println("No " + against + " schema found.");
+                return 1;
+            }
+
+            SchemaModel live;
+            DialectBundle bundle;
+            try (Connection conn = DriverManager.getConnection(dbUrl, dbUser, dbPassword)) {
+                String product = conn.getMetaData().getDatabaseProductName();
+                SchemaIntrospector introspector = SchemaIntrospector.forProduct(product);
+                bundle = MigrationRenderService.resolveDialect(dialect != null ? dialect
+                        : product.toLowerCase(Locale.ROOT).contains("mariadb") ? "mysql" : product);
+                live = parallel
+                        ? introspector.introspectParallel(() -> DriverManager.getConnection(dbUrl, dbUser, dbPassword), schema)
+                        : introspector.introspect(conn, schema);
+            }
+
+            SchemaDriftDetector detector = new SchemaDriftDetector(
+                    bundle.base().getJavaTypeMapper(), bundle.supportsSequence());
+            SchemaDriftDetector.DriftReport report = detector.detect(expected, live);
+            report.correctiveDiff().getWarnings().forEach(w -> System.err.println("Warning: " + w));
+
+            if (!report.hasDrift()) {
+                System.out.println("No drift detected (" + live.getEntities().size() + " tables checked)");
+                return 0;
+            }
+
+            System.out.println("Schema drift detected: " + report.drifts().size() + " difference(s)");
+            for (SchemaDrift drift : report.drifts()) {
+                System.out.println("   " + drift);
+            }
+
+            if (fix) {
+                String sql = new MigrationGenerator(bundle, expected, false).generateSql(report.correctiveDiff());
+                if (sql.isBlank()) {
+                    System.out.println("Nothing to fix automatically.");
+                } else {
+                    Files.createDirectories(outputDir);
+                    Path fixFile = outputDir.resolve("drift-fix-" + bundle.databaseType().name().toLowerCase(Locale.ROOT) + ".sql");
+                    Files.writeString(fixFile, sql);
+                    System.out.println("Corrective SQL written to " + fixFile);
+                }
+            }
+            return 1;
+
+        } catch (Exception e) {
+            System.err.println("Drift detection failed: " + e.getMessage());
+            e.printStackTrace();
+            return 1;
+        }
+    }
+}
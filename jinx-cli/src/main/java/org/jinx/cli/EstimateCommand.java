@@ -0,0 +1,151 @@
+package org.jinx.cli;
+
+import org.jinx.migration.DatabaseType;
+import org.jinx.migration.execution.SqlStatementSplitter;
+import org.jinx.migration.telemetry.DdlTelemetry;
+import org.jinx.migration.telemetry.DdlTelemetryRecorder;
+import org.jinx.migration.telemetry.JdbcDdlTelemetryStore;
+import org.jinx.migration.telemetry.JsonlDdlTelemetryStore;
+import org.jinx.migration.telemetry.MigrationRuntimeEstimator;
+import org.jinx.migration.telemetry.MigrationRuntimeEstimator.Estimate;
+import org.jinx.migration.telemetry.MigrationRuntimeEstimator.StatementEstimate;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * Command for estimating how long a generated migration will take, from DDL telemetry recorded by {@code db apply}.
+ * With {@code --db-url} the current table sizes are read from the catalog, so size-dependent operations
+ * (index builds, column rewrites) are scaled to the target database.
+ */
+@CommandLine.Command(
+        name = "estimate",
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true,
+        description = "과거 실행 측정값으로 마이그레이션 SQL의 예상 실행 시간을 계산합니다."
+)
+public class EstimateCommand implements Callable<Integer> {
+
+    private static final String MIGRATION_FILE_PATTERN = "V.+__.+\\.sql";
+
+    @CommandLine.Option(names = "--file", description = "추정할 마이그레이션 SQL 파일 (기본: --out 폴더의 최신 V*__*.sql)")
+    private Path migrationFile;
+
+    @CommandLine.Option(names = "--out", description = "마이그레이션 파일 위치", defaultValue = "build/jinx")
+    private Path outputDir;
+
+    @CommandLine.Option(names = "--db-url", description = "측정값 테이블과 현재 테이블 크기를 읽을 데이터베이스 URL")
+    private String dbUrl;
+
+    @CommandLine.Option(names = "--db-user", description = "데이터베이스 사용자명")
+    private String dbUser;
+
+    @CommandLine.Option(names = "--db-password", description = "데이터베이스 비밀번호")
+    private String dbPassword;
+
+    @CommandLine.Option(names = "--telemetry-file", description = "추가로 읽을 JSONL 측정값 파일 (기본: --out/ddl-telemetry.jsonl, 있으면)")
+    private Path telemetryFile;
+
+    @CommandLine.Option(names = "--dialect", description = "이 DB 제품의 측정값만 사용 (기본: --db-url의 DB, 없으면 전체)")
+    private String dialect;
+
+    @Override
+    public Integer call() {
+        try {
+            Path file = migrationFile != null ? migrationFile : findLatestMigration().orElse(null);
+            if (file == null || !Files.exists(file)) {
+                System.err.println("No migration file found. Run 'jinx db migrate' first or pass --file.");
+                return 1;
+            }
+            List<String> statements = SqlStatementSplitter.split(Files.readString(file),
+                    DatabaseType.detect(dialect != null ? dialect : dbUrl));
+
+            List<DdlTelemetry> history = new ArrayList<>();
+            Map<String, Long> tableRows = Map.of();
+            String filter = dialect != null ? dialect.toLowerCase(Locale.ROOT) : null;
+            if (dbUrl != null) {
+                try (Connection conn = DriverManager.getConnection(dbUrl, dbUser, dbPassword)) {
+                    String product = conn.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+                    if (filter == null) {
+                        filter = product;
+                    }
+                    history.addAll(new JdbcDdlTelemetryStore(conn).load(filter));
+                    tableRows = DdlTelemetryRecorder.estimateTableRows(conn, product, tablesOf(statements));
+                }
+            }
+            Path jsonl = telemetryFile != null ? telemetryFile : outputDir.resolve("ddl-telemetry.jsonl");
+            history.addAll(new JsonlDdlTelemetryStore(jsonl).load(filter));
+
+            if (history.isEmpty()) {
+                System.err.println("No DDL telemetry found. Apply migrations with 'jinx db apply' to collect timings.");
+                return 1;
+            }
+
+            Estimate estimate = new MigrationRuntimeEstimator(history)
+                    .estimate(MigrationRuntimeEstimator.plan(statements, tableRows));
+
+            System.out.println("Estimating " + file.getFileName() + " (" + statements.size() + " statements, "
+                    + history.size() + " historical samples)");
+            for (StatementEstimate s : estimate.statements()) {
+                String target = s.planned().statement().operation()
+                        + (s.planned().statement().table() != null ? " " + s.planned().statement().table() : "")
+                        + (s.planned().tableRows() != null ? ", ~" + s.planned().tableRows() + " rows" : "");
+                if (s.estimatedMillis() == null) {
+                    System.out.printf("[%d/%d] no history  %s%n", s.planned().index() + 1, statements.size(), target);
+                } else {
+                    System.out.printf("[%d/%d] ~%d ms  %s (%d samples)%n", s.planned().index() + 1, statements.size(),
+                            s.estimatedMillis(), target, s.sampleCount());
+                }
+            }
+            System.out.println("Estimated total: " + format(Duration.ofMillis(estimate.totalMillis()))
+                    + (estimate.unestimatedCount() > 0
+                    ? " (" + estimate.unestimatedCount() + " statement(s) without history not included)" : ""));
+            return 0;
+
+        } catch (Exception e) {
+            System.err.println("Estimate failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static Set<String> tablesOf(List<String> statements) {
+        Set<String> tables = new LinkedHashSet<>();
+        MigrationRuntimeEstimator.plan(statements, Map.of()).forEach(p -> {
+            if (p.statement().table() != null) {
+                tables.add(p.statement().table());
+            }
+        });
+        return tables;
+    }
+
+    private static String format(Duration duration) {
+        if (duration.toMinutes() > 0) {
+            return String.format("%dm %02ds", duration.toMinutes(), duration.toSecondsPart());
+        }
+        return duration.toMillis() + " ms";
+    }
+
+    private Optional<Path> findLatestMigration() throws IOException {
+        if (!Files.isDirectory(outputDir)) {
+            return Optional.empty();
+        }
+        try (var stream = Files.list(outputDir)) {
+            return stream
+                    .filter(p -> p.getFileName().toString().matches(MIGRATION_FILE_PATTERN))
+                    .max((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()));
+        }
+    }
+}
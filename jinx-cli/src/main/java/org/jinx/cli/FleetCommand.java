@@ -0,0 +1,158 @@
+package org.jinx.cli;
+
+import org.jinx.cli.service.FleetRolloutService;
+import org.jinx.cli.service.FleetRolloutService.Action;
+import org.jinx.cli.service.FleetRolloutService.Status;
+import org.jinx.cli.service.FleetRolloutService.Tenant;
+import org.jinx.cli.service.FleetRolloutService.TenantResult;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Command for verifying or applying one migration across many tenants.
+ * A tenant is a JDBC URL (database-per-tenant) or a schema name inside {@code --db-url} (schema-per-tenant).
+ * Finished tenants are recorded in a state file, so re-running the command resumes a partial rollout.
+ */
+@CommandLine.Command(
+        name = "fleet",
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true,
+        description = "여러 테넌트(DB 또는 스키마)에 하나의 마이그레이션을 병렬로 검증/적용합니다."
+)
+public class FleetCommand implements Callable<Integer> {
+
+    private static final String MIGRATION_FILE_PATTERN = "V.+__.+\\.sql";
+
+    @CommandLine.Option(names = "--action", description = "verify 또는 apply", defaultValue = "verify")
+    private String action;
+
+    @CommandLine.Option(names = "--targets", description = "테넌트 목록 파일 (한 줄에 JDBC URL 또는 스키마 이름, #은 주석)")
+    private Path targetsFile;
+
+    @CommandLine.Option(names = "--target", description = "테넌트 (JDBC URL 또는 스키마 이름, 반복 가능)")
+    private List<String> targets = new ArrayList<>();
+
+    @CommandLine.Option(names = "--file", description = "마이그레이션 SQL 파일 (기본: --out 폴더의 최신 V*__*.sql)")
+    private Path migrationFile;
+
+    @CommandLine.Option(names = "--out", description = "마이그레이션 파일 위치", defaultValue = "build/jinx")
+    private Path outputDir;
+
+    @CommandLine.Option(names = "--db-url", description = "스키마 이름 테넌트가 속한 데이터베이스 URL")
+    private String dbUrl;
+
+    @CommandLine.Option(names = "--db-user", description = "데이터베이스 사용자명")
+    private String dbUser;
+
+    @CommandLine.Option(names = "--db-password", description = "데이터베이스 비밀번호")
+    private String dbPassword;
+
+    @CommandLine.Option(names = "--concurrency", description = "동시에 처리할 최대 테넌트 수", defaultValue = "32")
+    private int concurrency;
+
+    @CommandLine.Option(names = "--per-host", description = "DB 호스트당 최대 동시 연결 수", defaultValue = "8")
+    private int perHost;
+
+    @CommandLine.Option(names = "--lock-timeout", description = "테넌트별 마이그레이션 잠금 대기 시간(초)", defaultValue = "60")
+    private long lockTimeoutSeconds;
+
+    @CommandLine.Option(names = "--state", description = "재개용 상태 파일 (기본: --out/fleet-<마이그레이션 파일>.state)")
+    private Path stateFile;
+
+    @CommandLine.Option(names = "--restart", description = "상태 파일을 무시하고 모든 테넌트를 다시 처리")
+    private boolean restart;
+
+    @Override
+    public Integer call() {
+        try {
+            Action fleetAction = switch (action.toLowerCase()) {
+                case "verify" -> Action.VERIFY;
+                case "apply" -> Action.APPLY;
+                default -> throw new IllegalArgumentException("Unsupported action: " + action);
+            };
+
+            List<Tenant> tenants = loadTenants();
+            if (tenants.isEmpty()) {
+                System.err.println("No tenants given. Use --targets or --target.");
+                return 1;
+            }
+
+            Path file = migrationFile != null ? migrationFile : findLatestMigration();
+            if (file == null || !Files.exists(file)) {
+                System.err.println("No migration file found. Run 'jinx db migrate' first or pass --file.");
+                return 1;
+            }
+            FleetRolloutService.MigrationScript script = FleetRolloutService.MigrationScript.load(file);
+
+            Path state = stateFile != null ? stateFile : outputDir.resolve("fleet-" + script.migrationId() + ".state");
+            if (restart) {
+                Files.deleteIfExists(state);
+            }
+            long resumed = FleetRolloutService.countCompleted(tenants, state);
+            System.out.printf("Fleet %s of %s: %d tenant(s)%s%n", fleetAction.name().toLowerCase(), script.migrationId(),
+                    tenants.size(), resumed > 0 ? ", " + resumed + " already done in a previous run" : "");
+
+            FleetRolloutService service = new FleetRolloutService(dbUser, dbPassword, concurrency, perHost,
+                    Duration.ofSeconds(lockTimeoutSeconds));
+            List<TenantResult> results = service.run(tenants, fleetAction, script, state, this::printProgress);
+
+            Map<Status, Integer> counts = new EnumMap<>(Status.class);
+            results.forEach(r -> counts.merge(r.status(), 1, Integer::sum));
+            System.out.println("Fleet summary: " + counts + (resumed > 0 ? ", resumed-skipped=" + resumed : ""));
+
+            results.stream()
+                    .filter(r -> r.status() == Status.FAILED)
+                    .forEach(r -> System.err.println("   FAILED " + r.tenant().id() + ": " + r.error()));
+
+            boolean failed = counts.containsKey(Status.FAILED);
+            boolean pending = fleetAction == Action.VERIFY && counts.containsKey(Status.PENDING);
+            if (failed) {
+                System.err.println("Re-run the same command to retry failed tenants.");
+            }
+            return failed || pending ? 1 : 0;
+
+        } catch (Exception e) {
+            System.err.println("Fleet rollout failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private void printProgress(TenantResult result, int completed, int total) {
+        System.out.printf("[%d/%d] %s: %s (%d ms)%s%n", completed, total, result.tenant().id(), result.status(),
+                result.durationMillis(), result.error() != null ? " - " + result.error() : "");
+    }
+
+    private List<Tenant> loadTenants() throws IOException {
+        List<String> lines = new ArrayList<>(targets);
+        if (targetsFile != null) {
+            lines.addAll(Files.readAllLines(targetsFile));
+        }
+        return lines.stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .distinct()
+                .map(line -> Tenant.parse(line, dbUrl))
+                .toList();
+    }
+
+    private Path findLatestMigration() throws IOException {
+        if (!Files.isDirectory(outputDir)) {
+            return null;
+        }
+        try (var stream = Files.list(outputDir)) {
+            return stream
+                    .filter(p -> p.getFileName().toString().matches(MIGRATION_FILE_PATTERN))
+                    .max((a, b) -> a.getFileName().toString().compareTo(b.getFileName().toString()))
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.jinx.cli;
+
+import org.jinx.cli.service.MigrationRenderService;
+import org.jinx.cli.service.SchemaIoService;
+import org.jinx.migration.advisor.RedundantIndexAnalyzer;
+import org.jinx.migration.advisor.RedundantIndexAnalyzer.Finding;
+import org.jinx.model.DialectBundle;
+import org.jinx.model.SchemaModel;
+import picocli.CommandLine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Command for finding indexes that the PK, a unique constraint or a wider index already cover.
+ * Each redundant index adds write amplification and buffer-pool pressure without speeding up any query.
+ * With {@code --sql} a DROP INDEX script is written; the matching {@code @Index} should be removed from the
+ * entity as well, or the next {@code db migrate} will create it again.
+ */
+@CommandLine.Command(
+        name = "lint-indexes",
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true,
+        description = "PK, UNIQUE 제약 또는 더 넓은 인덱스와 겹치는 중복 인덱스를 찾습니다."
+)
+public class LintIndexesCommand implements Callable<Integer> {
+
+    @CommandLine.Option(names = {"-p", "--path"}, description = "스키마 JSON 파일 폴더", defaultValue = "build/classes/java/main/jinx")
+    private Path schemaDir;
+
+    @CommandLine.Option(names = "--out", description = "DROP INDEX 스크립트 저장 위치", defaultValue = "build/jinx")
+    private Path outputDir;
+
+    @CommandLine.Option(names = {"-d", "--dialect"}, description = "DROP INDEX 스크립트 방언", defaultValue = "mysql")
+    private String dialect;
+
+    @CommandLine.Option(names = "--sql", description = "중복 인덱스를 삭제하는 drop-redundant-indexes-<version>.sql을 생성합니다.")
+    private boolean generateSql;
+
+    @CommandLine.Option(names = "--strict", description = "중복 인덱스가 있으면 종료 코드 1을 반환합니다.")
+    private boolean strict;
+
+    @Override
+    public Integer call() {
+        try {
+            SchemaModel head = new SchemaIoService(schemaDir, outputDir).loadLatestSchema();
+            if (head == null) {
+                System.err.println("No HEAD schema found in " + schemaDir);
+                return 1;
+            }
+
+            List<Finding> findings = new RedundantIndexAnalyzer().analyze(head);
+            if (findings.isEmpty()) {
+                System.out.println("No redundant indexes found.");
+                return 0;
+            }
+
+            System.out.println("Found " + findings.size() + " redundant index(es):");
+            findings.forEach(f -> System.out.println("   - " + f.message()));
+
+            if (generateSql) {
+                Path file = writeDropScript(head.getVersion(), findings);
+                System.out.println("Drop script written to " + file
+                        + ". Remove the matching @Index declarations as well, or the next migration will recreate them.");
+            }
+            return strict ? 1 : 0;
+
+        } catch (Exception e) {
+            System.err.println("Index lint failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private Path writeDropScript(String version, List<Finding> findings) throws Exception {
+        DialectBundle bundle = MigrationRenderService.resolveDialect(dialect);
+        StringBuilder sql = new StringBuilder()
+                .append("-- Jinx redundant index cleanup for schema ").append(version).append('\n');
+        for (Finding f : findings) {
+            sql.append("-- ").append(f.message()).append('\n')
+                    .append(bundle.ddl().getDropIndexSql(f.tableName(), f.index()));
+        }
+        Files.createDirectories(outputDir);
+        Path file = outputDir.resolve("drop-redundant-indexes-" + version + ".sql");
+        Files.writeString(file, sql.toString().trim());
+        return file;
+    }
+}
@@ -1,20 +1,23 @@
 package org.jinx.cli;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.jinx.migration.DatabaseType;
+import org.jinx.cli.service.MigrationRenderService;
+import org.jinx.migration.dialect.mysql.MySqlUuidStorage;
 import org.jinx.model.DialectBundle;
 import org.jinx.options.JinxOptions;
 import org.jinx.naming.DefaultNaming;
+import org.jinx.cli.service.SchemaIoService;
 import org.jinx.config.ConfigurationLoader;
-import org.jinx.migration.baseline.BaselineManager;
+import org.jinx.migration.DatabaseType;
 import org.jinx.migration.MigrationInfo;
-import org.jinx.migration.output.LiquibaseYamlHandler;
-import org.jinx.migration.output.SqlMigrationHandler;
-import org.jinx.migration.output.SqlRollbackHandler;
+import org.jinx.migration.advisor.ForeignKeyIndexAdvisor;
+import org.jinx.migration.dialect.postgresql.PostgreSqlDialect;
+import org.jinx.migration.plan.MigrationPlan;
+import org.jinx.migration.plan.MigrationPlanFiles;
+import org.jinx.migration.plan.MigrationPlanner;
+import org.jinx.migration.snapshot.SchemaSnapshot;
+import org.jinx.migration.snapshot.SnapshotDiffScope;
 import org.jinx.model.DiffResult;
 import org.jinx.migration.differs.SchemaDiffer;
-import org.jinx.migration.dialect.mysql.MySqlDialect;
-import org.jinx.migration.dialect.postgresql.PostgreSqlDialect;
 import org.jinx.model.SchemaModel;
 import picocli.CommandLine;
 
@@ -22,9 +25,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Command for generating database migration SQL files.
@@ -38,11 +44,9 @@ import java.util.Map;
 )
 public class MigrateCommand implements Callable<Integer> {
 
-    private static final String SCHEMA_FILE_PATTERN = "schema-\\d{14}\\.json";
-
     @CommandLine.Option(names = {"-p", "--path"}, description = "스키마 JSON 파일 폴더", defaultValue = "build/classes/java/main/jinx")
     private Path schemaDir;
-    @CommandLine.Option(names = {"-d", "--dialect"}, description = "사용할 DB 방언(mysql, postgres …)", defaultValue = "mysql")
+    @CommandLine.Option(names = {"-d", "--dialect"}, description = "사용할 DB 방언(mysql, postgres …). 쉼표로 여러 개를 지정하면 방언별 하위 폴더에 생성합니다.", defaultValue = "mysql")
     private String dialectName;
     @CommandLine.Option(names = "--out", description = "생성된 migration.sql 저장 위치", defaultValue = "build/jinx")
     private Path outputDir;
@@ -50,6 +54,16 @@ public class MigrateCommand implements Callable<Integer> {
     private boolean force;
     @CommandLine.Option(names = "--rollback", description = "롤백 SQL도 함께 생성합니다.")
     private boolean generateRollback;
+    @CommandLine.Option(names = "--safe-drop", description = "삭제 테이블을 DROP 대신 휴지통 이름으로 변경하고, 실제 삭제는 purge-<version>.sql로 분리합니다.")
+    private boolean safeDrop;
+    @CommandLine.Option(names = "--uuid-storage", description = "MySQL의 java.util.UUID 저장 방식 (binary, binary_swap, char)", defaultValue = "binary")
+    private String uuidStorage;
+    @CommandLine.Option(names = "--concurrent-indexes", description = "PostgreSQL에서 기존 테이블의 인덱스를 CREATE/DROP INDEX CONCURRENTLY로 생성·삭제합니다.")
+    private boolean concurrentIndexes;
+    @CommandLine.Option(names = "--align-columns", description = "PostgreSQL 새 테이블의 컬럼을 PK, 고정 길이(정렬 8/4/2/1바이트 순), 가변 길이 순으로 배치해 행 패딩을 줄입니다.")
+    private boolean alignColumns;
+    @CommandLine.Option(names = "--fk-indexes", description = "PostgreSQL에서 인덱스가 없는 FK 처리 방식 (warn: 경고만, create: 인덱스 자동 생성, off)", defaultValue = "warn")
+    private String fkIndexes;
     @CommandLine.Option(names = "--liquibase", description = "Liquibase YAML을 함께 생성합니다.")
     private boolean generateLiquibase;
     @CommandLine.Option(names = "--max-length", description = "생성되는 제약조건/인덱스 이름의 최대 길이", defaultValue = "30")
@@ -62,17 +76,29 @@ public class MigrateCommand implements Callable<Integer> {
         try {
             // Load and apply configuration
             applyConfiguration();
+            Map<String, DialectBundle> dialects = MigrationRenderService.resolveDialects(dialectName, MySqlUuidStorage.from(uuidStorage),
+                    concurrentIndexes, alignColumns);
 
-            // Compare baseline vs HEAD
-            BaselineManager baselineManager = new BaselineManager(outputDir);
-            SchemaModel baseline = baselineManager.loadBaseline();
-            SchemaModel head = loadLatestSchema();
+            // Load baseline, HEAD and baseline metadata concurrently
+            SchemaIoService schemaIo = new SchemaIoService(schemaDir, outputDir);
+            SchemaIoService.LoadedSnapshots loaded = schemaIo.loadConcurrently();
+            SchemaSnapshot headSnapshot = loaded.head();
 
-            if (head == null) {
+            if (headSnapshot == null) {
                 System.out.println("No HEAD schema found. Run compilation first.");
                 return 0;
             }
 
+            // Hash the full HEAD schema while the diff runs
+            CompletableFuture<String> headHash = schemaIo.generateSchemaHashAsync(headSnapshot);
+
+            // Only entities whose fingerprints differ are decoded and diffed
+            SnapshotDiffScope.Narrowed scope = SnapshotDiffScope.narrow(loaded.baseline(), headSnapshot);
+            SchemaModel baseline = scope.baseline();
+            SchemaModel head = scope.head();
+
+            adviseForeignKeyIndexes(dialects, loaded.baseline(), headSnapshot, head);
+
             // Detect schema changes
             DiffResult diff = new SchemaDiffer().diff(baseline, head);
             if (!isChanged(diff)) {
@@ -84,7 +110,8 @@ public class MigrateCommand implements Callable<Integer> {
             handleDangerousChanges(diff);
 
             // Generate migration files with hash information
-            generateMigrationOutputs(diff, baseline, head, baselineManager);
+            generateMigrationOutputs(diff, dialects, loaded.baseline().getVersion(), head.getVersion(),
+                    loaded.baselineHash(), headHash.join());
 
             System.out.println("Migration files generated successfully in " + outputDir);
             return 0;
@@ -102,31 +129,7 @@ public class MigrateCommand implements Callable<Integer> {
     }
 
     /**
-     * Loads the latest (HEAD) schema file from the schema directory.
-     *
-     * @return the latest schema model, or null if no schema files exist
-     * @throws IOException if an I/O error occurs
-     */
-    private SchemaModel loadLatestSchema() throws IOException {
-        if (!Files.exists(schemaDir)) {
-            return null;
-        }
-
-        List<Path> schemaPaths = Files.list(schemaDir)
-                .filter(p -> p.getFileName().toString().matches(SCHEMA_FILE_PATTERN))
-                .sorted((a, b) -> b.getFileName().toString().compareTo(a.getFileName().toString()))
-                .limit(1)
-                .toList();
-
-        if (schemaPaths.isEmpty()) {
-            return null;
-        }
-
-        return loadSchema(schemaPaths.get(0));
-    }
-
-    /**
-     * Detects potentially dangerous changes (e.g., enum type modifications).
+     * Detects potentially dangerous changes (e.g., enum mapping or UUID storage changes).
      * Throws an exception if dangerous changes are found and --force option is not set.
      *
      * @param diff the schema diff result
@@ -135,7 +138,9 @@ public class MigrateCommand implements Callable<Integer> {
     private void handleDangerousChanges(DiffResult diff) throws DangerousChangeException {
         List<String> dangerousChanges = diff.getModifiedTables().stream()
                 .flatMap(m -> m.getColumnDiffs().stream()
-                        .filter(cd -> cd.getChangeDetail() != null && cd.getChangeDetail().contains("Enum mapping changed"))
+                        .filter(cd -> cd.getChangeDetail() != null
+                                && (cd.getChangeDetail().contains("Enum mapping changed")
+                                || cd.getChangeDetail().contains("UUID storage changed")))
                         .map(cd -> String.format("Table '%s', Column '%s': %s",
                                 m.getNewEntity().getTableName(),
                                 cd.getColumn().getColumnName(),
@@ -148,34 +153,82 @@ public class MigrateCommand implements Callable<Integer> {
         }
     }
 
-    private void generateMigrationOutputs(DiffResult diff, SchemaModel baseline, SchemaModel head, BaselineManager baselineManager) throws IOException {
-        var bundle = resolveDialects(dialectName);
-        var naming = new DefaultNaming(maxLength);
-
-        // Generate hashes for header
-        String baselineHash = baselineManager.getBaselineHash().orElse("initial");
-        String headHash = baselineManager.generateSchemaHash(head);
-
-        // Create migration info for headers
-        MigrationInfo migrationInfo = new MigrationInfo(baselineHash, headHash, head.getVersion());
-
-        // Generate migration SQL with header
-        new SqlMigrationHandler().handle(diff, baseline, head, bundle, outputDir, migrationInfo);
-
-        if (generateRollback) {
-            new SqlRollbackHandler().handle(diff, baseline, head, bundle, outputDir);
+    /**
+     * PostgreSQL does not index foreign key columns on its own, so unindexed FKs make parent deletes
+     * scan the child table. By default only the entities in the diff scope are checked and warned about,
+     * so unchanged entities are never decoded; earlier runs already reported them. With
+     * {@code --fk-indexes=create} the full HEAD schema is checked:
+     * <ul>
+     *   <li>adds indexes for FKs that are new or lost their index to the HEAD side of the diff only,
+     *       so the migration creates them;</li>
+     *   <li>writes {@code fk-indexes.sql} with {@code CREATE INDEX IF NOT EXISTS} for FKs that were already
+     *       unindexed in the baseline, since the baseline cannot tell whether an earlier run created them.</li>
+     * </ul>
+     * Creation only applies when PostgreSQL is the sole output dialect, because the plan is shared by every
+     * dialect and MySQL indexes foreign keys itself.
+     */
+    private void adviseForeignKeyIndexes(Map<String, DialectBundle> dialects, SchemaSnapshot baselineSnapshot,
+                                         SchemaSnapshot headSnapshot, SchemaModel head) throws IOException {
+        String mode = fkIndexes.toLowerCase(Locale.ROOT);
+        if (!List.of("off", "warn", "create").contains(mode)) {
+            throw new IllegalArgumentException("Unknown --fk-indexes mode: " + fkIndexes);
+        }
+        if (mode.equals("off") || dialects.values().stream().noneMatch(b -> b.databaseType() == DatabaseType.POSTGRESQL)) {
+            return;
         }
+        ForeignKeyIndexAdvisor advisor = new ForeignKeyIndexAdvisor(new DefaultNaming(maxLength));
+        boolean postgresOnly = dialects.values().stream().allMatch(b -> b.databaseType() == DatabaseType.POSTGRESQL);
+        if (mode.equals("warn") || !postgresOnly) {
+            if (!postgresOnly) {
+                System.err.println("Warning: --fk-indexes=create only applies when PostgreSQL is the only dialect; "
+                        + "reporting unindexed foreign keys instead.");
+            }
+            advisor.advise(head).forEach(a -> System.err.println("Warning: " + a.message()));
+            return;
+        }
+
+        List<ForeignKeyIndexAdvisor.Advice> unindexed = advisor.advise(headSnapshot.toSchemaModel());
+        Set<String> inBaseline = advisor.advise(baselineSnapshot.toSchemaModel()).stream()
+                .map(a -> a.index().getIndexName())
+                .collect(Collectors.toSet());
+        advisor.apply(head, a -> !inBaseline.contains(a.index().getIndexName()))
+                .forEach(a -> System.out.println(
+                        "Adding index " + a.index().getIndexName() + " for foreign key " + a.constraintName()));
 
-        if (generateLiquibase) {
-            new LiquibaseYamlHandler().handle(diff, baseline, head, bundle, outputDir, naming, migrationInfo);
+        List<ForeignKeyIndexAdvisor.Advice> existing = unindexed.stream()
+                .filter(a -> inBaseline.contains(a.index().getIndexName()))
+                .toList();
+        Path script = outputDir.resolve("fk-indexes.sql");
+        if (existing.isEmpty()) {
+            Files.deleteIfExists(script);
+            return;
         }
+        PostgreSqlDialect pg = (PostgreSqlDialect) dialects.values().iterator().next().ddl();
+        StringBuilder sql = new StringBuilder()
+                .append("-- Indexes for foreign keys that already existed without one. Safe to run more than once.\n")
+                .append("-- Declare them with @Index on the entity to keep them in the schema.\n\n");
+        existing.forEach(a -> sql.append(pg.indexStatementIfNotExists(a.index(), a.tableName())));
+        Files.createDirectories(outputDir);
+        Files.writeString(script, sql.toString());
+        System.out.println("Wrote " + existing.size() + " index(es) for existing foreign keys to " + script);
     }
 
-
-    private SchemaModel loadSchema(Path path) throws IOException {
-        return new ObjectMapper().readValue(path.toFile(), SchemaModel.class);
+    /**
+     * Builds the migration plan once, saves it as {@code plan-<version>.json},
+     * and renders every requested output from the plan.
+     */
+    private void generateMigrationOutputs(DiffResult diff, Map<String, DialectBundle> dialects,
+                                          String baselineVersion, String headVersion,
+                                          String baselineHash, String headHash) throws IOException {
+        MigrationInfo migrationInfo = new MigrationInfo(baselineHash, headHash, headVersion);
+        MigrationPlan plan = MigrationPlanner.plan(diff, baselineVersion, migrationInfo);
+        MigrationPlanFiles.write(outputDir, plan);
+
+        new MigrationRenderService(new DefaultNaming(maxLength))
+                .render(plan, dialects, outputDir, generateRollback, generateLiquibase, safeDrop);
     }
 
+
     private boolean isChanged(DiffResult r) {
         return !(r.getAddedTables().isEmpty() &&
                 r.getDroppedTables().isEmpty() &&
@@ -216,25 +269,4 @@ public class MigrateCommand implements Callable<Integer> {
             }
         }
     }
-
-    private DialectBundle resolveDialects(String name) {
-        return switch (name.toLowerCase()) {
-            case "mysql" -> {
-                MySqlDialect mysql = new MySqlDialect();
-                yield DialectBundle.builder(mysql, DatabaseType.MYSQL)
-                        .identity(mysql)
-                        .tableGenerator(mysql)
-                        .build();
-            }
-            case "postgresql", "postgres" -> {
-                PostgreSqlDialect pg = new PostgreSqlDialect();
-                yield DialectBundle.builder(pg, DatabaseType.POSTGRESQL)
-                        .identity(pg)
-                        .sequence(pg)
-                        .tableGenerator(pg)
-                        .build();
-            }
-            default -> throw new IllegalArgumentException("Unsupported dialect: " + name);
-        };
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package org.jinx.cli;
+
+import org.jinx.cli.service.MigrationRenderService;
+import org.jinx.cli.service.SchemaIoService;
+import org.jinx.migration.DatabaseType;
+import org.jinx.migration.partition.RollingPartitionPlanner;
+import org.jinx.migration.partition.RollingPartitionPlanner.AttachState;
+import org.jinx.migration.partition.RollingPartitionPlanner.Period;
+import org.jinx.migration.partition.RollingPartitionPlanner.Plan;
+import org.jinx.migration.partition.RollingPartitionPolicy;
+import org.jinx.migration.partition.RollingPartitionPolicy.ExpireAction;
+import org.jinx.migration.partition.RollingPartitionPolicy.Interval;
+import org.jinx.migration.spi.dialect.PartitionDialect;
+import org.jinx.model.DialectBundle;
+import org.jinx.model.SchemaModel;
+import picocli.CommandLine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Command for rolling time-based RANGE partitions: pre-creates the partitions for the next {@code --ahead}
+ * periods and detaches or drops the ones that fell out of {@code --retention}. The output is a plain migration
+ * file named after the run date, meant to be scheduled and fed to {@code db apply}. Creates and drops check
+ * whether the partition exists. PostgreSQL detaches with {@code DETACH PARTITION ... CONCURRENTLY}, which cannot
+ * carry that check inside a transaction, so with {@code --db-url} the command reads {@code pg_inherits} first and
+ * skips partitions that are already detached (finishing interrupted detaches); without it every expired
+ * partition is assumed to be attached. Tables with a DEFAULT partition cannot detach concurrently and fall back
+ * to a guarded plain DETACH, which holds an ACCESS EXCLUSIVE lock on the parent while it runs.
+ */
+@CommandLine.Command(
+        name = "maintain-partitions",
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true,
+        description = "시간 기준 RANGE 파티션을 미리 만들고 보존 기간이 지난 파티션을 정리하는 SQL을 생성합니다."
+)
+public class PartitionMaintenanceCommand implements Callable<Integer> {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @CommandLine.Option(names = {"-p", "--path"}, description = "스키마 JSON 파일 폴더", defaultValue = "build/classes/java/main/jinx")
+    private Path schemaDir;
+
+    @CommandLine.Option(names = "--out", description = "유지보수 SQL 저장 위치", defaultValue = "build/jinx")
+    private Path outputDir;
+
+    @CommandLine.Option(names = {"-d", "--dialect"}, description = "SQL 방언", defaultValue = "mysql")
+    private String dialect;
+
+    @CommandLine.Option(names = "--interval", description = "파티션 하나의 기간 (${COMPLETION-CANDIDATES})", defaultValue = "MONTH")
+    private Interval interval;
+
+    @CommandLine.Option(names = "--ahead", description = "현재 기간 이후로 미리 만들 파티션 수", defaultValue = "3")
+    private int ahead;
+
+    @CommandLine.Option(names = "--retention", description = "현재 기간 이전으로 남겨 둘 파티션 수", defaultValue = "12")
+    private int retention;
+
+    @CommandLine.Option(names = "--catch-up", description = "한 번에 만료 처리할 기간 수", defaultValue = "1")
+    private int catchUp;
+
+    @CommandLine.Option(names = "--action", description = "만료 파티션 처리 방식 (${COMPLETION-CANDIDATES}). 기본값은 PostgreSQL DETACH, MySQL DROP")
+    private ExpireAction action;
+
+    @CommandLine.Option(names = "--today", description = "기준 날짜 (yyyy-MM-dd). 기본값은 오늘")
+    private LocalDate today;
+
+    @CommandLine.Option(names = "--db-url", description = "떼어 낼 파티션이 아직 붙어 있는지 확인할 데이터베이스 URL")
+    private String dbUrl;
+
+    @CommandLine.Option(names = "--db-user", description = "데이터베이스 사용자명")
+    private String dbUser;
+
+    @CommandLine.Option(names = "--db-password", description = "데이터베이스 비밀번호")
+    private String dbPassword;
+
+    @Override
+    public Integer call() {
+        try {
+            SchemaModel head = new SchemaIoService(schemaDir, outputDir).loadLatestSchema();
+            if (head == null) {
+                System.err.println("No HEAD schema found in " + schemaDir);
+                return 1;
+            }
+
+            DialectBundle bundle = MigrationRenderService.resolveDialect(dialect);
+            if (!(bundle.ddl() instanceof PartitionDialect partitionDialect)) {
+                System.err.println("Dialect " + dialect + " does not support partitioning");
+                return 1;
+            }
+            ExpireAction expire = action != null ? action
+                    : bundle.databaseType() == DatabaseType.POSTGRESQL ? ExpireAction.DETACH : ExpireAction.DROP;
+            LocalDate date = today != null ? today : LocalDate.now();
+
+            RollingPartitionPlanner planner = new RollingPartitionPlanner(
+                    new RollingPartitionPolicy(interval, ahead, retention, catchUp, expire));
+            List<Plan> plans = planner.plan(head, date);
+            if (plans.isEmpty()) {
+                System.out.println("No RANGE partitioned tables found.");
+                return 0;
+            }
+
+            StringBuilder sql = new StringBuilder()
+                    .append("-- Jinx partition maintenance for schema ").append(head.getVersion())
+                    .append(" on ").append(date).append(" (").append(interval).append(", ahead ").append(ahead)
+                    .append(", retention ").append(retention).append(", ").append(expire).append(")\n");
+            boolean checkAttached = expire == ExpireAction.DETACH && dbUrl != null;
+            try (Connection conn = checkAttached ? DriverManager.getConnection(dbUrl, dbUser, dbPassword) : null) {
+                for (Plan plan : plans) {
+                    sql.append(checkAttached
+                            ? planner.render(plan, partitionDialect, period -> attachState(conn, partitionDialect, plan, period))
+                            : planner.render(plan, partitionDialect));
+                    System.out.println(plan.skipped()
+                            ? "   - " + plan.tableName() + ": skipped, " + plan.skipReason()
+                            : "   - " + plan.tableName() + ": ensure " + plan.create().size()
+                              + ", " + expire.name().toLowerCase(Locale.ROOT) + " " + plan.expire().size() + " partition(s)");
+                }
+            }
+            if (expire == ExpireAction.DETACH && !checkAttached) {
+                System.err.println("Warning: without --db-url, expired partitions are assumed to be attached; "
+                        + "re-running DETACH for a partition that is already detached fails.");
+            }
+
+            Files.createDirectories(outputDir);
+            Path file = outputDir.resolve("partition-maintenance-" + date.format(FILE_DATE) + ".sql");
+            Files.writeString(file, sql.toString().trim());
+            System.out.println("Partition maintenance script written to " + file);
+            return 0;
+
+        } catch (Exception e) {
+            System.err.println("Partition maintenance failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static AttachState attachState(Connection conn, PartitionDialect dialect, Plan plan, Period period) {
+        String query = dialect.getPartitionAttachedQuery(plan.tableName(), period.toPartition());
+        if (query == null) {
+            return AttachState.ATTACHED;
+        }
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(query)) {
+            if (!rs.next()) {
+                return AttachState.DETACHED;
+            }
+            return rs.getBoolean(1) ? AttachState.DETACH_PENDING : AttachState.ATTACHED;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not check whether " + plan.tableName() + "." + period.name()
+                    + " is attached: " + e.getMessage(), e);
+        }
+    }
+}
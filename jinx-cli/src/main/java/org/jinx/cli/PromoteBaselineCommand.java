@@ -6,6 +6,7 @@ import org.jinx.model.SchemaModel;
 import picocli.CommandLine;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.concurrent.Callable;
 
 /**
@@ -40,11 +41,17 @@ public class PromoteBaselineCommand implements Callable<Integer> {
     @CommandLine.Option(names = "--migration-tool", description = "사용하는 마이그레이션 도구", defaultValue = "jinx")
     private String migrationTool;
 
+    @CommandLine.Option(names = "--lock-timeout", description = "다른 노드의 마이그레이션 잠금을 기다리는 최대 시간(초). 0이면 잠그지 않음", defaultValue = "60")
+    private long lockTimeoutSeconds;
+
+    @CommandLine.Option(names = "--snapshot-store", description = "엔티티 단위 임의 접근이 가능한 인덱스 스냅샷(schema-baseline.jxs)도 함께 저장")
+    private boolean snapshotStore;
+
     @Override
     public Integer call() {
-        try {
-            SchemaIoService schemaIo = new SchemaIoService(schemaDir, outputDir);
-            VerificationService verification = new VerificationService(dbUrl, dbUser, dbPassword, migrationTool);
+        try (VerificationService verification = new VerificationService(dbUrl, dbUser, dbPassword, migrationTool,
+                lockTimeoutSeconds > 0 ? Duration.ofSeconds(lockTimeoutSeconds) : null)) {
+            SchemaIoService schemaIo = new SchemaIoService(schemaDir, outputDir, snapshotStore);
 
             // Verify schema before promotion (unless force flag is set)
             if (!force) {
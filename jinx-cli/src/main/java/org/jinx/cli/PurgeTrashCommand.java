@@ -0,0 +1,119 @@
+package org.jinx.cli;
+
+import org.jinx.cli.service.MigrationRenderService;
+import org.jinx.migration.DatabaseType;
+import org.jinx.migration.TableTrash;
+import org.jinx.model.DialectBundle;
+import picocli.CommandLine;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Command for dropping tables that safe-drop migrations ({@code db migrate --safe-drop}) moved to the trash.
+ * Meant to be scheduled separately from the migration itself, e.g. in a low-traffic window.
+ * On MySQL the rows can first be deleted in small chunks, so the final DROP releases an empty tablespace
+ * instead of evicting a large table from the buffer pool in one go.
+ */
+@CommandLine.Command(
+        name = "purge-trash",
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true,
+        description = "안전 삭제 마이그레이션이 휴지통으로 옮긴 테이블을 실제로 삭제합니다."
+)
+public class PurgeTrashCommand implements Callable<Integer> {
+
+    @CommandLine.Option(names = "--db-url", description = "데이터베이스 URL", required = true)
+    private String dbUrl;
+
+    @CommandLine.Option(names = "--db-user", description = "데이터베이스 사용자명")
+    private String dbUser;
+
+    @CommandLine.Option(names = "--db-password", description = "데이터베이스 비밀번호")
+    private String dbPassword;
+
+    @CommandLine.Option(names = {"-d", "--dialect"}, description = "DB 방언 (기본: 연결된 DB에서 추론)")
+    private String dialect;
+
+    @CommandLine.Option(names = "--up-to", description = "이 버전 이하의 마이그레이션이 옮긴 테이블만 삭제 (기본: 전체)")
+    private String upToVersion;
+
+    @CommandLine.Option(names = "--chunk-size", description = "MySQL에서 DROP 전에 이 행 수씩 나누어 삭제 (0이면 바로 DROP)", defaultValue = "0")
+    private int chunkSize;
+
+    @CommandLine.Option(names = "--dry-run", description = "삭제할 테이블만 출력")
+    private boolean dryRun;
+
+    @Override
+    public Integer call() {
+        try (Connection conn = DriverManager.getConnection(dbUrl, dbUser, dbPassword)) {
+            String product = conn.getMetaData().getDatabaseProductName();
+            DialectBundle bundle = MigrationRenderService.resolveDialect(dialect != null ? dialect
+                    : product.toLowerCase(Locale.ROOT).contains("mariadb") ? "mysql" : product);
+
+            List<String> tables = findTrashTables(conn);
+            if (tables.isEmpty()) {
+                System.out.println("Trash is empty.");
+                return 0;
+            }
+
+            for (String table : tables) {
+                if (dryRun) {
+                    System.out.println("Would drop " + table);
+                    continue;
+                }
+                long deleted = 0;
+                if (chunkSize > 0 && bundle.databaseType() == DatabaseType.MYSQL) {
+                    deleted = deleteInChunks(conn, bundle, table);
+                }
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute(bundle.ddl().getDropTableSql(table).trim());
+                }
+                System.out.println("Dropped " + table + (deleted > 0 ? " (" + deleted + " rows deleted in chunks)" : ""));
+            }
+            return 0;
+
+        } catch (Exception e) {
+            System.err.println("Purge failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private List<String> findTrashTables(Connection conn) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (ResultSet rs = conn.getMetaData().getTables(conn.getCatalog(), conn.getSchema(), "%", new String[]{"TABLE"})) {
+            while (rs.next()) {
+                String name = rs.getString("TABLE_NAME");
+                String version = TableTrash.versionOf(name);
+                if (version != null && (upToVersion == null || version.compareTo(upToVersion) <= 0)) {
+                    tables.add(name);
+                }
+            }
+        }
+        tables.sort(null);
+        return tables;
+    }
+
+    private long deleteInChunks(Connection conn, DialectBundle bundle, String table) throws SQLException {
+        String sql = "DELETE FROM " + bundle.base().quoteIdentifier(table) + " LIMIT " + chunkSize;
+        long total = 0;
+        try (Statement stmt = conn.createStatement()) {
+            int deleted;
+            do {
+                deleted = stmt.executeUpdate(sql);
+                total += deleted;
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            } while (deleted > 0);
+        }
+        return total;
+    }
+}
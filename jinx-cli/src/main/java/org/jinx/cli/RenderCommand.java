@@ -0,0 +1,72 @@
+package org.jinx.cli;
+
+import org.jinx.cli.service.MigrationRenderService;
+import org.jinx.migration.dialect.mysql.MySqlUuidStorage;
+import org.jinx.migration.plan.MigrationPlan;
+import org.jinx.migration.plan.MigrationPlanFiles;
+import org.jinx.model.DialectBundle;
+import org.jinx.naming.DefaultNaming;
+import org.jinx.options.JinxOptions;
+import picocli.CommandLine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Command for rendering migration outputs from a saved migration plan.
+ * Schema snapshots are not loaded and no diff is computed, so CI can cache the plan
+ * and re-render it for other dialects or output formats.
+ */
+@CommandLine.Command(
+        name = "render",
+        mixinStandardHelpOptions = true,
+        showDefaultValues = true,
+        description = "저장된 마이그레이션 계획(plan-<version>.json)으로 SQL/롤백/Liquibase 출력을 생성합니다."
+)
+public class RenderCommand implements Callable<Integer> {
+
+    @CommandLine.Option(names = "--plan", description = "마이그레이션 계획 파일 (plan-<version>.json)", required = true)
+    private Path planFile;
+    @CommandLine.Option(names = {"-d", "--dialect"}, description = "사용할 DB 방언(mysql, postgres …). 쉼표로 여러 개를 지정하면 방언별 하위 폴더에 생성합니다.", defaultValue = "mysql")
+    private String dialectName;
+    @CommandLine.Option(names = "--out", description = "출력 파일 저장 위치", defaultValue = "build/jinx")
+    private Path outputDir;
+    @CommandLine.Option(names = "--rollback", description = "롤백 SQL도 함께 생성합니다.")
+    private boolean generateRollback;
+    @CommandLine.Option(names = "--uuid-storage", description = "MySQL의 java.util.UUID 저장 방식 (binary, binary_swap, char)", defaultValue = "binary")
+    private String uuidStorage;
+    @CommandLine.Option(names = "--concurrent-indexes", description = "PostgreSQL에서 기존 테이블의 인덱스를 CREATE/DROP INDEX CONCURRENTLY로 생성·삭제합니다.")
+    private boolean concurrentIndexes;
+    @CommandLine.Option(names = "--align-columns", description = "PostgreSQL 새 테이블의 컬럼을 PK, 고정 길이(정렬 8/4/2/1바이트 순), 가변 길이 순으로 배치해 행 패딩을 줄입니다.")
+    private boolean alignColumns;
+    @CommandLine.Option(names = "--liquibase", description = "Liquibase YAML을 함께 생성합니다.")
+    private boolean generateLiquibase;
+    @CommandLine.Option(names = "--max-length", description = "생성되는 제약조건/인덱스 이름의 최대 길이", defaultValue = "30")
+    private int maxLength = JinxOptions.Naming.MAX_LENGTH_DEFAULT;
+
+    @Override
+    public Integer call() {
+        try {
+            if (!Files.exists(planFile)) {
+                System.err.println("Migration plan not found: " + planFile);
+                return 1;
+            }
+
+            Map<String, DialectBundle> dialects = MigrationRenderService.resolveDialects(dialectName, MySqlUuidStorage.from(uuidStorage),
+                    concurrentIndexes, alignColumns);
+            MigrationPlan plan = MigrationPlanFiles.read(planFile);
+
+            new MigrationRenderService(new DefaultNaming(maxLength))
+                    .render(plan, dialects, outputDir, generateRollback, generateLiquibase);
+
+            System.out.println("Rendered " + plan.getOperations().size() + " operation(s) for "
+                    + String.join(", ", dialects.keySet()) + " in " + outputDir);
+            return 0;
+        } catch (Exception e) {
+            System.err.println("Render failed: " + e.getMessage());
+            return 1;
+        }
+    }
+}
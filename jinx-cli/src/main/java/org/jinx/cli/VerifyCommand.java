@@ -6,6 +6,7 @@ import org.jinx.model.SchemaModel;
 import picocli.CommandLine;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.concurrent.Callable;
 
 /**
@@ -37,11 +38,14 @@ public class VerifyCommand implements Callable<Integer> {
     @CommandLine.Option(names = "--migration-tool", description = "사용하는 마이그레이션 도구", defaultValue = "jinx")
     private String migrationTool; // jinx, liquibase, flyway
 
+    @CommandLine.Option(names = "--lock-timeout", description = "다른 노드의 마이그레이션 잠금을 기다리는 최대 시간(초). 0이면 잠그지 않음", defaultValue = "60")
+    private long lockTimeoutSeconds;
+
     @Override
     public Integer call() {
-        try {
+        try (VerificationService verification = new VerificationService(dbUrl, dbUser, dbPassword, migrationTool,
+                lockTimeoutSeconds > 0 ? Duration.ofSeconds(lockTimeoutSeconds) : null)) {
             SchemaIoService schemaIo = new SchemaIoService(schemaDir, outputDir);
-            VerificationService verification = new VerificationService(dbUrl, dbUser, dbPassword, migrationTool);
 
             // Load latest schema
             SchemaModel latestSchema = schemaIo.loadLatestSchema();
@@ -0,0 +1,325 @@
+package org.jinx.cli.service;
+
+import org.jinx.migration.DatabaseType;
+import org.jinx.migration.execution.JdbcMigrationExecutor;
+import org.jinx.migration.execution.SqlStatementSplitter;
+import org.jinx.migration.integration.MigrationLock;
+import org.jinx.migration.integration.MigrationToolIntegration;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Verifies or applies one migration across a fleet of tenants (databases or schemas).
+ *
+ * <p>Every tenant runs on its own virtual thread. Concurrency is bounded twice: by a global limit and
+ * by a per-host limit, so tenants sharing a database server never exceed its connection budget.
+ * Each finished tenant is appended to a state file; a re-run skips tenants that already succeeded.
+ */
+public class FleetRolloutService {
+
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(?m)^\\s*--\\s*jinx:version=(\\S+)\\s*$");
+
+    public enum Action { VERIFY, APPLY }
+
+    public enum Status {
+        APPLIED, UP_TO_DATE, PENDING, FAILED;
+
+        boolean isDone() {
+            return this == APPLIED || this == UP_TO_DATE;
+        }
+    }
+
+    /**
+     * A tenant is either a whole database ({@code schema == null}) or a schema inside one.
+     */
+    public record Tenant(String id, String jdbcUrl, String schema) {
+
+        /**
+         * Parses a target line: a JDBC URL, or a schema name that lives in {@code baseUrl}.
+         */
+        public static Tenant parse(String target, String baseUrl) {
+            String trimmed = target.trim();
+            if (trimmed.startsWith("jdbc:")) {
+                return new Tenant(trimmed, trimmed, null);
+            }
+            if (baseUrl == null) {
+                throw new IllegalArgumentException("Schema target '" + trimmed + "' requires --db-url");
+            }
+            return new Tenant(trimmed, baseUrl, trimmed);
+        }
+
+        /**
+         * Server the tenant lives on ({@code host:port} part of the URL), used for per-host limits.
+         * URLs without an authority (e.g. embedded databases) are their own host.
+         */
+        public String hostKey() {
+            int start = jdbcUrl.indexOf("//");
+            if (start < 0) {
+                return jdbcUrl;
+            }
+            int end = start + 2;
+            while (end < jdbcUrl.length() && "/?;".indexOf(jdbcUrl.charAt(end)) < 0) {
+                end++;
+            }
+            return jdbcUrl.substring(start + 2, end).toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public record TenantResult(Tenant tenant, Status status, long durationMillis, String error) {}
+
+    /**
+     * The migration being rolled out.
+     *
+     * @param sql      full script text, split per tenant because string escaping differs by database
+     * @param headHash HEAD hash without the {@code sha256:} prefix
+     */
+    public record MigrationScript(String migrationId, String sql, String headHash, String version) {
+
+        public List<String> statements(DatabaseType type) {
+            return SqlStatementSplitter.split(sql, type);
+        }
+
+        public static MigrationScript load(Path file) throws IOException {
+            String script = Files.readString(file);
+            String headHash = MigrationToolIntegration.extractHashFromMigrationFile(file.toString())
+                    .map(h -> h.substring("sha256:".length()))
+                    .orElseThrow(() -> new IOException("No jinx:head hash in " + file));
+            Matcher version = VERSION_PATTERN.matcher(script);
+            return new MigrationScript(file.getFileName().toString(), script, headHash, version.find() ? version.group(1) : null);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+        void onResult(TenantResult result, int completed, int total);
+    }
+
+    private final String dbUser;
+    private final String dbPassword;
+    private final int concurrency;
+    private final int perHostConnections;
+    private final Duration lockTimeout;
+
+    /**
+     * @param concurrency        maximum number of tenants processed at once
+     * @param perHostConnections maximum number of open connections per database host
+     * @param lockTimeout        maximum wait for a tenant's migration lock
+     */
+    public FleetRolloutService(String dbUser, String dbPassword, int concurrency, int perHostConnections,
+                               Duration lockTimeout) {
+        if (concurrency < 1 || perHostConnections < 1) {
+            throw new IllegalArgumentException("Concurrency limits must be at least 1");
+        }
+        this.dbUser = dbUser;
+        this.dbPassword = dbPassword;
+        this.concurrency = concurrency;
+        this.perHostConnections = perHostConnections;
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * Runs the action on every tenant that has not already succeeded according to {@code stateFile}.
+     *
+     * @param stateFile resume state; null disables resuming
+     * @return results of the tenants processed in this run, in input order
+     * @throws IOException if the state file cannot be read or written
+     */
+    public List<TenantResult> run(List<Tenant> tenants, Action action, MigrationScript script,
+                                  Path stateFile, Listener listener) throws IOException {
+        Map<String, Status> previous = stateFile != null ? readState(stateFile) : Map.of();
+        List<Tenant> pending = tenants.stream()
+                .filter(t -> !Optional.ofNullable(previous.get(t.id())).map(Status::isDone).orElse(false))
+                .toList();
+
+        Semaphore global = new Semaphore(concurrency);
+        Map<String, Semaphore> hosts = new ConcurrentHashMap<>();
+        AtomicInteger completed = new AtomicInteger();
+
+        List<Future<TenantResult>> futures = new ArrayList<>();
+        try (BufferedWriter state = stateFile != null ? openState(stateFile) : null;
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            for (Tenant tenant : pending) {
+                Semaphore host = hosts.computeIfAbsent(tenant.hostKey(), k -> new Semaphore(perHostConnections));
+                futures.add(executor.submit(() -> {
+                    TenantResult result = withPermits(host, global, () -> process(tenant, action, script));
+                    if (state != null) {
+                        appendState(state, result);
+                    }
+                    if (listener != null) {
+                        listener.onResult(result, completed.incrementAndGet(), pending.size());
+                    }
+                    return result;
+                }));
+            }
+
+            List<TenantResult> results = new ArrayList<>();
+            for (Future<TenantResult> future : futures) {
+                results.add(await(future));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Number of tenants that a previous run already completed.
+     */
+    public static long countCompleted(List<Tenant> tenants, Path stateFile) throws IOException {
+        Map<String, Status> previous = readState(stateFile);
+        return tenants.stream().filter(t -> previous.containsKey(t.id()) && previous.get(t.id()).isDone()).count();
+    }
+
+    private TenantResult process(Tenant tenant, Action action, MigrationScript script) {
+        long start = System.nanoTime();
+        try (Connection conn = DriverManager.getConnection(tenant.jdbcUrl(), dbUser, dbPassword)) {
+            if (tenant.schema() != null) {
+                selectSchema(conn, tenant.schema());
+            }
+            MigrationToolIntegration integration = new MigrationToolIntegration(conn);
+            // 테넌트의 DB/스키마별로 잠가 같은 호스트의 다른 테넌트는 막지 않고, 같은 DB의 단독 apply와는 서로 배제함
+            try (MigrationLock lock = integration.lock(lockTimeout)) {
+                if (integration.isAppliedViaJinxState(script.headHash())) {
+                    return result(tenant, Status.UP_TO_DATE, start, null);
+                }
+                if (action == Action.VERIFY) {
+                    return result(tenant, Status.PENDING, start, null);
+                }
+
+                List<String> statements = script.statements(
+                        DatabaseType.detect(conn.getMetaData().getDatabaseProductName()));
+                JdbcMigrationExecutor.ApplyReport report = new JdbcMigrationExecutor(conn)
+                        .execute(script.migrationId(), statements, false, null);
+                integration.recordSchemaApplication(script.headHash(), script.version(),
+                        report.totalDurationMillis(), statements.size());
+                return result(tenant, Status.APPLIED, start, null);
+            }
+        } catch (JdbcMigrationExecutor.StatementExecutionException e) {
+            return result(tenant, Status.FAILED, start,
+                    "statement " + (e.getStatementIndex() + 1) + ": " + e.getCause().getMessage());
+        } catch (Exception e) {
+            return result(tenant, Status.FAILED, start, e.getMessage());
+        }
+    }
+
+    /**
+     * MySQL has no schemas inside a database, so the tenant name selects the catalog instead.
+     */
+    private static void selectSchema(Connection conn, String schema) throws SQLException {
+        String product = conn.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            conn.setCatalog(schema);
+        } else {
+            conn.setSchema(schema);
+        }
+    }
+
+    private static TenantResult result(Tenant tenant, Status status, long startNanos, String error) {
+        return new TenantResult(tenant, status, Duration.ofNanos(System.nanoTime() - startNanos).toMillis(), error);
+    }
+
+    @FunctionalInterface
+    private interface Work {
+        TenantResult run();
+    }
+
+    /**
+     * Takes the host permit before the global one, so a tenant waiting on a busy host
+     * does not hold a global slot that a tenant on another host could use.
+     */
+    private static TenantResult withPermits(Semaphore host, Semaphore global, Work work) throws InterruptedException {
+        host.acquire();
+        try {
+            global.acquire();
+            try {
+                return work.run();
+            } finally {
+                global.release();
+            }
+        } finally {
+            host.release();
+        }
+    }
+
+    // ── resume state: one "tenant<TAB>STATUS" line per finished tenant; the last line wins ──
+
+    private static Map<String, Status> readState(Path stateFile) throws IOException {
+        Map<String, Status> state = new HashMap<>();
+        if (!Files.exists(stateFile)) {
+            return state;
+        }
+        for (String line : Files.readAllLines(stateFile, StandardCharsets.UTF_8)) {
+            int tab = line.lastIndexOf('\t');
+            if (tab > 0) {
+                try {
+                    state.put(line.substring(0, tab), Status.valueOf(line.substring(tab + 1).trim()));
+                } catch (IllegalArgumentException ignored) {
+                    // 손상된 줄은 무시하고 해당 테넌트를 다시 처리
+                }
+            }
+        }
+        return state;
+    }
+
+    private static BufferedWriter openState(Path stateFile) throws IOException {
+        if (stateFile.getParent() != null) {
+            Files.createDirectories(stateFile.getParent());
+        }
+        return Files.newBufferedWriter(stateFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static void appendState(BufferedWriter state, TenantResult result) {
+        synchronized (state) {
+            try {
+                state.write(result.tenant().id() + "\t" + result.status());
+                state.newLine();
+                state.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static TenantResult await(Future<TenantResult> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted during fleet rollout", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException("Fleet rollout failed", cause);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package org.jinx.cli.service;
+
+import org.jinx.migration.DatabaseType;
+import org.jinx.migration.dialect.mysql.MySqlDialect;
+import org.jinx.migration.dialect.mysql.MySqlUuidStorage;
+import org.jinx.migration.dialect.postgresql.PostgreSqlDialect;
+import org.jinx.migration.output.LiquibaseYamlHandler;
+import org.jinx.migration.output.SqlMigrationHandler;
+import org.jinx.migration.output.SqlPurgeHandler;
+import org.jinx.migration.output.SqlRollbackHandler;
+import org.jinx.migration.plan.MigrationPlan;
+import org.jinx.model.DialectBundle;
+import org.jinx.naming.Naming;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Renders migration outputs (SQL, rollback SQL, Liquibase YAML) from a {@link MigrationPlan}.
+ * Every requested output is rendered on its own virtual thread, since they only share the immutable plan.
+ */
+public class MigrationRenderService {
+
+    private final Naming naming;
+
+    /**
+     * @param naming naming strategy used for Liquibase constraint/index names
+     */
+    public MigrationRenderService(Naming naming) {
+        this.naming = naming;
+    }
+
+    /**
+     * Parses a comma-separated dialect list (e.g. {@code mysql,postgresql}) and resolves each entry.
+     * Aliases are normalized, so {@code postgres} and {@code postgresql} resolve to the same key.
+     *
+     * @param names comma-separated dialect names
+     * @return resolved dialects keyed by canonical name, in the given order
+     * @throws IllegalArgumentException if a dialect is not supported
+     */
+    public static Map<String, DialectBundle> resolveDialects(String names) {
+        return resolveDialects(names, MySqlUuidStorage.BINARY);
+    }
+
+    /**
+     * Resolves comma-separated dialect names, building MySQL with the given UUID storage.
+     *
+     * @param names       comma-separated dialect names
+     * @param uuidStorage how MySQL stores {@code java.util.UUID} columns
+     * @return dialect bundles keyed by lower-case database type, in the given order
+     */
+    public static Map<String, DialectBundle> resolveDialects(String names, MySqlUuidStorage uuidStorage) {
+        return resolveDialects(names, uuidStorage, false);
+    }
+
+    /**
+     * Resolves comma-separated dialect names with dialect-specific DDL options.
+     *
+     * @param names             comma-separated dialect names
+     * @param uuidStorage       how MySQL stores {@code java.util.UUID} columns
+     * @param concurrentIndexes whether PostgreSQL adds/drops indexes on existing tables {@code CONCURRENTLY}
+     * @return dialect bundles keyed by lower-case database type, in the given order
+     */
+    public static Map<String, DialectBundle> resolveDialects(String names, MySqlUuidStorage uuidStorage,
+                                                             boolean concurrentIndexes) {
+        return resolveDialects(names, uuidStorage, concurrentIndexes, false);
+    }
+
+    /**
+     * Resolves comma-separated dialect names with dialect-specific DDL options.
+     *
+     * @param names             comma-separated dialect names
+     * @param uuidStorage       how MySQL stores {@code java.util.UUID} columns
+     * @param concurrentIndexes whether PostgreSQL adds/drops indexes on existing tables {@code CONCURRENTLY}
+     * @param alignColumns      whether PostgreSQL orders the columns of new tables by type alignment
+     * @return dialect bundles keyed by lower-case database type, in the given order
+     */
+    public static Map<String, DialectBundle> resolveDialects(String names, MySqlUuidStorage uuidStorage,
+                                                             boolean concurrentIndexes, boolean alignColumns) {
+        Map<String, DialectBundle> dialects = new LinkedHashMap<>();
+        Arrays.stream(names.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(name -> {
+                    DialectBundle bundle = resolveDialect(name, uuidStorage, concurrentIndexes, alignColumns);
+                    dialects.putIfAbsent(bundle.databaseType().name().toLowerCase(Locale.ROOT), bundle);
+                });
+        if (dialects.isEmpty()) {
+            throw new IllegalArgumentException("No dialect specified");
+        }
+        return dialects;
+    }
+
+    /**
+     * Resolves a single dialect by name.
+     *
+     * @param name dialect name (mysql, postgresql, postgres)
+     * @return the dialect bundle
+     * @throws IllegalArgumentException if the dialect is not supported
+     */
+    public static DialectBundle resolveDialect(String name) {
+        return resolveDialect(name, MySqlUuidStorage.BINARY);
+    }
+
+    /**
+     * Resolves a single dialect by name, building MySQL with the given UUID storage.
+     *
+     * @param name        dialect name (mysql, postgresql, postgres)
+     * @param uuidStorage how MySQL stores {@code java.util.UUID} columns; ignored by other dialects
+     * @return the dialect bundle
+     * @throws IllegalArgumentException if the dialect is not supported
+     */
+    public static DialectBundle resolveDialect(String name, MySqlUuidStorage uuidStorage) {
+        return resolveDialect(name, uuidStorage, false);
+    }
+
+    /**
+     * Resolves a single dialect by name with dialect-specific DDL options.
+     *
+     * @param name              dialect name (mysql, postgresql, postgres)
+     * @param uuidStorage       how MySQL stores {@code java.util.UUID} columns; ignored by other dialects
+     * @param concurrentIndexes whether PostgreSQL adds/drops indexes on existing tables {@code CONCURRENTLY};
+     *                          ignored by other dialects
+     * @return the dialect bundle
+     * @throws IllegalArgumentException if the dialect is not supported
+     */
+    public static DialectBundle resolveDialect(String name, MySqlUuidStorage uuidStorage, boolean concurrentIndexes) {
+        return resolveDialect(name, uuidStorage, concurrentIndexes, false);
+    }
+
+    /**
+     * Resolves a single dialect by name with dialect-specific DDL options.
+     *
+     * @param name              dialect name (mysql, postgresql, postgres)
+     * @param uuidStorage       how MySQL stores {@code java.util.UUID} columns; ignored by other dialects
+     * @param concurrentIndexes whether PostgreSQL adds/drops indexes on existing tables {@code CONCURRENTLY};
+     *                          ignored by other dialects
+     * @param alignColumns      whether PostgreSQL places PK, fixed-width (by alignment) and variable-length columns
+     *                          of new tables in that order; ignored by other dialects
+     * @return the dialect bundle
+     * @throws IllegalArgumentException if the dialect is not supported
+     */
+    public static DialectBundle resolveDialect(String name, MySqlUuidStorage uuidStorage, boolean concurrentIndexes,
+                                               boolean alignColumns) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "mysql" -> {
+                MySqlDialect mysql = new MySqlDialect(uuidStorage);
+                yield DialectBundle.builder(mysql, DatabaseType.MYSQL)
+                        .identity(mysql)
+                        .tableGenerator(mysql)
+                        .build();
+            }
+            case "postgresql", "postgres" -> {
+                PostgreSqlDialect pg = new PostgreSqlDialect(concurrentIndexes, alignColumns);
+                yield DialectBundle.builder(pg, DatabaseType.POSTGRESQL)
+                        .identity(pg)
+                        .sequence(pg)
+                        .tableGenerator(pg)
+                        .build();
+            }
+            default -> throw new IllegalArgumentException("Unsupported dialect: " + name);
+        };
+    }
+
+    /**
+     * Renders the plan for every dialect. With a single dialect, files are written directly into
+     * {@code outputDir}; with several, each dialect gets its own subdirectory ({@code outputDir/mysql}, ...).
+     *
+     * @param plan      the migration plan
+     * @param dialects  dialects to render, as returned by {@link #resolveDialects(String)}
+     * @param outputDir base output directory
+     * @param rollback  whether to render rollback SQL
+     * @param liquibase whether to render a Liquibase changelog
+     * @throws IOException if any output fails to render
+     */
+    public void render(MigrationPlan plan, Map<String, DialectBundle> dialects, Path outputDir,
+                       boolean rollback, boolean liquibase) throws IOException {
+        render(plan, dialects, outputDir, rollback, liquibase, false);
+    }
+
+    /**
+     * Renders the plan for every dialect, optionally in safe-drop mode. In safe-drop mode dropped tables are
+     * renamed into the trash instead of dropped, the rollback renames them back, and a separate
+     * {@code purge-<version>.sql} drops them for good.
+     *
+     * @param safeDrop whether dropped tables are moved to the trash ({@link org.jinx.migration.TableTrash})
+     * @see #render(MigrationPlan, Map, Path, boolean, boolean)
+     */
+    public void render(MigrationPlan plan, Map<String, DialectBundle> dialects, Path outputDir,
+                       boolean rollback, boolean liquibase, boolean safeDrop) throws IOException {
+        List<Future<?>> tasks = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, DialectBundle> entry : dialects.entrySet()) {
+                Path dir = dialects.size() == 1 ? outputDir : outputDir.resolve(entry.getKey());
+                DialectBundle bundle = entry.getValue();
+
+                tasks.add(executor.submit(() -> run(() -> new SqlMigrationHandler(safeDrop).handle(plan, bundle, dir))));
+                if (rollback) {
+                    tasks.add(executor.submit(() -> run(() -> new SqlRollbackHandler(safeDrop).handle(plan, bundle, dir))));
+                }
+                if (safeDrop) {
+                    tasks.add(executor.submit(() -> run(() -> new SqlPurgeHandler().handle(plan, bundle, dir))));
+                }
+                if (liquibase) {
+                    tasks.add(executor.submit(() -> run(() -> new LiquibaseYamlHandler().handle(plan, bundle, dir, naming))));
+                }
+            }
+
+            for (Future<?> task : tasks) {
+                await(task);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoTask {
+        void run() throws IOException;
+    }
+
+    private static void run(IoTask task) {
+        try {
+            task.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering migration outputs", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException("Failed to render migration outputs", cause);
+        }
+    }
+}
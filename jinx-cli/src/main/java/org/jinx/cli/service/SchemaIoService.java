@@ -2,12 +2,23 @@ package org.jinx.cli.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jinx.migration.baseline.BaselineManager;
+import org.jinx.migration.json.SchemaMappers;
+import org.jinx.migration.snapshot.SchemaSnapshot;
+import org.jinx.migration.snapshot.SnapshotStore;
+import org.jinx.migration.snapshot.StreamingSchemaLoader;
 import org.jinx.model.SchemaModel;
+import org.jinx.options.JinxOptions;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Service for reading and writing schema files and baseline data.
@@ -16,10 +27,20 @@ import java.util.List;
 public class SchemaIoService {
 
     private static final String SCHEMA_FILE_PATTERN = "schema-\\d{14}\\.json";
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper = SchemaMappers.canonical();
 
     private final Path schemaDir;
     private final Path outputDir;
+    private final BaselineManager baselineManager;
+
+    /**
+     * Baseline, HEAD and baseline metadata loaded together.
+     *
+     * @param baseline     baseline snapshot (an empty initial snapshot if no baseline exists)
+     * @param head         latest HEAD snapshot, or null if no schema file exists
+     * @param baselineHash hash recorded in the baseline metadata, or "initial"
+     */
+    public record LoadedSnapshots(SchemaSnapshot baseline, SchemaSnapshot head, String baselineHash) {}
 
     /**
      * Creates a new schema I/O service.
@@ -28,39 +49,125 @@ public class SchemaIoService {
      * @param outputDir directory for baseline and output files
      */
     public SchemaIoService(Path schemaDir, Path outputDir) {
+        this(schemaDir, outputDir, false);
+    }
+
+    /**
+     * Creates a new schema I/O service.
+     *
+     * @param schemaDir directory containing schema JSON files
+     * @param outputDir directory for baseline and output files
+     * @param snapshotStore whether promoted baselines also get an indexed snapshot store
+     */
+    public SchemaIoService(Path schemaDir, Path outputDir, boolean snapshotStore) {
         this.schemaDir = schemaDir;
         this.outputDir = outputDir;
+        this.baselineManager = new BaselineManager(outputDir, snapshotStore);
+        SchemaMappers.warmUp();
     }
 
     /**
-     * Loads the latest schema file from the schema directory.
+     * Opens a schema file as a lazily decoded snapshot.
+     * If an up-to-date indexed store ({@code schema-<ts>.jxs}) sits next to the JSON file, it is used instead.
+     *
+     * @param schemaFile schema JSON file
+     * @param objectMapper mapper used to decode entities
+     * @return the opened snapshot
+     * @throws IOException if neither the store nor the JSON file can be read
+     */
+    public static SchemaSnapshot openSchema(Path schemaFile, ObjectMapper objectMapper) throws IOException {
+        String fileName = schemaFile.getFileName().toString();
+        Path storeFile = schemaFile.resolveSibling(
+                fileName.substring(0, fileName.length() - ".json".length()) + JinxOptions.Snapshot.STORE_EXTENSION);
+
+        if (Files.exists(storeFile)
+                && Files.getLastModifiedTime(storeFile).compareTo(Files.getLastModifiedTime(schemaFile)) >= 0) {
+            return SnapshotStore.open(storeFile, objectMapper);
+        }
+        return new StreamingSchemaLoader(objectMapper).open(schemaFile);
+    }
+
+    /**
+     * Opens the latest schema file from the schema directory as a lazily decoded snapshot.
      * Schema files are expected to follow the pattern schema-YYYYMMDDHHMMSS.json.
      *
-     * @return the latest schema model, or null if no valid schema files exist
-     * @throws IOException if an I/O error occurs
+     * @return the latest schema snapshot, or null if no valid schema files exist
+     * @throws IOException if the directory or the schema file cannot be read
      */
-    public SchemaModel loadLatestSchema() throws IOException {
+    public SchemaSnapshot openLatestSnapshot() throws IOException {
         if (!Files.exists(schemaDir)) {
             return null;
         }
 
-        try(var stream = Files.list(schemaDir)) {
-            List<Path> schemaPaths = stream
+        List<Path> schemaPaths;
+        try (var stream = Files.list(schemaDir)) {
+            schemaPaths = stream
                     .filter(p -> p.getFileName().toString().matches(SCHEMA_FILE_PATTERN))
-                    .sorted((a,b) -> b.getFileName().toString().compareTo(a.getFileName().toString()))
+                    .sorted((a, b) -> b.getFileName().toString().compareTo(a.getFileName().toString()))
                     .limit(1)
                     .toList();
+        }
 
-            if (schemaPaths.isEmpty()) {
-                return null;
-            }
-            return objectMapper.readValue(schemaPaths.get(0).toFile(), SchemaModel.class);
+        if (schemaPaths.isEmpty()) {
+            return null;
+        }
+        return openSchema(schemaPaths.get(0), objectMapper);
+    }
+
+    /**
+     * Loads the latest schema file from the schema directory.
+     * Schema files are expected to follow the pattern schema-YYYYMMDDHHMMSS.json.
+     * Entities are decoded lazily on access, so hashing or promoting a large schema
+     * keeps only one entity in memory at a time.
+     *
+     * @return the latest schema model, or null if no valid schema files exist
+     * @throws IOException if an I/O error occurs
+     */
+    public SchemaModel loadLatestSchema() throws IOException {
+        try {
+            SchemaSnapshot snapshot = openLatestSnapshot();
+            return snapshot != null ? snapshot.toSchemaModel() : null;
         } catch (IOException e) {
             System.err.println("Warning: Failed to scan schemaDir " + schemaDir + " - " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Loads baseline, HEAD and baseline metadata concurrently on virtual threads.
+     * The three reads touch different files, so the wall-clock cost is that of the slowest one.
+     *
+     * @return the loaded snapshots
+     * @throws IOException if any of the reads fails
+     */
+    public LoadedSnapshots loadConcurrently() throws IOException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<SchemaSnapshot> baseline = executor.submit(baselineManager::openBaseline);
+            Future<SchemaSnapshot> head = executor.submit(this::openLatestSnapshot);
+            Future<String> baselineHash = executor.submit(this::getBaselineHash);
+
+            return new LoadedSnapshots(await(baseline), await(head), await(baselineHash));
+        }
+    }
+
+    /**
+     * Computes the hash of a snapshot on a virtual thread, so it can overlap with diffing.
+     *
+     * @param snapshot the snapshot to hash
+     * @return a future completing with the schema hash
+     */
+    public CompletableFuture<String> generateSchemaHashAsync(SchemaSnapshot snapshot) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Thread.ofVirtual().name("jinx-schema-hash").start(() -> {
+            try {
+                result.complete(generateSchemaHash(snapshot.toSchemaModel()));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
     /**
      * Loads the baseline schema from the output directory.
      *
@@ -68,7 +175,6 @@ public class SchemaIoService {
      * @throws IOException if an I/O error occurs
      */
     public SchemaModel loadBaselineSchema() throws IOException {
-        BaselineManager baselineManager = new BaselineManager(outputDir);
         return baselineManager.loadBaseline();
     }
 
@@ -79,7 +185,6 @@ public class SchemaIoService {
      * @return the schema hash string
      */
     public String generateSchemaHash(SchemaModel schema) {
-        BaselineManager baselineManager = new BaselineManager(outputDir);
         return baselineManager.generateSchemaHash(schema);
     }
 
@@ -89,7 +194,6 @@ public class SchemaIoService {
      * @return the baseline hash, or "initial" if no baseline exists
      */
     public String getBaselineHash() {
-        BaselineManager baselineManager = new BaselineManager(outputDir);
         return baselineManager.getBaselineHash().orElse("initial");
     }
 
@@ -101,7 +205,27 @@ public class SchemaIoService {
      * @throws IOException if an I/O error occurs
      */
     public void promoteToBaseline(SchemaModel schema, String schemaHash) throws IOException {
-        BaselineManager baselineManager = new BaselineManager(outputDir);
         baselineManager.promoteBaseline(schema, schemaHash);
     }
-}
\ No newline at end of file
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading schema snapshots", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException("Failed to load schema snapshots", cause);
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package org.jinx.cli.service;
 
+import org.jinx.migration.integration.MigrationLock;
 import org.jinx.migration.integration.MigrationToolIntegration;
 
+import java.sql.SQLException;
+import java.time.Duration;
+
 /**
  * Service for verifying database schema application status.
  * Checks if migrations have been applied to the database by querying migration tool metadata.
+ * A single database connection is opened on first use and reused until {@link #close()}.
+ * When a lock timeout is set, checks and records run under the migration advisory lock,
+ * so a node never reads the state while another node is still migrating.
  */
-public class VerificationService {
+public class VerificationService implements AutoCloseable {
 
     private final String dbUrl;
     private final String dbUser;
     private final String dbPassword;
     private final String migrationTool;
+    private final Duration lockTimeout;
+    private MigrationToolIntegration integration;
 
     /**
      * Creates a new verification service.
@@ -22,10 +31,20 @@ public class VerificationService {
      * @param migrationTool the migration tool being used (jinx, liquibase, flyway)
      */
     public VerificationService(String dbUrl, String dbUser, String dbPassword, String migrationTool) {
+        this(dbUrl, dbUser, dbPassword, migrationTool, null);
+    }
+
+    /**
+     * Creates a new verification service that takes the migration lock around database access.
+     *
+     * @param lockTimeout maximum time to wait for the migration lock, or null to run without locking
+     */
+    public VerificationService(String dbUrl, String dbUser, String dbPassword, String migrationTool, Duration lockTimeout) {
         this.dbUrl = dbUrl;
         this.dbUser = dbUser;
         this.dbPassword = dbPassword;
         this.migrationTool = migrationTool != null ? migrationTool : "jinx";
+        this.lockTimeout = lockTimeout;
     }
 
     /**
@@ -41,12 +60,15 @@ public class VerificationService {
             return baselineHash;
         }
 
-        try {
-            // Check if this hash has been applied via the specified migration tool
+        try (MigrationLock lock = lock()) {
+            // Check if this hash has been applied via the specified migration tool;
+            // 'db apply' records in the jinx history whichever tool owns the project
             boolean isApplied = switch (migrationTool.toLowerCase()) {
-                case "liquibase" -> MigrationToolIntegration.isAppliedViaLiquibase(dbUrl, dbUser, dbPassword, expectedHash);
-                case "flyway" -> MigrationToolIntegration.isAppliedViaFlyway(dbUrl, dbUser, dbPassword, expectedHash);
-                case "jinx" -> MigrationToolIntegration.isAppliedViaJinxState(dbUrl, dbUser, dbPassword, expectedHash);
+                case "liquibase" -> integration().isAppliedViaJinxState(expectedHash)
+                        || integration().isAppliedViaLiquibase(expectedHash);
+                case "flyway" -> integration().isAppliedViaJinxState(expectedHash)
+                        || integration().isAppliedViaFlyway(expectedHash);
+                case "jinx" -> integration().isAppliedViaJinxState(expectedHash);
                 default -> false;
             };
 
@@ -79,11 +101,40 @@ public class VerificationService {
      */
     public void recordSchemaApplication(String schemaHash, String version) {
         if (dbUrl != null && dbUser != null && "jinx".equals(migrationTool.toLowerCase())) {
-            try {
-                MigrationToolIntegration.recordSchemaApplication(dbUrl, dbUser, dbPassword, schemaHash, version);
+            try (MigrationLock lock = lock()) {
+                integration().recordSchemaApplication(schemaHash, version);
             } catch (Exception e) {
                 System.err.println("Warning: Could not record schema application - " + e.getMessage());
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Closes the database connection, if one was opened.
+     */
+    @Override
+    public void close() {
+        if (integration != null) {
+            try {
+                integration.close();
+            } catch (SQLException e) {
+                System.err.println("Warning: Could not close database connection - " + e.getMessage());
+            }
+            integration = null;
+        }
+    }
+
+    /**
+     * Takes the migration lock if a timeout is configured; returns null (nothing to close) otherwise.
+     */
+    private MigrationLock lock() throws SQLException {
+        return lockTimeout != null ? integration().lock(lockTimeout) : null;
+    }
+
+    private MigrationToolIntegration integration() throws SQLException {
+        if (integration == null) {
+            integration = MigrationToolIntegration.connect(dbUrl, dbUser, dbPassword);
+        }
+        return integration;
+    }
+}
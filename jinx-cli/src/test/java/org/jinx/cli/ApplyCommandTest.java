@@ -0,0 +1,202 @@
+package org.jinx.cli;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end tests for ApplyCommand against an embedded H2 database in MySQL compatibility mode.
+ */
+class ApplyCommandTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @TempDir
+    Path tempDir;
+
+    private String dbUrl;
+    private Connection keepAlive;
+    private ByteArrayOutputStream outContent;
+    private ByteArrayOutputStream errContent;
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dbUrl = "jdbc:h2:mem:apply_" + UUID.randomUUID().toString().replace("-", "") + ";MODE=MySQL";
+        keepAlive = DriverManager.getConnection(dbUrl, "sa", "");
+
+        outContent = new ByteArrayOutputStream();
+        errContent = new ByteArrayOutputStream();
+        originalOut = System.out;
+        originalErr = System.err;
+        System.setOut(new PrintStream(outContent));
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+        keepAlive.close();
+    }
+
+    @Test
+    @DisplayName("Applies every statement and records the HEAD hash")
+    void appliesMigration() throws Exception {
+        Path file = writeMigration("""
+                CREATE TABLE users (id BIGINT PRIMARY KEY, name VARCHAR(50));
+                INSERT INTO users (id, name) VALUES (1, 'a;b'), (2, 'c');
+                """);
+
+        int exitCode = apply(file);
+
+        assertThat(exitCode).isZero();
+        assertThat(queryLong("SELECT COUNT(*) FROM users")).isEqualTo(2);
+        assertThat(queryString("SELECT current_hash FROM jinx_schema_state WHERE id = 1")).isEqualTo(HASH);
+        assertThat(queryLong("SELECT statement_count FROM jinx_schema_history WHERE schema_hash = '" + HASH + "'"))
+                .isEqualTo(2);
+        assertThat(outContent.toString()).contains("[2/2]", "2 row(s)");
+        assertThat(queryLong("SELECT COUNT(*) FROM jinx_ddl_telemetry WHERE schema_hash = '" + HASH + "'"))
+                .isEqualTo(2);
+        assertThat(queryString("SELECT operation FROM jinx_ddl_telemetry WHERE statement_index = 0"))
+                .isEqualTo("CREATE_TABLE");
+    }
+
+    @Test
+    @DisplayName("Resumes at the failed statement after the problem is fixed")
+    void resumesFromFailedStatement() throws Exception {
+        Path file = writeMigration("""
+                CREATE TABLE orders (id BIGINT PRIMARY KEY, user_id BIGINT);
+                INSERT INTO customers (id) VALUES (1);
+                CREATE INDEX ix_orders_user ON orders (user_id);
+                """);
+
+        assertThat(apply(file)).isEqualTo(1);
+        assertThat(errContent.toString()).contains("statement 2");
+        assertThat(queryLong("SELECT COUNT(*) FROM jinx_migration_progress WHERE status = 'SUCCESS'")).isEqualTo(1);
+
+        execute("CREATE TABLE customers (id BIGINT PRIMARY KEY)");
+
+        // 첫 문장(CREATE TABLE orders)을 다시 실행하면 실패하므로, 성공하면 재개된 것
+        assertThat(apply(file)).isZero();
+        assertThat(outContent.toString()).contains("[1/3] skipped");
+        assertThat(queryLong("SELECT COUNT(*) FROM customers")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Refuses to resume when the script changed since the last run")
+    void refusesChangedScript() throws Exception {
+        Path file = writeMigration("""
+                CREATE TABLE a (id BIGINT);
+                INSERT INTO missing VALUES (1);
+                """);
+        assertThat(apply(file)).isEqualTo(1);
+
+        Files.writeString(file, header() + "CREATE TABLE a2 (id BIGINT);\nCREATE TABLE b (id BIGINT);\n");
+
+        assertThat(apply(file)).isEqualTo(1);
+        assertThat(errContent.toString()).contains("script changed");
+    }
+
+    @Test
+    @DisplayName("Skips a migration whose HEAD hash is already applied")
+    void skipsAlreadyAppliedMigration() throws Exception {
+        Path file = writeMigration("""
+                CREATE TABLE items (id BIGINT PRIMARY KEY);
+                """);
+        assertThat(apply(file)).isZero();
+
+        assertThat(apply(file)).isZero();
+        assertThat(outContent.toString()).contains("already applied");
+        assertThat(queryLong("SELECT COUNT(*) FROM jinx_schema_history")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Writes DDL telemetry to a JSONL file instead of the database when requested")
+    void writesTelemetryToFile() throws Exception {
+        Path file = writeMigration("""
+                CREATE TABLE logs (id BIGINT);
+                """);
+        Path telemetryFile = tempDir.resolve("telemetry.jsonl");
+
+        int exitCode = new CommandLine(new ApplyCommand())
+                .execute("--out", file.getParent().toString(), "--db-url", dbUrl, "--db-user", "sa",
+                        "--telemetry", "file", "--telemetry-file", telemetryFile.toString());
+
+        assertThat(exitCode).isZero();
+        assertThat(Files.readAllLines(telemetryFile)).singleElement()
+                .satisfies(line -> assertThat(line).contains("\"operation\":\"CREATE_TABLE\"", "\"table\":\"logs\""));
+        assertThat(queryLong("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'JINX_DDL_TELEMETRY'"))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Returns error when no migration file exists")
+    void noMigrationFile() {
+        int exitCode = new CommandLine(new ApplyCommand())
+                .execute("--out", tempDir.resolve("empty").toString(), "--db-url", dbUrl, "--db-user", "sa");
+
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(errContent.toString()).contains("No migration file found");
+    }
+
+    private int apply(Path file) {
+        return new CommandLine(new ApplyCommand())
+                .execute("--out", file.getParent().toString(),
+                        "--db-url", dbUrl, "--db-user", "sa", "--db-password", "");
+    }
+
+    private Path writeMigration(String body) throws IOException {
+        Path file = tempDir.resolve("V20240101000000__migration__jinxHead_sha256_" + HASH + ".sql");
+        Files.writeString(file, header() + body);
+        return file;
+    }
+
+    private static String header() {
+        return """
+                -- Jinx Migration Header
+                -- jinx:baseline=sha256:initial
+                -- jinx:head=sha256:%s
+                -- jinx:version=20240101000000
+
+                """.formatted(HASH);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement stmt = keepAlive.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try (Statement stmt = keepAlive.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private String queryString(String sql) throws SQLException {
+        try (Statement stmt = keepAlive.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.jinx.cli;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheckCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path schemaDir;
+    private Path outputDir;
+    private ByteArrayOutputStream outContent;
+    private ByteArrayOutputStream errContent;
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+
+    @BeforeEach
+    void setUp() {
+        schemaDir = tempDir.resolve("schemas");
+        outputDir = tempDir.resolve("output");
+        outContent = new ByteArrayOutputStream();
+        errContent = new ByteArrayOutputStream();
+        originalOut = System.out;
+        originalErr = System.err;
+        System.setOut(new PrintStream(outContent));
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    @Test
+    @DisplayName("Lists the features H2 cannot emulate for the dialect")
+    void listsLimitations() {
+        int exitCode = new CommandLine(new CheckCommand()).execute("-d", "postgresql", "--limitations");
+
+        assertThat(exitCode).isZero();
+        assertThat(outContent.toString()).contains("CREATE/DROP INDEX CONCURRENTLY", "partial index (WHERE)");
+    }
+
+    @Test
+    @DisplayName("Fails when the migration file does not run on the emulated database")
+    void failsOnBrokenMigration() throws IOException {
+        writeEmptyHead();
+        Files.createDirectories(outputDir);
+        Files.writeString(outputDir.resolve("V20240101000000__migration.sql"), """
+                CREATE TABLE users (id BIGINT PRIMARY KEY);
+                ALTER TABLE missing ADD COLUMN x INT;
+                """);
+
+        int exitCode = new CommandLine(new CheckCommand())
+                .execute("-p", schemaDir.toString(), "--out", outputDir.toString());
+
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(errContent.toString()).contains("Statement 2 of the migration failed");
+    }
+
+    @Test
+    @DisplayName("Reports tables the migration creates but HEAD does not have")
+    void reportsMismatch() throws IOException {
+        writeEmptyHead();
+        Files.createDirectories(outputDir);
+        Files.writeString(outputDir.resolve("V20240101000000__migration.sql"), "CREATE TABLE stray (id BIGINT);");
+
+        int exitCode = new CommandLine(new CheckCommand())
+                .execute("-p", schemaDir.toString(), "--out", outputDir.toString());
+
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(outContent.toString()).contains("1 mismatch(es)", "UNEXPECTED_TABLE stray");
+    }
+
+    @Test
+    @DisplayName("Returns error when no HEAD schema exists")
+    void noHeadSchema() {
+        int exitCode = new CommandLine(new CheckCommand())
+                .execute("-p", schemaDir.toString(), "--out", outputDir.toString());
+
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(errContent.toString()).contains("No HEAD schema found");
+    }
+
+    private void writeEmptyHead() throws IOException {
+        Files.createDirectories(schemaDir);
+        Files.writeString(schemaDir.resolve("schema-20240101000000.json"), """
+                {"version":"20240101000000","entities":{}}
+                """);
+    }
+}
@@ -0,0 +1,85 @@
+package org.jinx.cli;
+
+import org.jinx.migration.telemetry.DdlOperation;
+import org.jinx.migration.telemetry.DdlTelemetry;
+import org.jinx.migration.telemetry.JsonlDdlTelemetryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EstimateCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ByteArrayOutputStream outContent;
+    private ByteArrayOutputStream errContent;
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        errContent = new ByteArrayOutputStream();
+        originalOut = System.out;
+        originalErr = System.err;
+        System.setOut(new PrintStream(outContent));
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    @Test
+    @DisplayName("Estimates each statement from recorded telemetry and reports statements without history")
+    void estimatesFromTelemetryFile() throws Exception {
+        new JsonlDdlTelemetryStore(tempDir.resolve("ddl-telemetry.jsonl")).append(List.of(
+                sample(DdlOperation.ADD_COLUMN, 40),
+                sample(DdlOperation.ADD_COLUMN, 60),
+                sample(DdlOperation.CREATE_TABLE, 15)));
+        Files.writeString(tempDir.resolve("V20240101000000__migration.sql"), """
+                CREATE TABLE audit (id BIGINT);
+                ALTER TABLE users ADD COLUMN age INT;
+                ALTER TABLE users DROP COLUMN legacy;
+                """);
+
+        int exitCode = new CommandLine(new EstimateCommand()).execute("--out", tempDir.toString());
+
+        assertThat(exitCode).isZero();
+        assertThat(outContent.toString())
+                .contains("[1/3] ~15 ms  CREATE_TABLE audit")
+                .contains("[2/3] ~50 ms  ADD_COLUMN users")
+                .contains("[3/3] no history  DROP_COLUMN users")
+                .contains("Estimated total: 65 ms (1 statement(s) without history not included)");
+    }
+
+    @Test
+    @DisplayName("Returns error when no telemetry has been recorded")
+    void noTelemetry() throws Exception {
+        Files.writeString(tempDir.resolve("V20240101000000__migration.sql"), "CREATE TABLE a (id BIGINT);");
+
+        int exitCode = new CommandLine(new EstimateCommand()).execute("--out", tempDir.toString());
+
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(errContent.toString()).contains("No DDL telemetry found");
+    }
+
+    private static DdlTelemetry sample(DdlOperation operation, long elapsed) {
+        return new DdlTelemetry("h", "V1__a.sql", 0, "t", operation, "mysql", elapsed, null, null, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,153 @@
+package org.jinx.cli;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end tests for FleetCommand against local H2 databases and schemas.
+ */
+class FleetCommandTest {
+
+    private static final String HASH = "b".repeat(64);
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Connection> keepAlive = new ArrayList<>();
+    private ByteArrayOutputStream outContent;
+    private ByteArrayOutputStream errContent;
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+
+    @BeforeEach
+    void setUp() {
+        outContent = new ByteArrayOutputStream();
+        errContent = new ByteArrayOutputStream();
+        originalOut = System.out;
+        originalErr = System.err;
+        System.setOut(new PrintStream(outContent));
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+        for (Connection connection : keepAlive) {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Applies the migration to every database-per-tenant URL")
+    void appliesAcrossDatabases() throws Exception {
+        List<String> urls = List.of(newDatabase(), newDatabase(), newDatabase());
+        writeMigration("CREATE TABLE accounts (id BIGINT PRIMARY KEY);\n");
+
+        int exitCode = fleet("apply", urls.toArray(String[]::new));
+
+        assertThat(exitCode).isZero();
+        assertThat(outContent.toString()).contains("[3/3]", "APPLIED=3");
+        for (int i = 0; i < urls.size(); i++) {
+            assertThat(queryLong(keepAlive.get(i), "SELECT COUNT(*) FROM jinx_schema_history")).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify reports pending tenants and applies per schema in a shared database")
+    void verifiesAndAppliesPerSchema() throws Exception {
+        String url = newDatabase();
+        execute(keepAlive.get(0), "CREATE SCHEMA \"tenant_a\"");
+        execute(keepAlive.get(0), "CREATE SCHEMA \"tenant_b\"");
+        writeMigration("CREATE TABLE accounts (id BIGINT PRIMARY KEY);\n");
+
+        assertThat(fleet("verify", "--db-url", url, "tenant_a", "tenant_b")).isEqualTo(1);
+        assertThat(outContent.toString()).contains("PENDING=2");
+
+        assertThat(fleet("apply", "--db-url", url, "tenant_a", "tenant_b")).isZero();
+        assertThat(queryLong(keepAlive.get(0), "SELECT COUNT(*) FROM \"tenant_a\".accounts")).isZero();
+        assertThat(queryLong(keepAlive.get(0), "SELECT COUNT(*) FROM \"tenant_b\".jinx_schema_history")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Resumes a partial rollout by retrying only the failed tenants")
+    void resumesPartialRollout() throws Exception {
+        String ok = newDatabase();
+        String broken = newDatabase();
+        execute(keepAlive.get(0), "CREATE TABLE customers (id BIGINT PRIMARY KEY)");
+        writeMigration("CREATE TABLE orders (id BIGINT PRIMARY KEY);\nINSERT INTO customers (id) VALUES (1);\n");
+
+        assertThat(fleet("apply", ok, broken)).isEqualTo(1);
+        assertThat(errContent.toString()).contains("FAILED " + broken);
+
+        execute(keepAlive.get(1), "CREATE TABLE customers (id BIGINT PRIMARY KEY)");
+        outContent.reset();
+
+        assertThat(fleet("apply", ok, broken)).isZero();
+        assertThat(outContent.toString()).contains("1 already done", "[1/1] " + broken + ": APPLIED");
+        assertThat(queryLong(keepAlive.get(0), "SELECT COUNT(*) FROM customers")).isEqualTo(1);
+    }
+
+    private int fleet(String action, String... targetArgs) {
+        List<String> args = new ArrayList<>(List.of("--action", action, "--out", tempDir.toString(),
+                "--db-user", "sa", "--db-password", "", "--concurrency", "2", "--per-host", "1"));
+        for (int i = 0; i < targetArgs.length; i++) {
+            if (targetArgs[i].equals("--db-url")) {
+                args.add("--db-url");
+                args.add(targetArgs[++i]);
+            } else {
+                args.add("--target");
+                args.add(targetArgs[i]);
+            }
+        }
+        return new CommandLine(new FleetCommand()).execute(args.toArray(String[]::new));
+    }
+
+    private String newDatabase() throws SQLException {
+        String url = "jdbc:h2:mem:fleet_" + UUID.randomUUID().toString().replace("-", "");
+        keepAlive.add(DriverManager.getConnection(url, "sa", ""));
+        return url;
+    }
+
+    private void writeMigration(String body) throws IOException {
+        Files.writeString(tempDir.resolve("V20240101000000__migration__jinxHead_sha256_" + HASH + ".sql"), """
+                -- Jinx Migration Header
+                -- jinx:head=sha256:%s
+                -- jinx:version=20240101000000
+
+                """.formatted(HASH) + body);
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
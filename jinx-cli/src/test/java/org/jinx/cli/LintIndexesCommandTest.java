@@ -0,0 +1,80 @@
+package org.jinx.cli;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LintIndexesCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path schemaDir;
+    private Path outputDir;
+    private ByteArrayOutputStream outContent;
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        schemaDir = tempDir.resolve("schemas");
+        outputDir = tempDir.resolve("output");
+        Files.createDirectories(schemaDir);
+        Files.writeString(schemaDir.resolve("schema-20240101000000.json"), """
+                {
+                  "version":"20240101000000",
+                  "entities":{
+                    "Order":{
+                      "entityName":"Order",
+                      "tableName":"orders",
+                      "indexes":{
+                        "ix_orders_user":{"indexName":"ix_orders_user","tableName":"orders","columnNames":["user_id"]},
+                        "ix_orders_user_created":{"indexName":"ix_orders_user_created","tableName":"orders","columnNames":["user_id","created_at"]}
+                      }
+                    }
+                  }
+                }
+                """);
+        outContent = new ByteArrayOutputStream();
+        originalOut = System.out;
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    @DisplayName("Reports left-prefix redundant indexes and writes a DROP INDEX script")
+    void reportsAndWritesDropScript() throws IOException {
+        int exitCode = new CommandLine(new LintIndexesCommand())
+                .execute("-p", schemaDir.toString(), "--out", outputDir.toString(), "--sql");
+
+        assertThat(exitCode).isZero();
+        assertThat(outContent.toString()).contains("Found 1 redundant index(es)",
+                "Index ix_orders_user on orders[user_id] is a left prefix of ix_orders_user_created");
+        assertThat(Files.readString(outputDir.resolve("drop-redundant-indexes-20240101000000.sql")))
+                .contains("DROP INDEX `ix_orders_user` ON `orders`;")
+                .doesNotContain("ix_orders_user_created`");
+    }
+
+    @Test
+    @DisplayName("Strict mode fails when redundant indexes exist")
+    void strictFails() {
+        int exitCode = new CommandLine(new LintIndexesCommand())
+                .execute("-p", schemaDir.toString(), "--out", outputDir.toString(), "--strict");
+
+        assertThat(exitCode).isEqualTo(1);
+    }
+}
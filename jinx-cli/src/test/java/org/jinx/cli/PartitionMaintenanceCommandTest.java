@@ -0,0 +1,83 @@
+package org.jinx.cli;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionMaintenanceCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path schemaDir;
+    private Path outputDir;
+    private ByteArrayOutputStream outContent;
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        schemaDir = tempDir.resolve("schemas");
+        outputDir = tempDir.resolve("output");
+        Files.createDirectories(schemaDir);
+        Files.writeString(schemaDir.resolve("schema-20240101000000.json"), """
+                {
+                  "version":"20240101000000",
+                  "entities":{
+                    "Event":{
+                      "entityName":"Event",
+                      "tableName":"events",
+                      "partitioning":{
+                        "strategy":"RANGE",
+                        "columns":["created_on"],
+                        "partitions":[{"name":"p202503","values":["'2025-04-01'"]}]
+                      }
+                    }
+                  }
+                }
+                """);
+        outContent = new ByteArrayOutputStream();
+        originalOut = System.out;
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    @DisplayName("Writes a dated PostgreSQL script that detaches expired and pre-creates upcoming partitions")
+    void writesPostgreSqlScript() throws IOException {
+        int exitCode = new CommandLine(new PartitionMaintenanceCommand()).execute(
+                "-p", schemaDir.toString(), "--out", outputDir.toString(), "-d", "postgresql",
+                "--ahead", "1", "--retention", "2", "--today", "2025-03-17");
+
+        assertThat(exitCode).isZero();
+        assertThat(outContent.toString()).contains("events: ensure 2, detach 1 partition(s)");
+        assertThat(Files.readString(outputDir.resolve("partition-maintenance-20250317.sql")))
+                .contains("ALTER TABLE \"events\" DETACH PARTITION \"events_p202412\" CONCURRENTLY;")
+                .contains("CREATE TABLE IF NOT EXISTS \"events_p202503\" PARTITION OF \"events\"")
+                .contains("FOR VALUES FROM ('2025-04-01') TO ('2025-05-01');");
+    }
+
+    @Test
+    @DisplayName("Fails when DETACH is requested for MySQL")
+    void mysqlDetachFails() {
+        int exitCode = new CommandLine(new PartitionMaintenanceCommand()).execute(
+                "-p", schemaDir.toString(), "--out", outputDir.toString(), "--action", "DETACH",
+                "--today", "2025-03-17");
+
+        assertThat(exitCode).isEqualTo(1);
+    }
+}
@@ -0,0 +1,80 @@
+package org.jinx.cli;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PurgeTrashCommandTest {
+
+    private String dbUrl;
+    private Connection keepAlive;
+    private ByteArrayOutputStream outContent;
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dbUrl = "jdbc:h2:mem:purge_" + UUID.randomUUID().toString().replace("-", "") + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        keepAlive = DriverManager.getConnection(dbUrl, "sa", "");
+        try (Statement stmt = keepAlive.createStatement()) {
+            stmt.execute("CREATE TABLE users (id BIGINT PRIMARY KEY)");
+            stmt.execute("CREATE TABLE _jinx_trash_20240101000000_orders (id BIGINT PRIMARY KEY)");
+            stmt.execute("CREATE TABLE _jinx_trash_20240201000000_carts (id BIGINT PRIMARY KEY)");
+        }
+        outContent = new ByteArrayOutputStream();
+        originalOut = System.out;
+        System.setOut(new PrintStream(outContent));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        System.setOut(originalOut);
+        keepAlive.close();
+    }
+
+    @Test
+    @DisplayName("Drops only trash tables moved by migrations up to the given version")
+    void dropsTrashUpToVersion() throws Exception {
+        int exitCode = new CommandLine(new PurgeTrashCommand())
+                .execute("--db-url", dbUrl, "--db-user", "sa", "-d", "mysql", "--up-to", "20240115000000");
+
+        assertThat(exitCode).isZero();
+        assertThat(outContent.toString()).contains("Dropped _jinx_trash_20240101000000_orders");
+        assertThat(tableExists("_jinx_trash_20240101000000_orders")).isFalse();
+        assertThat(tableExists("_jinx_trash_20240201000000_carts")).isTrue();
+        assertThat(tableExists("users")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Dry run lists trash tables without dropping them")
+    void dryRun() throws Exception {
+        int exitCode = new CommandLine(new PurgeTrashCommand())
+                .execute("--db-url", dbUrl, "--db-user", "sa", "-d", "mysql", "--dry-run");
+
+        assertThat(exitCode).isZero();
+        assertThat(outContent.toString()).contains("Would drop _jinx_trash_20240101000000_orders",
+                "Would drop _jinx_trash_20240201000000_carts");
+        assertThat(tableExists("_jinx_trash_20240101000000_orders")).isTrue();
+    }
+
+    private boolean tableExists(String name) throws SQLException {
+        try (Statement stmt = keepAlive.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = '" + name + "'")) {
+            rs.next();
+            return rs.getLong(1) > 0;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.jinx.cli;
+
+import org.jinx.migration.plan.MigrationPlan;
+import org.jinx.migration.plan.MigrationPlanFiles;
+import org.jinx.migration.plan.PlanOperation;
+import org.jinx.model.ColumnKey;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.EntityModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for RenderCommand.
+ */
+class RenderCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ByteArrayOutputStream errContent;
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+
+    @BeforeEach
+    void setUp() {
+        errContent = new ByteArrayOutputStream();
+        originalOut = System.out;
+        originalErr = System.err;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    @Test
+    @DisplayName("Renders SQL and rollback for each dialect into its own subdirectory")
+    void rendersEveryDialect() throws IOException {
+        Path planFile = MigrationPlanFiles.write(tempDir, plan());
+        Path outputDir = tempDir.resolve("out");
+
+        int exitCode = new CommandLine(new RenderCommand())
+                .execute("--plan", planFile.toString(),
+                        "--out", outputDir.toString(),
+                        "-d", "mysql,postgres",
+                        "--rollback");
+
+        assertThat(exitCode).isZero();
+        Path mysqlSql = outputDir.resolve("mysql").resolve("V2__migration__jinxHead_sha256_head.sql");
+        Path postgresSql = outputDir.resolve("postgresql").resolve("V2__migration__jinxHead_sha256_head.sql");
+        assertThat(Files.readString(mysqlSql)).contains("CREATE TABLE `users`");
+        assertThat(Files.readString(postgresSql)).contains("CREATE TABLE \"users\"");
+        assertThat(Files.readString(outputDir.resolve("mysql").resolve("rollback-2.sql")))
+                .contains("DROP TABLE IF EXISTS `users`");
+    }
+
+    @Test
+    @DisplayName("Writes directly into the output directory for a single dialect")
+    void singleDialectUsesOutputDir() throws IOException {
+        Path planFile = MigrationPlanFiles.write(tempDir, plan());
+        Path outputDir = tempDir.resolve("out");
+
+        int exitCode = new CommandLine(new RenderCommand())
+                .execute("--plan", planFile.toString(), "--out", outputDir.toString());
+
+        assertThat(exitCode).isZero();
+        assertThat(outputDir.resolve("V2__migration__jinxHead_sha256_head.sql")).exists();
+    }
+
+    @Test
+    @DisplayName("Returns error when the plan file does not exist")
+    void missingPlanFile() {
+        int exitCode = new CommandLine(new RenderCommand())
+                .execute("--plan", tempDir.resolve("plan-missing.json").toString());
+
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(errContent.toString()).contains("Migration plan not found");
+    }
+
+    private MigrationPlan plan() {
+        EntityModel users = EntityModel.builder().entityName("User").tableName("users").build();
+        users.getColumns().put(ColumnKey.of("users", "id"), ColumnModel.builder()
+                .tableName("users")
+                .columnName("id")
+                .javaType("java.lang.Long")
+                .isPrimaryKey(true)
+                .isNullable(false)
+                .build());
+
+        return MigrationPlan.builder()
+                .version("2")
+                .baselineVersion("1")
+                .baselineHash("base")
+                .headHash("head")
+                .operations(List.of(PlanOperation.builder()
+                        .kind(PlanOperation.Kind.ADD_TABLE)
+                        .table("users")
+                        .entity(users)
+                        .build()))
+                .build();
+    }
+}
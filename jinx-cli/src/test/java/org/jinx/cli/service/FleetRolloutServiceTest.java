@@ -0,0 +1,45 @@
+package org.jinx.cli.service;
+
+import org.jinx.cli.service.FleetRolloutService.Tenant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for FleetRolloutService tenant parsing and host grouping.
+ */
+class FleetRolloutServiceTest {
+
+    @Test
+    @DisplayName("Tenants on the same server share a host key")
+    void hostKey_groupsByServer() {
+        Tenant a = Tenant.parse("jdbc:mysql://db1.internal:3306/tenant_a?useSSL=false", null);
+        Tenant b = Tenant.parse("jdbc:mysql://DB1.internal:3306/tenant_b", null);
+        Tenant c = Tenant.parse("jdbc:mysql://db2.internal:3306/tenant_a", null);
+
+        assertThat(a.hostKey()).isEqualTo("db1.internal:3306").isEqualTo(b.hostKey());
+        assertThat(c.hostKey()).isNotEqualTo(a.hostKey());
+    }
+
+    @Test
+    @DisplayName("Schema names are resolved against the base URL")
+    void parse_schemaTarget() {
+        Tenant tenant = Tenant.parse("  tenant_42 ", "jdbc:postgresql://pg:5432/app");
+
+        assertThat(tenant.id()).isEqualTo("tenant_42");
+        assertThat(tenant.schema()).isEqualTo("tenant_42");
+        assertThat(tenant.hostKey()).isEqualTo("pg:5432");
+        assertThatThrownBy(() -> Tenant.parse("tenant_42", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("--db-url");
+    }
+
+    @Test
+    @DisplayName("Rejects non-positive concurrency limits")
+    void rejectsInvalidLimits() {
+        assertThatThrownBy(() -> new FleetRolloutService("sa", "", 0, 1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
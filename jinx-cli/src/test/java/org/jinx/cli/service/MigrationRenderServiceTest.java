@@ -0,0 +1,86 @@
+package org.jinx.cli.service;
+
+import org.jinx.migration.MigrationInfo;
+import org.jinx.migration.differs.SchemaDiffer;
+import org.jinx.migration.plan.MigrationPlan;
+import org.jinx.migration.plan.MigrationPlanFiles;
+import org.jinx.migration.plan.MigrationPlanner;
+import org.jinx.migration.plan.PlanOperation;
+import org.jinx.model.ColumnKey;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.EntityModel;
+import org.jinx.model.SchemaModel;
+import org.jinx.model.TableOptionsModel;
+import org.jinx.naming.DefaultNaming;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for MigrationRenderService.
+ */
+class MigrationRenderServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Table option changes on an existing table reach the migration, rollback and Liquibase outputs")
+    void render_tableOptionsChange() throws IOException {
+        SchemaModel baseline = schema("v1", events(Map.of("fillfactor", "90")));
+        Map<String, String> head = new LinkedHashMap<>();
+        head.put("fillfactor", "70");
+        head.put("autovacuum_enabled", "false");
+        MigrationPlan plan = MigrationPlanFiles.read(MigrationPlanFiles.write(tempDir, MigrationPlanner.plan(
+                new SchemaDiffer().diff(baseline, schema("v2", events(head))),
+                "v1", new MigrationInfo("base", "head", "v2"))));
+
+        assertThat(plan.getOperations()).extracting(PlanOperation::getKind)
+                .containsExactly(PlanOperation.Kind.MODIFY_TABLE, PlanOperation.Kind.MODIFY_TABLE_OPTIONS);
+
+        Path out = tempDir.resolve("out");
+        new MigrationRenderService(new DefaultNaming(63))
+                .render(plan, MigrationRenderService.resolveDialects("postgresql"), out, true, true);
+
+        assertThat(Files.readString(file(out, "V")))
+                .contains("ALTER TABLE \"events\" SET (fillfactor=70, autovacuum_enabled=false);");
+        assertThat(Files.readString(file(out, "rollback-")))
+                .contains("ALTER TABLE \"events\" SET (fillfactor=90);")
+                .contains("ALTER TABLE \"events\" RESET (autovacuum_enabled);");
+        assertThat(Files.readString(file(out, "changelog-")))
+                .contains("fillfactor=70, autovacuum_enabled=false");
+    }
+
+    private static Path file(Path dir, String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().startsWith(prefix)).findFirst().orElseThrow();
+        }
+    }
+
+    private static SchemaModel schema(String version, EntityModel entity) {
+        Map<String, EntityModel> entities = new LinkedHashMap<>();
+        entities.put(entity.getEntityName(), entity);
+        return SchemaModel.builder().version(version).entities(entities).build();
+    }
+
+    private static EntityModel events(Map<String, String> postgresql) {
+        EntityModel events = EntityModel.builder()
+                .entityName("Event")
+                .tableName("events")
+                .tableOptions(TableOptionsModel.builder().postgresql(new LinkedHashMap<>(postgresql)).build())
+                .build();
+        events.getColumns().put(ColumnKey.of("events", "id"), ColumnModel.builder()
+                .tableName("events").columnName("id").javaType("java.lang.Long")
+                .isPrimaryKey(true).isNullable(false).build());
+        return events;
+    }
+}
@@ -173,4 +173,45 @@ class SchemaIoServiceTest {
         assertThat(schema).isNotNull();
         assertThat(schema.getVersion()).isEqualTo(timestamp);
     }
+
+    @Test
+    @DisplayName("Loads baseline, HEAD and baseline hash together")
+    void testLoadConcurrently() throws IOException {
+        createSchemaFile("20240101000000", """
+                {"version":"20240101000000","entities":{}}
+                """);
+        SchemaModel baseline = SchemaModel.builder().version("20231231000000").build();
+        String baselineHash = service.generateSchemaHash(baseline);
+        service.promoteToBaseline(baseline, baselineHash);
+
+        SchemaIoService.LoadedSnapshots loaded = service.loadConcurrently();
+
+        assertThat(loaded.head()).isNotNull();
+        assertThat(loaded.head().getVersion()).isEqualTo("20240101000000");
+        assertThat(loaded.baseline().getVersion()).isEqualTo("20231231000000");
+        assertThat(loaded.baselineHash()).isEqualTo(baselineHash);
+    }
+
+    @Test
+    @DisplayName("Loads an initial baseline and no HEAD when nothing exists yet")
+    void testLoadConcurrently_NothingExists() throws IOException {
+        SchemaIoService.LoadedSnapshots loaded = service.loadConcurrently();
+
+        assertThat(loaded.head()).isNull();
+        assertThat(loaded.baseline().getVersion()).isEqualTo("initial");
+        assertThat(loaded.baselineHash()).isEqualTo("initial");
+    }
+
+    @Test
+    @DisplayName("Asynchronous schema hash matches the synchronous one")
+    void testGenerateSchemaHashAsync() throws IOException {
+        createSchemaFile("20240101000000", """
+                {"version":"20240101000000","entities":{}}
+                """);
+
+        var snapshot = service.openLatestSnapshot();
+
+        assertThat(service.generateSchemaHashAsync(snapshot).join())
+                .isEqualTo(service.generateSchemaHash(service.loadLatestSchema()));
+    }
 }
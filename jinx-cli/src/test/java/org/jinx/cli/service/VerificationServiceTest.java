@@ -1,9 +1,16 @@
 package org.jinx.cli.service;
 
+import org.jinx.migration.integration.MigrationToolIntegration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -191,4 +198,49 @@ class VerificationServiceTest {
         // when & then - No exception thrown
         service.recordSchemaApplication("hash", "version");
     }
+
+    @Test
+    @DisplayName("Checks and records state over a single reused connection")
+    void testRecordAndVerifyWithSingleConnection() throws SQLException {
+        String url = "jdbc:h2:mem:verify_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1";
+
+        try (VerificationService service = new VerificationService(url, "sa", "", "jinx")) {
+            assertThat(service.isSchemaUpToDate("head", "baseline")).isFalse();
+            service.recordSchemaApplication("head", "20240101000000");
+            assertThat(service.isSchemaUpToDate("head", "baseline")).isTrue();
+        }
+
+        try (VerificationService service = new VerificationService(url, "sa", "", "jinx")) {
+            assertThat(service.getAppliedSchemaHash("head", "baseline")).isEqualTo("head");
+        }
+    }
+
+    @Test
+    @DisplayName("Checking jinx state does not create the state table")
+    void testCheckDoesNotCreateStateTable() throws SQLException {
+        String url = "jdbc:h2:mem:verify_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1";
+
+        try (VerificationService service = new VerificationService(url, "sa", "", "jinx")) {
+            assertThat(service.getAppliedSchemaHash("head", "baseline")).isEqualTo("baseline");
+        }
+
+        try (Connection conn = DriverManager.getConnection(url, "sa", "");
+             ResultSet rs = conn.getMetaData().getTables(null, null, "JINX_SCHEMA_STATE", null)) {
+            assertThat(rs.next()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Liquibase mode also accepts a hash that 'db apply' recorded in the jinx history")
+    void testLiquibaseModeAcceptsJinxHistory() throws SQLException {
+        String url = "jdbc:h2:mem:verify_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1";
+        String hash = "ab".repeat(32);
+        try (Connection conn = DriverManager.getConnection(url, "sa", "")) {
+            new MigrationToolIntegration(conn).recordSchemaApplication(hash, "1");
+        }
+
+        try (VerificationService liquibase = new VerificationService(url, "sa", "", "liquibase")) {
+            assertThat(liquibase.getAppliedSchemaHash(hash, "baseline")).isEqualTo(hash);
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package org.jinx.annotation;
+
+import org.jinx.model.IndexMethod;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code jakarta.persistence.Index}로 표현할 수 없는 포함 컬럼, 부분 인덱스 조건을 지원하는 인덱스 선언.
+ *
+ * <p>PostgreSQL은 {@code INCLUDE (...) WHERE ...}로 그대로 만든다. MySQL은 부분 인덱스와 INCLUDE가 없어서
+ * 조건은 무시하고(경고 주석), 유니크가 아닌 인덱스의 포함 컬럼은 뒤쪽 키 컬럼으로 붙여 커버링 인덱스로 만든다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(Indexes.class)
+public @interface Index {
+    String name() default "";               // 인덱스 이름 – 비우면 Naming.ixName
+    String columnList();                    // 키 – "a, b DESC NULLS LAST, lower(c)"
+    String[] include() default {};          // 키가 아닌 포함 컬럼
+    String where() default "";              // 부분 인덱스 조건식
+    boolean unique() default false;
+    IndexMethod method() default IndexMethod.BTREE; // 접근 방식 – 방언이 지원하지 않으면 DDL 생성 시 실패
+}
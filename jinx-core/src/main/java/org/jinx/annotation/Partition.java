@@ -0,0 +1,18 @@
+package org.jinx.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link Partitioned}의 RANGE/LIST 파티션 하나.
+ *
+ * <p>{@code values}는 SQL 리터럴이다. RANGE는 키 컬럼마다 미포함 상한, LIST는 허용 값 목록이다.
+ * 비워 두면 나머지 행을 모두 받는 파티션이 된다.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Partition {
+    String name();                      // 파티션 이름 – PostgreSQL은 "<table>_<name>" 자식 테이블
+    String[] values() default {};       // RANGE 상한 / LIST 값 – "'2024-01-01'", "MAXVALUE"
+}
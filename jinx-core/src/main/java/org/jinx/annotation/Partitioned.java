@@ -0,0 +1,24 @@
+package org.jinx.annotation;
+
+import org.jinx.model.PartitionStrategy;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 테이블을 선언적 파티션 테이블로 만든다.
+ *
+ * <p>MySQL은 {@code PARTITION BY RANGE COLUMNS / LIST COLUMNS / KEY}, PostgreSQL은
+ * {@code PARTITION BY RANGE / LIST / HASH}와 파티션마다 {@code PARTITION OF} 자식 테이블을 만든다.
+ * 두 DB 모두 PK와 모든 유니크 키에 파티션 키 컬럼이 들어 있어야 하며, 빌드 시 검사한다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Partitioned {
+    PartitionStrategy strategy();
+    String[] columns();                     // 파티션 키 컬럼
+    Partition[] partitions() default {};    // RANGE/LIST 초기 파티션
+    int count() default 0;                  // HASH 파티션 수
+}
@@ -0,0 +1,25 @@
+package org.jinx.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테이블 저장 옵션. 항목은 {@code "이름=값"} 형식이며 값은 SQL에 그대로 들어간다.
+ *
+ * <pre>{@code
+ * @TableOptions(
+ *     postgresql = {"fillfactor=80", "autovacuum_vacuum_scale_factor=0.05"},
+ *     mysql = {"ROW_FORMAT=COMPRESSED", "KEY_BLOCK_SIZE=8"})
+ * }</pre>
+ *
+ * <p>PostgreSQL은 {@code CREATE TABLE ... WITH (...)} / {@code ALTER TABLE ... SET (...)}, MySQL은
+ * 테이블 옵션 / {@code ALTER TABLE ... ROW_FORMAT=...}으로 만든다. 방언마다 자기 옵션만 쓴다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TableOptions {
+    String[] postgresql() default {};   // storage parameter (fillfactor, autovacuum_*, toast.*)
+    String[] mysql() default {};        // 테이블 옵션 (ROW_FORMAT, KEY_BLOCK_SIZE, COMPRESSION, ENGINE ...)
+}
@@ -8,17 +8,29 @@ import org.jinx.migration.contributor.create.ColumnContributor;
 import org.jinx.migration.contributor.create.ConstraintContributor;
 import org.jinx.migration.contributor.create.IndexContributor;
 import org.jinx.migration.contributor.create.RelationshipAddContributor;
+import org.jinx.migration.spi.dialect.ColumnOrderDialect;
 import org.jinx.migration.spi.dialect.DdlDialect;
+import org.jinx.migration.spi.dialect.PartitionDialect;
+import org.jinx.migration.spi.dialect.TableOptionsDialect;
 import org.jinx.model.ColumnModel;
 import org.jinx.model.EntityModel;
+import org.jinx.model.PartitioningModel;
+import org.jinx.model.TableOptionsModel;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 public class CreateTableBuilder {
     @Setter
     private String table;
+    /** 있으면 방언이 {@link PartitionDialect}일 때 {@code PARTITION BY}로 닫는다 */
+    @Setter
+    private PartitioningModel partitioning;
+    /** 있으면 방언이 {@link TableOptionsDialect}일 때 닫는 괄호 뒤에 테이블 옵션을 붙인다 */
+    @Setter
+    private TableOptionsModel tableOptions;
     private final DdlDialect dialect;
     private final List<DdlContributor> body = new ArrayList<>();
     private final List<DdlContributor> post = new ArrayList<>();
@@ -48,7 +60,17 @@ public class CreateTableBuilder {
 
         trimTrailingComma(sb);
 
-        sb.append(dialect.closeCreateTable()).append('\n');
+        Map<String, String> options = tableOptions != null && dialect instanceof TableOptionsDialect td
+                ? td.tableOptionsOf(tableOptions) : Map.of();
+        if (partitioning != null && dialect instanceof PartitionDialect pd) {
+            sb.append(options.isEmpty()
+                    ? pd.closePartitionedTable(table, partitioning)
+                    : pd.closePartitionedTable(table, partitioning, options)).append('\n');
+        } else if (!options.isEmpty()) {
+            sb.append(((TableOptionsDialect) dialect).closeCreateTable(options)).append('\n');
+        } else {
+            sb.append(dialect.closeCreateTable()).append('\n');
+        }
 
         post.stream()
                 .sorted(Comparator.comparingInt(DdlContributor::priority))
@@ -68,6 +90,9 @@ public class CreateTableBuilder {
                 .filter(ColumnModel::isPrimaryKey)
                 .map(ColumnModel::getColumnName)
                 .toList();
+        if (dialect instanceof ColumnOrderDialect cd) {
+            columns = cd.orderColumnsForCreate(columns, pkColumns);
+        }
 
         // 1) 컬럼 & PK
         this.add(new ColumnContributor(pkColumns, columns));
@@ -76,6 +101,10 @@ public class CreateTableBuilder {
         // 3) 인덱스 (보통 CREATE TABLE 이후 생성)
         this.add(new IndexContributor(entity.getTableName(),
                 entity.getIndexes().values().stream().toList()));
+        // 4) 파티셔닝
+        this.partitioning = entity.getPartitioning();
+        // 5) 테이블 옵션
+        this.tableOptions = entity.getTableOptions();
 
         return this;
     }
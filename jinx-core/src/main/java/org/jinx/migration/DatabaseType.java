@@ -1,6 +1,27 @@
 package org.jinx.migration;
 
+import java.util.Locale;
+
 public enum DatabaseType {
     MYSQL,
-    POSTGRESQL
+    POSTGRESQL;
+
+    /**
+     * 방언 이름, JDBC 제품 이름 또는 JDBC URL에서 DB 종류를 추정합니다. MariaDB는 MySQL로 봅니다.
+     *
+     * @return 알 수 없으면 null
+     */
+    public static DatabaseType detect(String nameOrUrl) {
+        if (nameOrUrl == null) {
+            return null;
+        }
+        String s = nameOrUrl.toLowerCase(Locale.ROOT);
+        if (s.contains("mysql") || s.contains("mariadb")) {
+            return MYSQL;
+        }
+        if (s.contains("postgres")) {
+            return POSTGRESQL;
+        }
+        return null;
+    }
 }
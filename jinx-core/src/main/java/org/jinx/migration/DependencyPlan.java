@@ -0,0 +1,58 @@
+package org.jinx.migration;
+
+import org.jinx.model.EntityModel;
+import org.jinx.model.RelationshipModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * FK 의존성 기반 계층(layer) 실행 계획.
+ *
+ * <p>같은 계층의 테이블끼리는 FK 의존성이 없으므로 CREATE/DROP을 병렬로 실행할 수 있습니다.
+ * CREATE는 {@link #layers()} 순서대로, DROP은 역순으로 실행합니다.
+ *
+ * <p>Jinx 자체는 계층을 병렬로 실행하지 않습니다. 생성기와 플래너는 {@link #creationOrder()}/{@link #dropOrder()}로
+ * 평탄화한 순서만 쓰고, 마이그레이션 파일은 한 커넥션에서 순서대로 적용됩니다. 계층은 외부 실행기가
+ * 병렬 부트스트랩/정리에 쓸 수 있도록 공개한 정보입니다.
+ *
+ * <p>FK 사이클은 강한 연결 요소(SCC)로 묶어 같은 계층에 배치합니다. 사이클 내부 FK는
+ * {@link #deferredForeignKeys()}로 분리되며, CREATE 시에는 모든 테이블 생성 후 추가하고
+ * DROP 시에는 테이블 삭제 전에 먼저 제거해야 합니다.
+ *
+ * @param layers              계층별 테이블 목록 (계층 내부는 입력 순서)
+ * @param deferredForeignKeys 사이클을 구성하는 FK (소유 테이블, 관계)
+ * @param cycles              사이클을 구성하는 테이블명(소문자) 집합 목록
+ */
+public record DependencyPlan(
+        List<List<EntityModel>> layers,
+        List<DeferredForeignKey> deferredForeignKeys,
+        List<Set<String>> cycles
+) {
+
+    /**
+     * 사이클 내부 FK. {@code owner}는 FK 컬럼을 가진 테이블입니다.
+     */
+    public record DeferredForeignKey(EntityModel owner, RelationshipModel relationship) {}
+
+    /**
+     * @return 부모가 자식보다 앞에 오는 CREATE 순서 (계층을 평탄화한 결과)
+     */
+    public List<EntityModel> creationOrder() {
+        List<EntityModel> order = new ArrayList<>();
+        layers.forEach(order::addAll);
+        return order;
+    }
+
+    /**
+     * @return 자식이 부모보다 앞에 오는 DROP 순서
+     */
+    public List<EntityModel> dropOrder() {
+        return creationOrder().reversed();
+    }
+
+    public boolean hasCycles() {
+        return !cycles.isEmpty();
+    }
+}
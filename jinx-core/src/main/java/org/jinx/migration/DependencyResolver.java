@@ -7,12 +7,14 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 /**
- * FK 의존성 기반 위상정렬 (Kahn's BFS).
+ * FK 의존성 기반 실행 계획 (Tarjan SCC).
  *
- * <p>{@link #sortByFkDependency}는 부모 테이블(참조 대상)이 먼저 오는 순서를 반환합니다.
- * CREATE 순서로 사용하고, DROP 순서는 호출부에서 {@code .reversed()}를 적용합니다.
+ * <p>{@link #plan}은 부모 테이블(참조 대상)이 앞 계층에 오는 계층별 계획을 만듭니다. 사이클은 SCC로 묶어
+ * 한 계층에서 테이블을 먼저 생성하고 사이클 내부 FK를 이후 단계로 미룹니다. 계층 병렬 실행은 제공하지
+ * 않습니다 ({@link DependencyPlan} 참고).
  *
- * <p>입력 집합 내 테이블 간 FK만 고려하며, 사이클 감지 시 경고를 출력하고 원본 순서를 유지합니다.
+ * <p>입력 집합 내 테이블 간 FK만 고려합니다. {@link #sortByFkDependency}는 사이클을 처리하지 못하는
+ * 이전 평탄 정렬(Kahn's BFS)로, 호환을 위해 남겨 둡니다.
  */
 public final class DependencyResolver {
 
@@ -30,7 +32,10 @@ public final class DependencyResolver {
      *
      * @param tables 정렬할 테이블 목록
      * @return FK 의존성 기준으로 정렬된 새 리스트 (원본 불변)
+     * @deprecated 사이클이 있으면 순서를 정하지 못합니다. {@link #plan}의
+     *             {@link DependencyPlan#creationOrder()}/{@link DependencyPlan#dropOrder()}를 사용하세요.
      */
+    @Deprecated
     public static List<EntityModel> sortByFkDependency(List<EntityModel> tables) {
         if (tables == null) {
             return List.of();
@@ -115,4 +120,166 @@ public final class DependencyResolver {
 
         return sorted;
     }
+
+    /**
+     * FK 의존성 기준으로 계층별 실행 계획을 만듭니다.
+     *
+     * <ul>
+     *   <li>간선 규칙은 {@link #sortByFkDependency}와 같습니다 (noConstraint, 자기 참조, 입력 집합 밖 참조 제외).</li>
+     *   <li>Tarjan 알고리즘으로 SCC를 구한 뒤, 각 SCC를 부모 SCC들의 최대 계층 + 1에 배치합니다.</li>
+     *   <li>크기가 2 이상인 SCC(사이클)의 내부 FK는 {@link DependencyPlan#deferredForeignKeys()}로 분리됩니다.</li>
+     *   <li>tableName이 null인 엔티티는 의존성이 없는 것으로 보고 첫 계층에 둡니다.</li>
+     * </ul>
+     *
+     * @param tables 계획할 테이블 목록
+     * @return 계층별 실행 계획 (계층 내부는 입력 순서)
+     */
+    public static DependencyPlan plan(List<EntityModel> tables) {
+        if (tables == null || tables.isEmpty()) {
+            return new DependencyPlan(List.of(), List.of(), List.of());
+        }
+
+        int n = tables.size();
+        Map<String, List<Integer>> nodesByName = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            String name = tables.get(i).getTableName();
+            if (name != null) {
+                nodesByName.computeIfAbsent(name.toLowerCase(Locale.ROOT), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // child → parents 간선 (중복 제거, 삽입 순서 유지)
+        List<Set<Integer>> parents = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Set<Integer> edges = new LinkedHashSet<>();
+            EntityModel entity = tables.get(i);
+            Map<String, RelationshipModel> rels = entity.getRelationships();
+            if (entity.getTableName() != null && rels != null) {
+                for (RelationshipModel rel : rels.values()) {
+                    for (int parent : parentNodes(rel, nodesByName)) {
+                        if (parent != i) edges.add(parent);
+                    }
+                }
+            }
+            parents.add(edges);
+        }
+
+        // Tarjan (반복형): SCC는 부모 SCC가 모두 방출된 뒤 방출되므로 방출 순서가 곧 생성 순서
+        int[] component = new int[n];
+        List<List<Integer>> sccs = tarjan(parents, component);
+
+        int[] sccLayer = new int[sccs.size()];
+        int maxLayer = 0;
+        for (int c = 0; c < sccs.size(); c++) {
+            int layer = 0;
+            for (int v : sccs.get(c)) {
+                for (int parent : parents.get(v)) {
+                    if (component[parent] != c) {
+                        layer = Math.max(layer, sccLayer[component[parent]] + 1);
+                    }
+                }
+            }
+            sccLayer[c] = layer;
+            maxLayer = Math.max(maxLayer, layer);
+        }
+
+        List<List<EntityModel>> layers = new ArrayList<>(maxLayer + 1);
+        for (int l = 0; l <= maxLayer; l++) {
+            layers.add(new ArrayList<>());
+        }
+        for (int i = 0; i < n; i++) {
+            layers.get(sccLayer[component[i]]).add(tables.get(i));
+        }
+
+        List<DependencyPlan.DeferredForeignKey> deferred = new ArrayList<>();
+        List<Set<String>> cycles = new ArrayList<>();
+        for (List<Integer> scc : sccs) {
+            if (scc.size() < 2) continue;
+
+            Set<String> cycle = new LinkedHashSet<>();
+            scc.stream().sorted().forEach(v -> cycle.add(tables.get(v).getTableName().toLowerCase(Locale.ROOT)));
+            cycles.add(cycle);
+
+            for (int v : scc.stream().sorted().toList()) {
+                EntityModel owner = tables.get(v);
+                for (RelationshipModel rel : owner.getRelationships().values()) {
+                    boolean intraCycle = parentNodes(rel, nodesByName).stream()
+                            .anyMatch(parent -> parent != v && component[parent] == component[v]);
+                    if (intraCycle) {
+                        deferred.add(new DependencyPlan.DeferredForeignKey(owner, rel));
+                    }
+                }
+            }
+        }
+
+        return new DependencyPlan(layers, deferred, cycles);
+    }
+
+    private static List<Integer> parentNodes(RelationshipModel rel, Map<String, List<Integer>> nodesByName) {
+        if (rel.isNoConstraint() || rel.getReferencedTable() == null) {
+            return List.of();
+        }
+        return nodesByName.getOrDefault(rel.getReferencedTable().toLowerCase(Locale.ROOT), List.of());
+    }
+
+    private static List<List<Integer>> tarjan(List<Set<Integer>> edges, int[] component) {
+        int n = edges.size();
+        int[] index = new int[n];
+        int[] low = new int[n];
+        boolean[] onStack = new boolean[n];
+        Arrays.fill(index, -1);
+
+        Deque<Integer> stack = new ArrayDeque<>();
+        List<List<Integer>> sccs = new ArrayList<>();
+        int counter = 0;
+
+        for (int start = 0; start < n; start++) {
+            if (index[start] != -1) continue;
+
+            // frame: [노드, 다음에 볼 간선 위치]
+            Deque<int[]> work = new ArrayDeque<>();
+            Map<Integer, List<Integer>> adjacency = new HashMap<>();
+            index[start] = low[start] = counter++;
+            stack.push(start);
+            onStack[start] = true;
+            work.push(new int[]{start, 0});
+
+            while (!work.isEmpty()) {
+                int[] frame = work.peek();
+                int v = frame[0];
+                List<Integer> adj = adjacency.computeIfAbsent(v, k -> new ArrayList<>(edges.get(k)));
+
+                if (frame[1] < adj.size()) {
+                    int w = adj.get(frame[1]++);
+                    if (index[w] == -1) {
+                        index[w] = low[w] = counter++;
+                        stack.push(w);
+                        onStack[w] = true;
+                        work.push(new int[]{w, 0});
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+
+                work.pop();
+                if (!work.isEmpty()) {
+                    int u = work.peek()[0];
+                    low[u] = Math.min(low[u], low[v]);
+                }
+                if (low[v] == index[v]) {
+                    List<Integer> scc = new ArrayList<>();
+                    int w;
+                    do {
+                        w = stack.pop();
+                        onStack[w] = false;
+                        component[w] = sccs.size();
+                        scc.add(w);
+                    } while (w != v);
+                    sccs.add(scc);
+                }
+            }
+        }
+        return sccs;
+    }
 }
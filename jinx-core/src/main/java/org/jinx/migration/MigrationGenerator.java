@@ -3,17 +3,32 @@ package org.jinx.migration;
 import org.jinx.migration.spi.visitor.SqlGeneratingVisitor;
 import org.jinx.model.DialectBundle;
 import org.jinx.model.DiffResult;
+import org.jinx.model.EntityModel;
+import org.jinx.model.RelationshipModel;
 import org.jinx.model.SchemaModel;
+import org.jinx.model.VisitorProviders;
+
+import java.util.List;
 
 public class MigrationGenerator {
     private final DialectBundle dialects;
     private final SchemaModel newSchema;
     private final boolean reverseMode;
+    private final String trashVersion;
 
     public MigrationGenerator(DialectBundle dialects, SchemaModel newSchema, boolean reverseMode) {
+        this(dialects, newSchema, reverseMode, null);
+    }
+
+    /**
+     * @param trashVersion 안전 삭제 모드의 휴지통 버전 ({@link TableTrash}). null이면 테이블을 바로 DROP합니다.
+     *                     정방향에서는 삭제 테이블을 휴지통으로 RENAME하고, 역방향(롤백)에서는 휴지통에서 되돌립니다.
+     */
+    public MigrationGenerator(DialectBundle dialects, SchemaModel newSchema, boolean reverseMode, String trashVersion) {
         this.dialects = dialects;
         this.newSchema = newSchema;
         this.reverseMode = reverseMode;
+        this.trashVersion = trashVersion;
     }
 
     public String generateSql(DiffResult diff) {
@@ -48,10 +63,15 @@ public class MigrationGenerator {
             diff.getRenamedTables().stream()
                     .map(DiffResult.RenamedTable::getOldEntity)
                     .forEach(allToDrop::add);
+            if (trashVersion != null && !reverseMode && !allToDrop.isEmpty()) {
+                out.append(moveToTrash(allToDrop, providers)).append('\n');
+                allToDrop.clear();
+            }
+            var plan = DependencyResolver.plan(allToDrop);
+            // 사이클 내부 FK는 테이블 DROP 전에 먼저 제거해야 함
+            out.append(dropDeferredForeignKeys(plan, providers));
             // FK 참조 역방향: 자식 테이블(FK 보유)이 부모보다 먼저 DROP되어야 함
-            DependencyResolver.sortByFkDependency(allToDrop)
-                    .reversed()
-                    .forEach(v::visitDroppedTable);
+            plan.dropOrder().forEach(v::visitDroppedTable);
             out.append(((SqlGeneratingVisitor)v).getGeneratedSql()).append('\n');
         }
 
@@ -63,8 +83,15 @@ public class MigrationGenerator {
             diff.getRenamedTables().stream()
                     .map(DiffResult.RenamedTable::getNewEntity)
                     .forEach(allToAdd::add);
+            if (trashVersion != null && reverseMode) {
+                // 롤백: 휴지통으로 옮긴 테이블은 이름만 되돌림 (FK는 3단계에서 다시 추가)
+                allToAdd.forEach(t -> out.append(dialects.ddl()
+                        .getRenameTableSql(TableTrash.trashName(trashVersion, t.getTableName()), t.getTableName())));
+                allToAdd.clear();
+            }
             // FK 참조 정방향: 부모 테이블이 자식보다 먼저 CREATE되어야 함
-            DependencyResolver.sortByFkDependency(allToAdd)
+            // (FK는 모두 3단계에서 추가하므로 사이클이 있어도 생성 순서만 맞으면 됨)
+            DependencyResolver.plan(allToAdd).creationOrder()
                     .forEach(v::visitAddedTable);
             out.append(((SqlGeneratingVisitor)v).getGeneratedSql()).append('\n');
         }
@@ -102,5 +129,45 @@ public class MigrationGenerator {
         return out.toString().trim();
     }
 
+    /**
+     * 삭제 대상 테이블의 FK를 먼저 제거하고 휴지통 이름으로 RENAME합니다. FK를 남겨 두면 휴지통 테이블이
+     * 살아 있는 부모 테이블의 행 삭제를 막으므로 제거하며, 롤백 시 테이블 추가와 같은 경로로 다시 만들어집니다.
+     */
+    private String moveToTrash(List<EntityModel> tables, VisitorProviders providers) {
+        var out = new StringBuilder();
+        out.append("-- Safe drop: tables are renamed to ").append(TableTrash.PREFIX).append(trashVersion)
+                .append("_*; run purge-").append(trashVersion).append(".sql later to drop them").append('\n');
+        for (EntityModel table : tables) {
+            for (RelationshipModel rel : table.getRelationships().values()) {
+                if (rel.isNoConstraint()) {
+                    continue;
+                }
+                var v = providers.entityTableContentVisitor().apply(table);
+                v.visitDroppedRelationship(rel);
+                out.append(v.getGeneratedSql()).append('\n');
+            }
+        }
+        for (EntityModel table : tables) {
+            out.append(dialects.ddl().getRenameTableSql(table.getTableName(),
+                    TableTrash.trashName(trashVersion, table.getTableName())));
+        }
+        return out.toString();
+    }
 
-}
\ No newline at end of file
+    private String dropDeferredForeignKeys(DependencyPlan plan, VisitorProviders providers) {
+        if (!plan.hasCycles()) {
+            return "";
+        }
+        var out = new StringBuilder();
+        for (var cycle : plan.cycles()) {
+            out.append("-- WARNING: FK dependency cycle among tables ").append(cycle)
+                    .append("; cyclic foreign keys are dropped before the tables").append('\n');
+        }
+        for (var fk : plan.deferredForeignKeys()) {
+            var v = providers.entityTableContentVisitor().apply(fk.owner());
+            v.visitDroppedRelationship(fk.relationship());
+            out.append(v.getGeneratedSql()).append('\n');
+        }
+        return out.toString();
+    }
+}
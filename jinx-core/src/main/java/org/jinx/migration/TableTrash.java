@@ -0,0 +1,63 @@
+package org.jinx.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+/**
+ * 안전 삭제(safe drop) 모드에서 삭제 대상 테이블을 옮겨 두는 휴지통 이름 규칙.
+ *
+ * <p>대용량 테이블의 {@code DROP TABLE}은 MySQL에서는 버퍼 풀 정리로 인스턴스를 멈추게 하고,
+ * PostgreSQL에서는 ACCESS EXCLUSIVE 잠금이 긴 트랜잭션 뒤에 대기열을 만든다. 안전 삭제 모드의 마이그레이션은
+ * 테이블을 {@code _jinx_trash_<version>_<table>}로 이름만 바꾸고(즉시 완료, 되돌리기 가능),
+ * 실제 삭제는 별도로 예약한 purge 단계에서 수행한다. 롤백은 이름을 원래대로 되돌린다.
+ */
+public final class TableTrash {
+
+    public static final String PREFIX = "_jinx_trash_";
+
+    /** MySQL(64)과 PostgreSQL(63) 식별자 길이 한도 중 작은 값 */
+    static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    private TableTrash() {
+    }
+
+    /**
+     * 버전별 휴지통 테이블 이름. 식별자 길이 한도를 넘으면 뒷부분을 자르고 전체 이름의 짧은 해시를 붙여,
+     * 앞부분이 같은 긴 테이블들이 같은 휴지통 이름으로 겹치지 않게 한다 (제약 이름 규칙과 같은 방식).
+     */
+    public static String trashName(String version, String table) {
+        String name = PREFIX + version + "_" + table;
+        if (name.length() <= MAX_IDENTIFIER_LENGTH) {
+            return name;
+        }
+        String hash = stableHash(name);
+        return name.substring(0, MAX_IDENTIFIER_LENGTH - hash.length() - 1) + "_" + hash;
+    }
+
+    public static boolean isTrash(String table) {
+        return table != null && table.toLowerCase(Locale.ROOT).startsWith(PREFIX);
+    }
+
+    /**
+     * 휴지통 테이블 이름에 들어 있는 마이그레이션 버전. 휴지통 테이블이 아니면 null.
+     */
+    public static String versionOf(String trashTable) {
+        if (!isTrash(trashTable)) {
+            return null;
+        }
+        String rest = trashTable.substring(PREFIX.length());
+        int end = rest.indexOf('_');
+        return end > 0 ? rest.substring(0, end) : null;
+    }
+
+    private static String stableHash(String input) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(input.getBytes(StandardCharsets.UTF_8));
+            return String.format("%02x%02x%02x%02x", hash[0], hash[1], hash[2], hash[3]);
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(input.hashCode());
+        }
+    }
+}
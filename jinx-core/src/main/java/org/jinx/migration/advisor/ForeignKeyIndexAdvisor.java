@@ -0,0 +1,173 @@
+package org.jinx.migration.advisor;
+
+import org.jinx.model.ConstraintModel;
+import org.jinx.model.ConstraintType;
+import org.jinx.model.EntityModel;
+import org.jinx.model.IndexModel;
+import org.jinx.model.RelationshipModel;
+import org.jinx.model.SchemaModel;
+import org.jinx.naming.Naming;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * FK 컬럼을 받쳐 주는 인덱스가 없는 관계를 찾는다.
+ *
+ * <p>MySQL(InnoDB)은 FK마다 인덱스를 자동으로 만들지만 PostgreSQL은 만들지 않는다. 인덱스가 없으면
+ * 부모 행 삭제나 {@code ON DELETE CASCADE}가 자식 테이블 전체를 순차 스캔한다.
+ * FK 컬럼이 인덱스, PK 또는 UNIQUE 제약의 선두 컬럼(순서 무관)으로 들어 있으면 덮인 것으로 본다.
+ */
+public class ForeignKeyIndexAdvisor {
+
+    /**
+     * 인덱스가 필요한 FK 하나.
+     *
+     * @param tableName      FK가 걸린 테이블
+     * @param constraintName FK 제약 이름
+     * @param columns        FK 컬럼
+     * @param index          {@link Naming#ixName}으로 이름 붙인 제안 인덱스
+     */
+    public record Advice(String tableName, String constraintName, List<String> columns, IndexModel index) {
+        public String message() {
+            return "Foreign key " + constraintName + " on " + tableName + columns
+                    + " has no supporting index; parent deletes will scan " + tableName + ".";
+        }
+    }
+
+    private static final Comparator<Advice> ORDER = Comparator.comparing(Advice::tableName)
+            .thenComparing(Advice::constraintName, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final Naming naming;
+
+    public ForeignKeyIndexAdvisor(Naming naming) {
+        this.naming = naming;
+    }
+
+    /**
+     * 스키마는 바꾸지 않고 인덱스가 없는 FK 목록만 돌려준다. 테이블·제약 이름 순.
+     */
+    public List<Advice> advise(SchemaModel schema) {
+        List<Advice> advices = new ArrayList<>();
+        if (schema == null || schema.getEntities() == null) {
+            return advices;
+        }
+        for (EntityModel entity : schema.getEntities().values()) {
+            advices.addAll(advise(entity));
+        }
+        advices.sort(ORDER);
+        return advices;
+    }
+
+    /**
+     * {@link #advise(SchemaModel)}의 제안 인덱스를 각 엔티티에 추가한다.
+     *
+     * @return 추가한 인덱스의 제안 목록
+     */
+    public List<Advice> apply(SchemaModel schema) {
+        return apply(schema, advice -> true);
+    }
+
+    /**
+     * {@code filter}를 통과한 제안 인덱스만 각 엔티티에 추가한다. 이미 DB에 있을 수 있는 인덱스를
+     * 빼고 HEAD에만 적용하면 diff에 필요한 인덱스만 나타난다.
+     *
+     * @return 추가한 인덱스의 제안 목록
+     */
+    public List<Advice> apply(SchemaModel schema, Predicate<Advice> filter) {
+        List<Advice> applied = new ArrayList<>();
+        if (schema == null || schema.getEntities() == null) {
+            return applied;
+        }
+        for (EntityModel entity : schema.getEntities().values()) {
+            for (Advice advice : advise(entity)) {
+                if (!filter.test(advice)) {
+                    continue;
+                }
+                entity.getIndexes().put(advice.index().getIndexName(), advice.index());
+                applied.add(advice);
+            }
+        }
+        applied.sort(ORDER);
+        return applied;
+    }
+
+    private List<Advice> advise(EntityModel entity) {
+        List<Advice> advices = new ArrayList<>();
+        if (entity.getRelationships() == null) {
+            return advices;
+        }
+        Set<String> proposed = new HashSet<>();
+        for (RelationshipModel rel : entity.getRelationships().values()) {
+            // NO_CONSTRAINT 관계는 DB가 FK를 검사하지 않으므로 삭제 시 스캔도 없다
+            if (rel.isNoConstraint() || rel.getColumns() == null || rel.getColumns().isEmpty()) {
+                continue;
+            }
+            String table = rel.getTableName() != null ? rel.getTableName() : entity.getTableName();
+            if (isCovered(entity, table, rel.getColumns())) {
+                continue;
+            }
+            List<String> columns = List.copyOf(rel.getColumns());
+            String indexName = naming.ixName(table, columns);
+            if (!proposed.add(indexName) || entity.getIndexes().containsKey(indexName)) {
+                continue;
+            }
+            IndexModel index = IndexModel.builder()
+                    .indexName(indexName)
+                    .tableName(table)
+                    .columnNames(columns)
+                    .build();
+            advices.add(new Advice(table, rel.getConstraintName(), columns, index));
+        }
+        return advices;
+    }
+
+    private boolean isCovered(EntityModel entity, String table, List<String> fkColumns) {
+        for (List<String> candidate : candidateKeys(entity, table)) {
+            if (hasLeadingColumns(candidate, fkColumns)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 테이블에 이미 있는 인덱스 키: PK, UNIQUE/INDEX 제약, 인덱스.
+     */
+    private List<List<String>> candidateKeys(EntityModel entity, String table) {
+        List<List<String>> keys = new ArrayList<>();
+        List<String> pk = IndexKeys.primaryKey(entity, table);
+        if (!pk.isEmpty()) {
+            keys.add(pk);
+        }
+        for (ConstraintModel c : entity.getConstraints().values()) {
+            if (IndexKeys.sameTable(table, c.getTableName(), entity)
+                    && (c.getType() == ConstraintType.PRIMARY_KEY
+                    || c.getType() == ConstraintType.UNIQUE
+                    || c.getType() == ConstraintType.INDEX)) {
+                keys.add(c.getColumns());
+            }
+        }
+        for (IndexModel ix : entity.getIndexes().values()) {
+            if (IndexKeys.sameTable(table, ix.getTableName(), entity) && ix.getColumnNames() != null) {
+                keys.add(ix.getColumnNames());
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 후보 키의 앞쪽 {@code fkColumns.size()}개 컬럼이 FK 컬럼과 같은 집합이면 true.
+     */
+    static boolean hasLeadingColumns(List<String> key, List<String> fkColumns) {
+        if (key == null || key.size() < fkColumns.size()) {
+            return false;
+        }
+        return new HashSet<>(IndexKeys.normalize(key.subList(0, fkColumns.size())))
+                .equals(new HashSet<>(IndexKeys.normalize(fkColumns)));
+    }
+}
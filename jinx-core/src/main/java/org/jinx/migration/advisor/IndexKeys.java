@@ -0,0 +1,48 @@
+package org.jinx.migration.advisor;
+
+import org.jinx.model.ColumnModel;
+import org.jinx.model.ConstraintModel;
+import org.jinx.model.ConstraintType;
+import org.jinx.model.EntityModel;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 인덱스 분석기들이 공유하는 키 비교 도우미.
+ */
+final class IndexKeys {
+
+    private IndexKeys() {
+    }
+
+    /**
+     * 테이블의 PK 컬럼. PK 제약이 있으면 그 순서를, 없으면 DDL 생성과 같은 컬럼 순서를 따른다.
+     */
+    static List<String> primaryKey(EntityModel entity, String table) {
+        for (ConstraintModel c : entity.getConstraints().values()) {
+            if (c.getType() == ConstraintType.PRIMARY_KEY && sameTable(table, c.getTableName(), entity)
+                    && !c.getColumns().isEmpty()) {
+                return c.getColumns();
+            }
+        }
+        return entity.getColumns().values().stream()
+                .filter(c -> sameTable(table, c.getTableName(), entity))
+                .filter(ColumnModel::isPrimaryKey)
+                .map(ColumnModel::getColumnName)
+                .toList();
+    }
+
+    static boolean sameTable(String table, String ownerTable, EntityModel entity) {
+        return Objects.equals(table, tableOf(ownerTable, entity));
+    }
+
+    static String tableOf(String ownerTable, EntityModel entity) {
+        return ownerTable != null ? ownerTable : entity.getTableName();
+    }
+
+    static List<String> normalize(List<String> columns) {
+        return columns.stream().map(c -> c.toLowerCase(Locale.ROOT)).toList();
+    }
+}
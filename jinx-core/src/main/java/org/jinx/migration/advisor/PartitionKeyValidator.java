@@ -0,0 +1,121 @@
+package org.jinx.migration.advisor;
+
+import org.jinx.model.ColumnModel;
+import org.jinx.model.ConstraintModel;
+import org.jinx.model.ConstraintType;
+import org.jinx.model.EntityModel;
+import org.jinx.model.IndexKeyPart;
+import org.jinx.model.IndexModel;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitionStrategy;
+import org.jinx.model.PartitioningModel;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 파티션 정의를 검사한다.
+ *
+ * <p>MySQL과 PostgreSQL 모두 파티션마다 따로 인덱스를 두므로 PK와 모든 유니크 키(제약, 인덱스)가
+ * 파티션 키 컬럼을 전부 포함해야 한다. 포함하지 않으면 {@code CREATE TABLE}이 실패한다.
+ * PostgreSQL 파티션 부모 테이블은 storage parameter({@code fillfactor} 등)도 받지 않는다.
+ */
+public class PartitionKeyValidator {
+
+    /**
+     * 잘못된 점을 메시지로 돌려준다. 파티션 테이블이 아니거나 문제가 없으면 빈 목록.
+     */
+    public List<String> validate(EntityModel entity) {
+        List<String> errors = new ArrayList<>();
+        PartitioningModel p = entity.getPartitioning();
+        if (p == null) {
+            return errors;
+        }
+        String table = entity.getTableName();
+        if (p.getStrategy() == null) {
+            errors.add("Partitioned table " + table + " has no partition strategy.");
+            return errors;
+        }
+        if (p.getColumns() == null || p.getColumns().isEmpty()) {
+            errors.add("Partitioned table " + table + " has no partition key columns.");
+            return errors;
+        }
+
+        Set<String> tableColumns = new HashSet<>();
+        for (ColumnModel c : entity.getColumns().values()) {
+            if (IndexKeys.sameTable(table, c.getTableName(), entity)) {
+                tableColumns.add(c.getColumnName().toLowerCase(Locale.ROOT));
+            }
+        }
+        List<String> key = IndexKeys.normalize(p.getColumns());
+        for (int i = 0; i < key.size(); i++) {
+            if (!tableColumns.contains(key.get(i))) {
+                errors.add("Partition key column " + p.getColumns().get(i) + " does not exist in table " + table + ".");
+            }
+        }
+
+        validatePartitions(table, p, errors);
+
+        if (entity.getTableOptions() != null && !entity.getTableOptions().getPostgresql().isEmpty()) {
+            errors.add("PostgreSQL storage parameters " + entity.getTableOptions().getPostgresql().keySet()
+                    + " cannot be set on partitioned table " + table + "; partitioned tables take no storage parameters.");
+        }
+
+        List<String> pk = IndexKeys.primaryKey(entity, table);
+        if (!pk.isEmpty() && !IndexKeys.normalize(pk).containsAll(key)) {
+            errors.add("Primary key " + pk + " of partitioned table " + table
+                    + " must include all partition key columns " + p.getColumns() + ".");
+        }
+        for (ConstraintModel c : entity.getConstraints().values()) {
+            if (c.getType() == ConstraintType.UNIQUE && IndexKeys.sameTable(table, c.getTableName(), entity)
+                    && !IndexKeys.normalize(c.getColumns()).containsAll(key)) {
+                errors.add("Unique constraint " + c.getName() + c.getColumns() + " of partitioned table " + table
+                        + " must include all partition key columns " + p.getColumns() + ".");
+            }
+        }
+        for (IndexModel ix : entity.getIndexes().values()) {
+            if (!Boolean.TRUE.equals(ix.getUnique()) || !IndexKeys.sameTable(table, ix.getTableName(), entity)) {
+                continue;
+            }
+            List<String> cols = IndexKeyPart.partsOf(ix).stream()
+                    .filter(part -> !part.hasExpression())
+                    .map(IndexKeyPart::getColumn)
+                    .toList();
+            if (!IndexKeys.normalize(cols).containsAll(key)) {
+                errors.add("Unique index " + ix.getIndexName() + ix.getColumnNames() + " of partitioned table " + table
+                        + " must include all partition key columns " + p.getColumns() + ".");
+            }
+        }
+        return errors;
+    }
+
+    private static void validatePartitions(String table, PartitioningModel p, List<String> errors) {
+        if (p.getStrategy() == PartitionStrategy.HASH) {
+            if (p.getPartitionCount() == null || p.getPartitionCount() <= 0) {
+                errors.add("HASH partitioned table " + table + " needs a positive partition count.");
+            }
+            return;
+        }
+        if (p.getPartitions().isEmpty()) {
+            errors.add(p.getStrategy() + " partitioned table " + table + " needs at least one partition.");
+        }
+        Set<String> names = new HashSet<>();
+        for (PartitionModel part : p.getPartitions()) {
+            if (part.getName() == null || part.getName().isBlank()) {
+                errors.add("Partition of table " + table + " has no name.");
+                continue;
+            }
+            if (!names.add(part.getName().toLowerCase(Locale.ROOT))) {
+                errors.add("Duplicate partition " + part.getName() + " in table " + table + ".");
+            }
+            if (p.getStrategy() == PartitionStrategy.RANGE && !part.isCatchAll()
+                    && part.getValues().size() != p.getColumns().size()) {
+                errors.add("RANGE partition " + part.getName() + " of table " + table + " needs one upper bound per key column "
+                        + p.getColumns() + " but has " + part.getValues() + ".");
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package org.jinx.migration.advisor;
+
+import org.jinx.model.ConstraintModel;
+import org.jinx.model.ConstraintType;
+import org.jinx.model.EntityModel;
+import org.jinx.model.IndexKeyPart;
+import org.jinx.model.IndexModel;
+import org.jinx.model.SchemaModel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 다른 키가 이미 대신하는 중복 인덱스를 찾는다.
+ *
+ * <p>인덱스마다 쓰기 비용과 버퍼 풀 메모리가 든다. 같은 테이블의 PK, UNIQUE 제약 또는 다른 인덱스와
+ * 컬럼이 똑같거나({@link Reason#DUPLICATE}), 더 넓은 B-tree 인덱스의 선두 컬럼과 같은
+ * ({@link Reason#LEFT_PREFIX}) 인덱스를 보고한다.
+ * <ul>
+ *   <li>조건부({@code where}) 인덱스나 B-tree가 아닌 인덱스(hash 등)는 다른 인덱스를 대신하지 못하고,
+ *       스스로도 중복으로 보고하지 않는다</li>
+ *   <li>INCLUDE 컬럼이나 내림차순·식 키가 있는 인덱스도 비교하지 않는다</li>
+ *   <li>UNIQUE 인덱스는 제약을 강제하므로 같은 컬럼의 UNIQUE 키가 있을 때만 중복이다</li>
+ * </ul>
+ */
+public class RedundantIndexAnalyzer {
+
+    public enum Reason {
+        /** 같은 컬럼, 같은 순서의 키가 이미 있다 */
+        DUPLICATE,
+        /** 더 넓은 키의 선두 컬럼과 같다 */
+        LEFT_PREFIX
+    }
+
+    /**
+     * 지워도 되는 인덱스 하나.
+     *
+     * @param tableName 테이블
+     * @param index     중복 인덱스
+     * @param reason    중복 사유
+     * @param coveredBy 대신하는 키 이름 (PK 제약 이름이 없으면 {@code PRIMARY KEY})
+     * @param coveringColumns 대신하는 키의 컬럼
+     */
+    public record Finding(String tableName, IndexModel index, Reason reason,
+                          String coveredBy, List<String> coveringColumns) {
+        public String message() {
+            String what = reason == Reason.DUPLICATE ? "duplicates" : "is a left prefix of";
+            return "Index " + index.getIndexName() + " on " + tableName + index.getColumnNames()
+                    + " " + what + " " + coveredBy + coveringColumns + " and can be dropped.";
+        }
+    }
+
+    private record Key(String name, List<String> columns, boolean unique, IndexModel index) {
+        boolean droppable() {
+            return index != null;
+        }
+    }
+
+    /**
+     * 모든 엔티티를 분석한다. 테이블·인덱스 이름 순.
+     */
+    public List<Finding> analyze(SchemaModel schema) {
+        List<Finding> findings = new ArrayList<>();
+        if (schema == null || schema.getEntities() == null) {
+            return findings;
+        }
+        for (EntityModel entity : schema.getEntities().values()) {
+            findings.addAll(analyze(entity));
+        }
+        findings.sort(Comparator.comparing(Finding::tableName)
+                .thenComparing(f -> f.index().getIndexName()));
+        return findings;
+    }
+
+    public List<Finding> analyze(EntityModel entity) {
+        Map<String, List<Key>> keysByTable = new LinkedHashMap<>();
+        for (IndexModel ix : entity.getIndexes().values()) {
+            if (isPlainBtree(ix.getType(), ix.getWhere()) && isPlainKey(ix)
+                    && ix.getColumnNames() != null && !ix.getColumnNames().isEmpty()) {
+                keysByTable.computeIfAbsent(IndexKeys.tableOf(ix.getTableName(), entity), t -> new ArrayList<>())
+                        .add(new Key(ix.getIndexName(), ix.getColumnNames(), Boolean.TRUE.equals(ix.getUnique()), ix));
+            }
+        }
+
+        List<Finding> findings = new ArrayList<>();
+        for (Map.Entry<String, List<Key>> e : keysByTable.entrySet()) {
+            findings.addAll(analyze(e.getKey(), withConstraintKeys(entity, e.getKey(), e.getValue())));
+        }
+        return findings;
+    }
+
+    private List<Key> withConstraintKeys(EntityModel entity, String table, List<Key> indexKeys) {
+        List<Key> keys = new ArrayList<>();
+        List<String> pk = IndexKeys.primaryKey(entity, table);
+        if (!pk.isEmpty()) {
+            String pkName = entity.getConstraints().values().stream()
+                    .filter(c -> c.getType() == ConstraintType.PRIMARY_KEY && c.getName() != null)
+                    .filter(c -> IndexKeys.sameTable(table, c.getTableName(), entity))
+                    .map(ConstraintModel::getName)
+                    .findFirst().orElse("PRIMARY KEY");
+            keys.add(new Key(pkName, pk, true, null));
+        }
+        for (ConstraintModel c : entity.getConstraints().values()) {
+            if (!IndexKeys.sameTable(table, c.getTableName(), entity) || c.getColumns().isEmpty()
+                    || !isPlainBtree(null, c.getWhere())) {
+                continue;
+            }
+            if (c.getType() == ConstraintType.UNIQUE || c.getType() == ConstraintType.INDEX) {
+                keys.add(new Key(c.getName(), c.getColumns(), c.getType() == ConstraintType.UNIQUE, null));
+            }
+        }
+        keys.addAll(indexKeys);
+        return keys;
+    }
+
+    private List<Finding> analyze(String table, List<Key> keys) {
+        // 넓은 키부터 판정해야 좁은 인덱스가 이미 지워질 인덱스에 기대지 않는다
+        List<Key> candidates = keys.stream()
+                .filter(Key::droppable)
+                .sorted(Comparator.comparingInt((Key k) -> k.columns().size()).reversed()
+                        .thenComparing(Key::name, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        Set<Key> redundant = new HashSet<>();
+        List<Finding> findings = new ArrayList<>();
+        for (Key candidate : candidates) {
+            for (Key other : keys) {
+                if (other == candidate || redundant.contains(other)) {
+                    continue;
+                }
+                Reason reason = coverage(candidate, other);
+                if (reason != null) {
+                    redundant.add(candidate);
+                    findings.add(new Finding(table, candidate.index(), reason, other.name(), other.columns()));
+                    break;
+                }
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * {@code other}가 {@code candidate}를 대신할 수 있으면 사유를, 아니면 null.
+     */
+    private static Reason coverage(Key candidate, Key other) {
+        List<String> mine = IndexKeys.normalize(candidate.columns());
+        List<String> theirs = IndexKeys.normalize(other.columns());
+        if (mine.equals(theirs)) {
+            if (candidate.unique() && !other.unique()) {
+                return null;
+            }
+            // 똑같은 인덱스 둘 중에서는 이름이 뒤인 쪽만 보고한다
+            if (other.droppable() && candidate.unique() == other.unique()
+                    && Comparator.<String>nullsLast(Comparator.naturalOrder()).compare(candidate.name(), other.name()) < 0) {
+                return null;
+            }
+            return Reason.DUPLICATE;
+        }
+        if (!candidate.unique() && theirs.size() > mine.size() && theirs.subList(0, mine.size()).equals(mine)) {
+            return Reason.LEFT_PREFIX;
+        }
+        return null;
+    }
+
+    /**
+     * INCLUDE 컬럼, 내림차순·식 키가 있는 인덱스는 따로 만든 의도가 있으므로 비교하지 않는다.
+     */
+    private static boolean isPlainKey(IndexModel ix) {
+        return (ix.getIncludeColumns() == null || ix.getIncludeColumns().isEmpty())
+                && IndexKeyPart.nullIfPlain(IndexKeyPart.partsOf(ix)) == null;
+    }
+
+    /**
+     * 조건 없는 B-tree인지. 타입을 지정하지 않으면 방언 기본값(B-tree)으로 본다.
+     */
+    static boolean isPlainBtree(String type, String where) {
+        if (where != null && !where.isBlank()) {
+            return false;
+        }
+        if (type == null || type.isBlank()) {
+            return true;
+        }
+        String t = type.trim().toUpperCase(Locale.ROOT).replace("-", "");
+        return t.equals("BTREE");
+    }
+}
@@ -1,15 +1,19 @@
 package org.jinx.migration.baseline;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import org.jinx.migration.json.SchemaMappers;
+import org.jinx.migration.snapshot.InMemorySchemaSnapshot;
+import org.jinx.migration.snapshot.SchemaSnapshot;
+import org.jinx.migration.snapshot.SnapshotStore;
+import org.jinx.migration.snapshot.StreamingSchemaLoader;
 import org.jinx.model.SchemaModel;
+import org.jinx.options.JinxOptions;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
@@ -23,16 +27,24 @@ public class BaselineManager {
 
     private static final String BASELINE_FILE = "schema-baseline.json";
     private static final String BASELINE_METADATA_FILE = "baseline-metadata.json";
+    private static final String BASELINE_STORE_FILE = "schema-baseline" + JinxOptions.Snapshot.STORE_EXTENSION;
 
     private final Path outputDir;
     private final ObjectMapper objectMapper;
+    private final boolean snapshotStore;
 
     public BaselineManager(Path outputDir) {
+        this(outputDir, false);
+    }
+
+    /**
+     * @param snapshotStore also maintain an indexed snapshot store ({@code schema-baseline.jxs})
+     *                      when promoting, so later runs can open the baseline without parsing it
+     */
+    public BaselineManager(Path outputDir, boolean snapshotStore) {
         this.outputDir = outputDir;
-        this.objectMapper = new ObjectMapper()
-                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
-                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
-                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);;
+        this.snapshotStore = snapshotStore;
+        this.objectMapper = SchemaMappers.canonical();
     }
 
     /**
@@ -40,12 +52,13 @@ public class BaselineManager {
      */
     public String generateSchemaHash(SchemaModel schema) {
         try {
-            // Create deterministic JSON representation
-            String content = objectMapper.writeValueAsString(schema);
-
-            // Generate SHA-256 hash
+            // Stream the deterministic JSON representation straight into the digest
+            // so the full document never has to be materialized as a String
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+            try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                SchemaMappers.writer().writeValue(out, schema);
+            }
+            byte[] hash = digest.digest();
 
             // Convert to hex string
             StringBuilder hexString = new StringBuilder();
@@ -73,7 +86,28 @@ public class BaselineManager {
             return createInitialBaseline();
         }
 
-        return objectMapper.readValue(baselineFile.toFile(), SchemaModel.class);
+        return SchemaMappers.readerFor(SchemaModel.class).readValue(baselineFile.toFile());
+    }
+
+    /**
+     * Open the current baseline as a lazily decoded snapshot, or an empty initial snapshot if none exists.
+     * Only the entity index is read up front; entity bodies are decoded on demand.
+     * The indexed snapshot store is preferred when it is at least as recent as the JSON baseline.
+     */
+    public SchemaSnapshot openBaseline() throws IOException {
+        Path baselineFile = outputDir.resolve(BASELINE_FILE);
+
+        if (!Files.exists(baselineFile)) {
+            return new InMemorySchemaSnapshot(createInitialBaseline(), objectMapper);
+        }
+
+        Path storeFile = outputDir.resolve(BASELINE_STORE_FILE);
+        if (Files.exists(storeFile)
+                && Files.getLastModifiedTime(storeFile).compareTo(Files.getLastModifiedTime(baselineFile)) >= 0) {
+            return SnapshotStore.open(storeFile, objectMapper);
+        }
+
+        return new StreamingSchemaLoader(objectMapper).open(baselineFile);
     }
 
     /**
@@ -86,7 +120,7 @@ public class BaselineManager {
                 return Optional.empty();
             }
 
-            BaselineMetadata metadata = objectMapper.readValue(metadataFile.toFile(), BaselineMetadata.class);
+            BaselineMetadata metadata = SchemaMappers.readerFor(BaselineMetadata.class).readValue(metadataFile.toFile());
             return Optional.ofNullable(metadata.getSchemaHash()).filter(s -> !s.isBlank());
 
         } catch (IOException e) {
@@ -103,7 +137,15 @@ public class BaselineManager {
 
         // Save baseline schema
         Path baselineFile = outputDir.resolve(BASELINE_FILE);
-        objectMapper.writeValue(baselineFile.toFile(), headSchema);
+        SchemaMappers.writer().writeValue(baselineFile.toFile(), headSchema);
+
+        // Keep the indexed store in sync, or remove a stale one so it can never shadow the JSON baseline
+        Path storeFile = outputDir.resolve(BASELINE_STORE_FILE);
+        if (snapshotStore) {
+            SnapshotStore.write(storeFile, new StreamingSchemaLoader(objectMapper).open(baselineFile), objectMapper);
+        } else {
+            Files.deleteIfExists(storeFile);
+        }
 
         // Save baseline metadata
         BaselineMetadata metadata = BaselineMetadata.builder()
@@ -113,7 +155,7 @@ public class BaselineManager {
                 .build();
 
         Path metadataFile = outputDir.resolve(BASELINE_METADATA_FILE);
-        objectMapper.writeValue(metadataFile.toFile(), metadata);
+        SchemaMappers.writer().writeValue(metadataFile.toFile(), metadata);
     }
 
     /**
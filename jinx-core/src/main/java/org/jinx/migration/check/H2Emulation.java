@@ -0,0 +1,150 @@
+package org.jinx.migration.check;
+
+import org.jinx.migration.DatabaseType;
+import org.jinx.migration.spi.SqlTypeName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 대상 방언을 H2 호환 모드로 흉내 내기 위한 규칙.
+ *
+ * <p>H2의 MySQL/PostgreSQL 모드는 일반적인 DDL은 그대로 받지만, 저장 엔진 옵션이나 인덱스 메서드처럼
+ * 스키마 모양과 무관한 물리 옵션은 거부한다. 이런 구문만 걷어내고(스키마 비교에 영향 없음),
+ * 걷어낸 기능은 보고서에 남긴다. 흉내 낼 수 없는 기능 목록은 {@link #limitations(DatabaseType)}로 공개한다.
+ */
+public final class H2Emulation {
+
+    /**
+     * 재작성 규칙 하나.
+     *
+     * @param feature 걷어낸 기능 설명 (보고용)
+     */
+    record Rule(String feature, Pattern pattern, String replacement) {
+    }
+
+    /**
+     * @param sql      H2에서 실행할 문장
+     * @param features 이 문장에서 걷어낸 기능들
+     */
+    public record Rewritten(String sql, List<String> features) {
+    }
+
+    private static final int FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL;
+
+    private static final List<Rule> MYSQL_RULES = List.of(
+            new Rule("table partitioning (PARTITION BY)",
+                    Pattern.compile("\\s+PARTITION\\s+BY\\s+(?:RANGE|LIST|KEY|HASH)\\b.*$", FLAGS), ""),
+            new Rule("table options (ENGINE/CHARSET/COLLATE)",
+                    Pattern.compile("\\)\\s*(?:ENGINE|DEFAULT\\s+CHARSET|CHARSET|COLLATE|ROW_FORMAT|COMMENT)\\s*=[^()]*$", FLAGS), ")"),
+            new Rule("column CHARACTER SET / COLLATE",
+                    Pattern.compile("\\s+(?:CHARACTER\\s+SET|COLLATE)\\s+\\w+", FLAGS), ""),
+            new Rule("index method (USING BTREE/HASH)",
+                    Pattern.compile("\\s+USING\\s+(?:BTREE|HASH)\\b", FLAGS), ""),
+            new Rule("FULLTEXT/SPATIAL index",
+                    Pattern.compile("\\b(?:FULLTEXT|SPATIAL)\\s+(INDEX|KEY)\\b", FLAGS), "$1"),
+            new Rule("online DDL clauses (ALGORITHM/LOCK)",
+                    Pattern.compile(",?\\s*(?:ALGORITHM|LOCK)\\s*=\\s*\\w+", FLAGS), "")
+    );
+
+    private static final List<Rule> POSTGRESQL_RULES = List.of(
+            new Rule("CREATE/DROP INDEX CONCURRENTLY",
+                    Pattern.compile("\\bINDEX\\s+CONCURRENTLY\\b", FLAGS), "INDEX"),
+            new Rule("index method (USING gin/gist/brin/hash/btree)",
+                    Pattern.compile("\\s+USING\\s+(?:GIN|GIST|BRIN|HASH|BTREE|SPGIST)\\b", FLAGS), ""),
+            new Rule("table partitioning (PARTITION BY)",
+                    Pattern.compile("\\)\\s*PARTITION\\s+BY\\s+(?:RANGE|LIST|HASH)\\s*\\([^)]*\\)", FLAGS), ")"),
+            new Rule("storage parameters (WITH fillfactor/autovacuum)",
+                    Pattern.compile("\\)\\s*WITH\\s*\\([^)]*\\)\\s*;?\\s*$", FLAGS), ")"),
+            new Rule("covering index (INCLUDE)",
+                    Pattern.compile("\\s+INCLUDE\\s*\\([^)]*\\)", FLAGS), ""),
+            new Rule("partial index (WHERE)",
+                    Pattern.compile("^(\\s*CREATE\\s+(?:UNIQUE\\s+)?INDEX\\b.*?\\))\\s+WHERE\\s+.*$", FLAGS), "$1"),
+            new Rule("deferrable constraints",
+                    Pattern.compile("\\s+(?:NOT\\s+)?DEFERRABLE(?:\\s+INITIALLY\\s+(?:DEFERRED|IMMEDIATE))?", FLAGS), ""),
+            new Rule("jsonb (stored as JSON)",
+                    Pattern.compile("\\bJSONB\\b", FLAGS), "JSON")
+    );
+
+    /** H2가 같은 타입으로 저장하거나 표현을 바꾸는 타입 쌍. 비교 시 불일치가 아니라 근사로 분류한다. */
+    private static final List<Set<String>> EQUIVALENT_TYPES = List.of(
+            Set.of("json", "jsonb"),
+            Set.of("real", "double"),
+            Set.of("text", "varchar"),
+            Set.of("blob", "varbinary", "binary"),
+            Set.of("boolean", "bit", "tinyint"),
+            Set.of("enum", "varchar"),
+            Set.of("timestamptz", "timestamp")
+    );
+
+    private H2Emulation() {
+    }
+
+    /**
+     * 대상 DB를 흉내 내는 인메모리 H2 URL. 이름마다 독립된 DB가 만들어진다.
+     */
+    public static String jdbcUrl(DatabaseType type, String name) {
+        String mode = switch (type) {
+            case MYSQL -> "MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+            case POSTGRESQL -> "MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+        };
+        return "jdbc:h2:mem:" + name + ";" + mode;
+    }
+
+    /**
+     * H2가 거부하는 방언 전용 구문을 걷어낸다.
+     */
+    public static Rewritten rewrite(DatabaseType type, String sql) {
+        String result = sql;
+        List<String> features = new ArrayList<>();
+        for (Rule rule : rules(type)) {
+            Matcher m = rule.pattern().matcher(result);
+            if (m.find()) {
+                result = m.replaceAll(rule.replacement());
+                features.add(rule.feature());
+            }
+        }
+        return new Rewritten(result, features);
+    }
+
+    /**
+     * H2에서 검증되지 않는(걷어내거나 다르게 저장되는) 기능 목록.
+     */
+    public static List<String> limitations(DatabaseType type) {
+        List<String> result = new ArrayList<>(rules(type).stream().map(Rule::feature).toList());
+        switch (type) {
+            case MYSQL -> {
+                result.add("column types: TEXT variants, BIT and TINYINT(1) are compared loosely");
+                result.add("lock behaviour and online DDL (instant/in-place) are not simulated");
+                result.add("ADD/DROP/REORGANIZE PARTITION statements are not supported");
+                result.add("ALTER TABLE statements changing table options (ROW_FORMAT, KEY_BLOCK_SIZE) are not supported");
+            }
+            case POSTGRESQL -> {
+                result.add("column types: jsonb, timestamptz and text are compared loosely");
+                result.add("transactional DDL and lock levels are not simulated");
+                result.add("partition child tables (PARTITION OF) are not supported");
+                result.add("ALTER TABLE ... SET/RESET storage parameters are not supported");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * H2에 저장되면서 구분이 사라지는 타입이면 true.
+     */
+    public static boolean equivalentTypes(String expected, String actual) {
+        String e = SqlTypeName.parse(expected).base();
+        String a = SqlTypeName.parse(actual).base();
+        return e.equals(a) || EQUIVALENT_TYPES.stream().anyMatch(set -> set.contains(e) && set.contains(a));
+    }
+
+    private static List<Rule> rules(DatabaseType type) {
+        return switch (type) {
+            case MYSQL -> MYSQL_RULES;
+            case POSTGRESQL -> POSTGRESQL_RULES;
+        };
+    }
+}
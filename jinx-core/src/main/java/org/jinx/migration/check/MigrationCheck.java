@@ -0,0 +1,121 @@
+package org.jinx.migration.check;
+
+import org.jinx.migration.MigrationGenerator;
+import org.jinx.migration.differs.SchemaDiffer;
+import org.jinx.migration.execution.SqlStatementSplitter;
+import org.jinx.migration.introspect.H2SchemaIntrospector;
+import org.jinx.migration.introspect.SchemaDrift;
+import org.jinx.migration.introspect.SchemaDriftDetector;
+import org.jinx.model.DialectBundle;
+import org.jinx.model.SchemaModel;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 생성된 마이그레이션을 실제 DB 없이 검증한다.
+ *
+ * <p>인메모리 H2를 대상 방언의 호환 모드로 띄우고, baseline 스키마 전체 생성 DDL과 마이그레이션 문장을
+ * 차례로 실행한 뒤 결과를 카탈로그 일괄 조회로 읽어 head 스키마와 비교한다. 모든 작업이 한 프로세스,
+ * 한 연결 안에서 끝나므로 수천 개 테이블도 외부 컨테이너 없이 검증할 수 있다.
+ *
+ * <p>H2가 같은 타입으로 저장하는 타입 차이(jsonb/json 등)는 불일치가 아닌 근사로 분류하고,
+ * 실행 전에 걷어낸 방언 전용 구문({@link H2Emulation})도 보고서에 남긴다.
+ */
+public class MigrationCheck {
+
+    public enum Phase { BASELINE, MIGRATION }
+
+    /**
+     * 실행에 실패한 첫 문장. 이후 문장은 실행하지 않는다.
+     *
+     * @param index 해당 단계 안에서의 0부터 시작하는 순번
+     */
+    public record Failure(Phase phase, int index, String sql, String message) {
+    }
+
+    /**
+     * @param failure          실행 실패 (없으면 null, 있으면 비교는 생략)
+     * @param mismatches       head 스키마와의 실제 차이
+     * @param approximations   H2 표현 한계로 구분할 수 없는 차이
+     * @param emulatedFeatures 실행 전에 걷어낸 방언 전용 기능
+     */
+    public record CheckReport(Failure failure, List<SchemaDrift> mismatches, List<SchemaDrift> approximations,
+                              Set<String> emulatedFeatures, int baselineStatements, int migrationStatements,
+                              int tablesChecked, Duration elapsed) {
+        public boolean passed() {
+            return failure == null && mismatches.isEmpty();
+        }
+    }
+
+    private final DialectBundle bundle;
+
+    public MigrationCheck(DialectBundle bundle) {
+        this.bundle = bundle;
+    }
+
+    /**
+     * @param baseline  마이그레이션 적용 전 스키마
+     * @param head      마이그레이션 적용 후 기대 스키마
+     * @param migration 검증할 마이그레이션 문장들
+     */
+    public CheckReport run(SchemaModel baseline, SchemaModel head, List<String> migration) throws SQLException {
+        long start = System.nanoTime();
+        List<String> baselineStatements = SqlStatementSplitter.split(new MigrationGenerator(bundle, baseline, false)
+                .generateSql(new SchemaDiffer().diff(SchemaModel.builder().build(), baseline)), bundle.databaseType());
+        Set<String> features = new LinkedHashSet<>();
+
+        String url = H2Emulation.jdbcUrl(bundle.databaseType(), "jinx_check_" + UUID.randomUUID().toString().replace("-", ""));
+        try (Connection conn = DriverManager.getConnection(url, "sa", "")) {
+            Failure failure = replay(conn, Phase.BASELINE, baselineStatements, features);
+            if (failure == null) {
+                failure = replay(conn, Phase.MIGRATION, migration, features);
+            }
+            if (failure != null) {
+                return new CheckReport(failure, List.of(), List.of(), features, baselineStatements.size(),
+                        migration.size(), 0, Duration.ofNanos(System.nanoTime() - start));
+            }
+
+            SchemaModel actual = new H2SchemaIntrospector().introspect(conn, null);
+            SchemaDriftDetector.DriftReport drift = new SchemaDriftDetector(
+                    bundle.base().getJavaTypeMapper(), bundle.supportsSequence()).detect(head, actual);
+
+            List<SchemaDrift> mismatches = new ArrayList<>();
+            List<SchemaDrift> approximations = new ArrayList<>();
+            for (SchemaDrift d : drift.drifts()) {
+                if (d.kind() == SchemaDrift.Kind.COLUMN_TYPE && H2Emulation.equivalentTypes(d.expected(), d.actual())) {
+                    approximations.add(d);
+                } else {
+                    mismatches.add(d);
+                }
+            }
+            return new CheckReport(null, mismatches, approximations, features, baselineStatements.size(),
+                    migration.size(), actual.getEntities().size(), Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private Failure replay(Connection conn, Phase phase, List<String> statements, Set<String> features) {
+        try (Statement stmt = conn.createStatement()) {
+            for (int i = 0; i < statements.size(); i++) {
+                H2Emulation.Rewritten rewritten = H2Emulation.rewrite(bundle.databaseType(), statements.get(i));
+                features.addAll(rewritten.features());
+                try {
+                    stmt.execute(rewritten.sql());
+                } catch (SQLException e) {
+                    return new Failure(phase, i, statements.get(i), e.getMessage());
+                }
+            }
+            return null;
+        } catch (SQLException e) {
+            return new Failure(phase, 0, null, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.jinx.migration.contributor.alter;
+
+import org.jinx.migration.contributor.DdlContributor;
+import org.jinx.migration.spi.dialect.DdlDialect;
+import org.jinx.migration.spi.dialect.TableOptionsDialect;
+import org.jinx.model.TableOptionsModel;
+
+public record TableOptionsModifyContributor(String table, TableOptionsModel newOptions, TableOptionsModel oldOptions)
+        implements DdlContributor {
+    @Override
+    public int priority() {
+        return 55; // Table Options Modify (컬럼 변경 뒤, 인덱스 추가 전)
+    }
+
+    @Override
+    public void contribute(StringBuilder sb, DdlDialect dialect) {
+        if (dialect instanceof TableOptionsDialect td) {
+            sb.append(td.getAlterTableOptionsSql(table, td.tableOptionsOf(oldOptions), td.tableOptionsOf(newOptions)));
+        }
+    }
+}
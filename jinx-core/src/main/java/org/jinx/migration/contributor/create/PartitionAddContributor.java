@@ -0,0 +1,20 @@
+package org.jinx.migration.contributor.create;
+
+import org.jinx.migration.contributor.DdlContributor;
+import org.jinx.migration.spi.dialect.DdlDialect;
+import org.jinx.migration.spi.dialect.PartitionDialect;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitioningModel;
+
+public record PartitionAddContributor(String table, PartitioningModel partitioning, PartitionModel partition)
+        implements DdlContributor {
+    @Override
+    public int priority() {
+        return 70; // Partition Add
+    }
+
+    @Override
+    public void contribute(StringBuilder sb, DdlDialect dialect) {
+        sb.append(((PartitionDialect) dialect).getAddPartitionSql(table, partitioning, partition));
+    }
+}
@@ -0,0 +1,20 @@
+package org.jinx.migration.contributor.drop;
+
+import org.jinx.migration.contributor.DdlContributor;
+import org.jinx.migration.spi.dialect.DdlDialect;
+import org.jinx.migration.spi.dialect.PartitionDialect;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitioningModel;
+
+public record PartitionDropContributor(String table, PartitioningModel partitioning, PartitionModel partition)
+        implements DdlContributor {
+    @Override
+    public int priority() {
+        return 35; // Partition Drop
+    }
+
+    @Override
+    public void contribute(StringBuilder sb, DdlDialect dialect) {
+        sb.append(((PartitionDialect) dialect).getDropPartitionSql(table, partitioning, partition));
+    }
+}
@@ -11,22 +11,39 @@ import org.jinx.migration.spi.JavaTypeMapper;
 import org.jinx.migration.spi.ValueTransformer;
 import org.jinx.migration.spi.dialect.IdentityDialect;
 import org.jinx.migration.spi.dialect.LiquibaseDialect;
+import org.jinx.migration.spi.dialect.PartitionDialect;
 import org.jinx.migration.spi.dialect.TableGeneratorDialect;
+import org.jinx.migration.spi.dialect.TableOptionsDialect;
 import org.jinx.migration.spi.visitor.SqlGeneratingVisitor;
 import org.jinx.model.*;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Objects;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class MySqlDialect extends AbstractDialect
-        implements IdentityDialect, TableGeneratorDialect, LiquibaseDialect {
+        implements IdentityDialect, TableGeneratorDialect, LiquibaseDialect, PartitionDialect, TableOptionsDialect {
+
+    /** 모든 테이블에 붙는 옵션. {@code @TableOptions}로 같은 이름을 선언하면 그 값을 쓴다 */
+    private static final Map<String, String> DEFAULT_TABLE_OPTIONS = defaultTableOptions();
 
     public MySqlDialect() {
         super();
     }
 
+    /**
+     * @param uuidStorage {@code java.util.UUID} 컬럼 저장 방식
+     */
+    public MySqlDialect(MySqlUuidStorage uuidStorage) {
+        super();
+        this.javaTypeMapper = new MySqlJavaTypeMapper(uuidStorage);
+    }
+
     // 테스트 용
     public MySqlDialect(JavaTypeMapper javaTypeMapper, ValueTransformer valueTransformer) {
         this.javaTypeMapper = javaTypeMapper;
@@ -70,6 +87,8 @@ public class MySqlDialect extends AbstractDialect
         builder.add(new IndexContributor(
                 entity.getTableName(),
                 entity.getIndexes().values().stream().toList()));
+        builder.setPartitioning(entity.getPartitioning());
+        builder.setTableOptions(entity.getTableOptions());
 
         return builder.build();
     }
@@ -104,7 +123,199 @@ public class MySqlDialect extends AbstractDialect
     }
 
     public String closeCreateTable() {
-        return "\n) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;";
+        return closeCreateTable(Map.of());
+    }
+
+    // TableOptionsDialect
+
+    @Override
+    public Map<String, String> tableOptionsOf(TableOptionsModel options) {
+        return options != null && options.getMysql() != null ? options.getMysql() : Map.of();
+    }
+
+    /**
+     * 기본 옵션({@code ENGINE}, {@code CHARSET}, {@code COLLATE}) 뒤에 선언한 옵션을 붙인다.
+     */
+    @Override
+    public String closeCreateTable(Map<String, String> options) {
+        Map<String, String> all = new LinkedHashMap<>(DEFAULT_TABLE_OPTIONS);
+        all.putAll(options);
+        return "\n) " + all.entrySet().stream()
+                .map(e -> tableOption(e.getKey(), e.getValue()))
+                .collect(Collectors.joining(" ")) + ";";
+    }
+
+    /**
+     * 사라진 옵션은 기본값으로 되돌린다. {@code ROW_FORMAT}, {@code KEY_BLOCK_SIZE}, {@code ENGINE} 변경은
+     * 테이블을 다시 만들므로 큰 테이블은 온라인 스키마 변경 도구로 옮기는 편이 낫다.
+     */
+    @Override
+    public String getAlterTableOptionsSql(String table, Map<String, String> oldOptions, Map<String, String> newOptions) {
+        List<String> changes = new ArrayList<>();
+        newOptions.forEach((key, value) -> {
+            if (!value.equals(oldOptions.get(key))) changes.add(tableOption(key, value));
+        });
+        oldOptions.keySet().stream()
+                .filter(key -> !newOptions.containsKey(key))
+                .forEach(key -> changes.add(tableOption(key, resetValue(key))));
+        if (changes.isEmpty()) {
+            return "";
+        }
+        return "ALTER TABLE " + quoteIdentifier(table) + " " + String.join(", ", changes) + ";\n";
+    }
+
+    private static String tableOption(String key, String value) {
+        return (key.equals("CHARSET") ? "DEFAULT CHARSET" : key) + "=" + value;
+    }
+
+    private static String resetValue(String key) {
+        return switch (key) {
+            case "KEY_BLOCK_SIZE" -> "0";
+            case "COMPRESSION" -> "'None'";
+            default -> DEFAULT_TABLE_OPTIONS.getOrDefault(key, "DEFAULT");
+        };
+    }
+
+    private static Map<String, String> defaultTableOptions() {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("ENGINE", "InnoDB");
+        options.put("CHARSET", "utf8mb4");
+        options.put("COLLATE", "utf8mb4_unicode_ci");
+        return Collections.unmodifiableMap(options);
+    }
+
+    // PartitionDialect
+
+    /**
+     * 테이블 옵션 뒤에 {@code PARTITION BY RANGE COLUMNS / LIST COLUMNS / KEY}를 붙인다.
+     * HASH는 어떤 타입의 컬럼이든 받는 {@code KEY}로 만든다.
+     * MySQL LIST에는 DEFAULT 파티션이 없어 나머지 행을 받는 파티션은 경고 주석만 남긴다.
+     */
+    @Override
+    public String closePartitionedTable(String table, PartitioningModel partitioning) {
+        return closePartitionedTable(table, partitioning, Map.of());
+    }
+
+    @Override
+    public String closePartitionedTable(String table, PartitioningModel partitioning, Map<String, String> options) {
+        String close = closeCreateTable(options);
+        StringBuilder sb = new StringBuilder(close.substring(0, close.length() - 1)) // ';' 앞에 붙인다
+                .append("\nPARTITION BY ");
+        String cols = partitioning.getColumns().stream().map(this::quoteIdentifier).collect(Collectors.joining(", "));
+        if (partitioning.getStrategy() == PartitionStrategy.HASH) {
+            return sb.append("KEY(").append(cols).append(") PARTITIONS ")
+                    .append(partitioning.getPartitionCount()).append(";").toString();
+        }
+        sb.append(partitioning.getStrategy().name()).append(" COLUMNS(").append(cols).append(") (\n");
+        List<String> defs = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        for (PartitionModel p : partitioning.getPartitions()) {
+            String def = partitionDefinition(partitioning, p);
+            if (def == null) skipped.add(p.getName());
+            else defs.add("    " + def);
+        }
+        sb.append(String.join(",\n", defs)).append("\n);");
+        if (!skipped.isEmpty()) {
+            sb.append("\n-- WARNING: MySQL LIST partitioning has no DEFAULT partition; skipped ").append(skipped);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * RANGE 파티션을 마지막 파티션 앞에 끼워 넣으면 {@code ADD PARTITION}을 쓸 수 없어
+     * 바로 뒤 파티션을 {@code REORGANIZE PARTITION}으로 나눈다.
+     *
+     * @throws IllegalArgumentException HASH 파티션 — 파티션 수를 바꿔야 한다
+     */
+    @Override
+    public String getAddPartitionSql(String table, PartitioningModel partitioning, PartitionModel partition) {
+        if (partitioning.getStrategy() == PartitionStrategy.HASH) {
+            throw new IllegalArgumentException(
+                    "HASH partitions of " + table + " cannot be added individually; change partitionCount instead");
+        }
+        String def = partitionDefinition(partitioning, partition);
+        if (def == null) {
+            return "-- WARNING: MySQL LIST partitioning has no DEFAULT partition; skipped "
+                    + partition.getName() + "\n";
+        }
+        if (partitioning.getStrategy() == PartitionStrategy.RANGE) {
+            List<PartitionModel> all = partitioning.getPartitions();
+            int at = all.indexOf(partition);
+            if (at >= 0 && at < all.size() - 1) {
+                PartitionModel next = all.get(at + 1);
+                return "ALTER TABLE " + quoteIdentifier(table) + " REORGANIZE PARTITION " + quoteIdentifier(next.getName())
+                        + " INTO (" + def + ", " + partitionDefinition(partitioning, next) + ");\n";
+            }
+        }
+        return "ALTER TABLE " + quoteIdentifier(table) + " ADD PARTITION (" + def + ");\n";
+    }
+
+    @Override
+    public String getDropPartitionSql(String table, PartitioningModel partitioning, PartitionModel partition) {
+        if (partitioning.getStrategy() == PartitionStrategy.LIST && partition.isCatchAll()) {
+            return ""; // 만들지 않은 파티션
+        }
+        return "ALTER TABLE " + quoteIdentifier(table) + " DROP PARTITION " + quoteIdentifier(partition.getName()) + ";\n";
+    }
+
+    /**
+     * {@code ALTER TABLE}에 {@code IF [NOT] EXISTS}가 없어 {@code information_schema.PARTITIONS}를 확인한 뒤
+     * prepared statement로 실행한다. {@code MAXVALUE} 파티션이 있으면 그 파티션을 나눈다.
+     */
+    @Override
+    public String getCreateRangePartitionIfMissingSql(String table, PartitioningModel partitioning,
+                                                      PartitionModel partition, String lowerBound) {
+        List<PartitionModel> parts = new ArrayList<>(List.of(partition));
+        partitioning.getPartitions().stream()
+                .filter(p -> p.isCatchAll() || p.getValues().stream().allMatch("MAXVALUE"::equalsIgnoreCase))
+                .findFirst()
+                .ifPresent(parts::add);
+        PartitioningModel target = PartitioningModel.builder()
+                .strategy(PartitionStrategy.RANGE)
+                .columns(partitioning.getColumns())
+                .partitions(parts)
+                .build();
+        return guarded(table, partition.getName(), false, getAddPartitionSql(table, target, partition).strip());
+    }
+
+    /**
+     * MySQL에는 파티션 떼어 내기가 없다. 보관이 필요하면 {@code EXCHANGE PARTITION}으로 직접 옮긴 뒤 지운다.
+     */
+    @Override
+    public String getExpirePartitionSql(String table, PartitioningModel partitioning, PartitionModel partition,
+                                        boolean detach) {
+        if (detach) {
+            throw new IllegalArgumentException("MySQL cannot detach partitions; expire " + table + " partitions with DROP");
+        }
+        return guarded(table, partition.getName(), true, getDropPartitionSql(table, partitioning, partition).strip());
+    }
+
+    /**
+     * 파티션이 있을 때({@code whenExists}) 또는 없을 때만 {@code statement}를 실행한다.
+     */
+    private String guarded(String table, String partition, boolean whenExists, String statement) {
+        String sql = statement.endsWith(";") ? statement.substring(0, statement.length() - 1) : statement;
+        return "SET @jinx_sql = (SELECT IF(COUNT(*) " + (whenExists ? "> 0" : "= 0") + ", '"
+                + sql.replace("'", "''") + "', 'DO 0') FROM information_schema.PARTITIONS"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + table.replace("'", "''")
+                + "' AND PARTITION_NAME = '" + partition.replace("'", "''") + "');\n"
+                + "PREPARE jinx_stmt FROM @jinx_sql;\n"
+                + "EXECUTE jinx_stmt;\n"
+                + "DEALLOCATE PREPARE jinx_stmt;\n";
+    }
+
+    /**
+     * {@code PARTITION p VALUES LESS THAN (...)} / {@code VALUES IN (...)}. 만들 수 없는 LIST 나머지 파티션이면 null.
+     */
+    private String partitionDefinition(PartitioningModel partitioning, PartitionModel p) {
+        String head = "PARTITION " + quoteIdentifier(p.getName());
+        if (partitioning.getStrategy() == PartitionStrategy.LIST) {
+            return p.isCatchAll() ? null : head + " VALUES IN (" + String.join(", ", p.getValues()) + ")";
+        }
+        List<String> bound = p.isCatchAll()
+                ? Collections.nCopies(partitioning.getColumns().size(), "MAXVALUE")
+                : p.getValues();
+        return head + " VALUES LESS THAN (" + String.join(", ", bound) + ")";
     }
 
     // BaseDialect
@@ -237,6 +448,9 @@ public class MySqlDialect extends AbstractDialect
         if (!isIdentityLike && !c.isLob() && !overrideContainsDefault) {
             if (c.getDefaultValue() != null) {
                 sb.append(" DEFAULT ").append(valueTransformer.quote(c.getDefaultValue(), javaTypeMapped));
+            } else if (c.getGenerationStrategy() == GenerationStrategy.UUID
+                    && javaTypeMapped instanceof MySqlJavaTypeMapper.UuidJavaType uuid) {
+                sb.append(" DEFAULT ").append(uuid.storage().generatedDefault()); // 저장 형식에 맞춘 식 기본값
             } else if (c.getGenerationStrategy() == GenerationStrategy.UUID && getUuidDefaultValue() != null) {
                 sb.append(" DEFAULT ").append(getUuidDefaultValue()); // 함수형 기본값은 quote 없이
             } else if (javaTypeMapped.getDefaultValue() != null) {
@@ -374,11 +588,63 @@ public class MySqlDialect extends AbstractDialect
         return getDropConstraintSql(table, oldCons) + getAddConstraintSql(table, newCons);
     }
 
+    /**
+     * MySQL에는 부분 인덱스와 INCLUDE가 없다.
+     * <ul>
+     *   <li>{@code where}는 무시하고 전체 인덱스를 만든다 (경고 주석)</li>
+     *   <li>포함 컬럼은 유니크가 아니면 뒤쪽 키 컬럼으로 붙여 커버링 인덱스로 만들고,
+     *       유니크면 유일성 범위가 바뀌므로 붙이지 않는다 (경고 주석)</li>
+     *   <li>DESC는 8.0부터 실제 내림차순 인덱스로 저장된다. NULLS FIRST/LAST는 지원하지 않는다 (경고 주석)</li>
+     *   <li>식 키는 8.0.13+ 함수형 키 파트 {@code ((expr))}로 만든다</li>
+     *   <li>FULLTEXT/SPATIAL은 {@code CREATE FULLTEXT INDEX}로, HASH는 {@code USING HASH}로 만든다
+     *       (InnoDB는 HASH를 B-tree로 바꿔 만든다)</li>
+     * </ul>
+     *
+     * @throws IllegalArgumentException MySQL에 없는 접근 방식 (GIN, GiST, BRIN 등)
+     */
     @Override
     public String indexStatement(IndexModel idx, String table) {
-        String cols = idx.getColumnNames().stream().map(this::quoteIdentifier).collect(Collectors.joining(", "));
-        return "CREATE INDEX " + quoteIdentifier(idx.getIndexName())
-                + " ON " + quoteIdentifier(table) + " (" + cols + ");\n";
+        IndexMethod method = IndexMethod.resolve(idx.getType(), DatabaseType.MYSQL);
+        boolean special = method == IndexMethod.FULLTEXT || method == IndexMethod.SPATIAL;
+        boolean unique = !special && Boolean.TRUE.equals(idx.getUnique());
+        List<IndexKeyPart> parts = IndexKeyPart.partsOf(idx);
+        List<String> keys = new ArrayList<>(parts.stream()
+                .map(p -> (p.hasExpression() ? "(" + p.getExpression().trim() + ")" : quoteIdentifier(p.getColumn()))
+                        + (p.isDescending() && !special ? " DESC" : ""))
+                .toList());
+
+        StringBuilder sb = new StringBuilder();
+        // MySQL은 NULL을 가장 작은 값으로 정렬한다: ASC는 NULLS FIRST, DESC는 NULLS LAST로 고정
+        List<String> nullsIgnored = parts.stream()
+                .filter(p -> p.getNulls() != null
+                        && p.getNulls() != (p.isDescending() ? IndexKeyPart.NullsOrder.LAST : IndexKeyPart.NullsOrder.FIRST))
+                .map(IndexKeyPart::target)
+                .toList();
+        if (!nullsIgnored.isEmpty()) {
+            sb.append("-- WARNING: MySQL does not support NULLS FIRST/LAST; ordering ignored for ")
+              .append(nullsIgnored).append("\n");
+        }
+        if (idx.getWhere() != null && !idx.getWhere().isBlank()) {
+            sb.append("-- WARNING: MySQL does not support partial indexes; predicate ignored: ")
+              .append(idx.getWhere().trim()).append("\n");
+        }
+        List<String> include = idx.getIncludeColumns() != null ? idx.getIncludeColumns() : List.of();
+        if (!include.isEmpty()) {
+            if (unique || special) {
+                sb.append("-- WARNING: MySQL has no INCLUDE; included columns ").append(include)
+                  .append(" omitted from ").append(special ? method.name() : "unique").append(" index\n");
+            } else {
+                include.stream().map(this::quoteIdentifier).filter(c -> !keys.contains(c)).forEach(keys::add);
+            }
+        }
+        sb.append("CREATE ").append(unique ? "UNIQUE " : "").append(special ? method.name() + " " : "")
+          .append("INDEX ").append(quoteIdentifier(idx.getIndexName()))
+          .append(" ON ").append(quoteIdentifier(table)).append(" (").append(String.join(", ", keys)).append(")");
+        if (method == IndexMethod.HASH) {
+            sb.append(" USING HASH");
+        }
+        sb.append(";\n");
+        return sb.toString();
     }
 
     @Override
@@ -555,6 +821,15 @@ public class MySqlDialect extends AbstractDialect
         return "UUID()";
     }
 
+    @Override
+    public String getUuidDefaultValue(ColumnModel column) {
+        if ("java.util.UUID".equals(column.getJavaType())
+                && javaTypeMapper.map(column.getJavaType()) instanceof MySqlJavaTypeMapper.UuidJavaType uuid) {
+            return uuid.storage().generatedDefault();
+        }
+        return getUuidDefaultValue();
+    }
+
     @Override
     public String getTableGeneratorPkColumnType() {
         return "VARCHAR(255)";
@@ -618,7 +893,7 @@ public class MySqlDialect extends AbstractDialect
                 yield "DATETIME";
             }
             case "byte[]" -> "VARBINARY(" + (length > 0 ? length : 255) + ")";
-            case "java.util.UUID" -> "CHAR(36)";
+            case "java.util.UUID" -> javaTypeMapper.map(javaType).getSqlType(0, 0, 0); // 저장 방식 설정을 따른다
             default -> "VARCHAR(" + (length > 0 ? length : 255) + ")";
         };
     }
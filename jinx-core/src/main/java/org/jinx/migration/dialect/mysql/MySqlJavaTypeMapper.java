@@ -51,6 +51,37 @@ public class MySqlJavaTypeMapper implements JavaTypeMapper {
         }
     }
 
+    /**
+     * {@code java.util.UUID} 매핑. 저장 방식에 따라 SQL 타입과 기본값 리터럴이 달라지므로
+     * {@link MySqlValueTransformer}가 이 타입을 알아보고 {@link MySqlUuidStorage#literal(String)}로 변환한다.
+     */
+    static final class UuidJavaType implements JavaTypeMapper.JavaType {
+        private final MySqlUuidStorage storage;
+
+        UuidJavaType(MySqlUuidStorage storage) {
+            this.storage = storage;
+        }
+
+        MySqlUuidStorage storage() {
+            return storage;
+        }
+
+        @Override
+        public String getSqlType(int length, int precision, int scale) {
+            return storage.sqlType();
+        }
+
+        @Override
+        public boolean needsQuotes() {
+            return storage == MySqlUuidStorage.CHAR;
+        }
+
+        @Override
+        public String getDefaultValue() {
+            return null;
+        }
+    }
+
     private static final MysqlJavaType UNKNOWN_TYPE = new MysqlJavaType(
             "unknown",
             new SqlType("TEXT", false, false),
@@ -69,6 +100,10 @@ public class MySqlJavaTypeMapper implements JavaTypeMapper {
             entry("java.lang.Boolean", new MysqlJavaType("java.lang.Boolean", new SqlType("TINYINT(1)", false, false), false, "0")),
             entry("java.time.LocalDate", new MysqlJavaType("java.time.LocalDate", new SqlType("DATE", false, false), true, null)),
             entry("java.time.LocalDateTime", new MysqlJavaType("java.time.LocalDateTime", new SqlType("TIMESTAMP(6)", false, false), true, null)),
+            // MySQL에는 시간대 타입이 없으므로 세션 시간대 기준으로 UTC 변환되는 TIMESTAMP에 저장
+            entry("java.time.Instant", new MysqlJavaType("java.time.Instant", new SqlType("TIMESTAMP(6)", false, false), true, null)),
+            entry("java.time.OffsetDateTime", new MysqlJavaType("java.time.OffsetDateTime", new SqlType("TIMESTAMP(6)", false, false), true, null)),
+            entry("java.time.ZonedDateTime", new MysqlJavaType("java.time.ZonedDateTime", new SqlType("TIMESTAMP(6)", false, false), true, null)),
             entry("java.math.BigInteger", new MysqlJavaType("java.math.BigInteger", new SqlType("BIGINT", false, false), false, null)),
             // Primitive types
             entry("int", new MysqlJavaType("int", new SqlType("INT", false, false), false, null)),
@@ -81,8 +116,21 @@ public class MySqlJavaTypeMapper implements JavaTypeMapper {
             entry("char", new MysqlJavaType("char", new SqlType("CHAR(1)", false, false), true, null))
     );
 
+    private final UuidJavaType uuidType;
+
+    public MySqlJavaTypeMapper() {
+        this(MySqlUuidStorage.BINARY);
+    }
+
+    public MySqlJavaTypeMapper(MySqlUuidStorage uuidStorage) {
+        this.uuidType = new UuidJavaType(uuidStorage);
+    }
+
     @Override
     public JavaTypeMapper.JavaType map(String className) {
+        if ("java.util.UUID".equals(className)) {
+            return uuidType;
+        }
         return TYPE_MAP.getOrDefault(className, UNKNOWN_TYPE);
     }
 }
\ No newline at end of file
@@ -151,4 +151,19 @@ public class MySqlMigrationVisitor extends AbstractMigrationVisitor implements
         alterBuilder.add(new RelationshipDropContributor(alterBuilder.getTableName(), oldRelationship));
         alterBuilder.add(new RelationshipAddContributor(alterBuilder.getTableName(), newRelationship));
     }
+
+    @Override
+    public void visitAddedPartition(String table, PartitioningModel partitioning, PartitionModel partition) {
+        alterBuilder.add(new PartitionAddContributor(table, partitioning, partition));
+    }
+
+    @Override
+    public void visitDroppedPartition(String table, PartitioningModel partitioning, PartitionModel partition) {
+        alterBuilder.add(new PartitionDropContributor(table, partitioning, partition));
+    }
+
+    @Override
+    public void visitModifiedTableOptions(String table, TableOptionsModel newOptions, TableOptionsModel oldOptions) {
+        alterBuilder.add(new TableOptionsModifyContributor(table, newOptions, oldOptions));
+    }
 }
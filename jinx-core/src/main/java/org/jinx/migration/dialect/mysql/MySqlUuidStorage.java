@@ -0,0 +1,71 @@
+package org.jinx.migration.dialect.mysql;
+
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * MySQL에서 {@code java.util.UUID} 컬럼을 저장하는 방식.
+ *
+ * <p>InnoDB는 모든 보조 인덱스에 PK를 함께 저장하므로 36자 문자열 UUID PK는 인덱스 전체를 키운다.
+ * 기본값은 16바이트 {@code BINARY(16)}이며, 삽입 순서를 유지하려면 키 자체가 시간 순서여야 한다.
+ * <ul>
+ *   <li>{@link #BINARY}: 바이트 그대로 저장. 애플리케이션이 UUIDv7처럼 이미 시간 순서인 UUID를 만들 때 사용</li>
+ *   <li>{@link #BINARY_SWAP}: MySQL {@code UUID_TO_BIN(uuid, 1)}의 swap_flag 배치. {@code UUID()}(v1)의
+ *       시간 필드를 앞으로 옮겨 삽입이 클러스터 인덱스 끝에 붙도록 한다</li>
+ *   <li>{@link #CHAR}: 기존 스키마 호환용 {@code CHAR(36)}</li>
+ * </ul>
+ */
+public enum MySqlUuidStorage {
+    BINARY,
+    BINARY_SWAP,
+    CHAR;
+
+    public static MySqlUuidStorage from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    public String sqlType() {
+        return this == CHAR ? "CHAR(36)" : "BINARY(16)";
+    }
+
+    /**
+     * {@code GenerationStrategy.UUID} 컬럼의 DB 측 기본값. MySQL 8.0.13+ 식 기본값이라 괄호로 감싼다.
+     */
+    public String generatedDefault() {
+        return switch (this) {
+            case BINARY -> "(UUID_TO_BIN(UUID()))";
+            case BINARY_SWAP -> "(UUID_TO_BIN(UUID(), 1))";
+            case CHAR -> "(UUID())";
+        };
+    }
+
+    /**
+     * UUID 문자열 기본값을 컬럼 저장 형식의 리터럴로 바꾼다. 바이너리 저장은 함수 호출 없이 16진 리터럴을 쓴다.
+     *
+     * @throws IllegalArgumentException UUID 형식이 아닌 값
+     */
+    public String literal(String value) {
+        UUID uuid = UUID.fromString(value.trim());
+        if (this == CHAR) {
+            return "'" + uuid + "'";
+        }
+        String hex = HexFormat.of().formatHex(toBytes(uuid));
+        if (this == BINARY_SWAP) {
+            // UUID_TO_BIN(x, 1): time_hi(4) + time_mid(4) + time_low(8) + 나머지
+            hex = hex.substring(12, 16) + hex.substring(8, 12) + hex.substring(0, 8) + hex.substring(16);
+        }
+        return "0x" + hex.toUpperCase(Locale.ROOT);
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        byte[] bytes = new byte[16];
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (msb >>> (8 * (7 - i)));
+            bytes[8 + i] = (byte) (lsb >>> (8 * (7 - i)));
+        }
+        return bytes;
+    }
+}
@@ -7,6 +7,9 @@ public class MySqlValueTransformer implements ValueTransformer {
     @Override
     public String quote(String value, JavaTypeMapper.JavaType type) {
         if (value == null) return "NULL";
+        if (type instanceof MySqlJavaTypeMapper.UuidJavaType uuid) {
+            return uuid.storage().literal(value);
+        }
         return "'" + value.replace("'", "''") + "'";
     }
 }
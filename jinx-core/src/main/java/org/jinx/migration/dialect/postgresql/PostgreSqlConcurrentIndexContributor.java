@@ -0,0 +1,27 @@
+package org.jinx.migration.dialect.postgresql;
+
+import org.jinx.migration.contributor.DdlContributor;
+import org.jinx.migration.spi.dialect.DdlDialect;
+import org.jinx.model.IndexModel;
+
+/**
+ * PostgreSQL 전용 온라인 인덱스 추가/삭제 contributor.
+ * <p>
+ * 기존 테이블에 {@code CREATE INDEX}를 그대로 실행하면 인덱스가 만들어지는 동안 쓰기가 막힌다.
+ * {@code CONCURRENTLY}는 쓰기를 막지 않지만 트랜잭션 블록 안에서 실행할 수 없으므로
+ * 실행기는 이 문장을 자동 커밋으로 실행한다.
+ */
+public record PostgreSqlConcurrentIndexContributor(String table, IndexModel index, boolean drop)
+        implements DdlContributor {
+
+    @Override
+    public int priority() {
+        return drop ? 30 : 60; // IndexDropContributor / IndexAddContributor와 동일
+    }
+
+    @Override
+    public void contribute(StringBuilder sb, DdlDialect dialect) {
+        PostgreSqlDialect pg = (PostgreSqlDialect) dialect;
+        sb.append(drop ? pg.getConcurrentDropIndexSql(index) : pg.concurrentIndexStatement(index, table));
+    }
+}
@@ -3,33 +3,88 @@ package org.jinx.migration.dialect.postgresql;
 import jakarta.persistence.TemporalType;
 import org.jinx.migration.AbstractDialect;
 import org.jinx.migration.CreateTableBuilder;
+import org.jinx.migration.DatabaseType;
 import org.jinx.migration.contributor.create.ColumnContributor;
 import org.jinx.migration.contributor.create.ConstraintContributor;
 import org.jinx.migration.contributor.create.IndexContributor;
 import org.jinx.migration.spi.JavaTypeMapper;
 import org.jinx.migration.spi.ValueTransformer;
+import org.jinx.migration.spi.dialect.ColumnOrderDialect;
 import org.jinx.migration.spi.dialect.IdentityDialect;
 import org.jinx.migration.spi.dialect.LiquibaseDialect;
+import org.jinx.migration.spi.dialect.PartitionDialect;
 import org.jinx.migration.spi.dialect.SequenceDialect;
 import org.jinx.migration.spi.dialect.TableGeneratorDialect;
+import org.jinx.migration.spi.dialect.TableOptionsDialect;
 import org.jinx.migration.spi.visitor.SqlGeneratingVisitor;
 import org.jinx.model.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 public class PostgreSqlDialect extends AbstractDialect
-        implements IdentityDialect, SequenceDialect, TableGeneratorDialect, LiquibaseDialect {
+        implements IdentityDialect, SequenceDialect, TableGeneratorDialect, LiquibaseDialect, PartitionDialect,
+        TableOptionsDialect, ColumnOrderDialect {
+
+    /** PostgreSQL 식별자 길이 한도(NAMEDATALEN - 1), 바이트 단위 */
+    static final int MAX_IDENTIFIER_BYTES = 63;
+
+    /**
+     * 기존 테이블의 인덱스 추가/삭제를 {@code CONCURRENTLY}로 생성할지 여부.
+     * 쓰기를 막지 않는 대신 트랜잭션 블록 안에서는 실행할 수 없다.
+     */
+    private final boolean concurrentIndexes;
+    /**
+     * 새 테이블의 컬럼을 정렬 크기 순으로 놓을지 여부. PostgreSQL은 컬럼마다 타입 정렬에 맞춰 패딩을 넣으므로
+     * {@code boolean, bigint, boolean, bigint} 순서는 행마다 14바이트를 버린다.
+     */
+    private final boolean alignColumns;
 
     public PostgreSqlDialect() {
+        this(false);
+    }
+
+    /**
+     * @param concurrentIndexes 기존 테이블의 인덱스를 {@code CREATE/DROP INDEX CONCURRENTLY}로 만들고 지울지 여부
+     */
+    public PostgreSqlDialect(boolean concurrentIndexes) {
+        this(concurrentIndexes, false);
+    }
+
+    /**
+     * @param concurrentIndexes 기존 테이블의 인덱스를 {@code CREATE/DROP INDEX CONCURRENTLY}로 만들고 지울지 여부
+     * @param alignColumns      새 테이블의 컬럼을 PK, 고정 길이(정렬 큰 순), 가변 길이 순으로 놓을지 여부
+     */
+    public PostgreSqlDialect(boolean concurrentIndexes, boolean alignColumns) {
         super();
+        this.concurrentIndexes = concurrentIndexes;
+        this.alignColumns = alignColumns;
     }
 
     public PostgreSqlDialect(JavaTypeMapper javaTypeMapper, ValueTransformer valueTransformer) {
         this.javaTypeMapper = javaTypeMapper;
         this.valueTransformer = valueTransformer;
+        this.concurrentIndexes = false;
+        this.alignColumns = false;
+    }
+
+    public boolean isConcurrentIndexes() {
+        return concurrentIndexes;
+    }
+
+    public boolean isAlignColumns() {
+        return alignColumns;
     }
 
     @Override
@@ -72,6 +127,76 @@ public class PostgreSqlDialect extends AbstractDialect
         return "\n);";
     }
 
+    // ── ColumnOrderDialect ───────────────────────────────────────────────────
+
+    /**
+     * {@code alignColumns}이면 PK 컬럼(PK 순서), 고정 길이 컬럼(정렬 8/4/2/1바이트 순), 가변 길이 컬럼 순으로 놓아
+     * 정렬 패딩을 줄인다. 같은 묶음 안에서는 컬럼 이름 순이라 엔티티 맵의 순회 순서와 관계없이 결과가 같다.
+     * 꺼져 있으면 받은 순서 그대로다. 기존 테이블에 추가하는 컬럼은 항상 끝에 붙는다.
+     */
+    @Override
+    public List<ColumnModel> orderColumnsForCreate(List<ColumnModel> columns, List<String> pkColumns) {
+        if (!alignColumns) {
+            return columns;
+        }
+        List<ColumnModel> ordered = new ArrayList<>();
+        for (String pk : pkColumns) {
+            columns.stream().filter(c -> c.getColumnName().equals(pk)).findFirst().ifPresent(ordered::add);
+        }
+        columns.stream()
+                .filter(c -> !pkColumns.contains(c.getColumnName()))
+                .sorted(Comparator.comparingInt((ColumnModel c) -> PostgreSqlJavaTypeMapper.alignmentOf(resolveColumnSqlType(c)))
+                        .reversed()
+                        .thenComparing(ColumnModel::getColumnName))
+                .forEach(ordered::add);
+        return ordered;
+    }
+
+    // ── TableOptionsDialect ──────────────────────────────────────────────────
+
+    @Override
+    public Map<String, String> tableOptionsOf(TableOptionsModel options) {
+        return options != null && options.getPostgresql() != null ? options.getPostgresql() : Map.of();
+    }
+
+    /**
+     * {@code ) WITH (fillfactor=80, ...);}. 파티션 부모 테이블은 storage parameter를 받지 않으므로 빌드 시 막는다.
+     */
+    @Override
+    public String closeCreateTable(Map<String, String> options) {
+        return "\n) WITH (" + storageParameters(options) + ");";
+    }
+
+    /**
+     * 바뀐 옵션은 {@code SET (...)}, 사라진 옵션은 {@code RESET (...)}. 테이블을 다시 쓰지 않으며
+     * fillfactor는 이후에 채우는 페이지부터 적용된다.
+     */
+    @Override
+    public String getAlterTableOptionsSql(String table, Map<String, String> oldOptions, Map<String, String> newOptions) {
+        Map<String, String> set = new LinkedHashMap<>();
+        newOptions.forEach((key, value) -> {
+            if (!value.equals(oldOptions.get(key))) set.put(key, value);
+        });
+        List<String> reset = oldOptions.keySet().stream().filter(key -> !newOptions.containsKey(key)).toList();
+
+        StringBuilder sb = new StringBuilder();
+        if (!set.isEmpty()) {
+            sb.append("ALTER TABLE ").append(quoteIdentifier(table))
+              .append(" SET (").append(storageParameters(set)).append(");\n");
+        }
+        if (!reset.isEmpty()) {
+            sb.append("ALTER TABLE ").append(quoteIdentifier(table))
+              .append(" RESET (").append(String.join(", ", reset)).append(");\n");
+        }
+        return sb.toString();
+    }
+
+    private static String storageParameters(Map<String, String> options) {
+        return options.entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining(", "));
+    }
+
     @Override
     public String getCreateTableSql(EntityModel entity) {
         CreateTableBuilder builder = new CreateTableBuilder(entity.getTableName(), this);
@@ -81,11 +206,13 @@ public class PostgreSqlDialect extends AbstractDialect
                 .map(ColumnModel::getColumnName)
                 .toList();
 
-        builder.add(new ColumnContributor(pkCols, cols));
+        builder.add(new ColumnContributor(pkCols, orderColumnsForCreate(cols, pkCols)));
         builder.add(new ConstraintContributor(entity.getConstraints().values().stream().toList()));
         builder.add(new IndexContributor(
                 entity.getTableName(),
                 entity.getIndexes().values().stream().toList()));
+        builder.setPartitioning(entity.getPartitioning());
+        builder.setTableOptions(entity.getTableOptions());
 
         return builder.build();
     }
@@ -360,9 +487,61 @@ public class PostgreSqlDialect extends AbstractDialect
 
     @Override
     public String indexStatement(IndexModel idx, String table) {
-        String cols = idx.getColumnNames().stream().map(this::quoteIdentifier).collect(Collectors.joining(", "));
-        return "CREATE INDEX " + quoteIdentifier(idx.getIndexName())
-                + " ON " + quoteIdentifier(table) + " (" + cols + ");\n";
+        return createIndex(idx, table, false, false);
+    }
+
+    /**
+     * 기존 테이블에 쓰기 잠금 없이 인덱스를 만든다. 실패하면 INVALID 인덱스가 남으므로 지운 뒤 다시 실행해야 한다.
+     */
+    public String concurrentIndexStatement(IndexModel idx, String table) {
+        return createIndex(idx, table, true, false);
+    }
+
+    /**
+     * 같은 이름의 인덱스가 있으면 건너뛰는 {@code CREATE INDEX [CONCURRENTLY] IF NOT EXISTS}.
+     * 여러 번 실행해도 되는 보조 스크립트용이며, CONCURRENTLY 여부는 방언 설정을 따른다.
+     */
+    public String indexStatementIfNotExists(IndexModel idx, String table) {
+        return createIndex(idx, table, concurrentIndexes, true);
+    }
+
+    public String getConcurrentDropIndexSql(IndexModel index) {
+        return "DROP INDEX CONCURRENTLY IF EXISTS " + quoteIdentifier(index.getIndexName()) + ";\n";
+    }
+
+    /**
+     * {@code CREATE [UNIQUE] INDEX ... [USING method] (a, b DESC NULLS LAST, (lower(c))) INCLUDE (d) WHERE ...}
+     *
+     * @throws IllegalArgumentException PostgreSQL에 없는 접근 방식 (FULLTEXT, SPATIAL)
+     */
+    private String createIndex(IndexModel idx, String table, boolean concurrently, boolean ifNotExists) {
+        IndexMethod method = IndexMethod.resolve(idx.getType(), DatabaseType.POSTGRESQL);
+        String cols = IndexKeyPart.partsOf(idx).stream().map(this::keyPart).collect(Collectors.joining(", "));
+        StringBuilder sb = new StringBuilder("CREATE ");
+        if (Boolean.TRUE.equals(idx.getUnique())) sb.append("UNIQUE ");
+        sb.append("INDEX ").append(concurrently ? "CONCURRENTLY " : "").append(ifNotExists ? "IF NOT EXISTS " : "")
+          .append(quoteIdentifier(idx.getIndexName()))
+          .append(" ON ").append(quoteIdentifier(table));
+        if (method != null) {
+            sb.append(" USING ").append(method.name().toLowerCase(Locale.ROOT));
+        }
+        sb.append(" (").append(cols).append(")");
+        if (idx.getIncludeColumns() != null && !idx.getIncludeColumns().isEmpty()) {
+            sb.append(" INCLUDE (")
+              .append(idx.getIncludeColumns().stream().map(this::quoteIdentifier).collect(Collectors.joining(", ")))
+              .append(")");
+        }
+        if (idx.getWhere() != null && !idx.getWhere().isBlank()) {
+            sb.append(" WHERE ").append(idx.getWhere().trim());
+        }
+        return sb.append(";\n").toString();
+    }
+
+    private String keyPart(IndexKeyPart p) {
+        String sql = p.hasExpression() ? "(" + p.getExpression().trim() + ")" : quoteIdentifier(p.getColumn());
+        if (p.isDescending()) sql += " DESC";
+        if (p.getNulls() != null) sql += " NULLS " + p.getNulls().name();
+        return sql;
     }
 
     @Override
@@ -382,6 +561,209 @@ public class PostgreSqlDialect extends AbstractDialect
         return getDropIndexSql(table, oldIndex) + indexStatement(newIndex, table);
     }
 
+    // ── PartitionDialect ─────────────────────────────────────────────────────
+
+    /**
+     * {@code ) PARTITION BY RANGE ("k");} 뒤에 파티션마다 {@code CREATE TABLE "<table>_<name>" PARTITION OF ...}를 붙인다.
+     * HASH는 {@code "<table>_p<i>"} 자식 테이블을 {@code partitionCount}개 만든다.
+     */
+    @Override
+    public String closePartitionedTable(String table, PartitioningModel partitioning) {
+        StringBuilder sb = new StringBuilder("\n) PARTITION BY ")
+                .append(partitioning.getStrategy().name())
+                .append(" (")
+                .append(partitioning.getColumns().stream().map(this::quoteIdentifier).collect(Collectors.joining(", ")))
+                .append(");");
+        if (partitioning.getStrategy() == PartitionStrategy.HASH) {
+            int count = partitioning.getPartitionCount() != null ? partitioning.getPartitionCount() : 0;
+            for (int i = 0; i < count; i++) {
+                sb.append('\n').append("CREATE TABLE ").append(quoteIdentifier(clampIdentifier(table + "_p" + i)))
+                  .append(" PARTITION OF ").append(quoteIdentifier(table))
+                  .append(" FOR VALUES WITH (MODULUS ").append(count).append(", REMAINDER ").append(i).append(");");
+            }
+            return sb.toString();
+        }
+        for (PartitionModel p : partitioning.getPartitions()) {
+            sb.append('\n').append(createPartitionSql(table, partitioning, p).strip());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * RANGE 파티션의 하한은 앞 파티션의 상한이다. 첫 파티션은 {@code MINVALUE}부터 시작한다.
+     *
+     * <p>기존 파티션 앞에 끼워 넣으면 새 범위가 바로 뒤 파티션과 겹쳐 {@code CREATE}가 실패한다. 이때는
+     * 뒤 파티션이 붙어 있으면 떼어 내고, 새 파티션을 만든 뒤 새 범위에 드는 행을 부모 테이블로 옮기고,
+     * 줄어든 범위로 다시 붙인다. 뒤 파티션도 이번에 추가되는 것이라 아직 없으면 새 파티션만 만든다.
+     *
+     * @throws IllegalArgumentException HASH 파티션 — 파티션 수를 바꾸려면 테이블을 다시 만들어야 한다
+     */
+    @Override
+    public String getAddPartitionSql(String table, PartitioningModel partitioning, PartitionModel partition) {
+        String create = createPartitionSql(table, partitioning, partition);
+        if (partitioning.getStrategy() != PartitionStrategy.RANGE || partition.isCatchAll()) {
+            return create;
+        }
+        List<PartitionModel> all = partitioning.getPartitions();
+        PartitionModel next = all.stream()
+                .skip(all.indexOf(partition) + 1L)
+                .filter(p -> !p.isCatchAll())
+                .findFirst()
+                .orElse(null);
+        if (next == null || !all.contains(partition)) {
+            return create;
+        }
+        String parent = quoteIdentifier(table);
+        String nextTable = quoteIdentifier(partitionTableName(table, next));
+        String keys = partitioning.getColumns().stream().map(this::quoteIdentifier).collect(Collectors.joining(", "));
+        String upper = String.join(", ", partition.getValues());
+        return "-- Partition " + partition.getName() + " is inserted before " + next.getName()
+                + ": rows of the new range move out of " + next.getName() + "\n"
+                + "DO $$\nBEGIN\n"
+                + "    IF " + attachedCondition(table, partitionTableName(table, next)) + " THEN\n"
+                + "        ALTER TABLE " + parent + " DETACH PARTITION " + nextTable + ";\n"
+                + "        " + create.strip() + "\n"
+                + "        WITH moved AS (DELETE FROM " + nextTable + " WHERE (" + keys + ") < (" + upper + ") RETURNING *)\n"
+                + "        INSERT INTO " + parent + " SELECT * FROM moved;\n"
+                + "        ALTER TABLE " + parent + " ATTACH PARTITION " + nextTable
+                + " FOR VALUES FROM (" + upper + ") TO (" + String.join(", ", next.getValues()) + ");\n"
+                + "    ELSE\n"
+                + "        " + create.strip() + "\n"
+                + "    END IF;\n"
+                + "END $$;\n";
+    }
+
+    private String createPartitionSql(String table, PartitioningModel partitioning, PartitionModel partition) {
+        StringBuilder sb = new StringBuilder("CREATE TABLE ")
+                .append(quoteIdentifier(partitionTableName(table, partition)))
+                .append(" PARTITION OF ").append(quoteIdentifier(table));
+        if (partition.isCatchAll()) {
+            return sb.append(" DEFAULT;\n").toString();
+        }
+        switch (partitioning.getStrategy()) {
+            case RANGE -> {
+                List<String> from = partitioning.previousRangeBound(partition)
+                        .orElseGet(() -> Collections.nCopies(partition.getValues().size(), "MINVALUE"));
+                sb.append(" FOR VALUES FROM (").append(String.join(", ", from))
+                  .append(") TO (").append(String.join(", ", partition.getValues())).append(")");
+            }
+            case LIST -> sb.append(" FOR VALUES IN (").append(String.join(", ", partition.getValues())).append(")");
+            case HASH -> throw new IllegalArgumentException(
+                    "HASH partitions of " + table + " cannot be added individually; change partitionCount instead");
+        }
+        return sb.append(";\n").toString();
+    }
+
+    /**
+     * {@code child}가 지금 {@code table}의 파티션으로 붙어 있는지 확인하는 조건식. 둘 다 검색 경로로 찾는다.
+     */
+    private static String attachedCondition(String table, String child) {
+        return "EXISTS (SELECT 1 FROM pg_inherits WHERE " + inheritsPredicate(table, child) + ")";
+    }
+
+    private static String inheritsPredicate(String table, String child) {
+        return "inhrelid = to_regclass('" + regclassLiteral(child)
+                + "') AND inhparent = to_regclass('" + regclassLiteral(table) + "')";
+    }
+
+    private static String regclassLiteral(String name) {
+        return ("\"" + name.replace("\"", "\"\"") + "\"").replace("'", "''");
+    }
+
+    @Override
+    public String getDropPartitionSql(String table, PartitioningModel partitioning, PartitionModel partition) {
+        return "DROP TABLE IF EXISTS " + quoteIdentifier(partitionTableName(table, partition)) + ";\n";
+    }
+
+    @Override
+    public String getCreateRangePartitionIfMissingSql(String table, PartitioningModel partitioning,
+                                                      PartitionModel partition, String lowerBound) {
+        return "CREATE TABLE IF NOT EXISTS " + quoteIdentifier(partitionTableName(table, partition))
+                + " PARTITION OF " + quoteIdentifier(table)
+                + " FOR VALUES FROM (" + lowerBound + ") TO (" + String.join(", ", partition.getValues()) + ");\n";
+    }
+
+    /**
+     * DEFAULT 파티션이 없으면 {@code DETACH PARTITION ... CONCURRENTLY}로 떼어 낸다. 부모 테이블에는
+     * SHARE UPDATE EXCLUSIVE 잠금만 잡아 읽기·쓰기를 막지 않지만, 트랜잭션 블록 안에서 실행할 수 없어
+     * 붙어 있는지 확인하는 조건을 함께 넣을 수 없다. 이미 떼어 낸 파티션은 호출하는 쪽이
+     * {@link #getPartitionAttachedQuery}로 미리 걸러야 하며, 중간에 끊긴 떼어 내기는
+     * {@link #getFinalizeDetachPartitionSql}로 마무리한다.
+     *
+     * <p>DEFAULT 파티션이 있으면 PostgreSQL이 {@code CONCURRENTLY}를 거부하므로, 붙어 있을 때만 실행하는
+     * DO 블록 안에서 일반 DETACH를 쓴다. 이 경우 부모 테이블과 DEFAULT 파티션에 ACCESS EXCLUSIVE 잠금을 잡아
+     * 실행하는 동안 부모 테이블의 모든 읽기·쓰기가 막히고, 잠금을 얻기 전까지 오래 걸리는 트랜잭션 뒤에서 기다린다.
+     */
+    @Override
+    public String getExpirePartitionSql(String table, PartitioningModel partitioning, PartitionModel partition,
+                                        boolean detach) {
+        if (!detach) {
+            return getDropPartitionSql(table, partitioning, partition);
+        }
+        String child = partitionTableName(table, partition);
+        String detachSql = "ALTER TABLE " + quoteIdentifier(table) + " DETACH PARTITION " + quoteIdentifier(child);
+        if (partitioning.getPartitions().stream().noneMatch(PartitionModel::isCatchAll)) {
+            return detachSql + " CONCURRENTLY;\n";
+        }
+        return "DO $$\nBEGIN\n"
+                + "    IF " + attachedCondition(table, child) + " THEN\n"
+                + "        " + detachSql + ";\n"
+                + "    END IF;\n"
+                + "END $$;\n";
+    }
+
+    @Override
+    public String getPartitionAttachedQuery(String table, PartitionModel partition) {
+        return "SELECT inhdetachpending FROM pg_inherits WHERE "
+                + inheritsPredicate(table, partitionTableName(table, partition));
+    }
+
+    @Override
+    public String getFinalizeDetachPartitionSql(String table, PartitionModel partition) {
+        return "ALTER TABLE " + quoteIdentifier(table) + " DETACH PARTITION "
+                + quoteIdentifier(partitionTableName(table, partition)) + " FINALIZE;\n";
+    }
+
+    private static String partitionTableName(String table, PartitionModel partition) {
+        return clampIdentifier(table + "_" + partition.getName());
+    }
+
+    /**
+     * PostgreSQL은 63바이트를 넘는 식별자를 말없이 잘라 서로 다른 파티션이 같은 이름이 될 수 있다.
+     * 넘으면 잘라 낸 뒤 전체 이름의 짧은 해시를 붙인다.
+     *
+     * <p>해시를 붙이기 전 버전이 만든 긴 이름의 파티션은 DB에 잘린 이름으로 남아 있어, 이후 DROP/DETACH가
+     * 찾지 못하고 건너뛴다. 잘린 이름은 다른 파티션 것일 수도 있으므로 그 이름으로 대신 지우지 않는다.
+     * 이런 파티션은 {@code ALTER TABLE ... RENAME TO}로 해시 붙은 이름에 맞춘 뒤 유지보수를 돌려야 한다.
+     */
+    static String clampIdentifier(String name) {
+        if (name.getBytes(StandardCharsets.UTF_8).length <= MAX_IDENTIFIER_BYTES) {
+            return name;
+        }
+        String hash = stableHash(name);
+        int budget = MAX_IDENTIFIER_BYTES - hash.length() - 1;
+        StringBuilder sb = new StringBuilder();
+        int bytes = 0;
+        for (int cp : name.codePoints().toArray()) {
+            int len = new String(Character.toChars(cp)).getBytes(StandardCharsets.UTF_8).length;
+            if (bytes + len > budget) {
+                break;
+            }
+            sb.appendCodePoint(cp);
+            bytes += len;
+        }
+        return sb.append('_').append(hash).toString();
+    }
+
+    private static String stableHash(String input) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(input.getBytes(StandardCharsets.UTF_8));
+            return String.format("%02x%02x%02x%02x", hash[0], hash[1], hash[2], hash[3]);
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(input.hashCode());
+        }
+    }
+
     // ── DdlDialect · Relationships ───────────────────────────────────────────
 
     @Override
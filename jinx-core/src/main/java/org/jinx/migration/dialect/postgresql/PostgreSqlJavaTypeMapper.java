@@ -1,6 +1,7 @@
 package org.jinx.migration.dialect.postgresql;
 
 import lombok.Getter;
+import org.jinx.migration.spi.SqlTypeName;
 import org.jinx.migration.spi.JavaTypeMapper;
 
 import java.util.Map;
@@ -83,4 +84,19 @@ public class PostgreSqlJavaTypeMapper implements JavaTypeMapper {
     public JavaTypeMapper.JavaType map(String className) {
         return TYPE_MAP.getOrDefault(className, UNKNOWN_TYPE);
     }
+
+    /**
+     * SQL 타입의 저장 정렬(바이트, {@code pg_type.typalign}). 고정 길이 타입은 8/4/2/1이고
+     * 가변 길이(varlena: {@code VARCHAR}, {@code TEXT}, {@code NUMERIC}, {@code BYTEA}, 배열 등)이거나
+     * 모르는 타입이면 0이다. {@code uuid}는 16바이트지만 정렬은 1바이트다.
+     */
+    public static int alignmentOf(String sqlType) {
+        return switch (SqlTypeName.parse(sqlType).base()) {
+            case "bigint", "double", "timestamp", "timestamptz", "time", "timetz", "interval", "money" -> 8;
+            case "integer", "real", "date", "oid" -> 4;
+            case "smallint" -> 2;
+            case "boolean", "uuid" -> 1;
+            default -> 0;
+        };
+    }
 }
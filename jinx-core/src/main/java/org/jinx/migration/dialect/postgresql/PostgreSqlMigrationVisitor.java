@@ -22,6 +22,7 @@ public class PostgreSqlMigrationVisitor extends AbstractMigrationVisitor
      * JPA가 명시적 이름을 붙이지 않은 경우 PostgreSQL 기본 규칙({table}_pkey)으로 fallback한다.
      */
     private final String pkConstraintName;
+    private final boolean partitioned;
 
     public PostgreSqlMigrationVisitor(DiffResult.ModifiedEntity diff, DdlDialect ddlDialect) {
         super(ddlDialect, diff);
@@ -34,10 +35,12 @@ public class PostgreSqlMigrationVisitor extends AbstractMigrationVisitor
                     .map(ColumnModel::getColumnName)
                     .toList();
             this.pkConstraintName = resolvePkConstraintName(entity);
+            this.partitioned = entity.getPartitioning() != null;
         } else {
             this.currentColumns = List.of();
             this.pkColumns = List.of();
             this.pkConstraintName = null;
+            this.partitioned = false;
         }
     }
 
@@ -51,10 +54,12 @@ public class PostgreSqlMigrationVisitor extends AbstractMigrationVisitor
                     .map(ColumnModel::getColumnName)
                     .toList();
             this.pkConstraintName = resolvePkConstraintName(entity);
+            this.partitioned = entity.getPartitioning() != null;
         } else {
             this.currentColumns = List.of();
             this.pkColumns = List.of();
             this.pkConstraintName = null;
+            this.partitioned = false;
         }
     }
 
@@ -133,18 +138,29 @@ public class PostgreSqlMigrationVisitor extends AbstractMigrationVisitor
 
     @Override
     public void visitAddedIndex(IndexModel index) {
-        alterBuilder.add(new IndexAddContributor(alterBuilder.getTableName(), index));
+        alterBuilder.add(concurrentIndexes()
+                ? new PostgreSqlConcurrentIndexContributor(alterBuilder.getTableName(), index, false)
+                : new IndexAddContributor(alterBuilder.getTableName(), index));
     }
 
     @Override
     public void visitDroppedIndex(IndexModel index) {
-        alterBuilder.add(new IndexDropContributor(alterBuilder.getTableName(), index));
+        alterBuilder.add(concurrentIndexes()
+                ? new PostgreSqlConcurrentIndexContributor(alterBuilder.getTableName(), index, true)
+                : new IndexDropContributor(alterBuilder.getTableName(), index));
     }
 
     @Override
     public void visitModifiedIndex(IndexModel newIndex, IndexModel oldIndex) {
-        alterBuilder.add(new IndexDropContributor(alterBuilder.getTableName(), oldIndex));
-        alterBuilder.add(new IndexAddContributor(alterBuilder.getTableName(), newIndex));
+        visitDroppedIndex(oldIndex);
+        visitAddedIndex(newIndex);
+    }
+
+    /**
+     * 파티션 테이블(부모)에는 {@code CREATE INDEX CONCURRENTLY}를 쓸 수 없다.
+     */
+    private boolean concurrentIndexes() {
+        return ddlDialect instanceof PostgreSqlDialect pg && pg.isConcurrentIndexes() && !partitioned;
     }
 
     @Override
@@ -178,4 +194,19 @@ public class PostgreSqlMigrationVisitor extends AbstractMigrationVisitor
         alterBuilder.add(new RelationshipDropContributor(alterBuilder.getTableName(), oldRelationship));
         alterBuilder.add(new RelationshipAddContributor(alterBuilder.getTableName(), newRelationship));
     }
+
+    @Override
+    public void visitAddedPartition(String table, PartitioningModel partitioning, PartitionModel partition) {
+        alterBuilder.add(new PartitionAddContributor(table, partitioning, partition));
+    }
+
+    @Override
+    public void visitDroppedPartition(String table, PartitioningModel partitioning, PartitionModel partition) {
+        alterBuilder.add(new PartitionDropContributor(table, partitioning, partition));
+    }
+
+    @Override
+    public void visitModifiedTableOptions(String table, TableOptionsModel newOptions, TableOptionsModel oldOptions) {
+        alterBuilder.add(new TableOptionsModifyContributor(table, newOptions, oldOptions));
+    }
 }
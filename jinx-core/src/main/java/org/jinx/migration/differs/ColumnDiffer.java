@@ -271,7 +271,9 @@ public class ColumnDiffer implements EntityComponentDiffer {
         if (!eq(oldCol.getTableName(), newCol.getTableName())) {
             changes.add("tableName changed from " + oldCol.getTableName() + " to " + newCol.getTableName());
         }
-        if (!eq(oldCol.getJavaType(), newCol.getJavaType())) {
+        if (isUuidStorageChanged(oldCol, newCol)) {
+            changes.add("UUID storage changed from " + oldCol.getJavaType() + " to " + newCol.getJavaType());
+        } else if (!eq(oldCol.getJavaType(), newCol.getJavaType())) {
             changes.add("javaType changed from " + oldCol.getJavaType() + " to " + newCol.getJavaType());
         }
         if (oldCol.isPrimaryKey() != newCol.isPrimaryKey()) {
@@ -385,7 +387,12 @@ public class ColumnDiffer implements EntityComponentDiffer {
             modified.getWarnings().add("Nullable column " + newCol.getColumnName() +
                     " is now NOT NULL; existing null data will violate constraint.");
         }
-        if (!eq(oldCol.getJavaType(), newCol.getJavaType())) {
+        if (isUuidStorageChanged(oldCol, newCol)) {
+            // 문자열 UUID와 BINARY(16) UUID는 바이트 표현이 달라 MODIFY만으로는 값이 깨진다
+            modified.getWarnings().add("UUID storage change in column " + newCol.getColumnName() +
+                    " requires a backfill; add a new column, fill it with UUID_TO_BIN/BIN_TO_UUID (MySQL)" +
+                    " or a cast (PostgreSQL), then swap it in instead of altering the type in place.");
+        } else if (!eq(oldCol.getJavaType(), newCol.getJavaType())) {
             String change = analyzeTypeConversion(oldCol.getJavaType(), newCol.getJavaType());
             if (change.startsWith("Narrowing")) {
                 modified.getWarnings().add("Dangerous type conversion in column " + newCol.getColumnName() + ": " + change);
@@ -502,6 +509,16 @@ public class ColumnDiffer implements EntityComponentDiffer {
         return col.getEnumValues() != null && col.getEnumValues().length > 0;
     }
 
+    /**
+     * 문자열 컬럼과 {@code java.util.UUID} 컬럼 사이의 전환. 방언에 따라 저장 형식(문자열/16바이트)이 바뀐다.
+     */
+    private boolean isUuidStorageChanged(ColumnModel oldCol, ColumnModel newCol) {
+        String oldType = oldCol.getJavaType();
+        String newType = newCol.getJavaType();
+        return ("java.lang.String".equals(oldType) && "java.util.UUID".equals(newType))
+                || ("java.util.UUID".equals(oldType) && "java.lang.String".equals(newType));
+    }
+
     private boolean isEnumMappingChanged(ColumnModel oldCol, ColumnModel newCol) {
         return isEnum(oldCol) && isEnum(newCol) && oldCol.isEnumStringMapping() != newCol.isEnumStringMapping();
     }
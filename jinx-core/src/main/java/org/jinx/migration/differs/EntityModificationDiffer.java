@@ -21,7 +21,9 @@ public class EntityModificationDiffer implements Differ {
                 new SimpleColumnDiffer(),
                 new IndexDiffer(normalizer),
                 new ConstraintDiffer(),
-                new RelationshipDiffer(normalizer)
+                new RelationshipDiffer(normalizer),
+                new PartitionDiffer(),
+                new TableOptionsDiffer()
         );
     }
 
@@ -89,6 +91,8 @@ public class EntityModificationDiffer implements Differ {
                 || !modified.getIndexDiffs().isEmpty()
                 || !modified.getConstraintDiffs().isEmpty()
                 || !modified.getRelationshipDiffs().isEmpty()
+                || !modified.getPartitionDiffs().isEmpty()
+                || modified.getTableOptionsDiff() != null
                 || !modified.getWarnings().isEmpty();
     }
 }
\ No newline at end of file
@@ -181,9 +181,17 @@ public class IndexDiffer implements EntityComponentDiffer {
         if (!Objects.equals(oldKey.whereKey(), newKey.whereKey())) {
             detail.append("where changed; ");
         }
+        if (!Objects.equals(oldKey.orderKey(), newKey.orderKey())) {
+            detail.append("sort order changed from ").append(Optional.ofNullable(oldKey.orderKey()).orElse(List.of()))
+                  .append(" to ").append(Optional.ofNullable(newKey.orderKey()).orElse(List.of())).append("; ");
+        }
+        if (!Objects.equals(oldKey.includeKey(), newKey.includeKey())) {
+            detail.append("include changed from ").append(Optional.ofNullable(oldIndex.getIncludeColumns()).orElseGet(List::of))
+                  .append(" to ").append(Optional.ofNullable(newIndex.getIncludeColumns()).orElseGet(List::of)).append("; ");
+        }
         if (!Objects.equals(oldKey.typeKey(), newKey.typeKey())) {
-            detail.append("type changed from ").append(oldKey.typeKey())
-                  .append(" to ").append(newKey.typeKey()).append("; ");
+            detail.append("method changed from ").append(Optional.ofNullable(oldKey.typeKey()).orElse("BTREE"))
+                  .append(" to ").append(Optional.ofNullable(newKey.typeKey()).orElse("BTREE")).append("; ");
         }
 
         // 중복 컬럼 경고 (정규화 기준)
@@ -0,0 +1,73 @@
+package org.jinx.migration.differs;
+
+import org.jinx.model.DiffResult;
+import org.jinx.model.EntityModel;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitioningModel;
+import org.jinx.model.PartitionStrategy;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 파티션 정의 차이를 분석한다.
+ *
+ * <p>RANGE/LIST 파티션은 이름으로 맞춰 추가/삭제만 만든다. 파티셔닝 방식·키 컬럼·HASH 파티션 수가 바뀌거나
+ * 기존 파티션의 범위가 바뀌면 테이블을 다시 만들거나 데이터를 옮겨야 하므로 경고만 남긴다.
+ */
+public class PartitionDiffer implements EntityComponentDiffer {
+
+    @Override
+    public void diff(EntityModel oldEntity, EntityModel newEntity, DiffResult.ModifiedEntity result) {
+        PartitioningModel oldP = oldEntity.getPartitioning();
+        PartitioningModel newP = newEntity.getPartitioning();
+        if (oldP == null && newP == null) {
+            return;
+        }
+        String entity = " (entity=" + newEntity.getEntityName() + ")";
+        if (oldP == null || newP == null) {
+            result.getWarnings().add("Table " + (oldP == null ? "became partitioned" : "is no longer partitioned")
+                    + entity + "; the table must be rebuilt, manual migration required.");
+            return;
+        }
+        if (oldP.getStrategy() != newP.getStrategy() || !normalize(oldP.getColumns()).equals(normalize(newP.getColumns()))) {
+            result.getWarnings().add("Partitioning changed from " + oldP.getStrategy() + oldP.getColumns()
+                    + " to " + newP.getStrategy() + newP.getColumns() + entity + "; manual migration required.");
+            return;
+        }
+        if (newP.getStrategy() == PartitionStrategy.HASH) {
+            if (!Objects.equals(oldP.getPartitionCount(), newP.getPartitionCount())) {
+                result.getWarnings().add("HASH partition count changed from " + oldP.getPartitionCount()
+                        + " to " + newP.getPartitionCount() + entity + "; manual migration required.");
+            }
+            return;
+        }
+
+        for (PartitionModel np : newP.getPartitions()) {
+            var op = oldP.findPartition(np.getName());
+            if (op.isEmpty()) {
+                result.getPartitionDiffs().add(DiffResult.PartitionDiff.builder()
+                        .type(DiffResult.PartitionDiff.Type.ADDED)
+                        .partition(np)
+                        .build());
+            } else if (!Objects.equals(op.get().getValues(), np.getValues())) {
+                result.getWarnings().add("Bounds of partition " + np.getName() + " changed from " + op.get().getValues()
+                        + " to " + np.getValues() + entity + "; manual migration required.");
+            }
+        }
+        for (PartitionModel op : oldP.getPartitions()) {
+            if (newP.findPartition(op.getName()).isEmpty()) {
+                result.getPartitionDiffs().add(DiffResult.PartitionDiff.builder()
+                        .type(DiffResult.PartitionDiff.Type.DROPPED)
+                        .partition(op)
+                        .changeDetail("rows in partition " + op.getName() + " are deleted")
+                        .build());
+            }
+        }
+    }
+
+    private static List<String> normalize(List<String> columns) {
+        return columns.stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+    }
+}
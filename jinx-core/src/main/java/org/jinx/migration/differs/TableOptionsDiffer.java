@@ -0,0 +1,35 @@
+package org.jinx.migration.differs;
+
+import org.jinx.model.DiffResult;
+import org.jinx.model.EntityModel;
+import org.jinx.model.TableOptionsModel;
+
+import java.util.Map;
+
+/**
+ * 테이블 저장 옵션 차이를 분석한다. 옵션 순서는 보지 않으며, 어느 방언의 옵션이든 바뀌면 전후 옵션을 남긴다.
+ * 실제로 바뀐 옵션만 골라 SQL로 만드는 것은 방언의 몫이다.
+ */
+public class TableOptionsDiffer implements EntityComponentDiffer {
+
+    @Override
+    public void diff(EntityModel oldEntity, EntityModel newEntity, DiffResult.ModifiedEntity result) {
+        TableOptionsModel oldO = orEmpty(oldEntity.getTableOptions());
+        TableOptionsModel newO = orEmpty(newEntity.getTableOptions());
+        if (same(oldO.getPostgresql(), newO.getPostgresql()) && same(oldO.getMysql(), newO.getMysql())) {
+            return;
+        }
+        result.setTableOptionsDiff(DiffResult.TableOptionsDiff.builder()
+                .newOptions(newO)
+                .oldOptions(oldO)
+                .build());
+    }
+
+    private static TableOptionsModel orEmpty(TableOptionsModel options) {
+        return options != null ? options : new TableOptionsModel();
+    }
+
+    private static boolean same(Map<String, String> a, Map<String, String> b) {
+        return (a == null ? Map.of() : a).equals(b == null ? Map.of() : b);
+    }
+}
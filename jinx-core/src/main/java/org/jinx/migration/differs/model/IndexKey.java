@@ -2,19 +2,24 @@ package org.jinx.migration.differs.model;
 
 import org.jinx.model.ColumnKey;
 import org.jinx.model.EntityModel;
+import org.jinx.model.IndexKeyPart;
+import org.jinx.model.IndexMethod;
 import org.jinx.model.IndexModel;
 import org.jinx.model.naming.CaseNormalizer;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 
 public record IndexKey(
     String tableKey,
-    List<String> keyCols,    // 순서 보존
+    List<String> keyCols,    // 순서 보존, 식 키는 "(식)"
     Boolean unique,
     String whereKey,
-    String typeKey
+    String typeKey,
+    List<String> orderKey,   // 모두 ASC이고 NULLS 미지정이면 null
+    List<String> includeKey  // 정렬됨 – INCLUDE 순서는 의미 없음
 ) {
     public static IndexKey of(IndexModel idx, EntityModel owner, CaseNormalizer n) {
         Objects.requireNonNull(idx, "IndexModel must not be null");
@@ -28,21 +33,45 @@ public record IndexKey(
         String table = rawTable == null ? "" : rawTable.trim();
         String tableKey = n.normalize(table);
 
-        // 컬럼 순서 보존 + null 요소 방어
-        List<String> keyCols = Optional.ofNullable(idx.getColumnNames()).orElseGet(List::of)
-                .stream()
-                .filter(Objects::nonNull)
-                .map(c -> ColumnKey.of(table, c, n).canonical())
+        // 컬럼 순서 보존 + null 요소 방어, 식은 공백/대소문자 정규화
+        List<IndexKeyPart> parts = IndexKeyPart.partsOf(idx);
+        List<String> keyCols = parts.stream()
+                .filter(p -> p.target() != null)
+                .map(p -> p.hasExpression()
+                        ? "(" + normalizeExpr(p.getExpression(), n) + ")"
+                        : ColumnKey.of(table, p.getColumn(), n).canonical())
                 .toList();
 
         Boolean unique = Boolean.TRUE.equals(idx.getUnique());
         String whereKey = normalizeExpr(idx.getWhere(), n); // 이미 trim/공백 축소 포함
 
-        // type 트리밍 후 정규화
-        String typeKey = idx.getType() == null ? null : n.normalize(idx.getType().trim());
+        // 접근 방식 – 미지정과 B-tree는 같다
+        String typeKey = methodKey(idx.getType(), n);
 
-        return new IndexKey(tableKey, keyCols, unique, whereKey, typeKey);
+        List<String> orderKey = parts.stream().allMatch(p -> !p.isDescending() && p.getNulls() == null)
+                ? null
+                : parts.stream().map(p -> (p.isDescending() ? "desc" : "asc")
+                        + (p.getNulls() != null ? " nulls " + p.getNulls().name().toLowerCase(Locale.ROOT) : ""))
+                  .toList();
+
+        List<String> includeKey = Optional.ofNullable(idx.getIncludeColumns()).orElseGet(List::of)
+                .stream()
+                .filter(Objects::nonNull)
+                .map(c -> ColumnKey.of(table, c, n).canonical())
+                .sorted()
+                .toList();
+
+        return new IndexKey(tableKey, keyCols, unique, whereKey, typeKey, orderKey, includeKey);
     }
+    private static String methodKey(String type, CaseNormalizer n) {
+        try {
+            IndexMethod m = IndexMethod.from(type);
+            return (m == null || m == IndexMethod.BTREE) ? null : m.name();
+        } catch (IllegalArgumentException e) {
+            return n.normalize(type.trim()); // 모르는 접근 방식은 문자열로 비교
+        }
+    }
+
     private static String normalizeExpr(String expr, CaseNormalizer n) {
         if (expr == null) return null;
         String compact = expr.trim().replaceAll("\\s+", " ");
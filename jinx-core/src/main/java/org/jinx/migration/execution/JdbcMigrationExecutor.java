@@ -0,0 +1,177 @@
+package org.jinx.migration.execution;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 마이그레이션 문장을 JDBC로 하나씩 실행하며 문장별 소요 시간과 영향받은 행 수를 기록합니다.
+ *
+ * <p>진행 상황은 {@link MigrationCheckpointStore}에 문장 단위로 남기므로, 중간에 실패하거나 중단된
+ * 마이그레이션을 다시 실행하면 이미 성공한 문장은 건너뛰고 실패한 문장부터 이어서 실행합니다.
+ * 건너뛸 문장의 내용이 기록된 해시와 다르면 스크립트가 바뀐 것이므로 실행을 거부합니다.
+ */
+public class JdbcMigrationExecutor {
+
+    private static final Pattern CONCURRENT_INDEX =
+            Pattern.compile("^\\s*(?:CREATE\\s+(?:UNIQUE\\s+)?|DROP\\s+)INDEX\\s+CONCURRENTLY\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CONCURRENT_DETACH =
+            Pattern.compile("\\bDETACH\\s+PARTITION\\s+\\S+\\s+CONCURRENTLY\\b", Pattern.CASE_INSENSITIVE);
+
+    /** 문장 하나의 실행 결과 */
+    public record StatementResult(int index, String sql, long rowsAffected, long durationMillis, boolean skipped) {}
+
+    /** 전체 실행 결과 */
+    public record ApplyReport(String migrationId, List<StatementResult> results) {
+        public long executedCount() {
+            return results.stream().filter(r -> !r.skipped()).count();
+        }
+
+        public long skippedCount() {
+            return results.stream().filter(StatementResult::skipped).count();
+        }
+
+        public long totalDurationMillis() {
+            return results.stream().mapToLong(StatementResult::durationMillis).sum();
+        }
+    }
+
+    /** 문장 실행 직후 호출됩니다. 진행 상황 출력에 사용합니다. */
+    @FunctionalInterface
+    public interface Listener {
+        void onStatement(StatementResult result, int total);
+    }
+
+    private final Connection connection;
+    private final MigrationCheckpointStore checkpoints;
+
+    public JdbcMigrationExecutor(Connection connection) {
+        this.connection = connection;
+        this.checkpoints = new MigrationCheckpointStore(connection);
+    }
+
+    /**
+     * @param migrationId 마이그레이션 식별자 (보통 스크립트 파일명)
+     * @param statements  실행할 문장
+     * @param restart     true면 기존 체크포인트를 지우고 처음부터 실행
+     * @param listener    문장별 콜백 (nullable)
+     * @return 실행 결과
+     * @throws StatementExecutionException 문장 실행에 실패한 경우 (체크포인트에 실패가 기록됨)
+     * @throws SQLException 체크포인트를 읽거나 쓸 수 없는 경우, 또는 기록과 스크립트가 일치하지 않는 경우
+     */
+    public ApplyReport execute(String migrationId, List<String> statements, boolean restart, Listener listener)
+            throws SQLException {
+        checkpoints.ensureTable();
+        if (restart) {
+            checkpoints.clear(migrationId);
+        }
+
+        int resumeFrom = resumeIndex(migrationId, statements);
+        List<StatementResult> results = new ArrayList<>(statements.size());
+
+        for (int i = 0; i < statements.size(); i++) {
+            String sql = statements.get(i);
+            if (i < resumeFrom) {
+                StatementResult skipped = new StatementResult(i, sql, 0, 0, true);
+                results.add(skipped);
+                notify(listener, skipped, statements.size());
+                continue;
+            }
+
+            long start = System.nanoTime();
+            long rows;
+            // CREATE/DROP INDEX CONCURRENTLY, DETACH PARTITION CONCURRENTLY는 트랜잭션 블록 안에서 실행할 수 없다
+            boolean forceAutoCommit = !connection.getAutoCommit() && requiresAutoCommit(sql);
+            try (Statement stmt = connection.createStatement()) {
+                if (forceAutoCommit) {
+                    connection.setAutoCommit(true);
+                }
+                rows = stmt.execute(sql) ? 0 : Math.max(stmt.getLargeUpdateCount(), 0);
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+            } catch (SQLException e) {
+                long elapsed = (System.nanoTime() - start) / 1_000_000;
+                rollbackQuietly();
+                checkpoints.recordFailure(migrationId, i, sql, elapsed, e.getMessage());
+                throw new StatementExecutionException(i, sql, e);
+            } finally {
+                if (forceAutoCommit) {
+                    connection.setAutoCommit(false);
+                }
+            }
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+            checkpoints.recordSuccess(migrationId, i, sql, rows, elapsed);
+            StatementResult result = new StatementResult(i, sql, rows, elapsed, false);
+            results.add(result);
+            notify(listener, result, statements.size());
+        }
+        return new ApplyReport(migrationId, results);
+    }
+
+    /**
+     * 앞에서부터 연속으로 성공한 문장 수를 반환합니다.
+     */
+    private int resumeIndex(String migrationId, List<String> statements) throws SQLException {
+        int next = 0;
+        for (MigrationCheckpointStore.Checkpoint cp : checkpoints.load(migrationId)) {
+            if (cp.statementIndex() != next || !cp.succeeded()) {
+                break;
+            }
+            if (next >= statements.size()
+                    || !cp.statementHash().equals(MigrationCheckpointStore.hash(statements.get(next)))) {
+                throw new SQLException("Checkpoint for '" + migrationId + "' does not match statement " + next
+                        + "; the migration script changed since the last run. Re-run with restart to start over.");
+            }
+            next++;
+        }
+        return next;
+    }
+
+    static boolean requiresAutoCommit(String sql) {
+        return CONCURRENT_INDEX.matcher(sql).find() || CONCURRENT_DETACH.matcher(sql).find();
+    }
+
+    private void rollbackQuietly() {
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+        } catch (SQLException ignored) {
+            // 원래 예외를 우선
+        }
+    }
+
+    private static void notify(Listener listener, StatementResult result, int total) {
+        if (listener != null) {
+            listener.onStatement(result, total);
+        }
+    }
+
+    /**
+     * 문장 실행 실패. 실패한 문장의 위치와 SQL을 담습니다.
+     */
+    public static class StatementExecutionException extends SQLException {
+        private final int statementIndex;
+        private final String sql;
+
+        public StatementExecutionException(int statementIndex, String sql, SQLException cause) {
+            super("Statement " + (statementIndex + 1) + " failed: " + cause.getMessage(),
+                    cause.getSQLState(), cause.getErrorCode(), cause);
+            this.statementIndex = statementIndex;
+            this.sql = sql;
+        }
+
+        public int getStatementIndex() {
+            return statementIndex;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.jinx.migration.execution;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 마이그레이션 실행 진행 상황을 {@code jinx_migration_progress} 테이블에 문장 단위로 기록합니다.
+ *
+ * <p>DDL은 대부분의 DB에서 자동 커밋되므로 실패 시 이미 실행된 문장은 되돌릴 수 없습니다.
+ * 문장마다 성공 여부와 해시를 남겨, 재실행 시 실패한 문장부터 이어서 실행할 수 있게 합니다.
+ */
+public class MigrationCheckpointStore {
+
+    public static final String TABLE_NAME = "jinx_migration_progress";
+
+    /** 기록된 문장 하나의 상태 */
+    public record Checkpoint(int statementIndex, String statementHash, String status) {
+        public boolean succeeded() {
+            return STATUS_SUCCESS.equals(status);
+        }
+    }
+
+    static final String STATUS_SUCCESS = "SUCCESS";
+    static final String STATUS_FAILED = "FAILED";
+
+    private final Connection connection;
+
+    public MigrationCheckpointStore(Connection connection) {
+        this.connection = connection;
+    }
+
+    public void ensureTable() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS jinx_migration_progress (
+                    migration_id VARCHAR(255) NOT NULL,
+                    statement_index INT NOT NULL,
+                    statement_hash VARCHAR(64) NOT NULL,
+                    status VARCHAR(16) NOT NULL,
+                    rows_affected BIGINT,
+                    duration_ms BIGINT,
+                    error_message VARCHAR(1000),
+                    executed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                    PRIMARY KEY (migration_id, statement_index)
+                )
+                """);
+        }
+    }
+
+    /**
+     * @return 해당 마이그레이션의 기록을 문장 순서대로 반환
+     */
+    public List<Checkpoint> load(String migrationId) throws SQLException {
+        List<Checkpoint> checkpoints = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT statement_index, statement_hash, status FROM jinx_migration_progress"
+                        + " WHERE migration_id = ? ORDER BY statement_index")) {
+            stmt.setString(1, migrationId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    checkpoints.add(new Checkpoint(rs.getInt(1), rs.getString(2), rs.getString(3)));
+                }
+            }
+        }
+        return checkpoints;
+    }
+
+    public void recordSuccess(String migrationId, int index, String sql, long rowsAffected, long durationMillis) throws SQLException {
+        record(migrationId, index, sql, STATUS_SUCCESS, rowsAffected, durationMillis, null);
+    }
+
+    public void recordFailure(String migrationId, int index, String sql, long durationMillis, String errorMessage) throws SQLException {
+        String message = errorMessage != null && errorMessage.length() > 1000 ? errorMessage.substring(0, 1000) : errorMessage;
+        record(migrationId, index, sql, STATUS_FAILED, null, durationMillis, message);
+    }
+
+    /**
+     * 해당 마이그레이션의 기록을 모두 지웁니다. 처음부터 다시 실행할 때 사용합니다.
+     */
+    public void clear(String migrationId) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "DELETE FROM jinx_migration_progress WHERE migration_id = ?")) {
+            stmt.setString(1, migrationId);
+            stmt.executeUpdate();
+        }
+    }
+
+    // DB별 UPSERT 문법 차이를 피하기 위해 DELETE 후 INSERT
+    private void record(String migrationId, int index, String sql, String status,
+                        Long rowsAffected, long durationMillis, String errorMessage) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement(
+                "DELETE FROM jinx_migration_progress WHERE migration_id = ? AND statement_index = ?")) {
+            delete.setString(1, migrationId);
+            delete.setInt(2, index);
+            delete.executeUpdate();
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO jinx_migration_progress"
+                        + " (migration_id, statement_index, statement_hash, status, rows_affected, duration_ms, error_message)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            insert.setString(1, migrationId);
+            insert.setInt(2, index);
+            insert.setString(3, hash(sql));
+            insert.setString(4, status);
+            if (rowsAffected != null) {
+                insert.setLong(5, rowsAffected);
+            } else {
+                insert.setNull(5, Types.BIGINT);
+            }
+            insert.setLong(6, durationMillis);
+            insert.setString(7, errorMessage);
+            insert.executeUpdate();
+        }
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+
+    /**
+     * @return 문장의 SHA-256 해시 (hex)
+     */
+    public static String hash(String sql) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sql.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.jinx.migration.execution;
+
+import org.jinx.migration.DatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 생성된 마이그레이션 스크립트를 개별 SQL 문장으로 나눕니다.
+ *
+ * <p>세미콜론을 문장 경계로 보되, 문자열('...'), 따옴표 식별자("..." / `...`),
+ * PostgreSQL 달러 인용($$...$$, $tag$...$tag$), 주석(-- / &#47;* *&#47;) 안의 세미콜론은 무시합니다.
+ * 주석만 있는 조각은 버리고, 문장 끝의 세미콜론은 제거합니다.
+ *
+ * <p>문자열 안의 백슬래시 이스케이프({@code 'it\'s'})는 MySQL과 PostgreSQL의 {@code E'...'} 리터럴에서만
+ * 인정합니다. 표준 문자열(standard_conforming_strings)에서 백슬래시는 평범한 문자라 {@code 'C:\'}는
+ * 거기서 끝납니다.
+ */
+public final class SqlStatementSplitter {
+
+    private SqlStatementSplitter() {}
+
+    /**
+     * DB 종류를 모를 때 표준 SQL 규칙으로 나눕니다.
+     *
+     * @param script SQL 스크립트
+     * @return 실행 순서대로의 문장 목록 (세미콜론 제외, 앞뒤 공백 제거)
+     */
+    public static List<String> split(String script) {
+        return split(script, null);
+    }
+
+    /**
+     * @param script SQL 스크립트
+     * @param type   스크립트를 실행할 DB (null이면 표준 SQL)
+     * @return 실행 순서대로의 문장 목록 (세미콜론 제외, 앞뒤 공백 제거)
+     */
+    public static List<String> split(String script, DatabaseType type) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean hasCode = false;
+        int i = 0;
+        int n = script.length();
+
+        while (i < n) {
+            char c = script.charAt(i);
+
+            // 주석은 문장에 포함하지 않음
+            if (c == '-' && i + 1 < n && script.charAt(i + 1) == '-') {
+                int end = script.indexOf('\n', i);
+                i = end < 0 ? n : end;
+                continue;
+            }
+            if (c == '/' && i + 1 < n && script.charAt(i + 1) == '*') {
+                int end = script.indexOf("*/", i + 2);
+                i = end < 0 ? n : end + 2;
+                current.append(' ');
+                continue;
+            }
+
+            if (c == '\'' || c == '"' || c == '`') {
+                boolean backslashEscapes = c == '\'' && (type == DatabaseType.MYSQL || isEscapeStringPrefix(script, i));
+                int end = skipQuoted(script, i, c, backslashEscapes);
+                current.append(script, i, end);
+                hasCode = true;
+                i = end;
+                continue;
+            }
+
+            if (c == '$') {
+                String tag = dollarTag(script, i);
+                if (tag != null) {
+                    int close = script.indexOf(tag, i + tag.length());
+                    int end = close < 0 ? n : close + tag.length();
+                    current.append(script, i, end);
+                    hasCode = true;
+                    i = end;
+                    continue;
+                }
+            }
+
+            if (c == ';') {
+                if (hasCode) {
+                    statements.add(current.toString().trim());
+                }
+                current.setLength(0);
+                hasCode = false;
+                i++;
+                continue;
+            }
+
+            current.append(c);
+            if (!Character.isWhitespace(c)) {
+                hasCode = true;
+            }
+            i++;
+        }
+
+        if (hasCode) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    /**
+     * 닫는 인용부호 다음 위치를 반환합니다. 인용부호를 두 번 쓰면 이스케이프로 보고,
+     * {@code backslashEscapes}이면 백슬래시 다음 문자도 건너뜁니다.
+     */
+    private static int skipQuoted(String script, int start, char quote, boolean backslashEscapes) {
+        int i = start + 1;
+        int n = script.length();
+        while (i < n) {
+            char c = script.charAt(i);
+            if (c == '\\' && backslashEscapes && i + 1 < n) {
+                i += 2;
+                continue;
+            }
+            if (c == quote) {
+                if (i + 1 < n && script.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return n;
+    }
+
+    /** PostgreSQL 이스케이프 문자열({@code E'...'})의 여는 따옴표인지. {@code E} 앞이 식별자 문자면 아닙니다. */
+    private static boolean isEscapeStringPrefix(String script, int quote) {
+        if (quote < 1 || Character.toUpperCase(script.charAt(quote - 1)) != 'E') {
+            return false;
+        }
+        return quote < 2 || !(Character.isLetterOrDigit(script.charAt(quote - 2)) || script.charAt(quote - 2) == '_');
+    }
+
+    /** {@code $$} 또는 {@code $tag$} 형태의 달러 인용 시작이면 태그를 반환합니다. */
+    private static String dollarTag(String script, int start) {
+        int i = start + 1;
+        while (i < script.length()) {
+            char c = script.charAt(i);
+            if (c == '$') {
+                return script.substring(start, i + 1);
+            }
+            if (!(Character.isLetterOrDigit(c) || c == '_') || (i == start + 1 && Character.isDigit(c))) {
+                return null;
+            }
+            i++;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,205 @@
+package org.jinx.migration.integration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Session-level database lock that serializes verify/apply/record across nodes.
+ *
+ * <p>PostgreSQL uses {@code pg_try_advisory_lock} polled until the timeout, MySQL uses
+ * {@code GET_LOCK} with the timeout in seconds. Other databases have no portable advisory lock;
+ * there the returned lock is not held and closing it does nothing.
+ *
+ * <p>The lock belongs to the connection session, so the same connection must be used for the
+ * work done under it. Callers must always re-check the applied hash after acquiring the lock,
+ * because another node may have finished the migration in the meantime; whether this node had to
+ * wait is only known approximately (see {@link #probablyWaited()}).
+ *
+ * <p>{@link #nameFor} scopes the lock name to the database being migrated. MySQL {@code GET_LOCK}
+ * names are server-wide, so database-per-tenant targets on one host would otherwise all queue on
+ * one name; PostgreSQL advisory locks are already per database, so there the schema is the scope.
+ * A single {@code apply} and a fleet run on the same database derive the same name and still
+ * exclude each other.
+ */
+public final class MigrationLock implements AutoCloseable {
+
+    public static final String DEFAULT_NAME = "jinx_migration";
+
+    private static final long POLL_INTERVAL_MILLIS = 200;
+    /** MySQL rejects {@code GET_LOCK} names longer than this */
+    private static final int MYSQL_MAX_NAME_LENGTH = 64;
+
+    private enum Kind { POSTGRESQL, MYSQL, NONE }
+
+    private final Connection connection;
+    private final Kind kind;
+    private final String name;
+    private final boolean waited;
+    private boolean held;
+
+    private MigrationLock(Connection connection, Kind kind, String name, boolean waited, boolean held) {
+        this.connection = connection;
+        this.kind = kind;
+        this.name = name;
+        this.waited = waited;
+        this.held = held;
+    }
+
+    /**
+     * Lock name for the database (MySQL catalog) or schema (PostgreSQL) the connection currently points at,
+     * {@code jinx_migration:<scope>}. Falls back to {@link #DEFAULT_NAME} when there is none.
+     */
+    public static String nameFor(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        String scope = product.contains("postgresql") ? connection.getSchema() : connection.getCatalog();
+        return scope == null || scope.isBlank() ? DEFAULT_NAME : DEFAULT_NAME + ":" + scope;
+    }
+
+    /**
+     * Acquires the named lock, waiting at most {@code timeout}.
+     *
+     * @throws SQLTimeoutException if another session still holds the lock when the timeout expires
+     */
+    public static MigrationLock acquire(Connection connection, String name, Duration timeout) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        if (product.contains("postgresql")) {
+            return acquirePostgres(connection, name, timeout);
+        } else if (product.contains("mysql") || product.contains("mariadb")) {
+            return acquireMySql(connection, name, timeout);
+        }
+        return new MigrationLock(connection, Kind.NONE, name, false, false);
+    }
+
+    private static MigrationLock acquirePostgres(Connection connection, String name, Duration timeout) throws SQLException {
+        long key = lockKey(name);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean waited = false;
+
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            stmt.setLong(1, key);
+            while (true) {
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next() && rs.getBoolean(1)) {
+                        return new MigrationLock(connection, Kind.POSTGRESQL, name, waited, true);
+                    }
+                }
+                long remainingMillis = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+                if (remainingMillis <= 0) {
+                    throw timeout(name, timeout);
+                }
+                waited = true;
+                sleep(Math.min(POLL_INTERVAL_MILLIS, remainingMillis));
+            }
+        }
+    }
+
+    private static MigrationLock acquireMySql(Connection connection, String requestedName, Duration timeout) throws SQLException {
+        String name = mySqlLockName(requestedName);
+        long startNanos = System.nanoTime();
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            stmt.setString(1, name);
+            // GET_LOCK은 초 단위이므로 올림
+            stmt.setLong(2, (timeout.toMillis() + 999) / 1000);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("GET_LOCK returned no result for lock '" + name + "'");
+                }
+                int result = rs.getInt(1);
+                if (rs.wasNull()) {
+                    throw new SQLException("GET_LOCK failed for lock '" + name + "'");
+                }
+                if (result != 1) {
+                    throw timeout(name, timeout);
+                }
+            }
+        }
+        boolean waited = System.nanoTime() - startNanos >= Duration.ofMillis(POLL_INTERVAL_MILLIS).toNanos();
+        return new MigrationLock(connection, Kind.MYSQL, name, waited, true);
+    }
+
+    /**
+     * Whether a database lock is actually held (false on databases without advisory locks).
+     */
+    public boolean isHeld() {
+        return held;
+    }
+
+    /**
+     * Best-effort hint that another session held the lock and this one had to wait for it, for progress
+     * messages only. PostgreSQL reports it exactly (a poll found the lock taken). MySQL's {@code GET_LOCK}
+     * blocks without saying whether it waited, so it is guessed from the call taking at least one poll
+     * interval; a slow round trip reads as a wait and a short wait does not. Never skip the applied-hash
+     * re-check based on this value.
+     */
+    public boolean probablyWaited() {
+        return waited;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!held) {
+            return;
+        }
+        String sql = kind == Kind.POSTGRESQL ? "SELECT pg_advisory_unlock(?)" : "SELECT RELEASE_LOCK(?)";
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            if (kind == Kind.POSTGRESQL) {
+                stmt.setLong(1, lockKey(name));
+            } else {
+                stmt.setString(1, name);
+            }
+            stmt.executeQuery().close();
+        } finally {
+            held = false;
+        }
+    }
+
+    /**
+     * Maps a lock name to the 64-bit key used by PostgreSQL advisory locks (first 8 bytes of SHA-256).
+     */
+    static long lockKey(String name) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(name.getBytes(StandardCharsets.UTF_8));
+            long key = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                key = (key << 8) | (digest[i] & 0xFF);
+            }
+            return key;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Names over MySQL's 64-character limit keep a prefix and end with a hash of the full name,
+     * so long database names stay distinct.
+     */
+    static String mySqlLockName(String name) {
+        if (name.length() <= MYSQL_MAX_NAME_LENGTH) {
+            return name;
+        }
+        String suffix = "#" + Long.toHexString(lockKey(name));
+        return name.substring(0, MYSQL_MAX_NAME_LENGTH - suffix.length()) + suffix;
+    }
+
+    private static SQLTimeoutException timeout(String name, Duration timeout) {
+        return new SQLTimeoutException("Timed out after " + timeout.toSeconds() + "s waiting for migration lock '"
+                + name + "' held by another node");
+    }
+
+    private static void sleep(long millis) throws SQLException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for migration lock", e);
+        }
+    }
+}
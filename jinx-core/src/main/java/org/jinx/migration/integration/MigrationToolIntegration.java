@@ -3,98 +3,146 @@ package org.jinx.migration.integration;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.sql.*;
+import java.time.Duration;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Integration utilities for Liquibase/Flyway migration tools
+ *
+ * <p>An instance holds one {@link Connection} for its whole lifetime, so a command that checks
+ * and records state pays for a single connection handshake. The jinx state table is looked up once
+ * through {@link DatabaseMetaData} and only created when something is recorded.
+ *
+ * <p>Besides the singleton {@code jinx_schema_state} row, every recorded application is appended to
+ * {@code jinx_schema_history}, which has a unique index on {@code schema_hash}. Hash checks are point
+ * queries against that index, so a hash applied before the current one is still found.
+ * The Liquibase and Flyway checks only read those tools' own history tables.
+ * The static methods remain for one-off calls and open a short-lived instance.
  */
-public class MigrationToolIntegration {
+public class MigrationToolIntegration implements AutoCloseable {
 
     private static final Pattern HASH_PATTERN =
         Pattern.compile("(?m)^\\s*--\\s*jinx:head=sha256:([0-9a-fA-F]{64})\\s*$");
 
+    private static final String STATE_TABLE = "jinx_schema_state";
+    private static final String HISTORY_TABLE = "jinx_schema_history";
+
+    private final Connection connection;
+    private final boolean ownsConnection;
+    private Boolean stateTableExists;
+    private Boolean historyTableExists;
+
+    /**
+     * Wraps an existing connection. The caller keeps ownership and must close it.
+     */
+    public MigrationToolIntegration(Connection connection) {
+        this(connection, false);
+    }
+
+    private MigrationToolIntegration(Connection connection, boolean ownsConnection) {
+        this.connection = connection;
+        this.ownsConnection = ownsConnection;
+    }
+
+    /**
+     * Opens a connection that is closed together with the returned instance.
+     */
+    public static MigrationToolIntegration connect(String jdbcUrl, String username, String password) throws SQLException {
+        return new MigrationToolIntegration(DriverManager.getConnection(jdbcUrl, username, password), true);
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Takes the migration advisory lock for the connection's current database/schema.
+     * Check and record calls made while it is held are serialized with other nodes.
+     *
+     * @see MigrationLock#nameFor
+     */
+    public MigrationLock lock(Duration timeout) throws SQLException {
+        return MigrationLock.acquire(connection, MigrationLock.nameFor(connection), timeout);
+    }
+
     private static String normalizeSha256(String h) {
         return h.startsWith("sha256:") ? h : "sha256:" + h;
     }
 
+    private static String stripSha256(String h) {
+        return h.startsWith("sha256:") ? h.substring("sha256:".length()) : h;
+    }
+
     /**
-     * Check if schema hash has been applied via Liquibase
+     * Check if schema hash has been applied via Liquibase.
+     * Only {@code DATABASECHANGELOG} is queried; callers that also accept applications recorded by
+     * jinx itself check {@link #isAppliedViaJinxState} as well.
+     * The hash match runs in the database ({@code comments LIKE ?}) and stops at the first row.
      */
-    public static boolean isAppliedViaLiquibase(String jdbcUrl, String username, String password, String targetHash) {
+    public boolean isAppliedViaLiquibase(String targetHash) {
         String query = """
-                SELECT description, labels, comments
+                SELECT 1
                 FROM DATABASECHANGELOG
                 WHERE exectype = 'EXECUTED'
-                ORDER BY dateexecuted DESC
+                  AND comments LIKE ? ESCAPE '!'
             """;
 
-        try (Connection conn = DriverManager.getConnection(jdbcUrl, username, password);
-             PreparedStatement stmt = conn.prepareStatement(query);
-             ResultSet rs = stmt.executeQuery()) {
-
-            String head = normalizeSha256(targetHash);
-            String hashPatternLb = "jinxHead=" + head;
-            while (rs.next()) {
-                String comments = rs.getString("comments");
-                if (comments != null && comments.contains(hashPatternLb)) {
-                    return true;
-                }
-            }
+        try {
+            String hashPatternLb = "jinxHead=" + normalizeSha256(targetHash);
+            return existsAny(query, containsPattern(hashPatternLb));
 
         } catch (SQLException e) {
             throw new RuntimeException("Failed to check Liquibase status", e);
         }
-
-        return false;
     }
 
     /**
-     * Check if schema hash has been applied via Flyway
+     * Check if schema hash has been applied via Flyway.
+     * Only {@code flyway_schema_history} is queried; callers that also accept applications recorded by
+     * jinx itself check {@link #isAppliedViaJinxState} as well.
+     * The hash match runs in the database ({@code script LIKE ?}) and stops at the first row.
      */
-    public static boolean isAppliedViaFlyway(String jdbcUrl, String username, String password, String targetHash) {
+    public boolean isAppliedViaFlyway(String targetHash) {
+        // Flyway는 스크립트 파일명을 저장하므로, 파일명이나 description에서 해시 확인해야 함
         String query = """
-                SELECT version, description, script
+                SELECT 1
                 FROM flyway_schema_history
                 WHERE success = true
-                ORDER BY installed_on DESC
+                  AND (script LIKE ? ESCAPE '!' OR description LIKE ? ESCAPE '!')
             """;
 
-        try (Connection conn = DriverManager.getConnection(jdbcUrl, username, password);
-             PreparedStatement stmt = conn.prepareStatement(query);
-             ResultSet rs = stmt.executeQuery()) {
-
-            String head = normalizeSha256(targetHash);
-            String hashPatternFw = "jinxHead_" + head.replace(':','_');
-            while (rs.next()) {
-                String script = rs.getString("script");
-                String description = rs.getString("description");
-                // Flyway는 스크립트 파일명을 저장하므로, 파일명이나 description에서 해시 확인해야 함
-                if ((script != null && script.contains(hashPatternFw)) || (description != null && description.contains(hashPatternFw))) {
-                    return true;
-                }
-            }
+        try {
+            String hashPatternFw = containsPattern("jinxHead_" + normalizeSha256(targetHash).replace(':', '_'));
+            return existsAny(query, hashPatternFw, hashPatternFw);
 
         } catch (SQLException e) {
             throw new RuntimeException("Failed to check Flyway status", e);
         }
-
-        return false;
     }
 
-    public static boolean isAppliedViaJinxState(String jdbcUrl, String username, String password, String targetHash) {
-        // First, ensure table exists
-        createJinxStateTableIfNotExists(jdbcUrl, username, password);
-
+    /**
+     * Check if schema hash has been applied by jinx.
+     * Uses an indexed point query on {@code jinx_schema_history}; databases recorded before the history
+     * table existed fall back to the singleton state row. Returns false without creating any table.
+     */
+    public boolean isAppliedViaJinxState(String targetHash) {
         String query = "SELECT COUNT(*) FROM jinx_schema_state WHERE current_hash = ?";
 
-        try (Connection conn = DriverManager.getConnection(jdbcUrl, username, password);
-             PreparedStatement stmt = conn.prepareStatement(query)) {
-
-            stmt.setString(1, targetHash);
-            try (ResultSet rs = stmt.executeQuery()) {
-                return rs.next() && rs.getInt(1) > 0;
+        try {
+            if (historyTableExists()) {
+                return isInSchemaHistory(targetHash);
+            }
+            if (!stateTableExists()) {
+                return false;
+            }
+            try (PreparedStatement stmt = connection.prepareStatement(query)) {
+                stmt.setString(1, targetHash);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() && rs.getInt(1) > 0;
+                }
             }
 
         } catch (SQLException e) {
@@ -102,25 +150,46 @@ public class MigrationToolIntegration {
         }
     }
 
-    public static void recordSchemaApplication(String jdbcUrl, String username, String password,
-                                             String schemaHash, String version) {
-        createJinxStateTableIfNotExists(jdbcUrl, username, password);
+    public void recordSchemaApplication(String schemaHash, String version) {
+        recordSchemaApplication(schemaHash, version, null, null);
+    }
 
-        try (Connection conn = DriverManager.getConnection(jdbcUrl, username, password)) {
+    /**
+     * Records the applied schema in the state row and appends it to {@code jinx_schema_history}.
+     * A hash already present in the history is not recorded again.
+     *
+     * @param schemaHash     applied HEAD hash (with or without the {@code sha256:} prefix)
+     * @param version        applied schema version
+     * @param durationMillis total execution time, or null if unknown
+     * @param statementCount number of executed statements, or null if unknown
+     */
+    public void recordSchemaApplication(String schemaHash, String version, Long durationMillis, Integer statementCount) {
+        try {
+            createJinxStateTableIfNotExists();
+
+            DatabaseMetaData metaData = connection.getMetaData();
             // Get DB-independent username
-            String dbUser = conn.getMetaData().getUserName();
+            String dbUser = metaData.getUserName();
 
             // Detect database type for UPSERT syntax
-            String databaseType = conn.getMetaData().getDatabaseProductName().toLowerCase();
+            String databaseType = metaData.getDatabaseProductName().toLowerCase(Locale.ROOT);
             String upsertSql = getUpsertSql(databaseType);
 
-            try (PreparedStatement stmt = conn.prepareStatement(upsertSql)) {
-                stmt.setInt(1, 1); // id = 1 (singleton row)
-                stmt.setString(2, schemaHash); // current_hash
-                stmt.setString(3, version); // version
-                stmt.setString(4, dbUser); // applied_by
+            if (upsertSql == null) {
+                upsertStateRow(schemaHash, version, dbUser);
+            } else {
+                try (PreparedStatement stmt = connection.prepareStatement(upsertSql)) {
+                    stmt.setInt(1, 1); // id = 1 (singleton row)
+                    stmt.setString(2, schemaHash); // current_hash
+                    stmt.setString(3, version); // version
+                    stmt.setString(4, dbUser); // applied_by
 
-                stmt.executeUpdate();
+                    stmt.executeUpdate();
+                }
+            }
+            appendHistory(stripSha256(schemaHash), version, dbUser, durationMillis, statementCount, databaseType);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
             }
 
         } catch (SQLException e) {
@@ -128,6 +197,54 @@ public class MigrationToolIntegration {
         }
     }
 
+    @Override
+    public void close() throws SQLException {
+        if (ownsConnection) {
+            connection.close();
+        }
+    }
+
+    // ── static one-off API ────────────────────────────────────────────────
+
+    /**
+     * Check if schema hash has been applied via Liquibase
+     */
+    public static boolean isAppliedViaLiquibase(String jdbcUrl, String username, String password, String targetHash) {
+        try (MigrationToolIntegration integration = connect(jdbcUrl, username, password)) {
+            return integration.isAppliedViaLiquibase(targetHash);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to check Liquibase status", e);
+        }
+    }
+
+    /**
+     * Check if schema hash has been applied via Flyway
+     */
+    public static boolean isAppliedViaFlyway(String jdbcUrl, String username, String password, String targetHash) {
+        try (MigrationToolIntegration integration = connect(jdbcUrl, username, password)) {
+            return integration.isAppliedViaFlyway(targetHash);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to check Flyway status", e);
+        }
+    }
+
+    public static boolean isAppliedViaJinxState(String jdbcUrl, String username, String password, String targetHash) {
+        try (MigrationToolIntegration integration = connect(jdbcUrl, username, password)) {
+            return integration.isAppliedViaJinxState(targetHash);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to check Jinx state", e);
+        }
+    }
+
+    public static void recordSchemaApplication(String jdbcUrl, String username, String password,
+                                             String schemaHash, String version) {
+        try (MigrationToolIntegration integration = connect(jdbcUrl, username, password)) {
+            integration.recordSchemaApplication(schemaHash, version);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to record schema application", e);
+        }
+    }
+
     private static String getUpsertSql(String databaseType) {
         if (databaseType.contains("mysql")) {
             return """
@@ -149,12 +266,35 @@ public class MigrationToolIntegration {
                     applied_at = CURRENT_TIMESTAMP,
                     applied_by = EXCLUDED.applied_by
                 """;
-        } else {
-            // Fallback for other databases - simple INSERT (may fail on duplicate)
-            return """
+        }
+        // Other databases have no common UPSERT syntax - see upsertStateRow
+        return null;
+    }
+
+    /**
+     * Portable UPSERT of the singleton state row: UPDATE first, INSERT only if no row exists.
+     */
+    private void upsertStateRow(String schemaHash, String version, String dbUser) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement("""
+                UPDATE jinx_schema_state
+                SET current_hash = ?, version = ?, applied_at = CURRENT_TIMESTAMP, applied_by = ?
+                WHERE id = 1
+                """)) {
+            update.setString(1, schemaHash);
+            update.setString(2, version);
+            update.setString(3, dbUser);
+            if (update.executeUpdate() > 0) {
+                return;
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement("""
                 INSERT INTO jinx_schema_state (id, current_hash, version, applied_at, applied_by)
-                VALUES (?, ?, ?, CURRENT_TIMESTAMP, ?)
-                """;
+                VALUES (1, ?, ?, CURRENT_TIMESTAMP, ?)
+                """)) {
+            insert.setString(1, schemaHash);
+            insert.setString(2, version);
+            insert.setString(3, dbUser);
+            insert.executeUpdate();
         }
     }
 
@@ -174,8 +314,141 @@ public class MigrationToolIntegration {
         return Optional.empty();
     }
 
+    private boolean isInSchemaHistory(String targetHash) throws SQLException {
+        return historyTableExists()
+                && existsAny("SELECT 1 FROM jinx_schema_history WHERE schema_hash = ?", stripSha256(targetHash));
+    }
+
+    private boolean historyTableExists() throws SQLException {
+        if (historyTableExists == null) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            historyTableExists = tableExists(metaData, HISTORY_TABLE)
+                    || tableExists(metaData, HISTORY_TABLE.toUpperCase(Locale.ROOT));
+        }
+        return historyTableExists;
+    }
+
+    /**
+     * Appends one row to the history. Rows are never updated; a hash that is already
+     * recorded keeps its first application record.
+     */
+    private void appendHistory(String schemaHash, String version, String appliedBy,
+                               Long durationMillis, Integer statementCount, String databaseType) throws SQLException {
+        if (!historyTableExists()) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("""
+                    CREATE TABLE IF NOT EXISTS jinx_schema_history (
+                        schema_hash VARCHAR(128) NOT NULL,
+                        version VARCHAR(50),
+                        applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                        applied_by VARCHAR(100),
+                        duration_ms BIGINT,
+                        statement_count INT,
+                        CONSTRAINT uk_jinx_schema_history_hash UNIQUE (schema_hash)
+                    )
+                    """);
+            }
+            historyTableExists = true;
+        }
+
+        String insertSql = getHistoryInsertSql(databaseType);
+        if (insertSql == null) {
+            // Fallback for other databases - check first, then plain INSERT
+            if (isInSchemaHistory(schemaHash)) {
+                return;
+            }
+            insertSql = """
+                INSERT INTO jinx_schema_history (schema_hash, version, applied_at, applied_by, duration_ms, statement_count)
+                VALUES (?, ?, CURRENT_TIMESTAMP, ?, ?, ?)
+                """;
+        }
+
+        try (PreparedStatement stmt = connection.prepareStatement(insertSql)) {
+            stmt.setString(1, schemaHash);
+            stmt.setString(2, version);
+            stmt.setString(3, appliedBy);
+            if (durationMillis != null) {
+                stmt.setLong(4, durationMillis);
+            } else {
+                stmt.setNull(4, Types.BIGINT);
+            }
+            if (statementCount != null) {
+                stmt.setInt(5, statementCount);
+            } else {
+                stmt.setNull(5, Types.INTEGER);
+            }
+            stmt.executeUpdate();
+        }
+    }
+
+    private static String getHistoryInsertSql(String databaseType) {
+        if (databaseType.contains("mysql")) {
+            return """
+                INSERT IGNORE INTO jinx_schema_history (schema_hash, version, applied_at, applied_by, duration_ms, statement_count)
+                VALUES (?, ?, CURRENT_TIMESTAMP, ?, ?, ?)
+                """;
+        } else if (databaseType.contains("postgresql")) {
+            return """
+                INSERT INTO jinx_schema_history (schema_hash, version, applied_at, applied_by, duration_ms, statement_count)
+                VALUES (?, ?, CURRENT_TIMESTAMP, ?, ?, ?)
+                ON CONFLICT (schema_hash) DO NOTHING
+                """;
+        }
+        return null;
+    }
+
+    /**
+     * Runs a query with string parameters and reports whether it returns at least one row.
+     * Only the first row is fetched.
+     */
+    private boolean existsAny(String query, String... params) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(query)) {
+            stmt.setMaxRows(1);
+            for (int i = 0; i < params.length; i++) {
+                stmt.setString(i + 1, params[i]);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * Builds a {@code LIKE '%token%'} pattern with {@code !} as escape character.
+     * The tokens contain {@code _}, which LIKE would otherwise treat as a wildcard.
+     */
+    static String containsPattern(String token) {
+        return "%" + token.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    /**
+     * Looks the state table up once via {@link DatabaseMetaData}. Identifiers may be stored
+     * upper-case (H2, Oracle) or lower-case (PostgreSQL, MySQL), so both are tried.
+     */
+    private boolean stateTableExists() throws SQLException {
+        if (stateTableExists == null) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            stateTableExists = tableExists(metaData, STATE_TABLE)
+                    || tableExists(metaData, STATE_TABLE.toUpperCase(Locale.ROOT));
+        }
+        return stateTableExists;
+    }
+
+    /**
+     * Only the connection's current schema is searched, so schema-per-tenant databases
+     * do not see another tenant's jinx tables.
+     */
+    private boolean tableExists(DatabaseMetaData metaData, String name) throws SQLException {
+        try (ResultSet rs = metaData.getTables(connection.getCatalog(), connection.getSchema(), name, new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+
+    private void createJinxStateTableIfNotExists() throws SQLException {
+        if (stateTableExists()) {
+            return;
+        }
 
-    private static void createJinxStateTableIfNotExists(String jdbcUrl, String username, String password) {
         String createTable = """
             CREATE TABLE IF NOT EXISTS jinx_schema_state (
                 id SMALLINT PRIMARY KEY CHECK (id = 1),
@@ -186,13 +459,9 @@ public class MigrationToolIntegration {
             )
             """;
 
-        try (Connection conn = DriverManager.getConnection(jdbcUrl, username, password);
-             Statement stmt = conn.createStatement()) {
-
+        try (Statement stmt = connection.createStatement()) {
             stmt.execute(createTable);
-
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to create Jinx state table", e);
         }
+        stateTableExists = true;
     }
 }
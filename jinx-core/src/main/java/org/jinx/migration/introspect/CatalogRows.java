@@ -0,0 +1,55 @@
+package org.jinx.migration.introspect;
+
+import java.util.List;
+
+/**
+ * 카탈로그 일괄 조회 결과 (스키마 전체에 대해 객체 종류별 1회 조회).
+ *
+ * <p>행은 DB 독립적인 형태로 정규화되어 있으며, {@link SchemaAssembler}가 이를 {@code SchemaModel}로 조립한다.
+ * DB 없이도 행을 직접 만들어 조립 로직을 검증할 수 있다.
+ *
+ * @param tables      테이블
+ * @param columns     컬럼
+ * @param constraints PK/UNIQUE/FK 제약의 컬럼 단위 행
+ * @param indexes     제약에 속하지 않은 인덱스의 키 단위 행
+ * @param sequences   시퀀스 (지원하지 않는 DB는 빈 리스트)
+ */
+public record CatalogRows(
+        List<Table> tables,
+        List<Column> columns,
+        List<ConstraintColumn> constraints,
+        List<IndexColumn> indexes,
+        List<Sequence> sequences) {
+
+    public record Table(String name, String comment) {}
+
+    /**
+     * @param columnType 선언된 타입 전체 (예: {@code varchar(100)}, {@code numeric(10,2)}, {@code bigint unsigned})
+     * @param identity   IDENTITY/AUTO_INCREMENT 여부
+     */
+    public record Column(String table, String name, int position, String columnType, boolean nullable,
+                         String defaultValue, boolean identity, String comment) {}
+
+    public enum ConstraintKind { PRIMARY_KEY, UNIQUE, FOREIGN_KEY }
+
+    /**
+     * @param referencedTable  FK일 때만 값이 있음
+     * @param referencedColumn FK일 때만 값이 있음
+     * @param onDelete         FK 삭제 규칙 (예: {@code CASCADE}, {@code SET NULL}, {@code NO ACTION})
+     * @param onUpdate         FK 갱신 규칙
+     */
+    public record ConstraintColumn(String table, String name, ConstraintKind kind, String column, int position,
+                                   String referencedTable, String referencedColumn,
+                                   String onDelete, String onUpdate) {}
+
+    /**
+     * @param column 컬럼명 또는 표현식 인덱스의 표현식 텍스트
+     * @param method 인덱스 방식 (btree, hash, gin ...), 알 수 없으면 null
+     * @param where  부분 인덱스 조건, 없으면 null
+     * @param include 키가 아닌 INCLUDE 컬럼 여부 (PostgreSQL 커버링 인덱스)
+     */
+    public record IndexColumn(String table, String name, boolean unique, String column, int position,
+                              String method, String where, boolean include) {}
+
+    public record Sequence(String name, Long startValue, Long increment, Long minValue, Long maxValue, Long cache) {}
+}
@@ -0,0 +1,92 @@
+package org.jinx.migration.introspect;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * H2 2.x 카탈로그 일괄 조회 ({@code INFORMATION_SCHEMA}). 생성된 마이그레이션을 임베디드 H2에서 검증할 때 사용한다.
+ * H2는 타입을 표준 이름(CHARACTER VARYING 등)으로 정규화해 보고하므로 길이/정밀도를 붙여 선언 형태로 되돌린다.
+ */
+public class H2SchemaIntrospector extends SchemaIntrospector {
+
+    @Override
+    protected String currentSchema(Connection connection) throws SQLException {
+        return connection.getSchema();
+    }
+
+    @Override
+    protected String tablesSql() {
+        return """
+                SELECT TABLE_NAME, REMARKS
+                FROM INFORMATION_SCHEMA.TABLES
+                WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'
+                """;
+    }
+
+    @Override
+    protected String columnsSql() {
+        return """
+                SELECT TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION,
+                       CASE WHEN DATA_TYPE IN ('CHARACTER VARYING', 'CHARACTER', 'BINARY VARYING', 'BINARY')
+                                 AND CHARACTER_MAXIMUM_LENGTH IS NOT NULL
+                            THEN CONCAT(DATA_TYPE, '(', CHARACTER_MAXIMUM_LENGTH, ')')
+                            WHEN DATA_TYPE IN ('NUMERIC', 'DECIMAL') AND NUMERIC_PRECISION IS NOT NULL
+                            THEN CONCAT(DATA_TYPE, '(', NUMERIC_PRECISION, ',', COALESCE(NUMERIC_SCALE, 0), ')')
+                            ELSE DATA_TYPE END,
+                       IS_NULLABLE = 'YES', COLUMN_DEFAULT, IS_IDENTITY = 'YES', REMARKS
+                FROM INFORMATION_SCHEMA.COLUMNS
+                WHERE TABLE_SCHEMA = ?
+                """;
+    }
+
+    @Override
+    protected String constraintsSql() {
+        // H2의 KEY_COLUMN_USAGE에는 참조 컬럼이 없으므로 참조되는 유니크 제약의 컬럼을 위치로 이어 붙인다
+        return """
+                SELECT k.TABLE_NAME, k.CONSTRAINT_NAME,
+                       CASE tc.CONSTRAINT_TYPE WHEN 'PRIMARY KEY' THEN 'P' WHEN 'UNIQUE' THEN 'U' ELSE 'F' END,
+                       k.COLUMN_NAME, k.ORDINAL_POSITION, rk.TABLE_NAME, rk.COLUMN_NAME,
+                       rc.DELETE_RULE, rc.UPDATE_RULE
+                FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE k
+                JOIN INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc
+                  ON tc.CONSTRAINT_SCHEMA = k.CONSTRAINT_SCHEMA
+                 AND tc.CONSTRAINT_NAME = k.CONSTRAINT_NAME
+                LEFT JOIN INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS rc
+                  ON rc.CONSTRAINT_SCHEMA = k.CONSTRAINT_SCHEMA
+                 AND rc.CONSTRAINT_NAME = k.CONSTRAINT_NAME
+                LEFT JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE rk
+                  ON rk.CONSTRAINT_SCHEMA = rc.UNIQUE_CONSTRAINT_SCHEMA
+                 AND rk.CONSTRAINT_NAME = rc.UNIQUE_CONSTRAINT_NAME
+                 AND rk.ORDINAL_POSITION = k.POSITION_IN_UNIQUE_CONSTRAINT
+                WHERE k.TABLE_SCHEMA = ? AND tc.CONSTRAINT_TYPE IN ('PRIMARY KEY', 'UNIQUE', 'FOREIGN KEY')
+                """;
+    }
+
+    @Override
+    protected String indexesSql() {
+        // 제약을 위해 H2가 자동 생성한 인덱스와 PK/UNIQUE 제약이 쓰는 인덱스는 제외
+        return """
+                SELECT ic.TABLE_NAME, ic.INDEX_NAME, i.INDEX_TYPE_NAME = 'UNIQUE INDEX', ic.COLUMN_NAME,
+                       ic.ORDINAL_POSITION, NULL, NULL, FALSE
+                FROM INFORMATION_SCHEMA.INDEX_COLUMNS ic
+                JOIN INFORMATION_SCHEMA.INDEXES i
+                  ON i.INDEX_SCHEMA = ic.INDEX_SCHEMA
+                 AND i.INDEX_NAME = ic.INDEX_NAME
+                WHERE ic.TABLE_SCHEMA = ? AND i.INDEX_TYPE_NAME <> 'PRIMARY KEY' AND NOT i.IS_GENERATED
+                  AND NOT EXISTS (
+                      SELECT 1 FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc
+                      WHERE tc.INDEX_SCHEMA = i.INDEX_SCHEMA
+                        AND tc.INDEX_NAME = i.INDEX_NAME
+                        AND tc.CONSTRAINT_TYPE IN ('PRIMARY KEY', 'UNIQUE'))
+                """;
+    }
+
+    @Override
+    protected String sequencesSql() {
+        return """
+                SELECT SEQUENCE_NAME, START_VALUE, INCREMENT, MINIMUM_VALUE, MAXIMUM_VALUE, CACHE
+                FROM INFORMATION_SCHEMA.SEQUENCES
+                WHERE SEQUENCE_SCHEMA = ?
+                """;
+    }
+}
@@ -0,0 +1,84 @@
+package org.jinx.migration.introspect;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * MySQL 카탈로그 일괄 조회 ({@code information_schema}). MySQL에는 시퀀스가 없다.
+ */
+public class MySqlSchemaIntrospector extends SchemaIntrospector {
+
+    @Override
+    protected String currentSchema(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT DATABASE()")) {
+            String schema = rs.next() ? rs.getString(1) : null;
+            if (schema == null) {
+                throw new SQLException("No database selected; pass the schema explicitly");
+            }
+            return schema;
+        }
+    }
+
+    @Override
+    protected String tablesSql() {
+        return """
+                SELECT TABLE_NAME, TABLE_COMMENT
+                FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE'
+                """;
+    }
+
+    @Override
+    protected String columnsSql() {
+        return """
+                SELECT TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION, COLUMN_TYPE, IS_NULLABLE = 'YES',
+                       COLUMN_DEFAULT, EXTRA LIKE '%auto_increment%', COLUMN_COMMENT
+                FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = ?
+                """;
+    }
+
+    @Override
+    protected String constraintsSql() {
+        return """
+                SELECT k.TABLE_NAME, k.CONSTRAINT_NAME,
+                       CASE tc.CONSTRAINT_TYPE WHEN 'PRIMARY KEY' THEN 'P' WHEN 'UNIQUE' THEN 'U' ELSE 'F' END,
+                       k.COLUMN_NAME, k.ORDINAL_POSITION, k.REFERENCED_TABLE_NAME, k.REFERENCED_COLUMN_NAME,
+                       rc.DELETE_RULE, rc.UPDATE_RULE
+                FROM information_schema.KEY_COLUMN_USAGE k
+                JOIN information_schema.TABLE_CONSTRAINTS tc
+                  ON tc.CONSTRAINT_SCHEMA = k.CONSTRAINT_SCHEMA
+                 AND tc.TABLE_NAME = k.TABLE_NAME
+                 AND tc.CONSTRAINT_NAME = k.CONSTRAINT_NAME
+                LEFT JOIN information_schema.REFERENTIAL_CONSTRAINTS rc
+                  ON rc.CONSTRAINT_SCHEMA = k.CONSTRAINT_SCHEMA
+                 AND rc.TABLE_NAME = k.TABLE_NAME
+                 AND rc.CONSTRAINT_NAME = k.CONSTRAINT_NAME
+                WHERE k.TABLE_SCHEMA = ? AND tc.CONSTRAINT_TYPE IN ('PRIMARY KEY', 'UNIQUE', 'FOREIGN KEY')
+                """;
+    }
+
+    @Override
+    protected String indexesSql() {
+        // PK/UNIQUE 제약과 FK가 만든 같은 이름의 인덱스는 constraintsSql에서 다루므로 제외
+        return """
+                SELECT s.TABLE_NAME, s.INDEX_NAME, s.NON_UNIQUE = 0, s.COLUMN_NAME, s.SEQ_IN_INDEX,
+                       LOWER(s.INDEX_TYPE), NULL, FALSE
+                FROM information_schema.STATISTICS s
+                WHERE s.TABLE_SCHEMA = ?
+                  AND NOT EXISTS (
+                      SELECT 1 FROM information_schema.TABLE_CONSTRAINTS tc
+                      WHERE tc.CONSTRAINT_SCHEMA = s.TABLE_SCHEMA
+                        AND tc.TABLE_NAME = s.TABLE_NAME
+                        AND tc.CONSTRAINT_NAME = s.INDEX_NAME)
+                """;
+    }
+
+    @Override
+    protected String sequencesSql() {
+        return null;
+    }
+}
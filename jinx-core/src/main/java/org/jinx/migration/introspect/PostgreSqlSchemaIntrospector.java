@@ -0,0 +1,100 @@
+package org.jinx.migration.introspect;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * PostgreSQL 카탈로그 일괄 조회. {@code information_schema} 뷰 대신 {@code pg_catalog}를 직접 읽는다
+ * (대형 카탈로그에서 information_schema 뷰의 권한 검사 비용을 피함).
+ */
+public class PostgreSqlSchemaIntrospector extends SchemaIntrospector {
+
+    @Override
+    protected String currentSchema(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT current_schema()")) {
+            return rs.next() ? rs.getString(1) : "public";
+        }
+    }
+
+    @Override
+    protected String tablesSql() {
+        return """
+                SELECT c.relname, obj_description(c.oid, 'pg_class')
+                FROM pg_class c
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = ? AND c.relkind IN ('r', 'p') AND NOT c.relispartition
+                """;
+    }
+
+    @Override
+    protected String columnsSql() {
+        return """
+                SELECT c.relname, a.attname, a.attnum, format_type(a.atttypid, a.atttypmod), NOT a.attnotnull,
+                       pg_get_expr(d.adbin, d.adrelid), a.attidentity <> '', col_description(c.oid, a.attnum)
+                FROM pg_attribute a
+                JOIN pg_class c ON c.oid = a.attrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                LEFT JOIN pg_attrdef d ON d.adrelid = a.attrelid AND d.adnum = a.attnum
+                WHERE n.nspname = ? AND c.relkind IN ('r', 'p') AND NOT c.relispartition
+                  AND a.attnum > 0 AND NOT a.attisdropped
+                """;
+    }
+
+    @Override
+    protected String constraintsSql() {
+        return """
+                SELECT c.relname, con.conname, upper(con.contype::text), a.attname, k.ord,
+                       rc.relname, ra.attname,
+                       CASE con.confdeltype WHEN 'c' THEN 'CASCADE' WHEN 'n' THEN 'SET NULL'
+                            WHEN 'd' THEN 'SET DEFAULT' WHEN 'r' THEN 'RESTRICT' ELSE 'NO ACTION' END,
+                       CASE con.confupdtype WHEN 'c' THEN 'CASCADE' WHEN 'n' THEN 'SET NULL'
+                            WHEN 'd' THEN 'SET DEFAULT' WHEN 'r' THEN 'RESTRICT' ELSE 'NO ACTION' END
+                FROM pg_constraint con
+                JOIN pg_class c ON c.oid = con.conrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                CROSS JOIN LATERAL unnest(con.conkey) WITH ORDINALITY AS k(attnum, ord)
+                JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = k.attnum
+                LEFT JOIN pg_class rc ON rc.oid = con.confrelid
+                LEFT JOIN pg_attribute ra ON ra.attrelid = con.confrelid AND ra.attnum = con.confkey[k.ord::int]
+                WHERE n.nspname = ? AND con.contype IN ('p', 'u', 'f') AND NOT c.relispartition
+                """;
+    }
+
+    @Override
+    protected String indexesSql() {
+        // 제약(PK/UNIQUE)이 소유한 인덱스는 constraintsSql에서 다루므로 제외
+        // indnkeyatts 뒤의 속성은 키가 아닌 INCLUDE 컬럼
+        return """
+                SELECT t.relname, i.relname, ix.indisunique, pg_get_indexdef(ix.indexrelid, k.ord::int, true), k.ord,
+                       am.amname, pg_get_expr(ix.indpred, ix.indrelid), k.ord > ix.indnkeyatts
+                FROM pg_index ix
+                JOIN pg_class i ON i.oid = ix.indexrelid
+                JOIN pg_class t ON t.oid = ix.indrelid
+                JOIN pg_namespace n ON n.oid = t.relnamespace
+                JOIN pg_am am ON am.oid = i.relam
+                CROSS JOIN LATERAL unnest(ix.indkey) WITH ORDINALITY AS k(attnum, ord)
+                WHERE n.nspname = ? AND t.relkind IN ('r', 'p') AND NOT t.relispartition
+                  AND NOT EXISTS (SELECT 1 FROM pg_constraint con
+                                  WHERE con.conindid = ix.indexrelid AND con.conrelid = ix.indrelid
+                                    AND con.contype IN ('p', 'u', 'x'))
+                """;
+    }
+
+    @Override
+    protected String sequencesSql() {
+        // IDENTITY 컬럼이 내부적으로 소유한 시퀀스는 제외
+        return """
+                SELECT s.sequencename, s.start_value, s.increment_by, s.min_value, s.max_value, s.cache_size
+                FROM pg_sequences s
+                WHERE s.schemaname = ?
+                  AND NOT EXISTS (
+                      SELECT 1 FROM pg_depend d
+                      JOIN pg_class sc ON sc.oid = d.objid
+                      JOIN pg_namespace sn ON sn.oid = sc.relnamespace
+                      WHERE sc.relname = s.sequencename AND sn.nspname = s.schemaname AND d.deptype = 'i')
+                """;
+    }
+}
@@ -0,0 +1,196 @@
+package org.jinx.migration.introspect;
+
+import org.jinx.migration.spi.SqlTypeName;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.ConstraintModel;
+import org.jinx.model.ConstraintType;
+import org.jinx.model.EntityModel;
+import org.jinx.model.GenerationStrategy;
+import org.jinx.model.IndexModel;
+import org.jinx.model.OnDeleteAction;
+import org.jinx.model.OnUpdateAction;
+import org.jinx.model.RelationshipModel;
+import org.jinx.model.RelationshipType;
+import org.jinx.model.SchemaModel;
+import org.jinx.model.SequenceModel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link CatalogRows}를 {@link SchemaModel}로 조립한다.
+ *
+ * <p>라이브 DB에는 엔티티 이름이 없으므로 테이블명을 엔티티 이름으로 쓴다.
+ * 컬럼의 {@code sqlTypeOverride}에는 카탈로그의 실제 타입을 그대로 담고, {@code javaType}은 타입에서 역매핑한다.
+ * 모든 단계는 행 수에 선형이며 테이블별 추가 조회가 없다.
+ */
+public final class SchemaAssembler {
+
+    private SchemaAssembler() {
+    }
+
+    public static SchemaModel assemble(CatalogRows rows) {
+        Map<String, EntityModel> byTable = new HashMap<>();
+        Map<String, EntityModel> entities = new LinkedHashMap<>();
+        for (CatalogRows.Table table : rows.tables()) {
+            EntityModel entity = EntityModel.builder()
+                    .entityName(table.name())
+                    .tableName(table.name())
+                    .comment(blankToNull(table.comment()))
+                    .build();
+            entities.put(table.name(), entity);
+            byTable.put(key(table.name()), entity);
+        }
+
+        List<CatalogRows.Column> columns = new ArrayList<>(rows.columns());
+        columns.sort(Comparator.comparing(CatalogRows.Column::table).thenComparingInt(CatalogRows.Column::position));
+        for (CatalogRows.Column row : columns) {
+            EntityModel entity = byTable.get(key(row.table()));
+            if (entity != null) {
+                entity.putColumn(toColumn(row));
+            }
+        }
+
+        for (List<CatalogRows.ConstraintColumn> group : groupByName(rows.constraints(),
+                CatalogRows.ConstraintColumn::table, CatalogRows.ConstraintColumn::name,
+                CatalogRows.ConstraintColumn::position)) {
+            CatalogRows.ConstraintColumn first = group.get(0);
+            EntityModel entity = byTable.get(key(first.table()));
+            if (entity != null) {
+                applyConstraint(entity, first, group);
+            }
+        }
+
+        for (List<CatalogRows.IndexColumn> group : groupByName(rows.indexes(),
+                CatalogRows.IndexColumn::table, CatalogRows.IndexColumn::name, CatalogRows.IndexColumn::position)) {
+            CatalogRows.IndexColumn first = group.get(0);
+            EntityModel entity = byTable.get(key(first.table()));
+            if (entity != null) {
+                List<String> includes = group.stream().filter(CatalogRows.IndexColumn::include)
+                        .map(CatalogRows.IndexColumn::column).toList();
+                entity.getIndexes().put(first.name(), IndexModel.builder()
+                        .indexName(first.name())
+                        .tableName(entity.getTableName())
+                        .columnNames(group.stream().filter(c -> !c.include())
+                                .map(CatalogRows.IndexColumn::column).toList())
+                        .includeColumns(includes.isEmpty() ? null : includes)
+                        .unique(first.unique())
+                        .where(first.where())
+                        .type(first.method())
+                        .build());
+            }
+        }
+
+        Map<String, SequenceModel> sequences = new LinkedHashMap<>();
+        for (CatalogRows.Sequence row : rows.sequences()) {
+            sequences.put(row.name(), SequenceModel.builder()
+                    .name(row.name())
+                    .initialValue(row.startValue())
+                    .allocationSize(row.increment() != null ? Math.toIntExact(row.increment()) : null)
+                    .cache(row.cache() != null ? Math.toIntExact(row.cache()) : null)
+                    .minValue(row.minValue())
+                    .maxValue(row.maxValue())
+                    .build());
+        }
+
+        return SchemaModel.builder()
+                .entities(entities)
+                .sequences(sequences)
+                .build();
+    }
+
+    private static ColumnModel toColumn(CatalogRows.Column row) {
+        SqlTypeName type = SqlTypeName.parse(row.columnType());
+        ColumnModel.ColumnModelBuilder column = ColumnModel.builder()
+                .tableName(row.table())
+                .columnName(row.name())
+                .javaType(type.javaType())
+                .sqlTypeOverride(row.columnType())
+                .isNullable(row.nullable())
+                .defaultValue(row.defaultValue())
+                .comment(blankToNull(row.comment()))
+                .generationStrategy(row.identity() ? GenerationStrategy.IDENTITY : GenerationStrategy.NONE);
+
+        if (type.isCharacter() && type.arg(0) != null) {
+            column.length(type.arg(0));
+        } else if (type.base().equals("numeric")) {
+            column.precision(type.arg(0) != null ? type.arg(0) : 0);
+            column.scale(type.arg(1) != null ? type.arg(1) : 0);
+        }
+        return column.build();
+    }
+
+    private static void applyConstraint(EntityModel entity, CatalogRows.ConstraintColumn first,
+                                        List<CatalogRows.ConstraintColumn> group) {
+        List<String> columns = group.stream().map(CatalogRows.ConstraintColumn::column).toList();
+        switch (first.kind()) {
+            case PRIMARY_KEY -> columns.forEach(name -> {
+                ColumnModel column = entity.findColumn(entity.getTableName(), name);
+                if (column != null) {
+                    column.setPrimaryKey(true);
+                    column.setNullable(false);
+                }
+            });
+            case UNIQUE -> entity.getConstraints().put(first.name(), ConstraintModel.builder()
+                    .name(first.name())
+                    .tableName(entity.getTableName())
+                    .type(ConstraintType.UNIQUE)
+                    .columns(new ArrayList<>(columns))
+                    .build());
+            case FOREIGN_KEY -> entity.getRelationships().put(first.name(), RelationshipModel.builder()
+                    .type(RelationshipType.MANY_TO_ONE)
+                    .tableName(entity.getTableName())
+                    .constraintName(first.name())
+                    .columns(new ArrayList<>(columns))
+                    .referencedTable(first.referencedTable())
+                    .referencedColumns(group.stream().map(CatalogRows.ConstraintColumn::referencedColumn).toList())
+                    .onDelete(parseRule(first.onDelete(), OnDeleteAction.class, OnDeleteAction.NO_ACTION))
+                    .onUpdate(parseRule(first.onUpdate(), OnUpdateAction.class, OnUpdateAction.NO_ACTION))
+                    .build());
+        }
+    }
+
+    /**
+     * (테이블, 이름)으로 묶고 각 묶음을 위치 순으로 정렬한다. 묶음 순서는 첫 등장 순서를 따른다.
+     */
+    private static <T> List<List<T>> groupByName(List<T> rows, Function<T, String> table,
+                                                 Function<T, String> name,
+                                                 ToIntFunction<T> position) {
+        Map<String, List<T>> groups = new LinkedHashMap<>();
+        for (T row : rows) {
+            groups.computeIfAbsent(key(table.apply(row)) + "\u0000" + name.apply(row), k -> new ArrayList<>()).add(row);
+        }
+        List<List<T>> result = new ArrayList<>(groups.size());
+        for (List<T> group : groups.values()) {
+            group.sort(Comparator.comparingInt(position));
+            result.add(group);
+        }
+        return result;
+    }
+
+    private static <E extends Enum<E>> E parseRule(String rule, Class<E> type, E fallback) {
+        if (rule == null || rule.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Enum.valueOf(type, rule.trim().toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    private static String key(String table) {
+        return table.toLowerCase(Locale.ROOT);
+    }
+
+    private static String blankToNull(String s) {
+        return s == null || s.isBlank() ? null : s;
+    }
+}
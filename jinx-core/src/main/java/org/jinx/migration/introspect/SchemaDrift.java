@@ -0,0 +1,39 @@
+package org.jinx.migration.introspect;
+
+/**
+ * 기대 스키마(baseline)와 라이브 DB 사이의 차이 한 건.
+ *
+ * @param table    테이블명 (시퀀스 드리프트는 null)
+ * @param object   컬럼/인덱스/제약/시퀀스 이름 또는 시그니처 (테이블 드리프트는 null)
+ * @param expected 기대 값 (없으면 null)
+ * @param actual   라이브 DB 값 (없으면 null)
+ */
+public record SchemaDrift(Kind kind, String table, String object, String expected, String actual) {
+
+    public enum Kind {
+        MISSING_TABLE, UNEXPECTED_TABLE,
+        MISSING_COLUMN, UNEXPECTED_COLUMN, COLUMN_TYPE, COLUMN_NULLABILITY,
+        PRIMARY_KEY,
+        MISSING_UNIQUE, UNEXPECTED_UNIQUE,
+        MISSING_INDEX, UNEXPECTED_INDEX,
+        MISSING_FOREIGN_KEY, UNEXPECTED_FOREIGN_KEY,
+        MISSING_SEQUENCE, UNEXPECTED_SEQUENCE
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(kind.name());
+        if (table != null) {
+            sb.append(' ').append(table);
+            if (object != null) {
+                sb.append('.').append(object);
+            }
+        } else if (object != null) {
+            sb.append(' ').append(object);
+        }
+        if (expected != null || actual != null) {
+            sb.append(" (expected: ").append(expected).append(", actual: ").append(actual).append(')');
+        }
+        return sb.toString();
+    }
+}
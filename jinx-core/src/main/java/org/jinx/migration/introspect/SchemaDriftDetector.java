@@ -0,0 +1,412 @@
+package org.jinx.migration.introspect;
+
+import org.jinx.migration.TableTrash;
+import org.jinx.migration.spi.JavaTypeMapper;
+import org.jinx.migration.spi.SqlTypeName;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.ConstraintModel;
+import org.jinx.model.ConstraintType;
+import org.jinx.model.DiffResult;
+import org.jinx.model.EntityModel;
+import org.jinx.model.IndexModel;
+import org.jinx.model.RelationshipModel;
+import org.jinx.model.SchemaModel;
+import org.jinx.model.SecondaryTableModel;
+import org.jinx.model.SequenceModel;
+import org.jinx.model.TableGeneratorModel;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 기대 스키마와 라이브 스키마({@link SchemaIntrospector} 결과)를 물리 수준에서 비교한다.
+ *
+ * <p>{@code SchemaDiffer}의 컬럼 비교는 fetch 타입, 컨버터, enum 매핑처럼 카탈로그에 없는 Java 쪽 속성까지 보므로
+ * 라이브 스키마에는 쓸 수 없다. 여기서는 DB에 실제로 존재하는 것(테이블, 컬럼 타입/NULL 허용, PK, 유니크, 인덱스, FK,
+ * 시퀀스)만 비교하고, 이름이 아닌 컬럼 구성으로 인덱스/제약을 맞춘다.
+ *
+ * <p>결과에는 드리프트 목록과 함께, 라이브 DB를 기대 스키마로 되돌리는 {@link DiffResult}가 들어 있어
+ * 기존 {@code MigrationGenerator}로 보정 마이그레이션을 만들 수 있다. 예상치 못한 테이블과 PK 차이는
+ * 데이터 손실 위험이 있어 보정 대상에서 제외하고 경고만 남긴다.
+ */
+public class SchemaDriftDetector {
+
+    /** jinx와 마이그레이션 도구가 관리하는 테이블(안전 삭제 휴지통 포함)은 드리프트 대상이 아님 */
+    private static final List<String> IGNORED_TABLE_PREFIXES =
+            List.of("jinx_", TableTrash.PREFIX, "flyway_", "databasechangelog");
+
+    private final JavaTypeMapper typeMapper;
+    private final boolean compareSequences;
+
+    /**
+     * @param typeMapper       기대 컬럼의 SQL 타입을 구할 방언 매퍼 (null이면 타입 비교 생략)
+     * @param compareSequences 대상 DB가 시퀀스를 지원하는지 여부
+     */
+    public SchemaDriftDetector(JavaTypeMapper typeMapper, boolean compareSequences) {
+        this.typeMapper = typeMapper;
+        this.compareSequences = compareSequences;
+    }
+
+    public record DriftReport(List<SchemaDrift> drifts, DiffResult correctiveDiff) {
+        public boolean hasDrift() {
+            return !drifts.isEmpty();
+        }
+    }
+
+    public DriftReport detect(SchemaModel expected, SchemaModel live) {
+        List<SchemaDrift> drifts = new ArrayList<>();
+        DiffResult diff = DiffResult.builder().build();
+
+        Map<String, EntityModel> expectedTables = byTable(expected.getEntities().values());
+        Map<String, EntityModel> liveTables = byTable(live.getEntities().values());
+        // 보조 테이블과 TableGenerator 테이블은 엔티티는 아니지만 스키마가 소유한 테이블
+        Set<String> ownedTables = new LinkedHashSet<>();
+        expected.getEntities().values().forEach(e -> e.getSecondaryTables().stream()
+                .map(SecondaryTableModel::getName)
+                .filter(Objects::nonNull)
+                .forEach(name -> ownedTables.add(key(name))));
+        expected.getTableGenerators().values().stream()
+                .map(TableGeneratorModel::getTable)
+                .filter(Objects::nonNull)
+                .forEach(name -> ownedTables.add(key(name)));
+
+        Map<String, Map<String, RelationshipModel>> expectedFks = foreignKeysByTable(expected);
+
+        expectedTables.forEach((name, expectedEntity) -> {
+            EntityModel liveEntity = liveTables.get(name);
+            if (liveEntity == null) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.MISSING_TABLE, expectedEntity.getTableName(), null, null, null));
+                diff.getAddedTables().add(expectedEntity);
+                return;
+            }
+            DiffResult.ModifiedEntity modified = compareEntity(expectedEntity, liveEntity,
+                    expectedFks.getOrDefault(name, Map.of()), drifts);
+            if (!modified.getColumnDiffs().isEmpty() || !modified.getIndexDiffs().isEmpty()
+                    || !modified.getConstraintDiffs().isEmpty() || !modified.getRelationshipDiffs().isEmpty()) {
+                diff.getModifiedTables().add(modified);
+            }
+            diff.getWarnings().addAll(modified.getWarnings());
+        });
+
+        liveTables.forEach((name, liveEntity) -> {
+            if (!expectedTables.containsKey(name) && !ownedTables.contains(name) && !isIgnored(name)) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.UNEXPECTED_TABLE, liveEntity.getTableName(), null, null, null));
+                diff.getWarnings().add("Table " + liveEntity.getTableName()
+                        + " exists in the database but not in the schema; it is not dropped automatically.");
+            }
+        });
+
+        if (compareSequences) {
+            compareSequences(expected, live, drifts, diff);
+        }
+        return new DriftReport(drifts, diff);
+    }
+
+    private DiffResult.ModifiedEntity compareEntity(EntityModel expected, EntityModel live,
+                                                    Map<String, RelationshipModel> expectedFks, List<SchemaDrift> drifts) {
+        DiffResult.ModifiedEntity modified = DiffResult.ModifiedEntity.builder()
+                .oldEntity(live)
+                .newEntity(expected)
+                .build();
+        String table = expected.getTableName();
+
+        Map<String, ColumnModel> expectedColumns = columnsOf(expected);
+        Map<String, ColumnModel> liveColumns = columnsOf(live);
+
+        expectedColumns.forEach((name, column) -> {
+            ColumnModel liveColumn = liveColumns.get(name);
+            if (liveColumn == null) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.MISSING_COLUMN, table, column.getColumnName(), null, null));
+                modified.getColumnDiffs().add(columnDiff(DiffResult.ColumnDiff.Type.ADDED, column, null));
+                return;
+            }
+            boolean changed = false;
+            boolean expectedNullable = column.isNullable() && !column.isPrimaryKey();
+            if (expectedNullable != liveColumn.isNullable()) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.COLUMN_NULLABILITY, table, column.getColumnName(),
+                        nullability(expectedNullable), nullability(liveColumn.isNullable())));
+                changed = true;
+            }
+            String expectedType = expectedSqlType(column);
+            if (expectedType != null && !sameType(expectedType, liveColumn.getSqlTypeOverride())) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.COLUMN_TYPE, table, column.getColumnName(),
+                        expectedType, liveColumn.getSqlTypeOverride()));
+                changed = true;
+            }
+            if (changed) {
+                modified.getColumnDiffs().add(columnDiff(DiffResult.ColumnDiff.Type.MODIFIED, column, liveColumn));
+            }
+        });
+        liveColumns.forEach((name, column) -> {
+            if (!expectedColumns.containsKey(name)) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.UNEXPECTED_COLUMN, table, column.getColumnName(), null, null));
+                modified.getColumnDiffs().add(columnDiff(DiffResult.ColumnDiff.Type.DROPPED, column, null));
+            }
+        });
+
+        List<String> expectedPk = primaryKey(expectedColumns);
+        List<String> livePk = primaryKey(liveColumns);
+        if (!expectedPk.equals(livePk)) {
+            drifts.add(new SchemaDrift(SchemaDrift.Kind.PRIMARY_KEY, table, null,
+                    String.join(", ", expectedPk), String.join(", ", livePk)));
+            modified.getWarnings().add("Primary key of " + table + " differs (expected [" + String.join(", ", expectedPk)
+                    + "], actual [" + String.join(", ", livePk) + "]); it is not corrected automatically.");
+        }
+
+        compareUniques(expected, live, table, drifts, modified);
+        compareIndexes(expected, live, table, drifts, modified);
+        compareForeignKeys(expectedFks, live, table, drifts, modified);
+        return modified;
+    }
+
+    /**
+     * 유니크는 모델에 따라 제약 또는 유니크 인덱스로 표현되므로, 둘을 합쳐 컬럼 구성으로 비교한다.
+     */
+    private void compareUniques(EntityModel expected, EntityModel live, String table, List<SchemaDrift> drifts,
+                                DiffResult.ModifiedEntity modified) {
+        Map<String, Object> expectedUniques = uniques(expected);
+        Map<String, Object> liveUniques = uniques(live);
+
+        expectedUniques.forEach((signature, model) -> {
+            if (!liveUniques.containsKey(signature)) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.MISSING_UNIQUE, table, signature, null, null));
+                addDiff(modified, model, true);
+            }
+        });
+        liveUniques.forEach((signature, model) -> {
+            if (!expectedUniques.containsKey(signature)) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.UNEXPECTED_UNIQUE, table, signature, null, null));
+                addDiff(modified, model, false);
+            }
+        });
+    }
+
+    private void compareIndexes(EntityModel expected, EntityModel live, String table, List<SchemaDrift> drifts,
+                                DiffResult.ModifiedEntity modified) {
+        Map<String, IndexModel> expectedIndexes = plainIndexes(expected);
+        Map<String, IndexModel> liveIndexes = plainIndexes(live);
+
+        expectedIndexes.forEach((signature, index) -> {
+            if (!liveIndexes.containsKey(signature)) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.MISSING_INDEX, table, signature, index.getIndexName(), null));
+                addDiff(modified, index, true);
+            }
+        });
+        liveIndexes.forEach((signature, index) -> {
+            if (!expectedIndexes.containsKey(signature)) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.UNEXPECTED_INDEX, table, signature, null, index.getIndexName()));
+                addDiff(modified, index, false);
+            }
+        });
+    }
+
+    private void compareForeignKeys(Map<String, RelationshipModel> expectedFks, EntityModel live, String table,
+                                    List<SchemaDrift> drifts, DiffResult.ModifiedEntity modified) {
+        Map<String, RelationshipModel> liveFks = new LinkedHashMap<>();
+        live.getRelationships().values().forEach(r -> addForeignKey(liveFks, r));
+
+        expectedFks.forEach((signature, rel) -> {
+            if (!liveFks.containsKey(signature)) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.MISSING_FOREIGN_KEY, table, signature, rel.getConstraintName(), null));
+                modified.getRelationshipDiffs().add(DiffResult.RelationshipDiff.builder()
+                        .type(DiffResult.RelationshipDiff.Type.ADDED).relationship(rel).build());
+            }
+        });
+        liveFks.forEach((signature, rel) -> {
+            if (!expectedFks.containsKey(signature)) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.UNEXPECTED_FOREIGN_KEY, table, signature, null, rel.getConstraintName()));
+                modified.getRelationshipDiffs().add(DiffResult.RelationshipDiff.builder()
+                        .type(DiffResult.RelationshipDiff.Type.DROPPED).relationship(rel).build());
+            }
+        });
+    }
+
+    private void compareSequences(SchemaModel expected, SchemaModel live, List<SchemaDrift> drifts, DiffResult diff) {
+        Map<String, SequenceModel> expectedSequences = index(expected.getSequences().values(), SequenceModel::getName);
+        Map<String, SequenceModel> liveSequences = index(live.getSequences().values(), SequenceModel::getName);
+
+        expectedSequences.forEach((name, sequence) -> {
+            if (!liveSequences.containsKey(name)) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.MISSING_SEQUENCE, null, sequence.getName(), null, null));
+                diff.getSequenceDiffs().add(DiffResult.SequenceDiff.added(sequence));
+            }
+        });
+        liveSequences.forEach((name, sequence) -> {
+            if (!expectedSequences.containsKey(name)) {
+                drifts.add(new SchemaDrift(SchemaDrift.Kind.UNEXPECTED_SEQUENCE, null, sequence.getName(), null, null));
+                diff.getWarnings().add("Sequence " + sequence.getName()
+                        + " exists in the database but not in the schema; it is not dropped automatically.");
+            }
+        });
+    }
+
+    // ── 기대 타입 계산과 비교 ──
+
+    /**
+     * 기대 컬럼의 SQL 타입. 방언 매핑만으로 타입이 정해지지 않는 경우(LOB, enum, temporal, 버전, 컨버터)는
+     * 오탐을 피하기 위해 null을 반환해 비교를 생략한다.
+     */
+    private String expectedSqlType(ColumnModel column) {
+        if (column.getSqlTypeOverride() != null && !column.getSqlTypeOverride().isBlank()) {
+            return column.getSqlTypeOverride().trim();
+        }
+        if (typeMapper == null || column.getJavaType() == null || column.isLob() || column.isVersion()
+                || column.getTemporalType() != null || column.getConverterOutputType() != null
+                || column.getConversionClass() != null
+                || (column.getEnumValues() != null && column.getEnumValues().length > 0)) {
+            return null;
+        }
+        return typeMapper.map(column.getJavaType())
+                .getSqlType(column.getLength(), column.getPrecision(), column.getScale());
+    }
+
+    static boolean sameType(String expected, String actual) {
+        if (actual == null) {
+            return true;
+        }
+        SqlTypeName e = SqlTypeName.parse(expected);
+        SqlTypeName a = SqlTypeName.parse(actual);
+        if (!e.base().equals(a.base())) {
+            return false;
+        }
+        if (e.isCharacter() || e.base().equals("numeric")) {
+            // 인자가 양쪽 모두 있을 때만 비교 (numeric 무제한 등은 생략)
+            return e.args().isEmpty() || a.args().isEmpty() || e.args().equals(a.args());
+        }
+        return true;
+    }
+
+    // ── 시그니처 ──
+
+    private static Map<String, Object> uniques(EntityModel entity) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        entity.getConstraints().values().stream()
+                .filter(c -> c.getType() == ConstraintType.UNIQUE)
+                .forEach(c -> result.putIfAbsent(signature(c.getColumns()), c));
+        entity.getIndexes().values().stream()
+                .filter(i -> Boolean.TRUE.equals(i.getUnique()))
+                .forEach(i -> result.putIfAbsent(signature(i.getColumnNames()), i));
+        return result;
+    }
+
+    private static Map<String, IndexModel> plainIndexes(EntityModel entity) {
+        Map<String, IndexModel> result = new LinkedHashMap<>();
+        entity.getIndexes().values().stream()
+                .filter(i -> !Boolean.TRUE.equals(i.getUnique()))
+                .forEach(i -> result.putIfAbsent(indexSignature(i), i));
+        return result;
+    }
+
+    /**
+     * FK는 소유 엔티티가 아닌 FK 컬럼이 있는 테이블({@code RelationshipModel.tableName}) 기준으로 묶는다.
+     */
+    private static Map<String, Map<String, RelationshipModel>> foreignKeysByTable(SchemaModel schema) {
+        Map<String, Map<String, RelationshipModel>> result = new LinkedHashMap<>();
+        for (EntityModel entity : schema.getEntities().values()) {
+            for (RelationshipModel rel : entity.getRelationships().values()) {
+                String table = rel.getTableName() != null ? rel.getTableName() : entity.getTableName();
+                addForeignKey(result.computeIfAbsent(key(table), k -> new LinkedHashMap<>()), rel);
+            }
+        }
+        return result;
+    }
+
+    private static void addForeignKey(Map<String, RelationshipModel> fks, RelationshipModel rel) {
+        if (rel.isNoConstraint() || rel.getColumns() == null || rel.getColumns().isEmpty()
+                || rel.getReferencedTable() == null) {
+            return;
+        }
+        fks.putIfAbsent(signature(rel.getColumns()) + " -> " + key(rel.getReferencedTable())
+                + "(" + signature(rel.getReferencedColumns()) + ")", rel);
+    }
+
+    /**
+     * INCLUDE 컬럼이 다르면 같은 키라도 다른 인덱스로 본다.
+     */
+    private static String indexSignature(IndexModel index) {
+        String keys = signature(index.getColumnNames());
+        List<String> includes = index.getIncludeColumns();
+        return includes == null || includes.isEmpty() ? keys : keys + " INCLUDE (" + signature(includes) + ")";
+    }
+
+    private static String signature(List<String> columns) {
+        if (columns == null) {
+            return "";
+        }
+        return String.join(",", columns.stream().map(SchemaDriftDetector::key).toList());
+    }
+
+    private static void addDiff(DiffResult.ModifiedEntity modified, Object model, boolean added) {
+        if (model instanceof IndexModel index) {
+            modified.getIndexDiffs().add(DiffResult.IndexDiff.builder()
+                    .type(added ? DiffResult.IndexDiff.Type.ADDED : DiffResult.IndexDiff.Type.DROPPED)
+                    .index(index)
+                    .build());
+        } else if (model instanceof ConstraintModel constraint) {
+            modified.getConstraintDiffs().add(DiffResult.ConstraintDiff.builder()
+                    .type(added ? DiffResult.ConstraintDiff.Type.ADDED : DiffResult.ConstraintDiff.Type.DROPPED)
+                    .constraint(constraint)
+                    .build());
+        }
+    }
+
+    private static DiffResult.ColumnDiff columnDiff(DiffResult.ColumnDiff.Type type, ColumnModel column, ColumnModel old) {
+        return DiffResult.ColumnDiff.builder().type(type).column(column).oldColumn(old).build();
+    }
+
+    /**
+     * 엔티티 주 테이블의 컬럼만 (보조 테이블 컬럼 제외), 소문자 이름 기준.
+     */
+    private static Map<String, ColumnModel> columnsOf(EntityModel entity) {
+        Map<String, ColumnModel> result = new LinkedHashMap<>();
+        for (ColumnModel column : entity.getColumns().values()) {
+            String owner = column.getTableName();
+            if (owner == null || owner.isBlank() || owner.equalsIgnoreCase(entity.getTableName())) {
+                result.put(key(column.getColumnName()), column);
+            }
+        }
+        return result;
+    }
+
+    private static List<String> primaryKey(Map<String, ColumnModel> columns) {
+        return columns.entrySet().stream()
+                .filter(e -> e.getValue().isPrimaryKey())
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    private static Map<String, EntityModel> byTable(Iterable<EntityModel> entities) {
+        return index(entities, EntityModel::getTableName);
+    }
+
+    private static <T> Map<String, T> index(Iterable<T> items, Function<T, String> name) {
+        Map<String, T> result = new LinkedHashMap<>();
+        for (T item : items) {
+            String n = name.apply(item);
+            if (n != null) {
+                result.putIfAbsent(key(n), item);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isIgnored(String table) {
+        return IGNORED_TABLE_PREFIXES.stream().anyMatch(table::startsWith);
+    }
+
+    private static String nullability(boolean nullable) {
+        return nullable ? "NULL" : "NOT NULL";
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
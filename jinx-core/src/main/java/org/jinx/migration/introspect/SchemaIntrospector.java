@@ -0,0 +1,191 @@
+package org.jinx.migration.introspect;
+
+import org.jinx.model.SchemaModel;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 라이브 DB 카탈로그를 읽어 {@link SchemaModel}을 만든다.
+ *
+ * <p>{@code DatabaseMetaData}처럼 테이블마다 조회하지 않고, 객체 종류(테이블/컬럼/제약/인덱스/시퀀스)마다
+ * 스키마 전체를 한 번에 읽는 일괄 쿼리 5개만 실행한다. 따라서 조회 횟수는 테이블 수와 무관하다.
+ * 병렬 모드에서는 각 쿼리가 별도 연결에서 가상 스레드로 동시에 실행된다.
+ */
+public abstract class SchemaIntrospector {
+
+    private static final int FETCH_SIZE = 2000;
+
+    /**
+     * 쿼리마다 새 연결을 여는 공급자. 병렬 조회에 사용한다.
+     */
+    @FunctionalInterface
+    public interface ConnectionSource {
+        Connection open() throws SQLException;
+    }
+
+    @FunctionalInterface
+    protected interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * DB 제품명으로 구현을 고른다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 DB
+     */
+    public static SchemaIntrospector forProduct(String databaseProductName) {
+        String product = databaseProductName.toLowerCase(Locale.ROOT);
+        if (product.contains("postgresql")) {
+            return new PostgreSqlSchemaIntrospector();
+        } else if (product.contains("mysql") || product.contains("mariadb")) {
+            return new MySqlSchemaIntrospector();
+        } else if (product.equals("h2")) {
+            return new H2SchemaIntrospector();
+        }
+        throw new IllegalArgumentException("Schema introspection is not supported for " + databaseProductName);
+    }
+
+    /**
+     * 하나의 연결에서 순차적으로 읽는다.
+     *
+     * @param schema 대상 스키마 (null이면 연결의 현재 스키마)
+     */
+    public SchemaModel introspect(Connection connection, String schema) throws SQLException {
+        String target = schema != null ? schema : currentSchema(connection);
+        return SchemaAssembler.assemble(new CatalogRows(
+                query(connection, tablesSql(), target, this::mapTable),
+                query(connection, columnsSql(), target, this::mapColumn),
+                query(connection, constraintsSql(), target, this::mapConstraint),
+                query(connection, indexesSql(), target, this::mapIndex),
+                sequencesSql() != null ? query(connection, sequencesSql(), target, this::mapSequence) : List.of()));
+    }
+
+    /**
+     * 쿼리마다 별도 연결을 열어 동시에 읽는다. 카탈로그가 큰 DB에서 전체 지연 시간을 가장 느린 쿼리 하나로 줄인다.
+     *
+     * @param schema 대상 스키마 (null이면 연결의 현재 스키마)
+     */
+    public SchemaModel introspectParallel(ConnectionSource source, String schema) throws SQLException {
+        String target = schema;
+        if (target == null) {
+            try (Connection connection = source.open()) {
+                target = currentSchema(connection);
+            }
+        }
+        final String resolved = target;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<CatalogRows.Table>> tables = executor.submit(() -> query(source, tablesSql(), resolved, this::mapTable));
+            Future<List<CatalogRows.Column>> columns = executor.submit(() -> query(source, columnsSql(), resolved, this::mapColumn));
+            Future<List<CatalogRows.ConstraintColumn>> constraints =
+                    executor.submit(() -> query(source, constraintsSql(), resolved, this::mapConstraint));
+            Future<List<CatalogRows.IndexColumn>> indexes = executor.submit(() -> query(source, indexesSql(), resolved, this::mapIndex));
+            Future<List<CatalogRows.Sequence>> sequences = sequencesSql() != null
+                    ? executor.submit(() -> query(source, sequencesSql(), resolved, this::mapSequence))
+                    : null;
+
+            return SchemaAssembler.assemble(new CatalogRows(
+                    await(tables), await(columns), await(constraints), await(indexes),
+                    sequences != null ? await(sequences) : List.of()));
+        }
+    }
+
+    // ── 방언별 쿼리: 모두 스키마 이름 하나를 파라미터로 받는다 ──
+
+    protected abstract String currentSchema(Connection connection) throws SQLException;
+
+    /** table_name, comment */
+    protected abstract String tablesSql();
+
+    /** table, column, position, column_type, nullable, default, identity, comment */
+    protected abstract String columnsSql();
+
+    /** table, constraint, kind(P/U/F), column, position, ref_table, ref_column, on_delete, on_update */
+    protected abstract String constraintsSql();
+
+    /** table, index, unique, column, position, method, where */
+    protected abstract String indexesSql();
+
+    /** name, start, increment, min, max, cache — 시퀀스가 없는 DB는 null */
+    protected abstract String sequencesSql();
+
+    private CatalogRows.Table mapTable(ResultSet rs) throws SQLException {
+        return new CatalogRows.Table(rs.getString(1), rs.getString(2));
+    }
+
+    private CatalogRows.Column mapColumn(ResultSet rs) throws SQLException {
+        return new CatalogRows.Column(rs.getString(1), rs.getString(2), rs.getInt(3), rs.getString(4),
+                rs.getBoolean(5), rs.getString(6), rs.getBoolean(7), rs.getString(8));
+    }
+
+    private CatalogRows.ConstraintColumn mapConstraint(ResultSet rs) throws SQLException {
+        CatalogRows.ConstraintKind kind = switch (rs.getString(3)) {
+            case "P" -> CatalogRows.ConstraintKind.PRIMARY_KEY;
+            case "U" -> CatalogRows.ConstraintKind.UNIQUE;
+            default -> CatalogRows.ConstraintKind.FOREIGN_KEY;
+        };
+        return new CatalogRows.ConstraintColumn(rs.getString(1), rs.getString(2), kind, rs.getString(4), rs.getInt(5),
+                rs.getString(6), rs.getString(7), rs.getString(8), rs.getString(9));
+    }
+
+    private CatalogRows.IndexColumn mapIndex(ResultSet rs) throws SQLException {
+        return new CatalogRows.IndexColumn(rs.getString(1), rs.getString(2), rs.getBoolean(3), rs.getString(4),
+                rs.getInt(5), rs.getString(6), rs.getString(7), rs.getBoolean(8));
+    }
+
+    private CatalogRows.Sequence mapSequence(ResultSet rs) throws SQLException {
+        return new CatalogRows.Sequence(rs.getString(1), longOrNull(rs, 2), longOrNull(rs, 3),
+                longOrNull(rs, 4), longOrNull(rs, 5), longOrNull(rs, 6));
+    }
+
+    private static Long longOrNull(ResultSet rs, int index) throws SQLException {
+        long value = rs.getLong(index);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static <T> List<T> query(ConnectionSource source, String sql, String schema, RowMapper<T> mapper)
+            throws SQLException {
+        try (Connection connection = source.open()) {
+            return query(connection, sql, schema, mapper);
+        }
+    }
+
+    private static <T> List<T> query(Connection connection, String sql, String schema, RowMapper<T> mapper)
+            throws SQLException {
+        List<T> rows = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setFetchSize(FETCH_SIZE);
+            stmt.setString(1, schema);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapper.map(rs));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static <T> T await(Future<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while reading catalog", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException sql) {
+                throw sql;
+            }
+            throw new SQLException("Failed to read catalog", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.jinx.migration.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.jinx.model.EntityModel;
+import org.jinx.model.SchemaModel;
+
+/**
+ * Shared, pre-configured JSON mapping for schema snapshots.
+ *
+ * <p>ObjectMapper is thread-safe once configured, and building its serializer/deserializer
+ * caches for the large model graph is a noticeable part of a CLI run. A single instance is
+ * therefore shared by every loader, hasher and baseline writer instead of creating one per call.
+ * It is only handed out as immutable {@link ObjectReader}/{@link ObjectWriter}s, so no caller can
+ * reconfigure it and change canonical hashing for everyone else.
+ */
+public final class SchemaMappers {
+
+    private static final ObjectMapper CANONICAL = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private static volatile boolean warmedUp;
+
+    private SchemaMappers() {}
+
+    /**
+     * Writer with deterministic output (sorted properties and map keys, nulls omitted),
+     * used for baselines and schema hashes. Shares the serializer caches of the canonical mapper.
+     */
+    public static ObjectWriter writer() {
+        return CANONICAL.writer();
+    }
+
+    /**
+     * Reader for any snapshot written by Jinx. Shares the deserializer caches of the canonical mapper.
+     */
+    public static ObjectReader readerFor(Class<?> type) {
+        return CANONICAL.readerFor(type);
+    }
+
+    /**
+     * A private copy of the canonical mapper, for APIs that need a full {@link ObjectMapper}
+     * (streaming parsers, snapshot stores). Reconfiguring it does not affect any other caller.
+     * Copies do not share caches with the canonical mapper, so the copy is warmed up on its own
+     * before it is handed out; keep one per long-lived component rather than per call.
+     */
+    public static ObjectMapper canonical() {
+        return warm(CANONICAL.copy());
+    }
+
+    /**
+     * Resolves and caches the root serializers/deserializers of the schema model up front on the
+     * shared mapper behind {@link #writer()} and {@link #readerFor}, so the first real read or write
+     * doesn't pay for introspection. Safe to call repeatedly.
+     */
+    public static void warmUp() {
+        if (warmedUp) {
+            return;
+        }
+        warm(CANONICAL);
+        warmedUp = true;
+    }
+
+    private static ObjectMapper warm(ObjectMapper mapper) {
+        // readerFor/writerFor eagerly fetch and cache the root (de)serializers
+        mapper.readerFor(SchemaModel.class);
+        mapper.readerFor(EntityModel.class);
+        mapper.writerFor(SchemaModel.class);
+        mapper.writerFor(EntityModel.class);
+        return mapper;
+    }
+}
@@ -3,7 +3,12 @@ package org.jinx.migration.liquibase;
 import lombok.Getter;
 import lombok.Setter;
 import org.jinx.migration.liquibase.model.*;
+import org.jinx.migration.CreateTableBuilder;
 import org.jinx.migration.MigrationInfo;
+import org.jinx.migration.contributor.create.ColumnContributor;
+import org.jinx.migration.spi.dialect.ColumnOrderDialect;
+import org.jinx.migration.spi.dialect.PartitionDialect;
+import org.jinx.migration.spi.dialect.TableOptionsDialect;
 import org.jinx.migration.spi.visitor.*;
 import org.jinx.model.*;
 import org.jinx.model.DiffResult.*;
@@ -81,7 +86,11 @@ public class LiquibaseVisitor implements TableVisitor, TableContentVisitor, Sequ
         // 캐시에 저장
         pkColumnsCache.put(currentTableName, pkCols);
 
-        List<ColumnWrapper> columns = table.getColumns().values().stream()
+        List<ColumnModel> tableColumns = table.getColumns().values().stream().toList();
+        if (dialectBundle.ddl() instanceof ColumnOrderDialect cd) {
+            tableColumns = cd.orderColumnsForCreate(tableColumns, pkCols);
+        }
+        List<ColumnWrapper> columns = tableColumns.stream()
                 .map(col -> {
                     ColumnConfig.ColumnConfigBuilder builder = ColumnConfig.builder()
                             .name(col.getColumnName())
@@ -98,16 +107,29 @@ public class LiquibaseVisitor implements TableVisitor, TableContentVisitor, Sequ
                 })
                 .toList();
 
-        var createTable = CreateTableChange.builder()
-                .config(CreateTableConfig.builder()
-                        .tableName(table.getTableName())
-                        .columns(columns)
-                        .build())
-                .build();
-
-        changeSets.add(createChangeSetWithHash(idGenerator.nextId(), List.of(createTable)));
+        // createTable은 PARTITION BY를 표현하지 못하므로 파티션 테이블은 방언의 CREATE TABLE을 싣는다 (PK 포함)
+        boolean partitioned = table.getPartitioning() != null && dialectBundle.ddl() instanceof PartitionDialect;
+        if (partitioned) {
+            CreateTableBuilder builder = new CreateTableBuilder(table.getTableName(), dialectBundle.ddl())
+                    .add(new ColumnContributor(pkCols, tableColumns));
+            builder.setPartitioning(table.getPartitioning());
+            builder.setTableOptions(table.getTableOptions());
+            changeSets.add(createChangeSetWithHash(idGenerator.nextId(), List.of(nativeSql(builder.build()))));
+        } else {
+            var createTable = CreateTableChange.builder()
+                    .config(CreateTableConfig.builder()
+                            .tableName(table.getTableName())
+                            .columns(columns)
+                            .build())
+                    .build();
+            changeSets.add(createChangeSetWithHash(idGenerator.nextId(), List.of(createTable)));
+            // createTable은 테이블 옵션을 표현하지 못하므로 만든 직후 ALTER로 붙인다
+            if (table.getTableOptions() != null) {
+                visitModifiedTableOptions(table.getTableName(), table.getTableOptions(), null);
+            }
+        }
 
-        if (!pkCols.isEmpty()) {
+        if (!pkCols.isEmpty() && !partitioned) {
             var addPk = AddPrimaryKeyConstraintChange.builder()
                     .config(AddPrimaryKeyConstraintConfig.builder()
                             .constraintName(naming.pkName(currentTableName, pkCols))
@@ -395,19 +417,57 @@ public class LiquibaseVisitor implements TableVisitor, TableContentVisitor, Sequ
         String idxName = index.getIndexName() != null
                 ? index.getIndexName()
                 : naming.ixName(tableName, index.getColumnNames());
-        List<ColumnWrapper> indexColumns = index.getColumnNames().stream()
-                .map(colName -> ColumnWrapper.builder()
-                        .config(ColumnConfig.builder().name(colName).build())
-                        .build())
-                .toList();
-        CreateIndexChange createIndex = CreateIndexChange.builder()
+        changeSets.add(createChangeSetWithHash(idGenerator.nextId(), List.of(createIndexChange(index, tableName, idxName))));
+    }
+
+    /**
+     * Liquibase createIndex는 식 키(computed)와 DESC는 표현하지만 접근 방식(USING gin 등), INCLUDE, WHERE,
+     * NULLS FIRST/LAST는 표현하지 못한다.
+     * 이런 인덱스는 방언의 CREATE INDEX 문을 해당 DB 전용 sql change로 싣는다.
+     */
+    private Change createIndexChange(IndexModel index, String tableName, String idxName) {
+        if (needsNativeIndexSql(index)) {
+            IndexModel named = index.toBuilder().indexName(idxName).tableName(tableName).build();
+            return nativeSql(dialectBundle.ddl().indexStatement(named, tableName));
+        }
+        return CreateIndexChange.builder()
                 .config(CreateIndexConfig.builder()
                         .indexName(idxName)
                         .tableName(tableName)
-                        .columns(indexColumns)
+                        .unique(Boolean.TRUE.equals(index.getUnique()) ? Boolean.TRUE : null)
+                        .columns(IndexKeyPart.partsOf(index).stream()
+                                .map(p -> ColumnWrapper.builder()
+                                        .config(ColumnConfig.builder()
+                                                .name(p.target())
+                                                .computed(p.hasExpression() ? Boolean.TRUE : null)
+                                                .descending(p.isDescending() ? Boolean.TRUE : null)
+                                                .build())
+                                        .build())
+                                .toList())
+                        .build())
+                .build();
+    }
+
+    /**
+     * 현재 DB에서만 실행하는 방언 SQL change.
+     */
+    private SqlChange nativeSql(String sql) {
+        return SqlChange.builder()
+                .config(SqlConfig.builder()
+                        .dbms(dialectBundle.databaseType() != null
+                                ? dialectBundle.databaseType().name().toLowerCase(java.util.Locale.ROOT) : null)
+                        .sql(sql.strip())
+                        .splitStatements(false)
                         .build())
                 .build();
-        changeSets.add(createChangeSetWithHash(idGenerator.nextId(), List.of(createIndex)));
+    }
+
+    private static boolean needsNativeIndexSql(IndexModel index) {
+        IndexMethod method = IndexMethod.from(index.getType());
+        return (method != null && method != IndexMethod.BTREE)
+                || (index.getIncludeColumns() != null && !index.getIncludeColumns().isEmpty())
+                || (index.getWhere() != null && !index.getWhere().isBlank())
+                || IndexKeyPart.partsOf(index).stream().anyMatch(p -> p.getNulls() != null);
     }
 
     @Override
@@ -443,17 +503,7 @@ public class LiquibaseVisitor implements TableVisitor, TableContentVisitor, Sequ
                         .tableName(oldTableName)
                         .build())
                 .build();
-        CreateIndexChange createNewIndex = CreateIndexChange.builder()
-                .config(CreateIndexConfig.builder()
-                        .indexName(newIdxName)
-                        .tableName(newTableName)
-                        .columns(newIndex.getColumnNames().stream()
-                                .map(colName -> ColumnWrapper.builder()
-                                        .config(ColumnConfig.builder().name(colName).build())
-                                        .build())
-                                .toList())
-                        .build())
-                .build();
+        Change createNewIndex = createIndexChange(newIndex, newTableName, newIdxName);
         changeSets.add(createChangeSetWithHash(idGenerator.nextId(), List.of(dropOldIndex)));
         changeSets.add(createChangeSetWithHash(idGenerator.nextId(), List.of(createNewIndex)));
     }
@@ -622,6 +672,34 @@ public class LiquibaseVisitor implements TableVisitor, TableContentVisitor, Sequ
         visitAddedPrimaryKey(newPkColumns);
     }
 
+    @Override
+    public void visitAddedPartition(String table, PartitioningModel partitioning, PartitionModel partition) {
+        if (dialectBundle.ddl() instanceof PartitionDialect pd) {
+            changeSets.add(createChangeSetWithHash(idGenerator.nextId(),
+                    List.of(nativeSql(pd.getAddPartitionSql(table, partitioning, partition)))));
+        }
+    }
+
+    @Override
+    public void visitDroppedPartition(String table, PartitioningModel partitioning, PartitionModel partition) {
+        if (dialectBundle.ddl() instanceof PartitionDialect pd) {
+            String sql = pd.getDropPartitionSql(table, partitioning, partition);
+            if (!sql.isBlank()) {
+                changeSets.add(createChangeSetWithHash(idGenerator.nextId(), List.of(nativeSql(sql))));
+            }
+        }
+    }
+
+    @Override
+    public void visitModifiedTableOptions(String table, TableOptionsModel newOptions, TableOptionsModel oldOptions) {
+        if (dialectBundle.ddl() instanceof TableOptionsDialect td) {
+            String sql = td.getAlterTableOptionsSql(table, td.tableOptionsOf(oldOptions), td.tableOptionsOf(newOptions));
+            if (!sql.isBlank()) {
+                changeSets.add(createChangeSetWithHash(idGenerator.nextId(), List.of(nativeSql(sql))));
+            }
+        }
+    }
+
     @Override
     public String getGeneratedSql() {
         return ""; // Liquibase는 태그 기반이므로 SQL 직접 생성 불필요
@@ -688,7 +766,10 @@ public class LiquibaseVisitor implements TableVisitor, TableContentVisitor, Sequ
     private String getComputedDefault(ColumnModel column) {
         if (column.getGenerationStrategy() == GenerationStrategy.UUID) {
             return dialectBundle.liquibase()
-                    .map(lb -> lb.getUuidDefaultValue())
+                    .map(lb -> {
+                        String perColumn = lb.getUuidDefaultValue(column);
+                        return perColumn != null ? perColumn : lb.getUuidDefaultValue();
+                    })
                     .orElse(null);
         }
         return null;
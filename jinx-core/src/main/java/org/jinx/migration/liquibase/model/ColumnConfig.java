@@ -32,6 +32,13 @@ public class ColumnConfig {
     private Constraints constraints;
     private Boolean autoIncrement;
 
+    // For createIndex key columns
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean computed;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean descending;
+
 
     // ── 빌더 진입점 제공 ──
     public static ColumnConfigBuilder builder() {
@@ -44,6 +51,8 @@ public class ColumnConfig {
         private String type;
         private Constraints constraints;
         private Boolean autoIncrement;
+        private Boolean computed;
+        private Boolean descending;
         
         // ── 상호배타적 기본값 필드들 ──
         private String defaultValue;
@@ -75,6 +84,16 @@ public class ColumnConfig {
             return this;
         }
 
+        public ColumnConfigBuilder computed(Boolean computed) {
+            this.computed = computed;
+            return this;
+        }
+
+        public ColumnConfigBuilder descending(Boolean descending) {
+            this.descending = descending;
+            return this;
+        }
+
         public ColumnConfigBuilder defaultValue(String defaultValue) {
             if (defaultValue != null) {
                 if (shouldSkipSetting("defaultValue")) {
@@ -205,6 +224,8 @@ public class ColumnConfig {
             config.setValueComputed(valueComputed);
             config.setConstraints(constraints);
             config.setAutoIncrement(autoIncrement);
+            config.setComputed(computed);
+            config.setDescending(descending);
             return config;
         }
     }
@@ -0,0 +1,12 @@
+package org.jinx.migration.liquibase.model;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SqlConfig {
+    private String dbms;
+    private String sql;
+    private Boolean splitStatements;
+}
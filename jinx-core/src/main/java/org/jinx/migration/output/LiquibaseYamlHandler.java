@@ -7,11 +7,13 @@ import org.jinx.model.DialectBundle;
 import org.jinx.migration.MigrationInfo;
 import org.jinx.migration.liquibase.LiquibaseYamlGenerator;
 import org.jinx.migration.liquibase.model.DatabaseChangeLog;
+import org.jinx.migration.plan.MigrationPlan;
 import org.jinx.model.DiffResult;
 import org.jinx.model.SchemaModel;
 import org.jinx.naming.Naming;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 public class LiquibaseYamlHandler implements OutputHandler{
@@ -30,4 +32,12 @@ public class LiquibaseYamlHandler implements OutputHandler{
         Path outputFile = outputDir.resolve("changelog-" + System.currentTimeMillis() + ".yaml");
         mapper.writeValue(outputFile.toFile(), yaml);
     }
+
+    /**
+     * Renders the Liquibase changelog from a saved migration plan, without the original schemas.
+     */
+    public void handle(MigrationPlan plan, DialectBundle dialect, Path outputDir, Naming naming) throws IOException {
+        Files.createDirectories(outputDir);
+        handle(plan.toDiffResult(), null, null, dialect, outputDir, naming, plan.getMigrationInfo());
+    }
 }
@@ -3,6 +3,7 @@ package org.jinx.migration.output;
 import org.jinx.model.DialectBundle;
 import org.jinx.migration.MigrationGenerator;
 import org.jinx.migration.MigrationInfo;
+import org.jinx.migration.plan.MigrationPlan;
 import org.jinx.model.DiffResult;
 import org.jinx.model.SchemaModel;
 
@@ -13,6 +14,19 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 public class SqlMigrationHandler implements OutputHandler{
+    private final boolean safeDrop;
+
+    public SqlMigrationHandler() {
+        this(false);
+    }
+
+    /**
+     * @param safeDrop true면 삭제 테이블을 DROP 대신 휴지통 이름으로 RENAME합니다 ({@link org.jinx.migration.TableTrash}).
+     */
+    public SqlMigrationHandler(boolean safeDrop) {
+        this.safeDrop = safeDrop;
+    }
+
     @Override
     public void handle(DiffResult diff, SchemaModel old, SchemaModel next, DialectBundle dialect, Path outputDir) throws IOException {
         handle(diff, old, next, dialect, outputDir, null);
@@ -22,7 +36,7 @@ public class SqlMigrationHandler implements OutputHandler{
      * Handle with migration info for header generation
      */
     public void handle(DiffResult diff, SchemaModel old, SchemaModel next, DialectBundle dialect, Path outputDir, MigrationInfo migrationInfo) throws IOException {
-        String sql = new MigrationGenerator(dialect, next, false).generateSql(diff);
+        String sql = new MigrationGenerator(dialect, next, false, safeDrop ? next.getVersion() : null).generateSql(diff);
 
         // Add header if migration info is provided
         if (migrationInfo != null) {
@@ -45,6 +59,14 @@ public class SqlMigrationHandler implements OutputHandler{
         Files.writeString(outputDir.resolve(filename), sql);
     }
 
+    /**
+     * Renders the migration SQL from a saved migration plan, without the original schemas.
+     */
+    public void handle(MigrationPlan plan, DialectBundle dialect, Path outputDir) throws IOException {
+        SchemaModel next = SchemaModel.builder().version(plan.getVersion()).build();
+        handle(plan.toDiffResult(), null, next, dialect, outputDir, plan.getMigrationInfo());
+    }
+
     private String generateHeader(MigrationInfo info) {
         return String.format("""
             -- Jinx Migration Header
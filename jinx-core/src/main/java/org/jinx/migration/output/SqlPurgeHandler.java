@@ -0,0 +1,52 @@
+package org.jinx.migration.output;
+
+import org.jinx.migration.TableTrash;
+import org.jinx.migration.plan.MigrationPlan;
+import org.jinx.model.DialectBundle;
+import org.jinx.model.DiffResult;
+import org.jinx.model.EntityModel;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 안전 삭제 모드에서 휴지통으로 옮긴 테이블을 실제로 삭제하는 {@code purge-<version>.sql}을 만듭니다.
+ * 마이그레이션과 분리해 트래픽이 적은 시간에 따로 실행하도록 예약하는 용도입니다.
+ */
+public class SqlPurgeHandler {
+
+    /**
+     * @return 파일을 썼으면 true (휴지통으로 옮길 테이블이 없으면 false)
+     */
+    public boolean handle(MigrationPlan plan, DialectBundle dialect, Path outputDir) throws IOException {
+        List<String> tables = trashedTables(plan.toDiffResult());
+        if (tables.isEmpty()) {
+            return false;
+        }
+
+        StringBuilder sql = new StringBuilder()
+                .append("-- Jinx purge for migration ").append(plan.getVersion()).append('\n')
+                .append("-- Drops tables moved to the trash by the safe-drop migration. After this runs,\n")
+                .append("-- rollback-").append(plan.getVersion()).append(".sql can no longer restore them.\n\n");
+        for (String table : tables) {
+            sql.append(dialect.ddl().getDropTableSql(TableTrash.trashName(plan.getVersion(), table)));
+        }
+
+        Files.createDirectories(outputDir);
+        Files.writeString(outputDir.resolve("purge-" + plan.getVersion() + ".sql"), sql.toString().trim());
+        return true;
+    }
+
+    /**
+     * 정방향 마이그레이션에서 휴지통으로 옮겨지는 테이블 (삭제 테이블과 이름이 바뀐 이전 테이블).
+     */
+    static List<String> trashedTables(DiffResult diff) {
+        List<String> tables = new ArrayList<>();
+        diff.getDroppedTables().stream().map(EntityModel::getTableName).forEach(tables::add);
+        diff.getRenamedTables().stream().map(r -> r.getOldEntity().getTableName()).forEach(tables::add);
+        return tables;
+    }
+}
@@ -3,6 +3,7 @@ package org.jinx.migration.output;
 import org.jinx.model.DialectBundle;
 import org.jinx.migration.MigrationGenerator;
 import org.jinx.migration.differs.SchemaDiffer;
+import org.jinx.migration.plan.MigrationPlan;
 import org.jinx.model.DiffResult;
 import org.jinx.model.SchemaModel;
 
@@ -11,10 +12,33 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 public class SqlRollbackHandler implements OutputHandler{
+    private final boolean safeDrop;
+
+    public SqlRollbackHandler() {
+        this(false);
+    }
+
+    /**
+     * @param safeDrop true면 정방향에서 휴지통으로 옮긴 테이블을 다시 만들지 않고 이름만 되돌립니다.
+     */
+    public SqlRollbackHandler(boolean safeDrop) {
+        this.safeDrop = safeDrop;
+    }
+
     @Override
     public void handle(DiffResult diff, SchemaModel old, SchemaModel next, DialectBundle dialect, Path outputDir) throws IOException {
         DiffResult rollbackDiff = new SchemaDiffer().diff(next, old); // 순서 반전
         String rollbackSql = new MigrationGenerator(dialect, old, true).generateSql(rollbackDiff);
         Files.writeString(outputDir.resolve("rollback-" + next.getVersion() + ".sql"), rollbackSql);
     }
+
+    /**
+     * 저장된 계획을 {@link MigrationPlan#invert()}로 뒤집어 롤백 SQL을 만듭니다. diff를 다시 계산하지 않습니다.
+     */
+    public void handle(MigrationPlan plan, DialectBundle dialect, Path outputDir) throws IOException {
+        String rollbackSql = new MigrationGenerator(dialect, null, true, safeDrop ? plan.getVersion() : null)
+                .generateSql(plan.invert().toDiffResult());
+        Files.createDirectories(outputDir);
+        Files.writeString(outputDir.resolve("rollback-" + plan.getVersion() + ".sql"), rollbackSql);
+    }
 }
@@ -0,0 +1,190 @@
+package org.jinx.migration.partition;
+
+import org.jinx.migration.partition.RollingPartitionPolicy.ExpireAction;
+import org.jinx.migration.spi.dialect.PartitionDialect;
+import org.jinx.model.EntityModel;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitionStrategy;
+import org.jinx.model.PartitioningModel;
+import org.jinx.model.SchemaModel;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 시간 기준 RANGE 파티션을 굴리는 유지보수 SQL을 만든다.
+ *
+ * <p>기간은 달력 경계(일, 월 1일, 1월 1일)에 맞춘다. 현재 기간부터 {@code ahead}개 뒤까지 파티션이 없으면 만들고,
+ * {@code retention}개보다 오래된 기간 중 최근 {@code catchUp}개를 만료시킨다. 선언된 파티션과 상한이 같은
+ * 기간은 선언된 이름을 쓰고, 나머지는 {@code p202503}처럼 기간 시작일로 이름 붙인다.
+ * 결과는 오늘 날짜와 정책, 그리고 떼어 낼 파티션의 현재 상태만으로 정해진다.
+ */
+public class RollingPartitionPlanner {
+
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    /**
+     * 기간 하나.
+     *
+     * @param name 파티션 이름
+     * @param from 포함 하한
+     * @param to   미포함 상한
+     */
+    public record Period(String name, LocalDate from, LocalDate to) {
+        public PartitionModel toPartition() {
+            return PartitionModel.builder().name(name).values(List.of(literal(to))).build();
+        }
+    }
+
+    /**
+     * 테이블 하나의 유지보수 계획. 대상이 아니면 {@code skipReason}만 채운다.
+     */
+    public record Plan(String tableName, PartitioningModel partitioning,
+                       List<Period> create, List<Period> expire, String skipReason) {
+        public boolean skipped() {
+            return skipReason != null;
+        }
+    }
+
+    /**
+     * 떼어 낼 파티션의 현재 상태. {@link PartitionDialect#getPartitionAttachedQuery}로 확인한다.
+     */
+    public enum AttachState {
+        ATTACHED,
+        /** {@code DETACH ... CONCURRENTLY}가 중간에 끊겨 마무리를 기다리는 상태 */
+        DETACH_PENDING,
+        DETACHED
+    }
+
+    private final RollingPartitionPolicy policy;
+
+    public RollingPartitionPlanner(RollingPartitionPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * RANGE로 파티셔닝한 모든 테이블. 테이블 이름 순.
+     */
+    public List<Plan> plan(SchemaModel schema, LocalDate today) {
+        List<Plan> plans = new ArrayList<>();
+        if (schema == null || schema.getEntities() == null) {
+            return plans;
+        }
+        for (EntityModel entity : schema.getEntities().values()) {
+            if (entity.getPartitioning() != null && entity.getPartitioning().getStrategy() == PartitionStrategy.RANGE) {
+                plans.add(plan(entity, today));
+            }
+        }
+        plans.sort(Comparator.comparing(Plan::tableName));
+        return plans;
+    }
+
+    public Plan plan(EntityModel entity, LocalDate today) {
+        PartitioningModel p = entity.getPartitioning();
+        String table = entity.getTableName();
+        if (p == null || p.getStrategy() != PartitionStrategy.RANGE) {
+            return new Plan(table, p, List.of(), List.of(), "not RANGE partitioned");
+        }
+        if (p.getColumns().size() != 1) {
+            return new Plan(table, p, List.of(), List.of(), "time partitions need a single key column but found " + p.getColumns());
+        }
+
+        LocalDate current = periodStart(today);
+        List<Period> create = new ArrayList<>();
+        for (int i = 0; i <= policy.ahead(); i++) {
+            create.add(period(p, plus(current, i)));
+        }
+        List<Period> expire = new ArrayList<>();
+        LocalDate oldestKept = plus(current, -policy.retention());
+        for (int i = policy.catchUp(); i >= 1; i--) {
+            expire.add(period(p, plus(oldestKept, -i)));
+        }
+        return new Plan(table, p, create, expire, null);
+    }
+
+    /**
+     * 계획을 방언 SQL로 만든다. 떼어 낼 파티션은 모두 붙어 있다고 본다.
+     *
+     * @see #render(Plan, PartitionDialect, Function)
+     */
+    public String render(Plan plan, PartitionDialect dialect) {
+        return render(plan, dialect, period -> AttachState.ATTACHED);
+    }
+
+    /**
+     * 계획을 방언 SQL로 만든다. 만료 파티션을 먼저 처리한다. 떼어 내기는 {@code attachState}로 확인한 상태에 따라
+     * 이미 떼어 낸 파티션은 건너뛰고, 끊긴 떼어 내기는 마무리한다. 지우기는 방언이 존재 여부를 확인한다.
+     *
+     * @throws IllegalArgumentException 방언이 만료 방식을 지원하지 않는 경우 (MySQL DETACH)
+     */
+    public String render(Plan plan, PartitionDialect dialect, Function<Period, AttachState> attachState) {
+        StringBuilder sb = new StringBuilder();
+        if (plan.skipped()) {
+            return sb.append("-- ").append(plan.tableName()).append(" skipped: ").append(plan.skipReason()).append('\n')
+                    .toString();
+        }
+        boolean detach = policy.action() == ExpireAction.DETACH;
+        for (Period period : plan.expire()) {
+            AttachState state = detach ? attachState.apply(period) : AttachState.ATTACHED;
+            sb.append("-- ").append(detach ? "detach " : "drop ").append(plan.tableName()).append('.')
+              .append(period.name()).append(" [").append(period.from()).append(", ").append(period.to()).append(")")
+              .append(state == AttachState.DETACHED ? " already detached\n" : "\n");
+            if (state == AttachState.ATTACHED) {
+                sb.append(dialect.getExpirePartitionSql(plan.tableName(), plan.partitioning(), period.toPartition(), detach));
+            } else if (state == AttachState.DETACH_PENDING) {
+                sb.append(dialect.getFinalizeDetachPartitionSql(plan.tableName(), period.toPartition()));
+            }
+        }
+        for (Period period : plan.create()) {
+            sb.append("-- ensure ").append(plan.tableName()).append('.')
+              .append(period.name()).append(" [").append(period.from()).append(", ").append(period.to()).append(")\n")
+              .append(dialect.getCreateRangePartitionIfMissingSql(plan.tableName(), plan.partitioning(),
+                      period.toPartition(), literal(period.from())));
+        }
+        return sb.toString();
+    }
+
+    private Period period(PartitioningModel p, LocalDate from) {
+        LocalDate to = plus(from, 1);
+        String bound = literal(to);
+        String name = p.getPartitions().stream()
+                .filter(part -> !part.isCatchAll() && part.getValues().size() == 1
+                        && part.getValues().get(0).trim().equals(bound))
+                .map(PartitionModel::getName)
+                .findFirst()
+                .orElseGet(() -> "p" + from.format(nameFormat()));
+        return new Period(name, from, to);
+    }
+
+    private LocalDate periodStart(LocalDate day) {
+        return switch (policy.interval()) {
+            case DAY -> day;
+            case MONTH -> day.withDayOfMonth(1);
+            case YEAR -> day.withDayOfYear(1);
+        };
+    }
+
+    private LocalDate plus(LocalDate start, int periods) {
+        return switch (policy.interval()) {
+            case DAY -> start.plusDays(periods);
+            case MONTH -> start.plusMonths(periods);
+            case YEAR -> start.plusYears(periods);
+        };
+    }
+
+    private DateTimeFormatter nameFormat() {
+        return DateTimeFormatter.ofPattern(switch (policy.interval()) {
+            case DAY -> "yyyyMMdd";
+            case MONTH -> "yyyyMM";
+            case YEAR -> "yyyy";
+        });
+    }
+
+    private static String literal(LocalDate date) {
+        return "'" + date.format(ISO) + "'";
+    }
+}
@@ -0,0 +1,31 @@
+package org.jinx.migration.partition;
+
+/**
+ * 시간 기준 RANGE 파티션 유지 정책.
+ *
+ * @param interval  파티션 하나가 담는 기간
+ * @param ahead     현재 기간 이후로 미리 만들어 둘 파티션 수
+ * @param retention 현재 기간 이전으로 남겨 둘 파티션 수. 더 오래된 파티션은 만료된다
+ * @param catchUp   한 번에 만료 처리할 기간 수. 스케줄러가 기간마다 한 번 이상 돌면 1이면 충분하다
+ * @param action    만료된 파티션 처리 방식
+ */
+public record RollingPartitionPolicy(Interval interval, int ahead, int retention, int catchUp, ExpireAction action) {
+
+    public enum Interval { DAY, MONTH, YEAR }
+
+    public enum ExpireAction {
+        /** 파티션을 떼어 내 일반 테이블로 남긴다 (PostgreSQL) */
+        DETACH,
+        /** 파티션과 데이터를 지운다 */
+        DROP
+    }
+
+    public RollingPartitionPolicy {
+        if (interval == null || action == null) {
+            throw new IllegalArgumentException("interval and action are required");
+        }
+        if (ahead < 0 || retention < 0 || catchUp < 1) {
+            throw new IllegalArgumentException("ahead and retention must be >= 0 and catchUp >= 1");
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.jinx.migration.plan;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+import org.jinx.migration.MigrationInfo;
+import org.jinx.model.DiffResult;
+import org.jinx.model.DiffResult.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 직렬화 가능한 마이그레이션 계획.
+ *
+ * <p>{@link MigrationPlanner}가 {@link DiffResult}에서 한 번 만들어 {@code plan-<version>.json}으로 저장하며,
+ * SQL/롤백/Liquibase 렌더러는 스냅샷을 다시 읽거나 diff를 다시 계산하지 않고 이 계획만으로 출력을 만듭니다.
+ * 롤백은 {@link #invert()}로 연산을 뒤집어 만듭니다.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@AllArgsConstructor
+public class MigrationPlan {
+
+    public static final int FORMAT_VERSION = 1;
+
+    @Builder.Default
+    private int formatVersion = FORMAT_VERSION;
+
+    /** 적용 후 스키마 버전 */
+    private String version;
+
+    /** 적용 전 스키마 버전 */
+    private String baselineVersion;
+
+    private String baselineHash;
+    private String headHash;
+
+    /** {@link #invert()}로 만든 롤백 계획인지 여부 */
+    private boolean rollback;
+
+    @Builder.Default
+    private List<PlanOperation> operations = new ArrayList<>();
+
+    @Builder.Default
+    private List<String> warnings = new ArrayList<>();
+
+    /**
+     * 계획을 되돌리는 계획을 만듭니다. 각 연산을 {@link PlanOperation#inverse()}로 뒤집고,
+     * 버전과 해시를 맞바꿉니다. 다시 diff를 계산하지 않습니다.
+     */
+    public MigrationPlan invert() {
+        return toBuilder()
+                .version(baselineVersion)
+                .baselineVersion(version)
+                .baselineHash(headHash)
+                .headHash(baselineHash)
+                .rollback(!rollback)
+                .operations(new ArrayList<>(operations.stream().map(PlanOperation::inverse).toList()))
+                .warnings(new ArrayList<>(warnings))
+                .build();
+    }
+
+    /**
+     * 헤더용 마이그레이션 정보. 해시가 없으면 null을 반환합니다.
+     */
+    @JsonIgnore
+    public MigrationInfo getMigrationInfo() {
+        if (baselineHash == null || headHash == null) {
+            return null;
+        }
+        return new MigrationInfo(baselineHash, headHash, version);
+    }
+
+    /**
+     * 기존 렌더러(방문자 기반)에 넘길 수 있도록 계획을 {@link DiffResult}로 복원합니다.
+     * 테이블 내용 연산은 바로 앞의 MODIFY_TABLE 연산에 묶입니다.
+     *
+     * @throws IllegalStateException MODIFY_TABLE 없이 테이블 내용 연산이 나온 경우
+     */
+    public DiffResult toDiffResult() {
+        DiffResult diff = DiffResult.builder().build();
+        diff.getWarnings().addAll(warnings);
+        ModifiedEntity current = null;
+
+        for (PlanOperation op : operations) {
+            switch (op.getKind()) {
+                case ADD_SEQUENCE, DROP_SEQUENCE, MODIFY_SEQUENCE -> diff.getSequenceDiffs().add(SequenceDiff.builder()
+                        .type(op.getKind() == PlanOperation.Kind.ADD_SEQUENCE ? SequenceDiff.Type.ADDED
+                                : op.getKind() == PlanOperation.Kind.DROP_SEQUENCE ? SequenceDiff.Type.DROPPED
+                                : SequenceDiff.Type.MODIFIED)
+                        .sequence(op.getSequence())
+                        .oldSequence(op.getOldSequence())
+                        .changeDetail(op.getChangeDetail())
+                        .build());
+                case ADD_TABLE_GENERATOR, DROP_TABLE_GENERATOR, MODIFY_TABLE_GENERATOR -> diff.getTableGeneratorDiffs().add(TableGeneratorDiff.builder()
+                        .type(op.getKind() == PlanOperation.Kind.ADD_TABLE_GENERATOR ? TableGeneratorDiff.Type.ADDED
+                                : op.getKind() == PlanOperation.Kind.DROP_TABLE_GENERATOR ? TableGeneratorDiff.Type.DROPPED
+                                : TableGeneratorDiff.Type.MODIFIED)
+                        .tableGenerator(op.getTableGenerator())
+                        .oldTableGenerator(op.getOldTableGenerator())
+                        .changeDetail(op.getChangeDetail())
+                        .build());
+                case ADD_TABLE -> diff.getAddedTables().add(op.getEntity());
+                case DROP_TABLE -> diff.getDroppedTables().add(op.getEntity());
+                case RENAME_TABLE -> diff.getRenamedTables().add(
+                        new RenamedTable(op.getOldEntity(), op.getEntity(), op.getChangeDetail()));
+                case MODIFY_TABLE -> {
+                    current = ModifiedEntity.builder()
+                            .oldEntity(op.getOldEntity())
+                            .newEntity(op.getEntity())
+                            .warnings(new ArrayList<>(op.getWarnings()))
+                            .build();
+                    diff.getModifiedTables().add(current);
+                }
+                case ADD_COLUMN, DROP_COLUMN, MODIFY_COLUMN, RENAME_COLUMN -> requireModified(current, op).getColumnDiffs().add(ColumnDiff.builder()
+                        .type(switch (op.getKind()) {
+                            case ADD_COLUMN -> ColumnDiff.Type.ADDED;
+                            case DROP_COLUMN -> ColumnDiff.Type.DROPPED;
+                            case RENAME_COLUMN -> ColumnDiff.Type.RENAMED;
+                            default -> ColumnDiff.Type.MODIFIED;
+                        })
+                        .column(op.getColumn())
+                        .oldColumn(op.getOldColumn())
+                        .changeDetail(op.getChangeDetail())
+                        .build());
+                case ADD_INDEX, DROP_INDEX, MODIFY_INDEX -> requireModified(current, op).getIndexDiffs().add(IndexDiff.builder()
+                        .type(op.getKind() == PlanOperation.Kind.ADD_INDEX ? IndexDiff.Type.ADDED
+                                : op.getKind() == PlanOperation.Kind.DROP_INDEX ? IndexDiff.Type.DROPPED
+                                : IndexDiff.Type.MODIFIED)
+                        .index(op.getIndex())
+                        .oldIndex(op.getOldIndex())
+                        .changeDetail(op.getChangeDetail())
+                        .build());
+                case ADD_CONSTRAINT, DROP_CONSTRAINT, MODIFY_CONSTRAINT -> requireModified(current, op).getConstraintDiffs().add(ConstraintDiff.builder()
+                        .type(op.getKind() == PlanOperation.Kind.ADD_CONSTRAINT ? ConstraintDiff.Type.ADDED
+                                : op.getKind() == PlanOperation.Kind.DROP_CONSTRAINT ? ConstraintDiff.Type.DROPPED
+                                : ConstraintDiff.Type.MODIFIED)
+                        .constraint(op.getConstraint())
+                        .oldConstraint(op.getOldConstraint())
+                        .changeDetail(op.getChangeDetail())
+                        .build());
+                case ADD_FOREIGN_KEY, DROP_FOREIGN_KEY, MODIFY_FOREIGN_KEY -> requireModified(current, op).getRelationshipDiffs().add(RelationshipDiff.builder()
+                        .type(op.getKind() == PlanOperation.Kind.ADD_FOREIGN_KEY ? RelationshipDiff.Type.ADDED
+                                : op.getKind() == PlanOperation.Kind.DROP_FOREIGN_KEY ? RelationshipDiff.Type.DROPPED
+                                : RelationshipDiff.Type.MODIFIED)
+                        .relationship(op.getRelationship())
+                        .oldRelationship(op.getOldRelationship())
+                        .requiresDropAdd(Boolean.TRUE.equals(op.getRequiresDropAdd()))
+                        .changeDetail(op.getChangeDetail())
+                        .build());
+                case ADD_PARTITION, DROP_PARTITION -> requireModified(current, op).getPartitionDiffs().add(PartitionDiff.builder()
+                        .type(op.getKind() == PlanOperation.Kind.ADD_PARTITION ? PartitionDiff.Type.ADDED : PartitionDiff.Type.DROPPED)
+                        .partition(op.getPartition())
+                        .changeDetail(op.getChangeDetail())
+                        .build());
+                case MODIFY_TABLE_OPTIONS -> requireModified(current, op).setTableOptionsDiff(TableOptionsDiff.builder()
+                        .newOptions(op.getTableOptions())
+                        .oldOptions(op.getOldTableOptions())
+                        .build());
+            }
+        }
+        return diff;
+    }
+
+    private static ModifiedEntity requireModified(ModifiedEntity current, PlanOperation op) {
+        if (current == null) {
+            throw new IllegalStateException(op.getKind() + " on table '" + op.getTable() + "' must follow a MODIFY_TABLE operation");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,50 @@
+package org.jinx.migration.plan;
+
+import org.jinx.migration.json.SchemaMappers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 마이그레이션 계획 파일({@code plan-<version>.json}) 읽기/쓰기.
+ *
+ * <p>정렬된 속성/키로 기록하므로 같은 계획은 항상 같은 바이트가 되어 CI 캐시 키로 쓸 수 있습니다.
+ */
+public final class MigrationPlanFiles {
+
+    public static final String FILE_PREFIX = "plan-";
+    public static final String FILE_EXTENSION = ".json";
+
+    private MigrationPlanFiles() {}
+
+    /**
+     * @return {@code outputDir/plan-<version>.json}
+     */
+    public static Path resolve(Path outputDir, MigrationPlan plan) {
+        return outputDir.resolve(FILE_PREFIX + plan.getVersion() + FILE_EXTENSION);
+    }
+
+    /**
+     * 계획을 {@code outputDir/plan-<version>.json}에 기록합니다.
+     *
+     * @return 기록한 파일 경로
+     */
+    public static Path write(Path outputDir, MigrationPlan plan) throws IOException {
+        Files.createDirectories(outputDir);
+        Path file = resolve(outputDir, plan);
+        SchemaMappers.writer().withDefaultPrettyPrinter().writeValue(file.toFile(), plan);
+        return file;
+    }
+
+    /**
+     * @throws IOException 파일을 읽을 수 없거나 지원하지 않는 형식 버전인 경우
+     */
+    public static MigrationPlan read(Path file) throws IOException {
+        MigrationPlan plan = SchemaMappers.readerFor(MigrationPlan.class).readValue(file.toFile());
+        if (plan.getFormatVersion() != MigrationPlan.FORMAT_VERSION) {
+            throw new IOException("Unsupported migration plan format version " + plan.getFormatVersion() + ": " + file);
+        }
+        return plan;
+    }
+}
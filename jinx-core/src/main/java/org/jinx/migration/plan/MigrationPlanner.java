@@ -0,0 +1,175 @@
+package org.jinx.migration.plan;
+
+import org.jinx.migration.DependencyResolver;
+import org.jinx.migration.MigrationInfo;
+import org.jinx.migration.plan.PlanOperation.Kind;
+import org.jinx.model.DiffResult;
+import org.jinx.model.DiffResult.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link DiffResult}를 순서가 정해진 {@link MigrationPlan}으로 변환합니다.
+ *
+ * <p>연산 순서는 시퀀스 → 테이블 생성기 → 테이블 DROP(자식 우선) → RENAME → ADD(부모 우선) → MODIFY 순이며,
+ * 테이블 순서는 {@link DependencyResolver#plan}을 따릅니다. 렌더러는 이 순서를 그대로 사용할 수 있습니다.
+ */
+public final class MigrationPlanner {
+
+    private MigrationPlanner() {}
+
+    /**
+     * @param diff            스키마 diff
+     * @param baselineVersion 적용 전 스키마 버전
+     * @param migrationInfo   해시/버전 정보 (null이면 해시 없이 생성)
+     * @return 마이그레이션 계획
+     */
+    public static MigrationPlan plan(DiffResult diff, String baselineVersion, MigrationInfo migrationInfo) {
+        List<PlanOperation> ops = new ArrayList<>();
+
+        for (SequenceDiff d : diff.getSequenceDiffs()) {
+            ops.add(PlanOperation.builder()
+                    .kind(switch (d.getType()) {
+                        case ADDED -> Kind.ADD_SEQUENCE;
+                        case DROPPED -> Kind.DROP_SEQUENCE;
+                        case MODIFIED -> Kind.MODIFY_SEQUENCE;
+                    })
+                    .sequence(d.getSequence())
+                    .oldSequence(d.getOldSequence())
+                    .changeDetail(d.getChangeDetail())
+                    .build());
+        }
+
+        for (TableGeneratorDiff d : diff.getTableGeneratorDiffs()) {
+            ops.add(PlanOperation.builder()
+                    .kind(switch (d.getType()) {
+                        case ADDED -> Kind.ADD_TABLE_GENERATOR;
+                        case DROPPED -> Kind.DROP_TABLE_GENERATOR;
+                        case MODIFIED -> Kind.MODIFY_TABLE_GENERATOR;
+                    })
+                    .tableGenerator(d.getTableGenerator())
+                    .oldTableGenerator(d.getOldTableGenerator())
+                    .changeDetail(d.getChangeDetail())
+                    .build());
+        }
+
+        DependencyResolver.plan(diff.getDroppedTables()).dropOrder().forEach(e -> ops.add(PlanOperation.builder()
+                .kind(Kind.DROP_TABLE)
+                .table(e.getTableName())
+                .entity(e)
+                .build()));
+
+        for (RenamedTable r : diff.getRenamedTables()) {
+            ops.add(PlanOperation.builder()
+                    .kind(Kind.RENAME_TABLE)
+                    .table(r.getNewEntity().getTableName())
+                    .entity(r.getNewEntity())
+                    .oldEntity(r.getOldEntity())
+                    .changeDetail(r.getChangeDetail())
+                    .build());
+        }
+
+        DependencyResolver.plan(diff.getAddedTables()).creationOrder().forEach(e -> ops.add(PlanOperation.builder()
+                .kind(Kind.ADD_TABLE)
+                .table(e.getTableName())
+                .entity(e)
+                .build()));
+
+        for (ModifiedEntity m : diff.getModifiedTables()) {
+            addModifiedTable(ops, m);
+        }
+
+        return MigrationPlan.builder()
+                .version(migrationInfo != null ? migrationInfo.getVersion() : null)
+                .baselineVersion(baselineVersion)
+                .baselineHash(migrationInfo != null ? migrationInfo.getBaselineHash() : null)
+                .headHash(migrationInfo != null ? migrationInfo.getHeadHash() : null)
+                .operations(ops)
+                .warnings(new ArrayList<>(diff.getWarnings()))
+                .build();
+    }
+
+    private static void addModifiedTable(List<PlanOperation> ops, ModifiedEntity m) {
+        String table = m.getNewEntity().getTableName();
+        ops.add(PlanOperation.builder()
+                .kind(Kind.MODIFY_TABLE)
+                .table(table)
+                .entity(m.getNewEntity())
+                .oldEntity(m.getOldEntity())
+                .warnings(new ArrayList<>(m.getWarnings()))
+                .build());
+
+        for (ColumnDiff d : m.getColumnDiffs()) {
+            ops.add(PlanOperation.builder()
+                    .kind(switch (d.getType()) {
+                        case ADDED -> Kind.ADD_COLUMN;
+                        case DROPPED -> Kind.DROP_COLUMN;
+                        case MODIFIED -> Kind.MODIFY_COLUMN;
+                        case RENAMED -> Kind.RENAME_COLUMN;
+                    })
+                    .table(table)
+                    .column(d.getColumn())
+                    .oldColumn(d.getOldColumn())
+                    .changeDetail(d.getChangeDetail())
+                    .build());
+        }
+        for (IndexDiff d : m.getIndexDiffs()) {
+            ops.add(PlanOperation.builder()
+                    .kind(switch (d.getType()) {
+                        case ADDED -> Kind.ADD_INDEX;
+                        case DROPPED -> Kind.DROP_INDEX;
+                        case MODIFIED -> Kind.MODIFY_INDEX;
+                    })
+                    .table(table)
+                    .index(d.getIndex())
+                    .oldIndex(d.getOldIndex())
+                    .changeDetail(d.getChangeDetail())
+                    .build());
+        }
+        for (ConstraintDiff d : m.getConstraintDiffs()) {
+            ops.add(PlanOperation.builder()
+                    .kind(switch (d.getType()) {
+                        case ADDED -> Kind.ADD_CONSTRAINT;
+                        case DROPPED -> Kind.DROP_CONSTRAINT;
+                        case MODIFIED -> Kind.MODIFY_CONSTRAINT;
+                    })
+                    .table(table)
+                    .constraint(d.getConstraint())
+                    .oldConstraint(d.getOldConstraint())
+                    .changeDetail(d.getChangeDetail())
+                    .build());
+        }
+        for (RelationshipDiff d : m.getRelationshipDiffs()) {
+            ops.add(PlanOperation.builder()
+                    .kind(switch (d.getType()) {
+                        case ADDED -> Kind.ADD_FOREIGN_KEY;
+                        case DROPPED -> Kind.DROP_FOREIGN_KEY;
+                        case MODIFIED -> Kind.MODIFY_FOREIGN_KEY;
+                    })
+                    .table(table)
+                    .relationship(d.getRelationship())
+                    .oldRelationship(d.getOldRelationship())
+                    .requiresDropAdd(d.getRequiresDropAdd())
+                    .changeDetail(d.getChangeDetail())
+                    .build());
+        }
+        for (PartitionDiff d : m.getPartitionDiffs()) {
+            ops.add(PlanOperation.builder()
+                    .kind(d.getType() == PartitionDiff.Type.ADDED ? Kind.ADD_PARTITION : Kind.DROP_PARTITION)
+                    .table(table)
+                    .partition(d.getPartition())
+                    .changeDetail(d.getChangeDetail())
+                    .build());
+        }
+        TableOptionsDiff options = m.getTableOptionsDiff();
+        if (options != null) {
+            ops.add(PlanOperation.builder()
+                    .kind(Kind.MODIFY_TABLE_OPTIONS)
+                    .table(table)
+                    .tableOptions(options.getNewOptions())
+                    .oldTableOptions(options.getOldOptions())
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.jinx.migration.plan;
+
+import lombok.*;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.ConstraintModel;
+import org.jinx.model.EntityModel;
+import org.jinx.model.IndexModel;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.RelationshipModel;
+import org.jinx.model.SequenceModel;
+import org.jinx.model.TableGeneratorModel;
+import org.jinx.model.TableOptionsModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마이그레이션 계획의 단일 연산.
+ *
+ * <p>{@link Kind}에 따라 해당 필드만 채워집니다. {@code old*} 필드는 MODIFY/RENAME 연산의 이전 상태이며,
+ * 테이블 내용 연산(컬럼/인덱스/제약/FK/파티션/저장 옵션)은 바로 앞의 {@link Kind#MODIFY_TABLE} 연산에 속합니다.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@AllArgsConstructor
+public class PlanOperation {
+
+    public enum Kind {
+        ADD_SEQUENCE, DROP_SEQUENCE, MODIFY_SEQUENCE,
+        ADD_TABLE_GENERATOR, DROP_TABLE_GENERATOR, MODIFY_TABLE_GENERATOR,
+        ADD_TABLE, DROP_TABLE, RENAME_TABLE, MODIFY_TABLE,
+        ADD_COLUMN, DROP_COLUMN, MODIFY_COLUMN, RENAME_COLUMN,
+        ADD_INDEX, DROP_INDEX, MODIFY_INDEX,
+        ADD_CONSTRAINT, DROP_CONSTRAINT, MODIFY_CONSTRAINT,
+        ADD_FOREIGN_KEY, DROP_FOREIGN_KEY, MODIFY_FOREIGN_KEY,
+        ADD_PARTITION, DROP_PARTITION,
+        MODIFY_TABLE_OPTIONS;
+
+        /**
+         * @return 이 연산을 되돌리는 연산 종류 (ADD ⇄ DROP, MODIFY/RENAME은 그대로)
+         */
+        public Kind inverse() {
+            String n = name();
+            if (n.startsWith("ADD_")) return valueOf("DROP_" + n.substring(4));
+            if (n.startsWith("DROP_")) return valueOf("ADD_" + n.substring(5));
+            return this;
+        }
+
+        /**
+         * @return 이전 상태와 새 상태를 함께 갖는 연산인지 여부
+         */
+        public boolean isTransition() {
+            return name().startsWith("MODIFY_") || name().startsWith("RENAME_");
+        }
+    }
+
+    private Kind kind;
+
+    /** 연산 대상 테이블명 (시퀀스/테이블 생성기 연산은 null) */
+    private String table;
+
+    private EntityModel entity;
+    private EntityModel oldEntity;
+
+    private ColumnModel column;
+    private ColumnModel oldColumn;
+
+    private IndexModel index;
+    private IndexModel oldIndex;
+
+    private ConstraintModel constraint;
+    private ConstraintModel oldConstraint;
+
+    private RelationshipModel relationship;
+    private RelationshipModel oldRelationship;
+    private Boolean requiresDropAdd;
+
+    private SequenceModel sequence;
+    private SequenceModel oldSequence;
+
+    private TableGeneratorModel tableGenerator;
+    private TableGeneratorModel oldTableGenerator;
+
+    /** ADD_PARTITION/DROP_PARTITION 대상 파티션. 파티셔닝 방식은 MODIFY_TABLE 연산의 엔티티를 따른다 */
+    private PartitionModel partition;
+
+    /** MODIFY_TABLE_OPTIONS의 변경 후/전 저장 옵션 */
+    private TableOptionsModel tableOptions;
+    private TableOptionsModel oldTableOptions;
+
+    private String changeDetail;
+
+    /** MODIFY_TABLE 연산의 테이블 단위 경고 */
+    @Builder.Default
+    private List<String> warnings = new ArrayList<>();
+
+    /**
+     * 이 연산을 되돌리는 연산을 반환합니다. ADD/DROP은 종류만 바뀌고,
+     * MODIFY/RENAME은 이전 상태와 새 상태가 맞바뀝니다.
+     */
+    public PlanOperation inverse() {
+        PlanOperationBuilder b = toBuilder().kind(kind.inverse());
+        if (!kind.isTransition()) {
+            return b.build();
+        }
+        String inverseTable = kind == Kind.MODIFY_TABLE || kind == Kind.RENAME_TABLE
+                ? (oldEntity != null ? oldEntity.getTableName() : table)
+                : table;
+        return b.table(inverseTable)
+                .entity(oldEntity).oldEntity(entity)
+                .column(oldColumn).oldColumn(column)
+                .index(oldIndex).oldIndex(index)
+                .constraint(oldConstraint).oldConstraint(constraint)
+                .relationship(oldRelationship).oldRelationship(relationship)
+                .sequence(oldSequence).oldSequence(sequence)
+                .tableGenerator(oldTableGenerator).oldTableGenerator(tableGenerator)
+                .tableOptions(oldTableOptions).oldTableOptions(tableOptions)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package org.jinx.migration.snapshot;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jinx.model.EntityModel;
+import org.jinx.model.SchemaModel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+/**
+ * 이미 메모리에 있는 {@link SchemaModel}을 {@link SchemaSnapshot}으로 감쌉니다.
+ * 초기 baseline처럼 파일이 없는 경우나 테스트에서 사용합니다.
+ */
+public final class InMemorySchemaSnapshot implements SchemaSnapshot {
+
+    private final SchemaModel schema;
+    private final TreeMap<String, Long> fingerprints = new TreeMap<>();
+
+    public InMemorySchemaSnapshot(SchemaModel schema, ObjectMapper objectMapper) {
+        this.schema = schema;
+        if (schema.getEntities() == null) {
+            return;
+        }
+        schema.getEntities().forEach((name, entity) -> {
+            if (entity != null) {
+                fingerprints.put(name, fingerprintOf(entity, objectMapper));
+            }
+        });
+    }
+
+    private static long fingerprintOf(EntityModel entity, ObjectMapper objectMapper) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(objectMapper.writeValueAsBytes(entity))) {
+            parser.nextToken();
+            return StructuralFingerprint.of(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to fingerprint entity " + entity.getEntityName(), e);
+        }
+    }
+
+    @Override
+    public String getVersion() {
+        return schema.getVersion();
+    }
+
+    @Override
+    public NavigableSet<String> entityNames() {
+        return Collections.unmodifiableNavigableSet(fingerprints.navigableKeySet());
+    }
+
+    @Override
+    public long fingerprint(String entityName) {
+        Long fingerprint = fingerprints.get(entityName);
+        if (fingerprint == null) {
+            throw new IllegalArgumentException("Unknown entity: " + entityName);
+        }
+        return fingerprint;
+    }
+
+    @Override
+    public EntityModel loadEntity(String entityName) {
+        return fingerprints.containsKey(entityName) ? schema.getEntities().get(entityName) : null;
+    }
+
+    @Override
+    public SchemaModel header() {
+        return SchemaModel.builder()
+                .version(schema.getVersion())
+                .sequences(schema.getSequences() != null ? new LinkedHashMap<>(schema.getSequences()) : new LinkedHashMap<>())
+                .tableGenerators(schema.getTableGenerators() != null ? new LinkedHashMap<>(schema.getTableGenerators()) : new LinkedHashMap<>())
+                .mappedSuperclasses(schema.getMappedSuperclasses() != null ? new HashMap<>(schema.getMappedSuperclasses()) : new HashMap<>())
+                .embeddables(schema.getEmbeddables() != null ? new HashMap<>(schema.getEmbeddables()) : new HashMap<>())
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package org.jinx.migration.snapshot;
+
+import org.jinx.model.EntityModel;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * 스냅샷 엔티티를 접근 시점에 디코딩하는 읽기 전용 맵.
+ *
+ * <p>디코딩 결과를 캐시하지 않으므로 순회 중에는 현재 엔티티 하나만 메모리에 유지됩니다.
+ * {@link SortedMap}을 구현해 Jackson의 ORDER_MAP_ENTRIES_BY_KEYS 직렬화 시 TreeMap 복사가 일어나지 않습니다.
+ */
+final class LazyEntityMap extends AbstractMap<String, EntityModel> implements SortedMap<String, EntityModel> {
+
+    private final SchemaSnapshot snapshot;
+    private final NavigableSet<String> names;
+
+    LazyEntityMap(SchemaSnapshot snapshot, NavigableSet<String> names) {
+        this.snapshot = snapshot;
+        this.names = names;
+    }
+
+    @Override
+    public int size() {
+        return names.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return names.contains(key);
+    }
+
+    @Override
+    public EntityModel get(Object key) {
+        if (!(key instanceof String name) || !names.contains(name)) {
+            return null;
+        }
+        return snapshot.loadEntity(name);
+    }
+
+    @Override
+    public Set<Map.Entry<String, EntityModel>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, EntityModel>> iterator() {
+                Iterator<String> it = names.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, EntityModel> next() {
+                        String name = it.next();
+                        return new SimpleImmutableEntry<>(name, snapshot.loadEntity(name));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return names.size();
+            }
+        };
+    }
+
+    @Override
+    public Comparator<? super String> comparator() {
+        return names.comparator();
+    }
+
+    @Override
+    public SortedMap<String, EntityModel> subMap(String fromKey, String toKey) {
+        return new LazyEntityMap(snapshot, names.subSet(fromKey, true, toKey, false));
+    }
+
+    @Override
+    public SortedMap<String, EntityModel> headMap(String toKey) {
+        return new LazyEntityMap(snapshot, names.headSet(toKey, false));
+    }
+
+    @Override
+    public SortedMap<String, EntityModel> tailMap(String fromKey) {
+        return new LazyEntityMap(snapshot, names.tailSet(fromKey, true));
+    }
+
+    @Override
+    public String firstKey() {
+        return names.first();
+    }
+
+    @Override
+    public String lastKey() {
+        return names.last();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return names;
+    }
+}
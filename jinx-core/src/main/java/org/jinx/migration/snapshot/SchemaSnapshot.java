@@ -0,0 +1,77 @@
+package org.jinx.migration.snapshot;
+
+import org.jinx.model.EntityModel;
+import org.jinx.model.SchemaModel;
+
+import java.util.NavigableSet;
+import java.util.Set;
+
+/**
+ * 엔티티 단위로 지연 로딩되는 스키마 스냅샷.
+ *
+ * <p>전체 {@link SchemaModel}을 한 번에 역직렬화하지 않고, 엔티티 이름과 구조 지문(fingerprint)만
+ * 먼저 인덱싱한 뒤 실제로 필요한 엔티티만 {@link #loadEntity(String)}로 디코딩합니다.
+ * 시퀀스/테이블 제너레이터 등 크기가 작은 섹션은 {@link #header()}에 즉시 로딩됩니다.
+ */
+public interface SchemaSnapshot {
+
+    /**
+     * @return 스냅샷의 스키마 버전
+     */
+    String getVersion();
+
+    /**
+     * @return 엔티티 이름 집합 (이름순 정렬)
+     */
+    NavigableSet<String> entityNames();
+
+    /**
+     * 엔티티의 구조 지문을 반환합니다. 공백, 필드 순서, null 필드 유무와 무관하게
+     * 동일한 내용이면 동일한 값을 가집니다.
+     *
+     * @param entityName 엔티티 이름
+     * @return 구조 지문
+     * @throws IllegalArgumentException 존재하지 않는 엔티티인 경우
+     */
+    long fingerprint(String entityName);
+
+    /**
+     * 엔티티 하나를 디코딩합니다. 파일 기반 구현은 호출할 때마다 새로 디코딩합니다.
+     *
+     * @param entityName 엔티티 이름
+     * @return 디코딩된 엔티티, 존재하지 않으면 {@code null}
+     */
+    EntityModel loadEntity(String entityName);
+
+    /**
+     * 엔티티를 제외한 나머지 섹션(버전, 시퀀스, 테이블 제너레이터 등)만 채워진 모델을 반환합니다.
+     * 반환된 모델의 entities는 비어 있으며, 호출부에서 자유롭게 채울 수 있는 새 인스턴스입니다.
+     */
+    SchemaModel header();
+
+    /**
+     * 모든 엔티티를 포함하되 엔티티 값은 접근 시점에 디코딩하는 모델을 반환합니다.
+     * 해시 계산처럼 전체를 한 번 순회하는 용도에서는 엔티티를 하나씩만 메모리에 올립니다.
+     */
+    default SchemaModel toSchemaModel() {
+        SchemaModel model = header();
+        model.setEntities(new LazyEntityMap(this, entityNames()));
+        return model;
+    }
+
+    /**
+     * 지정한 엔티티만 포함하는 모델을 반환합니다. 엔티티는 즉시 디코딩됩니다.
+     *
+     * @param names 포함할 엔티티 이름
+     */
+    default SchemaModel select(Set<String> names) {
+        SchemaModel model = header();
+        for (String name : names) {
+            EntityModel entity = loadEntity(name);
+            if (entity != null) {
+                model.getEntities().put(name, entity);
+            }
+        }
+        return model;
+    }
+}
@@ -0,0 +1,46 @@
+package org.jinx.migration.snapshot;
+
+import org.jinx.model.SchemaModel;
+
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 두 스냅샷의 구조 지문을 비교해 diff 대상 엔티티만 디코딩합니다.
+ *
+ * <p>같은 이름에 같은 지문을 가진 엔티티는 양쪽 모두에서 제외됩니다. 나머지(변경, 추가, 삭제,
+ * 이름 변경 후보)만 {@link SchemaModel}에 담기므로 SchemaDiffer의 결과는 전체 모델을 비교한 것과
+ * 같고, 최대 메모리 사용량은 스키마 크기가 아닌 변경 규모에 비례합니다.
+ */
+public final class SnapshotDiffScope {
+
+    private SnapshotDiffScope() {}
+
+    /**
+     * @param baseline        diff 대상으로 좁힌 baseline 모델
+     * @param head            diff 대상으로 좁힌 HEAD 모델
+     * @param unchangedCount  지문이 같아 디코딩을 생략한 엔티티 수
+     */
+    public record Narrowed(SchemaModel baseline, SchemaModel head, int unchangedCount) {}
+
+    public static Narrowed narrow(SchemaSnapshot baseline, SchemaSnapshot head) {
+        NavigableSet<String> baselineNames = new TreeSet<>();
+        NavigableSet<String> headNames = new TreeSet<>();
+        int unchanged = 0;
+
+        for (String name : baseline.entityNames()) {
+            if (head.entityNames().contains(name) && baseline.fingerprint(name) == head.fingerprint(name)) {
+                unchanged++;
+            } else {
+                baselineNames.add(name);
+            }
+        }
+        for (String name : head.entityNames()) {
+            if (!baseline.entityNames().contains(name) || baseline.fingerprint(name) != head.fingerprint(name)) {
+                headNames.add(name);
+            }
+        }
+
+        return new Narrowed(baseline.select(baselineNames), head.select(headNames), unchanged);
+    }
+}
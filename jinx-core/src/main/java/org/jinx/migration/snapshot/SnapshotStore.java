@@ -0,0 +1,258 @@
+package org.jinx.migration.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.jinx.model.EntityModel;
+import org.jinx.model.SchemaModel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+/**
+ * 엔티티 이름으로 임의 접근 가능한 단일 파일 스냅샷 저장소 (*.jxs).
+ *
+ * <pre>
+ * magic        int      'JXS1'
+ * format       int      1
+ * headerLength int      + header JSON (entities를 제외한 SchemaModel)
+ * entityCount  int
+ * index        entityCount × [nameLength u16][name UTF-8][recordOffset long][recordLength int][fingerprint long]
+ * records      entityCount × [length int][EntityModel JSON]
+ * </pre>
+ *
+ * 인덱스는 이름순으로 정렬되어 있고, 열 때는 파일을 {@link MappedByteBuffer}로 매핑해 인덱스만 읽습니다.
+ * 엔티티 본문은 {@link SchemaSnapshot#loadEntity(String)} 호출 시 해당 레코드만 디코딩합니다.
+ * 지문은 {@link StreamingSchemaLoader}와 같은 방식으로 계산된 값을 그대로 저장하므로 JSON 스냅샷과 비교할 수 있습니다.
+ */
+public final class SnapshotStore {
+
+    private static final int MAGIC = 0x4A585331; // "JXS1"
+    private static final int FORMAT_VERSION = 1;
+    private static final int INDEX_ENTRY_FIXED_BYTES = Short.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    private SnapshotStore() {}
+
+    /**
+     * 스냅샷을 저장소 파일로 기록합니다. 엔티티는 하나씩 디코딩/직렬화하며,
+     * 임시 파일에 기록한 뒤 교체하므로 중간에 실패해도 기존 파일은 보존됩니다.
+     *
+     * @param target       저장소 파일 경로
+     * @param snapshot     기록할 스냅샷
+     * @param objectMapper 헤더와 엔티티 직렬화에 사용할 매퍼
+     */
+    public static void write(Path target, SchemaSnapshot snapshot, ObjectMapper objectMapper) throws IOException {
+        List<String> names = new ArrayList<>(snapshot.entityNames());
+        List<byte[]> encodedNames = new ArrayList<>(names.size());
+        long indexSize = 0;
+        for (String name : names) {
+            byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+            if (encoded.length > 0xFFFF) {
+                throw new IOException("Entity name too long for snapshot store: " + name);
+            }
+            encodedNames.add(encoded);
+            indexSize += INDEX_ENTRY_FIXED_BYTES + encoded.length;
+        }
+        if (indexSize > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot store index too large: " + names.size() + " entities");
+        }
+
+        byte[] header = objectMapper.writeValueAsBytes(snapshot.header());
+        long indexStart = 4L * Integer.BYTES + header.length;
+
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer preamble = ByteBuffer.allocate((int) indexStart)
+                        .putInt(MAGIC)
+                        .putInt(FORMAT_VERSION)
+                        .putInt(header.length)
+                        .put(header)
+                        .putInt(names.size());
+                writeFully(channel, preamble.flip(), 0);
+
+                ByteBuffer index = ByteBuffer.allocate((int) indexSize);
+                long position = indexStart + indexSize;
+                for (int i = 0; i < names.size(); i++) {
+                    String name = names.get(i);
+                    byte[] record = objectMapper.writeValueAsBytes(snapshot.loadEntity(name));
+                    ByteBuffer framed = ByteBuffer.allocate(Integer.BYTES + record.length)
+                            .putInt(record.length)
+                            .put(record);
+                    writeFully(channel, framed.flip(), position);
+
+                    byte[] encoded = encodedNames.get(i);
+                    index.putShort((short) encoded.length)
+                            .put(encoded)
+                            .putLong(position)
+                            .putInt(record.length)
+                            .putLong(snapshot.fingerprint(name));
+                    position += Integer.BYTES + record.length;
+                }
+                writeFully(channel, index.flip(), indexStart);
+            }
+            moveReplacing(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 저장소 파일을 매핑하고 인덱스만 읽어 스냅샷을 엽니다.
+     *
+     * @param file         저장소 파일 경로
+     * @param objectMapper 헤더와 엔티티 역직렬화에 사용할 매퍼
+     * @throws IOException 파일 형식이 올바르지 않거나 읽을 수 없는 경우
+     */
+    public static SchemaSnapshot open(Path file, ObjectMapper objectMapper) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot store too large to map: " + file);
+            }
+            // 매핑은 채널을 닫은 뒤에도 유효
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a jinx snapshot store: " + file);
+            }
+            int format = buffer.getInt();
+            if (format != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot store format " + format + ": " + file);
+            }
+
+            byte[] header = new byte[buffer.getInt()];
+            buffer.get(header);
+            SchemaModel headerModel = objectMapper.readValue(header, SchemaModel.class);
+
+            int count = buffer.getInt();
+            TreeMap<String, Integer> slots = new TreeMap<>();
+            long[] offsets = new long[count];
+            int[] lengths = new int[count];
+            long[] fingerprints = new long[count];
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+                buffer.get(name);
+                offsets[i] = buffer.getLong();
+                lengths[i] = buffer.getInt();
+                fingerprints[i] = buffer.getLong();
+                slots.put(new String(name, StandardCharsets.UTF_8), i);
+            }
+
+            return new MappedSchemaSnapshot(file, buffer, objectMapper.readerFor(EntityModel.class),
+                    headerModel, slots, offsets, lengths, fingerprints);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted snapshot store: " + file, e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static final class MappedSchemaSnapshot implements SchemaSnapshot {
+
+        private final Path file;
+        private final MappedByteBuffer buffer;
+        private final ObjectReader entityReader;
+        private final SchemaModel header;
+        private final TreeMap<String, Integer> slots;
+        private final long[] offsets;
+        private final int[] lengths;
+        private final long[] fingerprints;
+
+        private MappedSchemaSnapshot(Path file, MappedByteBuffer buffer, ObjectReader entityReader, SchemaModel header,
+                                     TreeMap<String, Integer> slots, long[] offsets, int[] lengths, long[] fingerprints) {
+            this.file = file;
+            this.buffer = buffer;
+            this.entityReader = entityReader;
+            this.header = header;
+            this.slots = slots;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.fingerprints = fingerprints;
+        }
+
+        @Override
+        public String getVersion() {
+            return header.getVersion();
+        }
+
+        @Override
+        public NavigableSet<String> entityNames() {
+            return Collections.unmodifiableNavigableSet(slots.navigableKeySet());
+        }
+
+        @Override
+        public long fingerprint(String entityName) {
+            Integer slot = slots.get(entityName);
+            if (slot == null) {
+                throw new IllegalArgumentException("Unknown entity: " + entityName);
+            }
+            return fingerprints[slot];
+        }
+
+        @Override
+        public EntityModel loadEntity(String entityName) {
+            Integer slot = slots.get(entityName);
+            if (slot == null) {
+                return null;
+            }
+            try {
+                int offset = Math.toIntExact(offsets[slot]);
+                if (buffer.getInt(offset) != lengths[slot]) {
+                    throw new IOException("Corrupted record for entity '" + entityName + "'");
+                }
+                // 절대 위치 읽기만 사용하므로 여러 스레드에서 동시에 호출해도 안전
+                byte[] record = new byte[lengths[slot]];
+                buffer.get(offset + Integer.BYTES, record);
+                return entityReader.readValue(record);
+            } catch (IOException | IndexOutOfBoundsException | ArithmeticException e) {
+                throw new UncheckedIOException("Failed to load entity '" + entityName + "' from " + file,
+                        e instanceof IOException io ? io : new IOException(e));
+            }
+        }
+
+        @Override
+        public SchemaModel header() {
+            return SchemaModel.builder()
+                    .version(header.getVersion())
+                    .sequences(new LinkedHashMap<>(header.getSequences()))
+                    .tableGenerators(new LinkedHashMap<>(header.getTableGenerators()))
+                    .mappedSuperclasses(new HashMap<>(header.getMappedSuperclasses()))
+                    .embeddables(new HashMap<>(header.getEmbeddables()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.jinx.migration.snapshot;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.jinx.model.ClassInfoModel;
+import org.jinx.model.EntityModel;
+import org.jinx.model.SchemaModel;
+import org.jinx.model.SequenceModel;
+import org.jinx.model.TableGeneratorModel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+/**
+ * 스키마 JSON을 스트리밍으로 한 번 훑어 엔티티별 바이트 범위와 구조 지문만 인덱싱합니다.
+ *
+ * <p>엔티티 본문은 {@link SchemaSnapshot#loadEntity(String)} 호출 시점에 해당 바이트 범위만 읽어
+ * 디코딩합니다. 나머지 섹션(version, sequences, tableGenerators, mappedSuperclasses, embeddables)은
+ * 크기가 작으므로 인덱싱 중 즉시 로딩합니다.
+ */
+public final class StreamingSchemaLoader {
+
+    private static final TypeReference<Map<String, SequenceModel>> SEQUENCES = new TypeReference<>() {};
+    private static final TypeReference<Map<String, TableGeneratorModel>> TABLE_GENERATORS = new TypeReference<>() {};
+    private static final TypeReference<Map<String, ClassInfoModel>> CLASS_INFOS = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public StreamingSchemaLoader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 스키마 파일을 인덱싱합니다. 엔티티 본문은 디코딩하지 않습니다.
+     *
+     * @param file 스키마 JSON 파일
+     * @return 지연 로딩 스냅샷
+     * @throws IOException 파일을 읽을 수 없거나 JSON 구조가 올바르지 않은 경우
+     */
+    public SchemaSnapshot open(Path file) throws IOException {
+        TreeMap<String, EntityRecord> records = new TreeMap<>();
+        SchemaModel header = SchemaModel.builder().build();
+
+        try (InputStream in = Files.newInputStream(file);
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Schema file must start with a JSON object: " + file);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "version" -> header.setVersion(parser.getValueAsString());
+                    case "entities" -> indexEntities(parser, records, file);
+                    case "sequences" -> header.setSequences(orEmpty(objectMapper.readValue(parser, SEQUENCES), new LinkedHashMap<>()));
+                    case "tableGenerators" -> header.setTableGenerators(orEmpty(objectMapper.readValue(parser, TABLE_GENERATORS), new LinkedHashMap<>()));
+                    case "mappedSuperclasses" -> header.setMappedSuperclasses(orEmpty(objectMapper.readValue(parser, CLASS_INFOS), new HashMap<>()));
+                    case "embeddables" -> header.setEmbeddables(orEmpty(objectMapper.readValue(parser, CLASS_INFOS), new HashMap<>()));
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        return new JsonSchemaSnapshot(file, objectMapper.readerFor(EntityModel.class), header, records);
+    }
+
+    private void indexEntities(JsonParser parser, Map<String, EntityRecord> records, Path file) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IOException("'entities' must be a JSON object: " + file);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (value != JsonToken.START_OBJECT) {
+                throw new IOException("Entity '" + name + "' must be a JSON object: " + file);
+            }
+
+            long start = parser.getTokenLocation().getByteOffset();
+            long fingerprint = StructuralFingerprint.of(parser);
+            // 현재 토큰은 엔티티의 닫는 '}' (1 byte)
+            long end = parser.getTokenLocation().getByteOffset() + 1;
+
+            records.put(name, new EntityRecord(start, Math.toIntExact(end - start), fingerprint));
+        }
+    }
+
+    private static <T> Map<String, T> orEmpty(Map<String, T> value, Map<String, T> empty) {
+        return value != null ? value : empty;
+    }
+
+    record EntityRecord(long offset, int length, long fingerprint) {}
+
+    private static final class JsonSchemaSnapshot implements SchemaSnapshot {
+
+        private final Path file;
+        private final ObjectReader entityReader;
+        private final SchemaModel header;
+        private final TreeMap<String, EntityRecord> records;
+
+        private JsonSchemaSnapshot(Path file, ObjectReader entityReader, SchemaModel header,
+                                   TreeMap<String, EntityRecord> records) {
+            this.file = file;
+            this.entityReader = entityReader;
+            this.header = header;
+            this.records = records;
+        }
+
+        @Override
+        public String getVersion() {
+            return header.getVersion();
+        }
+
+        @Override
+        public NavigableSet<String> entityNames() {
+            return Collections.unmodifiableNavigableSet(records.navigableKeySet());
+        }
+
+        @Override
+        public long fingerprint(String entityName) {
+            EntityRecord record = records.get(entityName);
+            if (record == null) {
+                throw new IllegalArgumentException("Unknown entity: " + entityName);
+            }
+            return record.fingerprint();
+        }
+
+        @Override
+        public EntityModel loadEntity(String entityName) {
+            EntityRecord record = records.get(entityName);
+            if (record == null) {
+                return null;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate(record.length());
+                long position = record.offset();
+                while (buffer.hasRemaining()) {
+                    int read = channel.read(buffer, position);
+                    if (read < 0) {
+                        throw new IOException("Unexpected end of file while reading entity '" + entityName + "': " + file);
+                    }
+                    position += read;
+                }
+                return entityReader.readValue(buffer.array());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load entity '" + entityName + "' from " + file, e);
+            }
+        }
+
+        @Override
+        public SchemaModel header() {
+            return SchemaModel.builder()
+                    .version(header.getVersion())
+                    .sequences(new LinkedHashMap<>(header.getSequences()))
+                    .tableGenerators(new LinkedHashMap<>(header.getTableGenerators()))
+                    .mappedSuperclasses(new HashMap<>(header.getMappedSuperclasses()))
+                    .embeddables(new HashMap<>(header.getEmbeddables()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.jinx.migration.snapshot;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * JSON 토큰 스트림에서 트리를 만들지 않고 64비트 구조 지문을 계산합니다.
+ *
+ * <ul>
+ *   <li>객체 필드는 교환 법칙이 성립하는 합으로 결합하므로 필드 순서와 무관합니다.</li>
+ *   <li>null 값 필드는 건너뛰므로 NON_NULL 직렬화 결과와 기본 직렬화 결과가 같은 지문을 가집니다.</li>
+ *   <li>배열은 순서를 반영합니다.</li>
+ * </ul>
+ *
+ * baseline(정렬/NON_NULL)과 HEAD(들여쓰기/기본 설정)는 서로 다른 ObjectMapper로 기록되므로
+ * 원본 바이트 비교 대신 이 지문으로 변경 여부를 판단합니다.
+ */
+final class StructuralFingerprint {
+
+    private static final long OBJECT_SEED = 0x6a09e667f3bcc909L;
+    private static final long ARRAY_SEED = 0xbb67ae8584caa73bL;
+    private static final long STRING_SEED = 0x3c6ef372fe94f82bL;
+    private static final long NUMBER_SEED = 0xa54ff53a5f1d36f1L;
+    private static final long TRUE_HASH = 0x510e527fade682d1L;
+    private static final long FALSE_HASH = 0x9b05688c2b3e6c1fL;
+    private static final long NULL_HASH = 0x1f83d9abfb41bd6bL;
+
+    private StructuralFingerprint() {}
+
+    /**
+     * 파서의 현재 토큰에서 시작하는 값 하나를 소비하고 지문을 반환합니다.
+     * 반환 시 파서는 해당 값의 마지막 토큰(END_OBJECT/END_ARRAY 또는 스칼라)에 위치합니다.
+     */
+    static long of(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            throw new IOException("Unexpected end of input while fingerprinting");
+        }
+        return switch (token) {
+            case START_OBJECT -> {
+                long acc = OBJECT_SEED;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (value == JsonToken.VALUE_NULL) {
+                        continue;
+                    }
+                    acc += mix(hash(name) * 31 + of(parser));
+                }
+                yield mix(acc);
+            }
+            case START_ARRAY -> {
+                long acc = ARRAY_SEED;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    acc = mix(acc * 31 + of(parser));
+                }
+                yield acc;
+            }
+            case VALUE_STRING -> mix(STRING_SEED ^ hash(parser.getText()));
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> mix(NUMBER_SEED ^ hash(parser.getText()));
+            case VALUE_TRUE -> TRUE_HASH;
+            case VALUE_FALSE -> FALSE_HASH;
+            case VALUE_NULL -> NULL_HASH;
+            default -> throw new IOException("Unexpected token while fingerprinting: " + token);
+        };
+    }
+
+    // FNV-1a 64
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
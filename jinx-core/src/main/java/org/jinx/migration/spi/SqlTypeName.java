@@ -0,0 +1,112 @@
+package org.jinx.migration.spi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 카탈로그에 선언된 SQL 타입 문자열의 파싱 결과.
+ *
+ * <p>{@code character varying(100)}, {@code timestamp(6) without time zone}, {@code bigint unsigned}처럼
+ * DB마다 표기가 다른 타입을 기본 이름과 인자로 나누고, 별칭을 정규 이름으로 맞춘다.
+ * 라이브 스키마 조립, 드리프트 비교, 방언 타입 매퍼, H2 검사가 같은 규칙을 쓴다.
+ *
+ * @param base 정규화된 기본 타입 이름 (예: {@code varchar}, {@code integer}, {@code timestamp})
+ * @param args 괄호 안의 숫자 인자 (길이 또는 정밀도/스케일)
+ */
+public record SqlTypeName(String base, List<Integer> args) {
+
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+            Map.entry("character varying", "varchar"),
+            Map.entry("nvarchar", "varchar"),
+            Map.entry("character", "char"),
+            Map.entry("bpchar", "char"),
+            Map.entry("int", "integer"),
+            Map.entry("int4", "integer"),
+            Map.entry("serial", "integer"),
+            Map.entry("mediumint", "integer"),
+            Map.entry("int8", "bigint"),
+            Map.entry("bigserial", "bigint"),
+            Map.entry("int2", "smallint"),
+            Map.entry("smallserial", "smallint"),
+            Map.entry("bool", "boolean"),
+            Map.entry("double precision", "double"),
+            Map.entry("float8", "double"),
+            Map.entry("float4", "real"),
+            Map.entry("float", "real"),
+            Map.entry("decimal", "numeric"),
+            Map.entry("datetime", "timestamp"),
+            Map.entry("timestamp without time zone", "timestamp"),
+            Map.entry("timestamp with time zone", "timestamptz"),
+            Map.entry("time without time zone", "time"),
+            Map.entry("time with time zone", "timetz"),
+            Map.entry("tinytext", "text"),
+            Map.entry("mediumtext", "text"),
+            Map.entry("longtext", "text"),
+            Map.entry("clob", "text"),
+            Map.entry("character large object", "text"),
+            Map.entry("bytea", "blob"),
+            Map.entry("tinyblob", "blob"),
+            Map.entry("mediumblob", "blob"),
+            Map.entry("longblob", "blob"),
+            Map.entry("binary large object", "blob"),
+            Map.entry("binary varying", "varbinary")
+    );
+
+    public static SqlTypeName parse(String declared) {
+        String s = declared == null ? "" : declared.trim().toLowerCase(Locale.ROOT);
+        List<Integer> args = new ArrayList<>();
+
+        int open = s.indexOf('(');
+        int close = open >= 0 ? s.indexOf(')', open) : -1;
+        String base = s;
+        if (open >= 0 && close > open) {
+            for (String part : s.substring(open + 1, close).split(",")) {
+                try {
+                    args.add(Integer.parseInt(part.trim()));
+                } catch (NumberFormatException ignored) {
+                    // enum('a','b') 같은 비숫자 인자는 무시
+                }
+            }
+            base = (s.substring(0, open) + " " + s.substring(close + 1)).trim();
+        }
+        base = base.replaceAll("\\s+(unsigned|zerofill)\\b", "").replaceAll("\\s+", " ").trim();
+        if (base.endsWith("[]")) {
+            return new SqlTypeName("array", List.copyOf(args));
+        }
+        return new SqlTypeName(ALIASES.getOrDefault(base, base), List.copyOf(args));
+    }
+
+    public Integer arg(int i) {
+        return i < args.size() ? args.get(i) : null;
+    }
+
+    public boolean isCharacter() {
+        return base.equals("varchar") || base.equals("char");
+    }
+
+    /**
+     * 기본 이름에 대응하는 Java 타입 (역매핑). 대응이 없으면 {@code java.lang.Object}.
+     */
+    public String javaType() {
+        return switch (base) {
+            case "bigint" -> "java.lang.Long";
+            case "integer" -> "java.lang.Integer";
+            case "smallint" -> "java.lang.Short";
+            case "tinyint" -> Integer.valueOf(1).equals(arg(0)) ? "java.lang.Boolean" : "java.lang.Byte";
+            case "boolean", "bit" -> "java.lang.Boolean";
+            case "varchar", "char", "text", "enum", "json", "jsonb" -> "java.lang.String";
+            case "numeric" -> "java.math.BigDecimal";
+            case "double" -> "java.lang.Double";
+            case "real" -> "java.lang.Float";
+            case "date" -> "java.time.LocalDate";
+            case "time", "timetz" -> "java.time.LocalTime";
+            case "timestamp" -> "java.time.LocalDateTime";
+            case "timestamptz" -> "java.time.OffsetDateTime";
+            case "uuid" -> "java.util.UUID";
+            case "blob", "binary", "varbinary" -> "byte[]";
+            default -> "java.lang.Object";
+        };
+    }
+}
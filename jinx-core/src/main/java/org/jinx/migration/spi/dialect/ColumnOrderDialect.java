@@ -0,0 +1,15 @@
+package org.jinx.migration.spi.dialect;
+
+import org.jinx.model.ColumnModel;
+
+import java.util.List;
+
+/**
+ * {@code CREATE TABLE}의 물리적 컬럼 순서를 정하는 방언.
+ */
+public interface ColumnOrderDialect extends BaseDialect {
+    /**
+     * 새 테이블에 쓸 컬럼 순서. {@code pkColumns}는 PK 정의 순서이며 바꾸지 않는다.
+     */
+    List<ColumnModel> orderColumnsForCreate(List<ColumnModel> columns, List<String> pkColumns);
+}
@@ -25,6 +25,14 @@ public interface LiquibaseDialect extends BaseDialect{
     default String getUuidDefaultValue() {
         return null; // Most databases don't support UUID generation in DDL
     }
+
+    /**
+     * Gets the UUID default value expression for a specific column, for dialects whose
+     * expression depends on the column's storage type (e.g. MySQL BINARY(16) UUIDs)
+     */
+    default String getUuidDefaultValue(ColumnModel column) {
+        return getUuidDefaultValue();
+    }
     
     /**
      * Checks if the database supports IDENTITY columns
@@ -0,0 +1,62 @@
+package org.jinx.migration.spi.dialect;
+
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitioningModel;
+
+import java.util.Map;
+
+/**
+ * 선언적 테이블 파티셔닝을 지원하는 방언.
+ */
+public interface PartitionDialect extends BaseDialect {
+    /**
+     * 파티션 테이블용 {@link DdlDialect#closeCreateTable()}. {@code PARTITION BY} 절과
+     * 초기 파티션(PostgreSQL은 자식 테이블)까지 포함한다.
+     */
+    String closePartitionedTable(String table, PartitioningModel partitioning);
+
+    /**
+     * 테이블 옵션({@link TableOptionsDialect#tableOptionsOf})을 붙여 닫는다. 기본 구현은 옵션을 무시한다.
+     */
+    default String closePartitionedTable(String table, PartitioningModel partitioning, Map<String, String> options) {
+        return closePartitionedTable(table, partitioning);
+    }
+
+    /**
+     * 기존 파티션 테이블에 파티션 하나를 추가한다. {@code partitioning}은 새 파티션이 들어간 정의이다.
+     */
+    String getAddPartitionSql(String table, PartitioningModel partitioning, PartitionModel partition);
+
+    String getDropPartitionSql(String table, PartitioningModel partitioning, PartitionModel partition);
+
+    /**
+     * 유지보수용. 아직 없을 때만 RANGE 파티션 {@code [lowerBound, partition 상한)}을 만든다.
+     * 여러 번 실행해도 결과가 같아야 한다.
+     */
+    String getCreateRangePartitionIfMissingSql(String table, PartitioningModel partitioning,
+                                               PartitionModel partition, String lowerBound);
+
+    /**
+     * 유지보수용. 보존 기간이 지난 파티션을 떼어 내거나({@code detach}) 지운다.
+     *
+     * @throws IllegalArgumentException 떼어 내기를 지원하지 않는 DB
+     */
+    String getExpirePartitionSql(String table, PartitioningModel partitioning, PartitionModel partition, boolean detach);
+
+    /**
+     * 유지보수용. {@code partition}이 지금 {@code table}에 붙어 있으면 행 하나를, 아니면 빈 결과를 돌려주는 쿼리.
+     * 첫 컬럼은 중단된 떼어 내기가 남아 있는지(boolean)이다. 떼어 내기를 지원하지 않는 DB는 null.
+     */
+    default String getPartitionAttachedQuery(String table, PartitionModel partition) {
+        return null;
+    }
+
+    /**
+     * 유지보수용. 중단된 떼어 내기를 마무리한다.
+     *
+     * @throws IllegalArgumentException 떼어 내기를 지원하지 않는 DB
+     */
+    default String getFinalizeDetachPartitionSql(String table, PartitionModel partition) {
+        throw new IllegalArgumentException("Detaching partitions of " + table + " is not supported");
+    }
+}
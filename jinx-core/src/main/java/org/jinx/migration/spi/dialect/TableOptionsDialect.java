@@ -0,0 +1,26 @@
+package org.jinx.migration.spi.dialect;
+
+import org.jinx.model.TableOptionsModel;
+
+import java.util.Map;
+
+/**
+ * 테이블 저장 옵션({@code @TableOptions})을 지원하는 방언.
+ */
+public interface TableOptionsDialect extends BaseDialect {
+    /**
+     * 이 방언에 해당하는 옵션. {@code options}가 null이거나 해당 옵션이 없으면 빈 맵.
+     */
+    Map<String, String> tableOptionsOf(TableOptionsModel options);
+
+    /**
+     * 옵션을 붙인 {@link DdlDialect#closeCreateTable()}.
+     */
+    String closeCreateTable(Map<String, String> options);
+
+    /**
+     * 바뀐 옵션만 반영한다. 새로 생기거나 값이 바뀐 옵션은 설정하고, 사라진 옵션은 기본값으로 되돌린다.
+     * 두 맵이 같으면 빈 문자열.
+     */
+    String getAlterTableOptionsSql(String table, Map<String, String> oldOptions, Map<String, String> newOptions);
+}
@@ -3,7 +3,10 @@ package org.jinx.migration.spi.visitor;
 import org.jinx.model.ColumnModel;
 import org.jinx.model.ConstraintModel;
 import org.jinx.model.IndexModel;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitioningModel;
 import org.jinx.model.RelationshipModel;
+import org.jinx.model.TableOptionsModel;
 
 import java.util.List;
 
@@ -33,4 +36,11 @@ public interface TableContentVisitor extends SqlGeneratingVisitor {
     void visitAddedRelationship(RelationshipModel relationship);
     void visitDroppedRelationship(RelationshipModel relationship);
     void visitModifiedRelationship(RelationshipModel newRelationship, RelationshipModel oldRelationship);
+
+    // Partition
+    default void visitAddedPartition(String table, PartitioningModel partitioning, PartitionModel partition) {}
+    default void visitDroppedPartition(String table, PartitioningModel partitioning, PartitionModel partition) {}
+
+    // Table options
+    default void visitModifiedTableOptions(String table, TableOptionsModel newOptions, TableOptionsModel oldOptions) {}
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package org.jinx.migration.telemetry;
+
+/**
+ * 실행된 문장의 작업 종류. {@link org.jinx.model.DiffResult}의 변경 종류(테이블/컬럼/인덱스/제약/관계/시퀀스)에 대응한다.
+ * 소요 시간 통계와 추정은 이 단위로 묶는다.
+ */
+public enum DdlOperation {
+    CREATE_TABLE,
+    DROP_TABLE,
+    RENAME_TABLE,
+    ADD_COLUMN,
+    DROP_COLUMN,
+    MODIFY_COLUMN,
+    RENAME_COLUMN,
+    ADD_PRIMARY_KEY,
+    DROP_PRIMARY_KEY,
+    ADD_CONSTRAINT,
+    DROP_CONSTRAINT,
+    ADD_FOREIGN_KEY,
+    DROP_FOREIGN_KEY,
+    CREATE_INDEX,
+    DROP_INDEX,
+    SEQUENCE,
+    COMMENT,
+    DML,
+    OTHER
+}
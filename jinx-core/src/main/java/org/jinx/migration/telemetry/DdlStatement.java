@@ -0,0 +1,132 @@
+package org.jinx.migration.telemetry;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 생성된 SQL 문장 하나를 작업 종류와 대상 테이블로 분류한 결과.
+ *
+ * <p>apply 시점에는 diff가 아닌 SQL 파일만 있으므로, jinx가 생성하는 DDL 형태(MySQL/PostgreSQL)를 기준으로
+ * 문장 앞부분을 정규식으로 분류한다. 알 수 없는 문장은 {@link DdlOperation#OTHER}.
+ *
+ * @param table 대상 테이블 (스키마 접두사와 인용부호 제거, 알 수 없으면 null)
+ */
+public record DdlStatement(DdlOperation operation, String table) {
+
+    private static final String NAME = "([`\"\\[\\]\\w.$]+)";
+
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "^CREATE\\s+(?:TEMPORARY\\s+|UNLOGGED\\s+)?TABLE\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?" + NAME, Pattern.CASE_INSENSITIVE);
+    private static final Pattern DROP_TABLE = Pattern.compile(
+            "^DROP\\s+TABLE\\s+(?:IF\\s+EXISTS\\s+)?" + NAME, Pattern.CASE_INSENSITIVE);
+    private static final Pattern RENAME_TABLE = Pattern.compile("^RENAME\\s+TABLE\\s+" + NAME, Pattern.CASE_INSENSITIVE);
+    private static final Pattern ALTER_TABLE = Pattern.compile(
+            "^ALTER\\s+TABLE\\s+(?:IF\\s+EXISTS\\s+)?(?:ONLY\\s+)?" + NAME + "\\s+(.*)",
+            Pattern.DOTALL | Pattern.CASE_INSENSITIVE);
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "^CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+(?:CONCURRENTLY\\s+)?(?:IF\\s+NOT\\s+EXISTS\\s+)?(?:" + NAME + "\\s+)?"
+                    + "ON\\s+(?:ONLY\\s+)?" + NAME, Pattern.CASE_INSENSITIVE);
+    private static final Pattern DROP_INDEX = Pattern.compile(
+            "^DROP\\s+INDEX\\s+(?:CONCURRENTLY\\s+)?(?:IF\\s+EXISTS\\s+)?" + NAME + "(?:\\s+ON\\s+" + NAME + ")?",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern SEQUENCE = Pattern.compile("^(?:CREATE|ALTER|DROP)\\s+SEQUENCE\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern COMMENT = Pattern.compile("^COMMENT\\s+ON\\s+(?:TABLE|COLUMN)\\s+" + NAME, Pattern.CASE_INSENSITIVE);
+    private static final Pattern DML = Pattern.compile(
+            "^(?:INSERT\\s+(?:IGNORE\\s+)?INTO|UPDATE|DELETE\\s+FROM)\\s+" + NAME, Pattern.CASE_INSENSITIVE);
+
+    public static DdlStatement classify(String sql) {
+        String s = sql == null ? "" : sql.strip();
+        Matcher m;
+        if ((m = CREATE_TABLE.matcher(s)).find()) {
+            return of(DdlOperation.CREATE_TABLE, m, 1);
+        }
+        if ((m = DROP_TABLE.matcher(s)).find()) {
+            return of(DdlOperation.DROP_TABLE, m, 1);
+        }
+        if ((m = RENAME_TABLE.matcher(s)).find()) {
+            return of(DdlOperation.RENAME_TABLE, m, 1);
+        }
+        if ((m = ALTER_TABLE.matcher(s)).find()) {
+            return of(alterOperation(m.group(2).toUpperCase(Locale.ROOT)), m, 1);
+        }
+        if ((m = CREATE_INDEX.matcher(s)).find()) {
+            return of(DdlOperation.CREATE_INDEX, m, 2);
+        }
+        if ((m = DROP_INDEX.matcher(s)).find()) {
+            return of(DdlOperation.DROP_INDEX, m, 2);
+        }
+        if (SEQUENCE.matcher(s).find()) {
+            return new DdlStatement(DdlOperation.SEQUENCE, null);
+        }
+        if ((m = COMMENT.matcher(s)).find()) {
+            // COMMENT ON COLUMN t.c 는 테이블 부분만 남김
+            String target = m.group(1);
+            boolean column = s.regionMatches(true, 0, "COMMENT ON COLUMN", 0, 17) && target.lastIndexOf('.') > 0;
+            return new DdlStatement(DdlOperation.COMMENT,
+                    unquote(column ? target.substring(0, target.lastIndexOf('.')) : target));
+        }
+        if ((m = DML.matcher(s)).find()) {
+            return of(DdlOperation.DML, m, 1);
+        }
+        return new DdlStatement(DdlOperation.OTHER, null);
+    }
+
+    private static DdlOperation alterOperation(String action) {
+        if (action.startsWith("RENAME COLUMN")) {
+            return DdlOperation.RENAME_COLUMN;
+        }
+        if (action.startsWith("RENAME TO") || action.startsWith("RENAME ")) {
+            return DdlOperation.RENAME_TABLE;
+        }
+        if (action.startsWith("DROP PRIMARY KEY")) {
+            return DdlOperation.DROP_PRIMARY_KEY;
+        }
+        if (action.startsWith("DROP FOREIGN KEY")) {
+            return DdlOperation.DROP_FOREIGN_KEY;
+        }
+        if (action.startsWith("DROP CONSTRAINT") || action.startsWith("DROP CHECK")) {
+            return DdlOperation.DROP_CONSTRAINT;
+        }
+        if (action.startsWith("DROP INDEX") || action.startsWith("DROP KEY")) {
+            return DdlOperation.DROP_INDEX;
+        }
+        if (action.startsWith("DROP")) {
+            return DdlOperation.DROP_COLUMN;
+        }
+        if (action.startsWith("ADD")) {
+            String rest = action.substring(3).strip();
+            if (rest.startsWith("CONSTRAINT")) {
+                rest = rest.replaceFirst("^CONSTRAINT\\s+\\S+\\s+", "");
+            }
+            if (rest.startsWith("PRIMARY KEY")) {
+                return DdlOperation.ADD_PRIMARY_KEY;
+            }
+            if (rest.startsWith("FOREIGN KEY")) {
+                return DdlOperation.ADD_FOREIGN_KEY;
+            }
+            if (rest.startsWith("UNIQUE INDEX") || rest.startsWith("UNIQUE KEY") || rest.startsWith("INDEX")
+                    || rest.startsWith("KEY") || rest.startsWith("FULLTEXT") || rest.startsWith("SPATIAL")) {
+                return DdlOperation.CREATE_INDEX;
+            }
+            if (rest.startsWith("UNIQUE") || rest.startsWith("CHECK") || rest.startsWith("EXCLUDE")
+                    || action.substring(3).strip().startsWith("CONSTRAINT")) {
+                return DdlOperation.ADD_CONSTRAINT;
+            }
+            return DdlOperation.ADD_COLUMN;
+        }
+        if (action.startsWith("MODIFY") || action.startsWith("CHANGE") || action.startsWith("ALTER")) {
+            return DdlOperation.MODIFY_COLUMN;
+        }
+        return DdlOperation.OTHER;
+    }
+
+    private static DdlStatement of(DdlOperation operation, Matcher m, int group) {
+        return new DdlStatement(operation, m.group(group) != null ? unquote(m.group(group)) : null);
+    }
+
+    private static String unquote(String name) {
+        String last = name.substring(name.lastIndexOf('.') + 1);
+        return last.replaceAll("[`\"\\[\\]]", "");
+    }
+}
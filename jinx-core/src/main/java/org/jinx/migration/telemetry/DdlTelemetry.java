@@ -0,0 +1,29 @@
+package org.jinx.migration.telemetry;
+
+import java.time.Instant;
+
+/**
+ * 실행된 문장 하나의 측정값. 마이그레이션 소요 시간 추정의 입력이 된다.
+ *
+ * @param schemaHash     적용한 HEAD 해시 ({@code jinx_schema_history.schema_hash}와 같은 형식, 없으면 null)
+ * @param migrationId    마이그레이션 식별자 (스크립트 파일명)
+ * @param statementIndex 스크립트 내 문장 위치 (0부터)
+ * @param table          대상 테이블 (알 수 없으면 null)
+ * @param dialect        DB 제품명 (소문자, 예: postgresql, mysql)
+ * @param elapsedMillis  실행 시간
+ * @param lockWaitMillis 실행 중 잠금 대기 시간 (측정할 수 없으면 null)
+ * @param tableRows      실행 직전 테이블의 추정 행 수 (알 수 없으면 null)
+ */
+public record DdlTelemetry(
+        String schemaHash,
+        String migrationId,
+        int statementIndex,
+        String table,
+        DdlOperation operation,
+        String dialect,
+        long elapsedMillis,
+        Long lockWaitMillis,
+        Long tableRows,
+        Instant executedAt
+) {
+}
@@ -0,0 +1,158 @@
+package org.jinx.migration.telemetry;
+
+import org.jinx.migration.execution.JdbcMigrationExecutor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link JdbcMigrationExecutor}의 문장별 콜백을 받아 {@link DdlTelemetry}를 모은다.
+ *
+ * <p>테이블 크기는 실행 전에 {@link #prepare(List)}에서 대상 테이블 전체를 한 번의 카탈로그 쿼리로 읽는다
+ * (PostgreSQL {@code pg_class.reltuples}, MySQL {@code information_schema.TABLES.TABLE_ROWS}; 둘 다 통계 기반 추정치).
+ * 잠금 대기 시간은 MySQL에서만 {@code performance_schema}의 문장 이력으로 측정하며, 그 외에는 null로 남긴다.
+ * 측정 실패는 마이그레이션을 방해하지 않도록 모두 무시한다.
+ */
+public class DdlTelemetryRecorder implements JdbcMigrationExecutor.Listener {
+
+    private final Connection connection;
+    private final String migrationId;
+    private final String schemaHash;
+    private final String dialect;
+    private final List<DdlTelemetry> records = new ArrayList<>();
+    private Map<String, Long> tableRows = Map.of();
+    private boolean lockWaitProbe;
+
+    /**
+     * @param schemaHash 적용하는 HEAD 해시 ({@code sha256:} 접두사 제외, 없으면 null)
+     */
+    public DdlTelemetryRecorder(Connection connection, String migrationId, String schemaHash) throws SQLException {
+        this.connection = connection;
+        this.migrationId = migrationId;
+        this.schemaHash = schemaHash;
+        this.dialect = dialectOf(connection);
+        this.lockWaitProbe = dialect.contains("mysql");
+    }
+
+    /**
+     * 실행 전에 호출해 대상 테이블의 행 수를 읽어 둔다.
+     */
+    public void prepare(List<String> statements) {
+        Set<String> tables = new LinkedHashSet<>();
+        for (String sql : statements) {
+            DdlStatement statement = DdlStatement.classify(sql);
+            if (statement.table() != null && statement.operation() != DdlOperation.CREATE_TABLE) {
+                tables.add(statement.table());
+            }
+        }
+        tableRows = estimateTableRows(connection, dialect, tables);
+    }
+
+    @Override
+    public void onStatement(JdbcMigrationExecutor.StatementResult result, int total) {
+        if (result.skipped()) {
+            return;
+        }
+        DdlStatement statement = DdlStatement.classify(result.sql());
+        Long rows = statement.table() != null ? tableRows.get(key(statement.table())) : null;
+        if (rows == null && statement.operation() == DdlOperation.CREATE_TABLE) {
+            rows = 0L;
+        }
+        records.add(new DdlTelemetry(schemaHash, migrationId, result.index(), statement.table(),
+                statement.operation(), dialect, result.durationMillis(), lockWaitMillis(result.sql()), rows,
+                Instant.now()));
+    }
+
+    public List<DdlTelemetry> records() {
+        return List.copyOf(records);
+    }
+
+    public String dialect() {
+        return dialect;
+    }
+
+    /**
+     * 테이블별 추정 행 수. 지원하지 않는 DB이거나 조회에 실패하면 빈 맵.
+     *
+     * @return 소문자 테이블명 → 행 수
+     */
+    public static Map<String, Long> estimateTableRows(Connection connection, String dialect, Collection<String> tables) {
+        if (tables.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(tables.size(), "?"));
+        String sql;
+        if (dialect.contains("postgresql")) {
+            sql = "SELECT c.relname, c.reltuples::bigint FROM pg_class c"
+                    + " JOIN pg_namespace n ON n.oid = c.relnamespace"
+                    + " WHERE n.nspname = current_schema() AND c.relkind IN ('r', 'p') AND c.relname IN (" + placeholders + ")";
+        } else if (dialect.contains("mysql") || dialect.contains("mariadb")) {
+            sql = "SELECT TABLE_NAME, TABLE_ROWS FROM information_schema.TABLES"
+                    + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN (" + placeholders + ")";
+        } else {
+            return Map.of();
+        }
+        Map<String, Long> rows = new HashMap<>();
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            int i = 1;
+            for (String table : tables) {
+                stmt.setString(i++, table);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    long count = rs.getLong(2);
+                    // PostgreSQL은 ANALYZE 전 테이블의 reltuples가 -1
+                    if (!rs.wasNull() && count >= 0) {
+                        rows.put(key(rs.getString(1)), count);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            return Map.of();
+        }
+        return rows;
+    }
+
+    /**
+     * MySQL: 현재 스레드의 최근 문장 이력에서 방금 실행한 문장의 LOCK_TIME(피코초)을 읽는다.
+     * 체크포인트 기록 문장이 그 사이에 끼므로 SQL 앞부분으로 찾는다.
+     */
+    private Long lockWaitMillis(String sql) {
+        if (!lockWaitProbe) {
+            return null;
+        }
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT LOCK_TIME FROM performance_schema.events_statements_history"
+                        + " WHERE THREAD_ID = PS_CURRENT_THREAD_ID() AND LEFT(SQL_TEXT, 200) = LEFT(?, 200)"
+                        + " ORDER BY EVENT_ID DESC LIMIT 1")) {
+            stmt.setString(1, sql);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) / 1_000_000_000L : null;
+            }
+        } catch (SQLException e) {
+            // performance_schema 비활성 또는 권한 없음: 이후 측정 생략
+            lockWaitProbe = false;
+            return null;
+        }
+    }
+
+    private static String dialectOf(Connection connection) throws SQLException {
+        return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+    }
+
+    private static String key(String table) {
+        return table.toLowerCase(Locale.ROOT);
+    }
+}
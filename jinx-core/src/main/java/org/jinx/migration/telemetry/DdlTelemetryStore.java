@@ -0,0 +1,18 @@
+package org.jinx.migration.telemetry;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 문장 측정값 저장소. DB 테이블({@link JdbcDdlTelemetryStore})이나 로컬 JSONL 파일({@link JsonlDdlTelemetryStore})에 쌓는다.
+ * 기록은 추가만 하며 수정하지 않는다.
+ */
+public interface DdlTelemetryStore {
+
+    void append(List<DdlTelemetry> records) throws IOException;
+
+    /**
+     * @param dialect 이 DB 제품의 기록만 (null이면 전체)
+     */
+    List<DdlTelemetry> load(String dialect) throws IOException;
+}
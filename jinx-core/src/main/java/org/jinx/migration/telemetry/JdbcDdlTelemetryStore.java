@@ -0,0 +1,151 @@
+package org.jinx.migration.telemetry;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code jinx_ddl_telemetry} 테이블에 문장 측정값을 쌓는다.
+ * {@code schema_hash}는 {@code jinx_schema_history}와 같은 값이므로 두 테이블을 해시로 조인할 수 있다.
+ */
+public class JdbcDdlTelemetryStore implements DdlTelemetryStore {
+
+    public static final String TABLE_NAME = "jinx_ddl_telemetry";
+
+    private final Connection connection;
+
+    public JdbcDdlTelemetryStore(Connection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public void append(List<DdlTelemetry> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            ensureTable();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO jinx_ddl_telemetry (schema_hash, migration_id, statement_index, table_name, operation,"
+                            + " dialect, elapsed_ms, lock_wait_ms, table_rows, executed_at)"
+                            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                for (DdlTelemetry t : records) {
+                    insert.setString(1, t.schemaHash());
+                    insert.setString(2, t.migrationId());
+                    insert.setInt(3, t.statementIndex());
+                    insert.setString(4, t.table());
+                    insert.setString(5, t.operation().name());
+                    insert.setString(6, t.dialect());
+                    insert.setLong(7, t.elapsedMillis());
+                    setNullableLong(insert, 8, t.lockWaitMillis());
+                    setNullableLong(insert, 9, t.tableRows());
+                    insert.setTimestamp(10, Timestamp.from(t.executedAt() != null ? t.executedAt() : Instant.now()));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to record DDL telemetry: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<DdlTelemetry> load(String dialect) throws IOException {
+        List<DdlTelemetry> records = new ArrayList<>();
+        try {
+            if (!tableExists()) {
+                return records;
+            }
+            String sql = "SELECT schema_hash, migration_id, statement_index, table_name, operation, dialect,"
+                    + " elapsed_ms, lock_wait_ms, table_rows, executed_at FROM jinx_ddl_telemetry"
+                    + (dialect != null ? " WHERE dialect = ?" : "");
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                if (dialect != null) {
+                    stmt.setString(1, dialect);
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        Timestamp executedAt = rs.getTimestamp(10);
+                        records.add(new DdlTelemetry(
+                                rs.getString(1),
+                                rs.getString(2),
+                                rs.getInt(3),
+                                rs.getString(4),
+                                parseOperation(rs.getString(5)),
+                                rs.getString(6),
+                                rs.getLong(7),
+                                getNullableLong(rs, 8),
+                                getNullableLong(rs, 9),
+                                executedAt != null ? executedAt.toInstant() : null));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Failed to load DDL telemetry: " + e.getMessage(), e);
+        }
+        return records;
+    }
+
+    private void ensureTable() throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS jinx_ddl_telemetry (
+                    schema_hash VARCHAR(128),
+                    migration_id VARCHAR(255) NOT NULL,
+                    statement_index INT NOT NULL,
+                    table_name VARCHAR(255),
+                    operation VARCHAR(32) NOT NULL,
+                    dialect VARCHAR(32),
+                    elapsed_ms BIGINT NOT NULL,
+                    lock_wait_ms BIGINT,
+                    table_rows BIGINT,
+                    executed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+        }
+    }
+
+    private boolean tableExists() throws SQLException {
+        return tableExists(TABLE_NAME) || tableExists(TABLE_NAME.toUpperCase(Locale.ROOT));
+    }
+
+    private boolean tableExists(String name) throws SQLException {
+        try (ResultSet rs = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), name,
+                new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+
+    static DdlOperation parseOperation(String name) {
+        try {
+            return name != null ? DdlOperation.valueOf(name) : DdlOperation.OTHER;
+        } catch (IllegalArgumentException e) {
+            return DdlOperation.OTHER;
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement stmt, int index, Long value) throws SQLException {
+        if (value != null) {
+            stmt.setLong(index, value);
+        } else {
+            stmt.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static Long getNullableLong(ResultSet rs, int index) throws SQLException {
+        long value = rs.getLong(index);
+        return rs.wasNull() ? null : value;
+    }
+}
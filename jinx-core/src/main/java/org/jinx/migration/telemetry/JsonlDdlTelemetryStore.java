@@ -0,0 +1,107 @@
+package org.jinx.migration.telemetry;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 JSONL 파일(한 줄에 측정값 하나)에 문장 측정값을 쌓는다. DB에 jinx 테이블을 만들 수 없는 환경용.
+ */
+public class JsonlDdlTelemetryStore implements DdlTelemetryStore {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+
+    public JsonlDdlTelemetryStore(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public void append(List<DdlTelemetry> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (DdlTelemetry record : records) {
+                writer.write(MAPPER.writeValueAsString(toJson(record)));
+                writer.newLine();
+            }
+        }
+    }
+
+    @Override
+    public List<DdlTelemetry> load(String dialect) throws IOException {
+        List<DdlTelemetry> records = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return records;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                DdlTelemetry record = fromJson(MAPPER.readTree(line));
+                if (dialect == null || dialect.equals(record.dialect())) {
+                    records.add(record);
+                }
+            }
+        }
+        return records;
+    }
+
+    private static ObjectNode toJson(DdlTelemetry t) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("schemaHash", t.schemaHash());
+        node.put("migrationId", t.migrationId());
+        node.put("statementIndex", t.statementIndex());
+        node.put("table", t.table());
+        node.put("operation", t.operation().name());
+        node.put("dialect", t.dialect());
+        node.put("elapsedMs", t.elapsedMillis());
+        node.put("lockWaitMs", t.lockWaitMillis());
+        node.put("tableRows", t.tableRows());
+        node.put("executedAt", t.executedAt() != null ? t.executedAt().toString() : null);
+        return node;
+    }
+
+    private static DdlTelemetry fromJson(JsonNode node) {
+        return new DdlTelemetry(
+                text(node, "schemaHash"),
+                text(node, "migrationId"),
+                node.path("statementIndex").asInt(),
+                text(node, "table"),
+                JdbcDdlTelemetryStore.parseOperation(text(node, "operation")),
+                text(node, "dialect"),
+                node.path("elapsedMs").asLong(),
+                number(node, "lockWaitMs"),
+                number(node, "tableRows"),
+                text(node, "executedAt") != null ? Instant.parse(text(node, "executedAt")) : null);
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static Long number(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asLong();
+    }
+}
@@ -0,0 +1,117 @@
+package org.jinx.migration.telemetry;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 과거 측정값으로 새 마이그레이션의 실행 시간을 추정한다.
+ *
+ * <p>작업 종류별로 {@code 소요 시간 = 고정 비용 + 행당 비용 × 행 수} 직선을 최소제곱으로 맞춘다.
+ * 행 수가 다른 표본이 둘 이상 있어야 직선을 쓰고, 그렇지 않거나 대상 테이블 크기를 모르면 중앙값을 쓴다.
+ * 해당 작업의 표본이 없으면 추정하지 않는다 (합계에서 제외하고 따로 센다).
+ */
+public class MigrationRuntimeEstimator {
+
+    /** 추정할 문장 하나 */
+    public record PlannedStatement(int index, String sql, DdlStatement statement, Long tableRows) {}
+
+    /**
+     * @param estimatedMillis 추정 시간 (표본이 없으면 null)
+     * @param sampleCount     추정에 쓴 과거 표본 수
+     */
+    public record StatementEstimate(PlannedStatement planned, Long estimatedMillis, int sampleCount) {}
+
+    public record Estimate(List<StatementEstimate> statements) {
+        public long totalMillis() {
+            return statements.stream()
+                    .filter(s -> s.estimatedMillis() != null)
+                    .mapToLong(StatementEstimate::estimatedMillis)
+                    .sum();
+        }
+
+        public long unestimatedCount() {
+            return statements.stream().filter(s -> s.estimatedMillis() == null).count();
+        }
+    }
+
+    /** 작업 종류 하나의 모델 */
+    record OperationModel(int samples, double intercept, double perRow, double median, boolean linear) {
+        long predict(Long rows) {
+            double value = linear && rows != null ? intercept + perRow * rows : median;
+            return Math.max(0, Math.round(value));
+        }
+    }
+
+    private final Map<DdlOperation, OperationModel> models = new EnumMap<>(DdlOperation.class);
+
+    public MigrationRuntimeEstimator(List<DdlTelemetry> history) {
+        Map<DdlOperation, List<DdlTelemetry>> byOperation = new EnumMap<>(DdlOperation.class);
+        for (DdlTelemetry t : history) {
+            byOperation.computeIfAbsent(t.operation(), k -> new ArrayList<>()).add(t);
+        }
+        byOperation.forEach((operation, samples) -> models.put(operation, fit(samples)));
+    }
+
+    public Estimate estimate(List<PlannedStatement> planned) {
+        List<StatementEstimate> result = new ArrayList<>(planned.size());
+        for (PlannedStatement p : planned) {
+            OperationModel model = models.get(p.statement().operation());
+            result.add(model == null
+                    ? new StatementEstimate(p, null, 0)
+                    : new StatementEstimate(p, model.predict(p.tableRows()), model.samples()));
+        }
+        return new Estimate(result);
+    }
+
+    /**
+     * 문장을 분류하고 테이블 크기를 붙인다.
+     *
+     * @param tableRows 소문자 테이블명 → 행 수 (모르면 빈 맵)
+     */
+    public static List<PlannedStatement> plan(List<String> statements, Map<String, Long> tableRows) {
+        List<PlannedStatement> planned = new ArrayList<>(statements.size());
+        for (int i = 0; i < statements.size(); i++) {
+            DdlStatement statement = DdlStatement.classify(statements.get(i));
+            Long rows = statement.operation() == DdlOperation.CREATE_TABLE ? Long.valueOf(0L)
+                    : statement.table() != null ? tableRows.get(statement.table().toLowerCase(Locale.ROOT)) : null;
+            planned.add(new PlannedStatement(i, statements.get(i), statement, rows));
+        }
+        return planned;
+    }
+
+    static OperationModel fit(List<DdlTelemetry> samples) {
+        double median = median(samples.stream().mapToLong(DdlTelemetry::elapsedMillis).sorted().toArray());
+
+        List<DdlTelemetry> sized = samples.stream().filter(t -> t.tableRows() != null).toList();
+        long distinctRows = sized.stream().mapToLong(DdlTelemetry::tableRows).distinct().count();
+        if (distinctRows < 2) {
+            return new OperationModel(samples.size(), 0, 0, median, false);
+        }
+
+        double n = sized.size();
+        double meanX = sized.stream().mapToDouble(DdlTelemetry::tableRows).sum() / n;
+        double meanY = sized.stream().mapToDouble(DdlTelemetry::elapsedMillis).sum() / n;
+        double sxx = 0;
+        double sxy = 0;
+        for (DdlTelemetry t : sized) {
+            double dx = t.tableRows() - meanX;
+            sxx += dx * dx;
+            sxy += dx * (t.elapsedMillis() - meanY);
+        }
+        // 행이 많을수록 빨라지는 직선은 잡음이므로 0으로 자름
+        double perRow = Math.max(0, sxy / sxx);
+        double intercept = Math.max(0, meanY - perRow * meanX);
+        return new OperationModel(samples.size(), intercept, perRow, median, true);
+    }
+
+    private static double median(long[] sorted) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2.0;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.jinx.migration.spi.visitor.SequenceVisitor;
 import org.jinx.migration.spi.visitor.TableContentVisitor;
 import org.jinx.migration.spi.visitor.TableGeneratorVisitor;
@@ -92,6 +93,9 @@ public class DiffResult {
         @Builder.Default private List<IndexDiff> indexDiffs = new ArrayList<>();
         @Builder.Default private List<ConstraintDiff> constraintDiffs = new ArrayList<>();
         @Builder.Default private List<RelationshipDiff> relationshipDiffs = new ArrayList<>();
+        @Builder.Default private List<PartitionDiff> partitionDiffs = new ArrayList<>();
+        /** 테이블 저장 옵션이 바뀌지 않았으면 null */
+        @Setter private TableOptionsDiff tableOptionsDiff;
         @Builder.Default private List<String> warnings = new ArrayList<>();
 
         public void accept(TableContentVisitor v, TableContentPhase phase) {
@@ -109,6 +113,8 @@ public class DiffResult {
                     for (ColumnDiff d : columnDiffs) if (d.getType() == ColumnDiff.Type.DROPPED) v.visitDroppedColumn(d.getColumn());
                     // 4) 컬럼 리네임은 DROP 직후 처리 (FK 제거된 상태에서 안전)
                     for (ColumnDiff d : columnDiffs) if (d.getType() == ColumnDiff.Type.RENAMED) v.visitRenamedColumn(d.getColumn(), d.getOldColumn());
+                    // 5) 파티션 드롭
+                    for (PartitionDiff d : partitionDiffs) if (d.getType() == PartitionDiff.Type.DROPPED) v.visitDroppedPartition(oldEntity.getTableName(), oldEntity.getPartitioning(), d.getPartition());
                 }
                 case ALTER -> {
                     // 컬럼 추가/수정, 인덱스/제약 추가 및 수정 (FK 제외)
@@ -124,6 +130,8 @@ public class DiffResult {
                         if (d.getType() == ConstraintDiff.Type.ADDED) v.visitAddedConstraint(d.getConstraint());
                         else if (d.getType() == ConstraintDiff.Type.MODIFIED) v.visitModifiedConstraint(d.getConstraint(), d.getOldConstraint());
                     }
+                    for (PartitionDiff d : partitionDiffs) if (d.getType() == PartitionDiff.Type.ADDED) v.visitAddedPartition(newEntity.getTableName(), newEntity.getPartitioning(), d.getPartition());
+                    if (tableOptionsDiff != null) v.visitModifiedTableOptions(newEntity.getTableName(), tableOptionsDiff.getNewOptions(), tableOptionsDiff.getOldOptions());
                 }
                 case FK_ADD -> {
                     // FK 추가 / modify(add-part)
@@ -194,6 +202,22 @@ public class DiffResult {
         private Boolean requiresDropAdd = false;
     }
 
+    @Builder
+    @Getter
+    public static class PartitionDiff {
+        public enum Type { ADDED, DROPPED }
+        private Type type;
+        private PartitionModel partition;
+        private String changeDetail;
+    }
+
+    @Builder
+    @Getter
+    public static class TableOptionsDiff {
+        private TableOptionsModel newOptions;
+        private TableOptionsModel oldOptions;
+    }
+
     @Builder
     @Getter
     public static class SequenceDiff {
@@ -59,6 +59,14 @@ public class EntityModel {
     @Builder.Default
     private String discriminatorValue = null;
 
+    /** 선언적 파티셔닝. 파티션 테이블이 아니면 null */
+    @Builder.Default
+    private PartitioningModel partitioning = null;
+
+    /** 테이블 저장 옵션({@code @TableOptions}). 없으면 null */
+    @Builder.Default
+    private TableOptionsModel tableOptions = null;
+
     public enum TableType {
         ENTITY, JOIN_TABLE, COLLECTION_TABLE
     }
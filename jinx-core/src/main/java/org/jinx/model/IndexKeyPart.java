@@ -0,0 +1,142 @@
+package org.jinx.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 인덱스 키 하나. 컬럼 또는 식({@code lower(email)})과 정렬 방향, NULL 정렬 위치를 담는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class IndexKeyPart {
+
+    public enum NullsOrder { FIRST, LAST }
+
+    private String column;
+    private boolean descending;
+    /** 컬럼 대신 쓰는 식. 있으면 {@code column}은 null */
+    private String expression;
+    /** null이면 DB 기본 위치 */
+    private NullsOrder nulls;
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*");
+    private static final Pattern ORDERING = Pattern.compile(
+            "^(.*?)(?:\\s+(ASC|DESC))?(?:\\s+NULLS\\s+(FIRST|LAST))?$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    public IndexKeyPart(String column, boolean descending) {
+        this(column, descending, null, null);
+    }
+
+    public static IndexKeyPart expression(String expression, boolean descending, NullsOrder nulls) {
+        return new IndexKeyPart(null, descending, expression, nulls);
+    }
+
+    public boolean hasExpression() {
+        return expression != null && !expression.isBlank();
+    }
+
+    /**
+     * 식이면 식, 아니면 컬럼 이름. {@link IndexModel#getColumnNames()}에 이 값을 넣는다.
+     */
+    public String target() {
+        return hasExpression() ? expression : column;
+    }
+
+    /**
+     * 오름차순 컬럼이고 NULL 위치도 기본값인지.
+     */
+    @JsonIgnore
+    public boolean isPlain() {
+        return !hasExpression() && !descending && nulls == null;
+    }
+
+    /**
+     * {@code "col"}, {@code "col DESC NULLS LAST"}, {@code "lower(email)"} 형식의 키 명세를 해석한다.
+     * 식별자가 아니면 식으로 본다. 식 전체를 감싼 괄호는 벗긴다.
+     */
+    public static IndexKeyPart parse(String spec) {
+        Matcher m = ORDERING.matcher(spec.trim());
+        m.matches();
+        String target = m.group(1).trim();
+        boolean desc = m.group(2) != null && m.group(2).equalsIgnoreCase("DESC");
+        NullsOrder nulls = m.group(3) != null ? NullsOrder.valueOf(m.group(3).toUpperCase(Locale.ROOT)) : null;
+
+        if (IDENTIFIER.matcher(target).matches()) {
+            return new IndexKeyPart(target, desc, null, nulls);
+        }
+        while (target.startsWith("(") && target.endsWith(")") && closingParen(target, 0) == target.length() - 1) {
+            target = target.substring(1, target.length() - 1).trim();
+        }
+        return expression(target, desc, nulls);
+    }
+
+    /**
+     * 쉼표로 구분한 키 목록을 해석한다. 괄호와 따옴표 안의 쉼표는 나누지 않고, 빈 항목은 건너뛴다.
+     */
+    public static List<IndexKeyPart> parseList(String columnList) {
+        List<IndexKeyPart> parts = new ArrayList<>();
+        if (columnList == null) {
+            return parts;
+        }
+        int depth = 0;
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i <= columnList.length(); i++) {
+            char ch = i < columnList.length() ? columnList.charAt(i) : ',';
+            if (ch == '\'') quoted = !quoted;
+            else if (!quoted && ch == '(') depth++;
+            else if (!quoted && ch == ')') depth--;
+            else if (!quoted && depth == 0 && ch == ',') {
+                String token = columnList.substring(start, Math.min(i, columnList.length()));
+                if (!token.isBlank()) {
+                    parts.add(parse(token));
+                }
+                start = i + 1;
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * 인덱스의 키 목록. {@code keyParts}가 없으면 {@code columnNames}를 오름차순 키로 본다.
+     */
+    public static List<IndexKeyPart> partsOf(IndexModel index) {
+        if (index.getKeyParts() != null && !index.getKeyParts().isEmpty()) {
+            return index.getKeyParts();
+        }
+        List<IndexKeyPart> parts = new ArrayList<>();
+        if (index.getColumnNames() != null) {
+            for (String c : index.getColumnNames()) {
+                parts.add(new IndexKeyPart(c, false));
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * 모두 평범한 오름차순 컬럼이면 null. 모델에는 기본값이 아닌 경우만 {@code keyParts}로 남긴다.
+     */
+    public static List<IndexKeyPart> nullIfPlain(List<IndexKeyPart> parts) {
+        return parts.stream().allMatch(IndexKeyPart::isPlain) ? null : parts;
+    }
+
+    private static int closingParen(String s, int open) {
+        int depth = 0;
+        for (int i = open; i < s.length(); i++) {
+            if (s.charAt(i) == '(') depth++;
+            else if (s.charAt(i) == ')' && --depth == 0) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,65 @@
+package org.jinx.model;
+
+import org.jinx.migration.DatabaseType;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 인덱스 접근 방식. {@link IndexModel#getType()}에는 이름 문자열로 저장한다.
+ */
+public enum IndexMethod {
+    BTREE(Set.of(DatabaseType.MYSQL, DatabaseType.POSTGRESQL)),
+    HASH(Set.of(DatabaseType.MYSQL, DatabaseType.POSTGRESQL)),   // InnoDB는 조용히 B-tree로 만든다
+    GIN(Set.of(DatabaseType.POSTGRESQL)),                        // jsonb, 배열, tsvector
+    GIST(Set.of(DatabaseType.POSTGRESQL)),                       // 범위, 기하, 최근접 검색
+    SPGIST(Set.of(DatabaseType.POSTGRESQL)),
+    BRIN(Set.of(DatabaseType.POSTGRESQL)),                       // 물리 순서와 상관관계가 큰 append-only 컬럼
+    FULLTEXT(Set.of(DatabaseType.MYSQL)),
+    SPATIAL(Set.of(DatabaseType.MYSQL));
+
+    private final Set<DatabaseType> supportedBy;
+
+    IndexMethod(Set<DatabaseType> supportedBy) {
+        this.supportedBy = supportedBy;
+    }
+
+    public boolean isSupportedBy(DatabaseType type) {
+        return supportedBy.contains(type);
+    }
+
+    /**
+     * 대소문자와 {@code -}, {@code _}를 무시하고 해석한다 ({@code "sp-gist"}, {@code "btree"}).
+     * 비어 있으면 null (방언 기본값 B-tree).
+     *
+     * @throws IllegalArgumentException 알 수 없는 접근 방식
+     */
+    public static IndexMethod from(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        String key = type.trim().toUpperCase(Locale.ROOT).replace("-", "").replace("_", "");
+        for (IndexMethod m : values()) {
+            if (m.name().equals(key)) {
+                return m;
+            }
+        }
+        throw new IllegalArgumentException("Unknown index method: " + type);
+    }
+
+    /**
+     * 방언이 지원하는지 확인한다. B-tree(또는 미지정)면 null을 돌려준다 – 구문에 USING을 붙일 필요가 없다.
+     *
+     * @throws IllegalArgumentException 알 수 없거나 이 방언이 지원하지 않는 접근 방식
+     */
+    public static IndexMethod resolve(String type, DatabaseType databaseType) {
+        IndexMethod m = from(type);
+        if (m == null || m == BTREE) {
+            return null;
+        }
+        if (!m.isSupportedBy(databaseType)) {
+            throw new IllegalArgumentException("Index method " + m + " is not supported by " + databaseType);
+        }
+        return m;
+    }
+}
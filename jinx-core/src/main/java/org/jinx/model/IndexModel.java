@@ -6,7 +6,7 @@ import lombok.*;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 @AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -17,4 +17,8 @@ public class IndexModel {
     private Boolean unique;
     private String where;
     private String type;
+    /** 식, 내림차순, NULLS 위치가 있는 키가 있을 때만 채운다. {@code columnNames}와 같은 순서 */
+    private List<IndexKeyPart> keyParts;
+    /** 키가 아닌 포함 컬럼 (PostgreSQL {@code INCLUDE}) */
+    private List<String> includeColumns;
 }
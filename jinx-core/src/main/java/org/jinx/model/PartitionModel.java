@@ -0,0 +1,32 @@
+package org.jinx.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RANGE/LIST 파티션 하나.
+ *
+ * <p>{@code values}는 SQL 리터럴 그대로다. RANGE는 키 컬럼마다 미포함 상한({@code MAXVALUE} 가능),
+ * LIST는 허용 값 목록이다. 비어 있으면 나머지 행을 모두 받는 파티션으로,
+ * PostgreSQL은 {@code DEFAULT}, MySQL RANGE는 {@code MAXVALUE}로 만든다.
+ */
+@Data
+@Builder
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PartitionModel {
+    private String name;
+
+    @Builder.Default
+    private List<String> values = new ArrayList<>();
+
+    @JsonIgnore
+    public boolean isCatchAll() {
+        return values == null || values.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package org.jinx.model;
+
+/**
+ * 선언적 테이블 파티셔닝 방식.
+ */
+public enum PartitionStrategy {
+    /** 키 값 구간. 파티션마다 상한(미포함)을 둔다 */
+    RANGE,
+    /** 키 값 목록 */
+    LIST,
+    /** 키 해시를 파티션 수로 나눈 나머지 */
+    HASH
+}
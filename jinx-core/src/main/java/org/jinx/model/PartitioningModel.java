@@ -0,0 +1,54 @@
+package org.jinx.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 파티션 테이블 정의. 파티셔닝하지 않는 테이블은 {@link EntityModel#getPartitioning()}이 null이다.
+ */
+@Data
+@Builder
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PartitioningModel {
+    private PartitionStrategy strategy;
+
+    /** 파티션 키 컬럼 */
+    @Builder.Default
+    private List<String> columns = new ArrayList<>();
+
+    /** RANGE/LIST 파티션. 선언 순서 그대로이며 RANGE는 상한 오름차순이어야 한다 */
+    @Builder.Default
+    private List<PartitionModel> partitions = new ArrayList<>();
+
+    /** HASH 파티션 수 */
+    private Integer partitionCount;
+
+    public Optional<PartitionModel> findPartition(String name) {
+        return partitions.stream()
+                .filter(p -> p.getName() != null && p.getName().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    /**
+     * RANGE 파티션의 하한, 즉 앞쪽 파티션 중 마지막 파티션의 상한. 첫 파티션이면 빈 값.
+     * 나머지 행을 받는 파티션은 건너뛴다.
+     */
+    public Optional<List<String>> previousRangeBound(PartitionModel partition) {
+        List<String> bound = null;
+        for (PartitionModel p : partitions) {
+            if (p == partition || (p.getName() != null && p.getName().equalsIgnoreCase(partition.getName()))) {
+                break;
+            }
+            if (!p.isCatchAll()) {
+                bound = p.getValues();
+            }
+        }
+        return Optional.ofNullable(bound);
+    }
+}
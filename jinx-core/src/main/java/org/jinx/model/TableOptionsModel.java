@@ -0,0 +1,72 @@
+package org.jinx.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 방언별 테이블 저장 옵션. 선언 순서를 유지하며 값은 SQL 리터럴 그대로다.
+ * 옵션이 없는 테이블은 {@link EntityModel#getTableOptions()}가 null이다.
+ */
+@Data
+@Builder
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TableOptionsModel {
+
+    /** PostgreSQL storage parameter. 키는 소문자 */
+    @Builder.Default
+    private Map<String, String> postgresql = new LinkedHashMap<>();
+
+    /** MySQL 테이블 옵션. 키는 대문자이고 {@code DEFAULT CHARSET}/{@code CHARACTER SET}은 {@code CHARSET}으로 맞춘다 */
+    @Builder.Default
+    private Map<String, String> mysql = new LinkedHashMap<>();
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return (postgresql == null || postgresql.isEmpty()) && (mysql == null || mysql.isEmpty());
+    }
+
+    /**
+     * {@code "이름=값"} 항목들을 해석한다. 옵션이 하나도 없으면 null.
+     *
+     * @throws IllegalArgumentException {@code =}가 없거나 이름·값이 비었거나 같은 옵션이 두 번 나온 경우
+     */
+    public static TableOptionsModel of(String[] postgresql, String[] mysql) {
+        TableOptionsModel model = TableOptionsModel.builder()
+                .postgresql(parse(postgresql, false))
+                .mysql(parse(mysql, true))
+                .build();
+        return model.isEmpty() ? null : model;
+    }
+
+    private static Map<String, String> parse(String[] entries, boolean mysql) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String entry : entries) {
+            int eq = entry.indexOf('=');
+            String key = eq < 0 ? "" : entry.substring(0, eq).trim();
+            String value = eq < 0 ? "" : entry.substring(eq + 1).trim();
+            if (key.isEmpty() || value.isEmpty()) {
+                throw new IllegalArgumentException("Table option must be name=value but was '" + entry + "'");
+            }
+            key = mysql ? mysqlKey(key) : key.toLowerCase(Locale.ROOT);
+            if (options.put(key, value) != null) {
+                throw new IllegalArgumentException("Duplicate table option " + key);
+            }
+        }
+        return options;
+    }
+
+    private static String mysqlKey(String raw) {
+        String key = raw.toUpperCase(Locale.ROOT).replaceAll("\\s+", " ");
+        if (key.startsWith("DEFAULT ")) {
+            key = key.substring("DEFAULT ".length());
+        }
+        return key.equals("CHARACTER SET") ? "CHARSET" : key.replace(' ', '_');
+    }
+}
@@ -58,6 +58,39 @@ public final class JinxOptions {
         public static final String STRATEGY_DEFAULT = "NO_OP";
     }
 
+    /**
+     * Snapshot storage settings.
+     */
+    public static final class Snapshot {
+        private Snapshot() {}
+
+        /**
+         * Also write an indexed, memory-mappable snapshot store next to each schema JSON.
+         * Values: "true", "false"
+         * Default: "false"
+         */
+        public static final String STORE_KEY = "jinx.snapshot.store";
+
+        /**
+         * File extension of the indexed snapshot store.
+         */
+        public static final String STORE_EXTENSION = ".jxs";
+    }
+
+    /**
+     * Compile-time schema lint settings.
+     */
+    public static final class Lint {
+        private Lint() {}
+
+        /**
+         * Report indexes made redundant by the PK, a unique constraint or a wider index as compiler warnings.
+         * Values: "true", "false"
+         * Default: "true"
+         */
+        public static final String REDUNDANT_INDEXES_KEY = "jinx.lint.redundantIndexes";
+    }
+
     // public static final class Database {
     //     public static final String URL_KEY = "jinx.database.url";
     //     public static final String USERNAME_KEY = "jinx.database.username";
@@ -11,6 +11,7 @@ import java.io.PrintStream;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -411,7 +412,7 @@ class DependencyResolverTest {
         }
 
         @Test
-        @DisplayName("사이클이 없는 부분은 정렬, 사이클이 있는 부분은 fallback (전체 원본 반환)")
+        @DisplayName("일부만 사이클이어도 전체 fallback, plan()은 같은 입력의 사이클을 결과로 돌려준다")
         void partial_cycle_still_returns_original() {
             // D는 독립, A⇄B⇄C는 사이클 → 전체 fallback
             List<EntityModel> tables = List.of(
@@ -421,6 +422,7 @@ class DependencyResolverTest {
                     table("D")
             );
             assertThat(DependencyResolver.sortByFkDependency(tables)).isSameAs(tables);
+            assertThat(DependencyResolver.plan(tables).cycles()).containsExactly(Set.of("a", "b", "c"));
         }
     }
 
@@ -454,4 +456,94 @@ class DependencyResolverTest {
             assertThat(result.indexOf("CUSTOMER")).isLessThan(result.indexOf("Order"));
         }
     }
+
+    // ── 계층 실행 계획 ───────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("plan(): 계층별 실행 계획")
+    class Plan {
+
+        private List<List<String>> layerNames(DependencyPlan plan) {
+            return plan.layers().stream().map(DependencyResolverTest::names).toList();
+        }
+
+        @Test
+        @DisplayName("체인 A ← B ← C: 테이블마다 한 계층씩 배치")
+        void chain_one_table_per_layer() {
+            DependencyPlan plan = DependencyResolver.plan(List.of(
+                    table("C", "B"),
+                    table("B", "A"),
+                    table("A")
+            ));
+            assertThat(layerNames(plan)).containsExactly(List.of("A"), List.of("B"), List.of("C"));
+            assertThat(plan.hasCycles()).isFalse();
+            assertThat(plan.deferredForeignKeys()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("서로 독립적인 자식 테이블은 같은 계층에 입력 순서대로 배치")
+        void independent_children_share_layer() {
+            DependencyPlan plan = DependencyResolver.plan(List.of(
+                    table("orders", "users"),
+                    table("reviews", "users"),
+                    table("users"),
+                    table("tags")
+            ));
+            assertThat(layerNames(plan)).containsExactly(
+                    List.of("users", "tags"),
+                    List.of("orders", "reviews"));
+        }
+
+        @Test
+        @DisplayName("사이클 A ⇄ B: 같은 계층에 두고 내부 FK 2개를 지연")
+        void cycle_is_grouped_and_fks_deferred() {
+            DependencyPlan plan = DependencyResolver.plan(List.of(
+                    table("C", "A"),
+                    table("A", "B"),
+                    table("B", "A")
+            ));
+            assertThat(layerNames(plan)).containsExactly(List.of("A", "B"), List.of("C"));
+            assertThat(plan.cycles()).containsExactly(Set.of("a", "b"));
+            assertThat(plan.deferredForeignKeys())
+                    .extracting(fk -> fk.relationship().getConstraintName())
+                    .containsExactly("fk_a_to_b", "fk_b_to_a");
+        }
+
+        @Test
+        @DisplayName("자기 참조와 noConstraint FK는 계층을 나누지 않음")
+        void self_reference_and_no_constraint_ignored() {
+            DependencyPlan plan = DependencyResolver.plan(List.of(
+                    table("category", "category"),
+                    tableNoConstraint("audit", "category")
+            ));
+            assertThat(layerNames(plan)).containsExactly(List.of("category", "audit"));
+            assertThat(plan.deferredForeignKeys()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("DAG: creationOrder는 부모 우선, dropOrder는 그 역순")
+        void creation_and_drop_order() {
+            List<EntityModel> tables = List.of(
+                    table("order_items", "orders", "products"),
+                    table("orders", "customers"),
+                    table("products"),
+                    table("customers")
+            );
+            DependencyPlan plan = DependencyResolver.plan(tables);
+
+            List<String> creation = names(plan.creationOrder());
+            assertThat(creation.indexOf("customers")).isLessThan(creation.indexOf("orders"));
+            assertThat(creation.indexOf("orders")).isLessThan(creation.indexOf("order_items"));
+            assertThat(creation.indexOf("products")).isLessThan(creation.indexOf("order_items"));
+            assertThat(names(plan.dropOrder())).isEqualTo(creation.reversed());
+        }
+
+        @Test
+        @DisplayName("빈 입력: 빈 계획")
+        void empty_input() {
+            DependencyPlan plan = DependencyResolver.plan(List.of());
+            assertThat(plan.layers()).isEmpty();
+            assertThat(plan.hasCycles()).isFalse();
+        }
+    }
 }
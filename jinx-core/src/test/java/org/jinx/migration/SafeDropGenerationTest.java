@@ -0,0 +1,125 @@
+package org.jinx.migration;
+
+import org.jinx.migration.differs.SchemaDiffer;
+import org.jinx.migration.dialect.mysql.MySqlDialect;
+import org.jinx.migration.output.SqlPurgeHandler;
+import org.jinx.migration.plan.MigrationPlan;
+import org.jinx.migration.plan.MigrationPlanner;
+import org.jinx.model.ColumnKey;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.DialectBundle;
+import org.jinx.model.EntityModel;
+import org.jinx.model.RelationshipModel;
+import org.jinx.model.SchemaModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SafeDropGenerationTest {
+
+    private static final String VERSION = "20240102000000";
+
+    @TempDir
+    Path tempDir;
+
+    private final DialectBundle mysql = DialectBundle.builder(new MySqlDialect(), DatabaseType.MYSQL).build();
+
+    @Test
+    @DisplayName("안전 삭제 모드는 삭제 테이블의 FK를 제거하고 DROP 대신 휴지통 이름으로 RENAME한다")
+    void forwardRenamesDroppedTableToTrash() {
+        String sql = new MigrationGenerator(mysql, newSchema(), false, VERSION)
+                .generateSql(new SchemaDiffer().diff(oldSchema(), newSchema()));
+
+        assertThat(sql).doesNotContain("DROP TABLE");
+        assertThat(sql).contains("DROP FOREIGN KEY `fk_orders_user`");
+        assertThat(sql).contains("RENAME TABLE `orders` TO `_jinx_trash_20240102000000_orders`");
+        assertThat(sql.indexOf("DROP FOREIGN KEY")).isLessThan(sql.indexOf("RENAME TABLE"));
+    }
+
+    @Test
+    @DisplayName("안전 삭제 롤백은 테이블을 다시 만들지 않고 휴지통에서 이름을 되돌린 뒤 FK를 추가한다")
+    void rollbackRenamesTableBack() {
+        String sql = new MigrationGenerator(mysql, oldSchema(), true, VERSION)
+                .generateSql(new SchemaDiffer().diff(newSchema(), oldSchema()));
+
+        assertThat(sql).doesNotContain("CREATE TABLE");
+        assertThat(sql).contains("RENAME TABLE `_jinx_trash_20240102000000_orders` TO `orders`");
+        assertThat(sql.indexOf("RENAME TABLE")).isLessThan(sql.indexOf("FOREIGN KEY"));
+    }
+
+    @Test
+    @DisplayName("purge 스크립트는 휴지통 테이블만 DROP한다")
+    void purgeScriptDropsTrashTables() throws Exception {
+        MigrationPlan plan = MigrationPlanner.plan(new SchemaDiffer().diff(oldSchema(), newSchema()), "20240101000000",
+                new MigrationInfo("base", "head", VERSION));
+
+        assertThat(new SqlPurgeHandler().handle(plan, mysql, tempDir)).isTrue();
+
+        String purge = Files.readString(tempDir.resolve("purge-" + VERSION + ".sql"));
+        assertThat(purge).contains("DROP TABLE IF EXISTS `_jinx_trash_20240102000000_orders`");
+        assertThat(purge).doesNotContain("`users`");
+    }
+
+    @Test
+    @DisplayName("휴지통 이름은 식별자 한도에 맞춰 자르고 해시로 구분하며 이름에서 버전을 읽을 수 있다")
+    void trashNames() {
+        String name = TableTrash.trashName(VERSION, "a".repeat(80));
+
+        assertThat(name).hasSize(TableTrash.MAX_IDENTIFIER_LENGTH).startsWith("_jinx_trash_20240102000000_aaa");
+        assertThat(name).isEqualTo(TableTrash.trashName(VERSION, "a".repeat(80)));
+        // 앞 63자가 같아도 다른 테이블이면 다른 휴지통 이름
+        assertThat(TableTrash.trashName(VERSION, "a".repeat(80) + "_archive")).isNotEqualTo(name);
+        assertThat(TableTrash.versionOf(name)).isEqualTo(VERSION);
+        assertThat(TableTrash.versionOf("orders")).isNull();
+    }
+
+    private static SchemaModel oldSchema() {
+        EntityModel orders = table("orders", "id", "user_id");
+        orders.getRelationships().put("fk_orders_user", RelationshipModel.builder()
+                .constraintName("fk_orders_user")
+                .columns(List.of("user_id"))
+                .referencedTable("users")
+                .referencedColumns(List.of("id"))
+                .build());
+        return schema(table("users", "id"), orders);
+    }
+
+    private static SchemaModel newSchema() {
+        return schema(table("users", "id"));
+    }
+
+    private static SchemaModel schema(EntityModel... entities) {
+        Map<String, EntityModel> map = new HashMap<>();
+        for (EntityModel entity : entities) {
+            map.put(entity.getEntityName(), entity);
+        }
+        return SchemaModel.builder().version(VERSION).entities(map).build();
+    }
+
+    private static EntityModel table(String name, String... columns) {
+        Map<ColumnKey, ColumnModel> map = new HashMap<>();
+        for (String column : columns) {
+            map.put(ColumnKey.of(name, column), ColumnModel.builder()
+                    .tableName(name)
+                    .columnName(column)
+                    .javaType("java.lang.Long")
+                    .isPrimaryKey(column.equals("id"))
+                    .isNullable(!column.equals("id"))
+                    .build());
+        }
+        return EntityModel.builder()
+                .entityName(name)
+                .tableName(name)
+                .columns(map)
+                .relationships(new HashMap<>())
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package org.jinx.migration.advisor;
+
+import org.jinx.model.ColumnKey;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.ConstraintModel;
+import org.jinx.model.ConstraintType;
+import org.jinx.model.EntityModel;
+import org.jinx.model.IndexModel;
+import org.jinx.model.RelationshipModel;
+import org.jinx.model.SchemaModel;
+import org.jinx.naming.DefaultNaming;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForeignKeyIndexAdvisorTest {
+
+    private final ForeignKeyIndexAdvisor advisor = new ForeignKeyIndexAdvisor(new DefaultNaming(63));
+
+    @Test
+    @DisplayName("인덱스가 없는 FK는 Naming.ixName 이름의 인덱스를 제안한다")
+    void advisesMissingIndex() {
+        SchemaModel schema = schema(orderItems());
+
+        List<ForeignKeyIndexAdvisor.Advice> advices = advisor.advise(schema);
+
+        assertThat(advices).singleElement().satisfies(a -> {
+            assertThat(a.constraintName()).isEqualTo("fk_item_product");
+            assertThat(a.index().getIndexName()).isEqualTo(new DefaultNaming(63).ixName("order_item", List.of("product_id")));
+            assertThat(a.index().getColumnNames()).containsExactly("product_id");
+        });
+        assertThat(schema.getEntities().get("order_item").getIndexes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("FK 컬럼이 PK, UNIQUE 또는 인덱스의 선두 컬럼이면 덮인 것으로 본다")
+    void leadingPrefixCoversForeignKey() {
+        EntityModel items = orderItems();
+        // PK (order_id, line_no)가 fk_item_order를 덮는다
+        items.getIndexes().put("ix_item_product_created", IndexModel.builder()
+                .indexName("ix_item_product_created")
+                .tableName("order_item")
+                .columnNames(List.of("product_id", "created_at"))
+                .build());
+
+        assertThat(advisor.advise(schema(items))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("선두가 아닌 위치의 컬럼이나 NO_CONSTRAINT 관계는 다르게 취급한다")
+    void nonLeadingColumnDoesNotCover() {
+        EntityModel items = orderItems();
+        items.getConstraints().put("uq_item_created_product", ConstraintModel.builder()
+                .name("uq_item_created_product")
+                .tableName("order_item")
+                .type(ConstraintType.UNIQUE)
+                .columns(List.of("created_at", "product_id"))
+                .build());
+        items.getRelationships().put("fk_item_audit", RelationshipModel.builder()
+                .constraintName("fk_item_audit")
+                .tableName("order_item")
+                .columns(List.of("audit_id"))
+                .referencedTable("audit")
+                .referencedColumns(List.of("id"))
+                .noConstraint(true)
+                .build());
+
+        assertThat(advisor.advise(schema(items)))
+                .extracting(ForeignKeyIndexAdvisor.Advice::constraintName)
+                .containsExactly("fk_item_product");
+    }
+
+    @Test
+    @DisplayName("apply는 제안 인덱스를 엔티티에 추가하고 다시 실행하면 더 제안하지 않는다")
+    void applyAddsIndexes() {
+        SchemaModel schema = schema(orderItems());
+
+        assertThat(advisor.apply(schema)).hasSize(1);
+        assertThat(schema.getEntities().get("order_item").getIndexes()).hasSize(1);
+        assertThat(advisor.advise(schema)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("apply에 필터를 주면 통과한 제안 인덱스만 추가한다")
+    void applyWithFilterSkipsRejectedAdvice() {
+        SchemaModel schema = schema(orderItems());
+        String existing = new DefaultNaming(63).ixName("order_item", List.of("product_id"));
+
+        assertThat(advisor.apply(schema, a -> !a.index().getIndexName().equals(existing))).isEmpty();
+        assertThat(schema.getEntities().get("order_item").getIndexes()).isEmpty();
+    }
+
+    private static EntityModel orderItems() {
+        Map<ColumnKey, ColumnModel> columns = new LinkedHashMap<>();
+        for (String name : List.of("order_id", "line_no", "product_id", "created_at", "audit_id")) {
+            columns.put(ColumnKey.of("order_item", name), ColumnModel.builder()
+                    .tableName("order_item")
+                    .columnName(name)
+                    .javaType("java.lang.Long")
+                    .isPrimaryKey(name.equals("order_id") || name.equals("line_no"))
+                    .build());
+        }
+        Map<String, RelationshipModel> relationships = new HashMap<>();
+        relationships.put("fk_item_order", fk("fk_item_order", "order_id", "orders"));
+        relationships.put("fk_item_product", fk("fk_item_product", "product_id", "product"));
+        return EntityModel.builder()
+                .entityName("order_item")
+                .tableName("order_item")
+                .columns(columns)
+                .relationships(relationships)
+                .build();
+    }
+
+    private static RelationshipModel fk(String name, String column, String referencedTable) {
+        return RelationshipModel.builder()
+                .constraintName(name)
+                .tableName("order_item")
+                .columns(List.of(column))
+                .referencedTable(referencedTable)
+                .referencedColumns(List.of("id"))
+                .build();
+    }
+
+    private static SchemaModel schema(EntityModel... entities) {
+        Map<String, EntityModel> map = new HashMap<>();
+        for (EntityModel entity : entities) {
+            map.put(entity.getEntityName(), entity);
+        }
+        return SchemaModel.builder().version("20240101000000").entities(map).build();
+    }
+}
@@ -0,0 +1,85 @@
+package org.jinx.migration.advisor;
+
+import org.jinx.model.ColumnKey;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.ConstraintModel;
+import org.jinx.model.ConstraintType;
+import org.jinx.model.EntityModel;
+import org.jinx.model.IndexModel;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitionStrategy;
+import org.jinx.model.PartitioningModel;
+import org.jinx.model.TableOptionsModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionKeyValidatorTest {
+
+    private final PartitionKeyValidator validator = new PartitionKeyValidator();
+
+    @Test
+    @DisplayName("PK와 모든 유니크 키에 파티션 키가 있으면 통과한다")
+    void validWhenKeysIncludePartitionKey() {
+        EntityModel entity = entity("id", "created_on");
+        entity.getConstraints().put("uq_events_code", ConstraintModel.builder()
+                .name("uq_events_code").tableName("events").type(ConstraintType.UNIQUE)
+                .columns(List.of("code", "created_on")).build());
+
+        assertThat(validator.validate(entity)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파티션 키가 빠진 PK, UNIQUE 제약, 유니크 인덱스와 잘못된 RANGE 상한을 보고한다")
+    void reportsKeysWithoutPartitionKey() {
+        EntityModel entity = entity("id");
+        entity.getConstraints().put("uq_events_code", ConstraintModel.builder()
+                .name("uq_events_code").tableName("events").type(ConstraintType.UNIQUE)
+                .columns(List.of("code")).build());
+        entity.getIndexes().put("ix_events_code", IndexModel.builder()
+                .indexName("ix_events_code").tableName("events").columnNames(List.of("code")).unique(true).build());
+        entity.getPartitioning().getPartitions().add(
+                PartitionModel.builder().name("p2025").values(List.of("'2026-01-01'", "0")).build());
+
+        assertThat(validator.validate(entity)).containsExactly(
+                "RANGE partition p2025 of table events needs one upper bound per key column [created_on] but has ['2026-01-01', 0].",
+                "Primary key [id] of partitioned table events must include all partition key columns [created_on].",
+                "Unique constraint uq_events_code[code] of partitioned table events must include all partition key columns [created_on].",
+                "Unique index ix_events_code[code] of partitioned table events must include all partition key columns [created_on].");
+    }
+
+    @Test
+    @DisplayName("PostgreSQL storage parameter는 파티션 테이블에 쓸 수 없고, MySQL 옵션은 허용한다")
+    void rejectsPostgreSqlStorageParameters() {
+        EntityModel entity = entity("id", "created_on");
+        entity.setTableOptions(TableOptionsModel.of(new String[0], new String[]{"ROW_FORMAT=COMPRESSED"}));
+        assertThat(validator.validate(entity)).isEmpty();
+
+        entity.setTableOptions(TableOptionsModel.of(new String[]{"fillfactor=80"}, new String[0]));
+        assertThat(validator.validate(entity)).singleElement().asString()
+                .contains("[fillfactor] cannot be set on partitioned table events");
+    }
+
+    private static EntityModel entity(String... pkColumns) {
+        Map<ColumnKey, ColumnModel> columns = new LinkedHashMap<>();
+        for (String name : List.of("id", "code", "created_on")) {
+            columns.put(ColumnKey.of("events", name), ColumnModel.builder()
+                    .tableName("events").columnName(name).javaType("java.lang.String")
+                    .isPrimaryKey(List.of(pkColumns).contains(name)).build());
+        }
+        PartitioningModel partitioning = PartitioningModel.builder()
+                .strategy(PartitionStrategy.RANGE)
+                .columns(List.of("created_on"))
+                .partitions(new ArrayList<>(List.of(
+                        PartitionModel.builder().name("p2024").values(List.of("'2025-01-01'")).build())))
+                .build();
+        return EntityModel.builder().entityName("Event").tableName("events")
+                .columns(columns).partitioning(partitioning).build();
+    }
+}
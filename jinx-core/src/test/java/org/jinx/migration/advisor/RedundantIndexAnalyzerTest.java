@@ -0,0 +1,89 @@
+package org.jinx.migration.advisor;
+
+import org.jinx.model.ColumnKey;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.ConstraintModel;
+import org.jinx.model.ConstraintType;
+import org.jinx.model.EntityModel;
+import org.jinx.model.IndexModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedundantIndexAnalyzerTest {
+
+    private final RedundantIndexAnalyzer analyzer = new RedundantIndexAnalyzer();
+
+    @Test
+    @DisplayName("PK, UNIQUE 제약과 같은 인덱스는 DUPLICATE로 보고한다")
+    void duplicatesOfPrimaryKeyAndUnique() {
+        EntityModel entity = entity();
+        entity.getConstraints().put("uq_users_email", ConstraintModel.builder()
+                .name("uq_users_email").tableName("users").type(ConstraintType.UNIQUE)
+                .columns(List.of("email")).build());
+        index(entity, "ix_users_id", null, null, false, "id");
+        index(entity, "ix_users_email", null, null, true, "email");
+
+        assertThat(analyzer.analyze(entity))
+                .extracting(f -> f.index().getIndexName() + ":" + f.reason() + ":" + f.coveredBy())
+                .containsExactlyInAnyOrder(
+                        "ix_users_id:DUPLICATE:PRIMARY KEY",
+                        "ix_users_email:DUPLICATE:uq_users_email");
+    }
+
+    @Test
+    @DisplayName("넓은 인덱스의 선두 컬럼과 같은 비유니크 인덱스는 LEFT_PREFIX, 똑같은 인덱스는 한쪽만 보고한다")
+    void leftPrefixAndExactDuplicates() {
+        EntityModel entity = entity();
+        index(entity, "ix_a", null, null, false, "tenant_id", "created_at");
+        index(entity, "ix_b", null, null, false, "tenant_id", "created_at");
+        index(entity, "ix_tenant", null, null, false, "tenant_id");
+        // 순서가 다른 인덱스는 대신하지 못한다
+        index(entity, "ix_created", null, null, false, "created_at");
+
+        assertThat(analyzer.analyze(entity))
+                .extracting(f -> f.index().getIndexName() + ":" + f.reason() + ":" + f.coveredBy())
+                .containsExactlyInAnyOrder(
+                        "ix_b:DUPLICATE:ix_a",
+                        "ix_tenant:LEFT_PREFIX:ix_a");
+    }
+
+    @Test
+    @DisplayName("조건부·hash 인덱스와 더 좁은 UNIQUE 인덱스는 중복으로 보지 않는다")
+    void partialHashAndUniqueAreNotCovered() {
+        EntityModel entity = entity();
+        index(entity, "ix_wide", null, null, false, "status", "created_at");
+        index(entity, "ix_status_active", null, "deleted_at IS NULL", false, "status");
+        index(entity, "ix_status_hash", "HASH", null, false, "status");
+        index(entity, "uq_status", null, null, true, "status");
+        // 조건부 인덱스는 다른 인덱스를 대신하지도 못한다
+        index(entity, "ix_partial_wide", null, "archived = false", false, "code", "created_at");
+        index(entity, "ix_code", null, null, false, "code");
+
+        assertThat(analyzer.analyze(entity)).isEmpty();
+    }
+
+    private static EntityModel entity() {
+        Map<ColumnKey, ColumnModel> columns = new LinkedHashMap<>();
+        columns.put(ColumnKey.of("users", "id"), ColumnModel.builder()
+                .tableName("users").columnName("id").javaType("java.lang.Long").isPrimaryKey(true).build());
+        return EntityModel.builder().entityName("User").tableName("users").columns(columns).build();
+    }
+
+    private static void index(EntityModel entity, String name, String type, String where, boolean unique,
+                              String... columns) {
+        entity.getIndexes().put(name, IndexModel.builder()
+                .indexName(name)
+                .tableName("users")
+                .columnNames(List.of(columns))
+                .type(type)
+                .where(where)
+                .unique(unique)
+                .build());
+    }
+}
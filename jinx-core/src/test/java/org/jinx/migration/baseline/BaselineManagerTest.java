@@ -1,6 +1,9 @@
 package org.jinx.migration.baseline;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jinx.migration.json.SchemaMappers;
 import org.jinx.model.ColumnKey;
 import org.jinx.model.ColumnModel;
 import org.jinx.model.EntityModel;
@@ -44,6 +47,19 @@ class BaselineManagerTest {
         assertEquals(hash1, hash2);
     }
 
+    @Test
+    @DisplayName("canonical()이 돌려준 매퍼를 바꿔도 다른 호출자의 해시는 변하지 않는다")
+    void generateSchemaHash_unaffectedByReconfiguredCanonicalCopy() {
+        SchemaModel schema = createTestSchema("v1");
+        String before = baselineManager.generateSchemaHash(schema);
+
+        SchemaMappers.canonical()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, false)
+                .setSerializationInclusion(JsonInclude.Include.ALWAYS);
+
+        assertEquals(before, new BaselineManager(tempDir).generateSchemaHash(schema));
+    }
+
     @Test
     @DisplayName("다른 스키마는 다른 해시를 생성한다")
     void generateSchemaHash_differentSchemaProducesDifferentHash() {
@@ -198,6 +214,32 @@ class BaselineManagerTest {
         assertTrue(Files.exists(nonExistentDir.resolve("baseline-metadata.json")));
     }
 
+    @Test
+    @DisplayName("스냅샷 저장소를 사용하면 승격 시 인덱스 파일을 함께 기록하고 이를 통해 baseline을 연다")
+    void promoteBaseline_withSnapshotStore_writesAndOpensStore() throws IOException {
+        BaselineManager storeManager = new BaselineManager(tempDir, true);
+        SchemaModel schema = createTestSchema("v3.0");
+
+        storeManager.promoteBaseline(schema, storeManager.generateSchemaHash(schema));
+
+        assertTrue(Files.exists(tempDir.resolve("schema-baseline.jxs")));
+        var snapshot = storeManager.openBaseline();
+        assertEquals("v3.0", snapshot.getVersion());
+        assertEquals(schema.getEntities().get("User"), snapshot.loadEntity("User"));
+    }
+
+    @Test
+    @DisplayName("스냅샷 저장소 없이 다시 승격하면 오래된 인덱스 파일을 제거한다")
+    void promoteBaseline_withoutSnapshotStore_removesStaleStore() throws IOException {
+        SchemaModel schema = createTestSchema("v1.0");
+        new BaselineManager(tempDir, true).promoteBaseline(schema, "hash");
+
+        baselineManager.promoteBaseline(createTestSchema("v2.0"), "hash2");
+
+        assertFalse(Files.exists(tempDir.resolve("schema-baseline.jxs")));
+        assertEquals("v2.0", baselineManager.openBaseline().getVersion());
+    }
+
     @Test
     @DisplayName("엔티티가 추가되면 해시가 변경된다")
     void schemaHash_changesWhenEntityAdded() {
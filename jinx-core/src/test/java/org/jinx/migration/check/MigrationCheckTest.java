@@ -0,0 +1,114 @@
+package org.jinx.migration.check;
+
+import org.jinx.migration.DatabaseType;
+import org.jinx.migration.dialect.mysql.MySqlDialect;
+import org.jinx.migration.introspect.SchemaDrift;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.DialectBundle;
+import org.jinx.model.EntityModel;
+import org.jinx.model.IndexModel;
+import org.jinx.model.SchemaModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MigrationCheckTest {
+
+    private final MigrationCheck check = new MigrationCheck(DialectBundle.builder(new MySqlDialect(), DatabaseType.MYSQL).build());
+
+    @Test
+    @DisplayName("baseline 생성과 마이그레이션을 H2에 재생한 결과가 head와 같으면 통과한다")
+    void passesWhenMigrationProducesHead() throws Exception {
+        MigrationCheck.CheckReport report = check.run(baseline(), head(), List.of(
+                "ALTER TABLE `users` ADD COLUMN `nickname` VARCHAR(50)",
+                "CREATE INDEX `ix_users_nickname` ON `users` (`nickname`) USING BTREE"));
+
+        assertThat(report.failure()).isNull();
+        assertThat(report.mismatches()).isEmpty();
+        assertThat(report.passed()).isTrue();
+        assertThat(report.tablesChecked()).isEqualTo(1);
+        assertThat(report.emulatedFeatures()).contains("table options (ENGINE/CHARSET/COLLATE)", "index method (USING BTREE/HASH)");
+    }
+
+    @Test
+    @DisplayName("마이그레이션이 head의 일부를 빠뜨리면 불일치로 보고한다")
+    void reportsMismatchWhenMigrationIsIncomplete() throws Exception {
+        MigrationCheck.CheckReport report = check.run(baseline(), head(), List.of(
+                "ALTER TABLE `users` ADD COLUMN `nickname` VARCHAR(50)"));
+
+        assertThat(report.passed()).isFalse();
+        assertThat(report.mismatches()).extracting(SchemaDrift::kind).containsExactly(SchemaDrift.Kind.MISSING_INDEX);
+    }
+
+    @Test
+    @DisplayName("실행할 수 없는 문장에서 멈추고 단계와 순번을 보고한다")
+    void stopsAtFirstFailingStatement() throws Exception {
+        MigrationCheck.CheckReport report = check.run(baseline(), head(), List.of(
+                "ALTER TABLE `users` ADD COLUMN `nickname` VARCHAR(50)",
+                "ALTER TABLE `missing` ADD COLUMN `x` INT",
+                "CREATE INDEX `ix_users_nickname` ON `users` (`nickname`)"));
+
+        assertThat(report.passed()).isFalse();
+        assertThat(report.failure().phase()).isEqualTo(MigrationCheck.Phase.MIGRATION);
+        assertThat(report.failure().index()).isEqualTo(1);
+        assertThat(report.failure().sql()).contains("`missing`");
+    }
+
+    @Test
+    @DisplayName("H2가 구분하지 못하는 타입 차이는 근사로 분류한다")
+    void equivalentTypes() {
+        assertThat(H2Emulation.equivalentTypes("jsonb", "JSON")).isTrue();
+        assertThat(H2Emulation.equivalentTypes("TEXT", "CHARACTER LARGE OBJECT")).isTrue();
+        assertThat(H2Emulation.equivalentTypes("BIGINT", "INTEGER")).isFalse();
+        assertThat(H2Emulation.rewrite(DatabaseType.POSTGRESQL,
+                "CREATE INDEX CONCURRENTLY ix_a ON a USING gin (doc) WHERE deleted = false").sql())
+                .isEqualTo("CREATE INDEX ix_a ON a (doc)");
+    }
+
+    private static SchemaModel baseline() {
+        return schema(users(
+                column("id", "java.lang.Long", 0, false, true),
+                column("email", "java.lang.String", 120, false, false)));
+    }
+
+    private static SchemaModel head() {
+        EntityModel users = users(
+                column("id", "java.lang.Long", 0, false, true),
+                column("email", "java.lang.String", 120, false, false),
+                column("nickname", "java.lang.String", 50, true, false));
+        users.getIndexes().put("ix_users_nickname", IndexModel.builder()
+                .indexName("ix_users_nickname")
+                .tableName("users")
+                .columnNames(List.of("nickname"))
+                .build());
+        return schema(users);
+    }
+
+    private static SchemaModel schema(EntityModel entity) {
+        return SchemaModel.builder().entities(new LinkedHashMap<>(Map.of(entity.getEntityName(), entity))).build();
+    }
+
+    private static EntityModel users(ColumnModel... columns) {
+        EntityModel entity = EntityModel.builder().entityName("User").tableName("users").build();
+        for (ColumnModel column : columns) {
+            entity.putColumn(column);
+        }
+        return entity;
+    }
+
+    private static ColumnModel column(String name, String javaType, int length, boolean nullable, boolean primaryKey) {
+        return ColumnModel.builder()
+                .tableName("users")
+                .columnName(name)
+                .javaType(javaType)
+                .length(length)
+                .isNullable(nullable)
+                .isPrimaryKey(primaryKey)
+                .build();
+    }
+}
@@ -250,6 +250,121 @@ class MySqlDialectTest {
                 d.getModifyIndexSql("users", idx2, idx));
     }
 
+    @Test @DisplayName("INCLUDE/WHERE 대체: 포함 컬럼은 뒤쪽 키로, 조건은 경고 주석, UNIQUE는 포함 컬럼 생략")
+    void coveringPartialIndex_fallbacks() {
+        MySqlDialect d = newDialect();
+        IndexModel covering = IndexModel.builder()
+                .indexName("ix_orders_user")
+                .columnNames(List.of("user_id", "created_at"))
+                .keyParts(IndexKeyPart.parseList("user_id, created_at DESC"))
+                .includeColumns(List.of("status", "user_id"))
+                .where("deleted_at IS NULL")
+                .build();
+        assertEquals("-- WARNING: MySQL does not support partial indexes; predicate ignored: deleted_at IS NULL\n"
+                        + "CREATE INDEX `ix_orders_user` ON `orders` (`user_id`, `created_at` DESC, `status`);\n",
+                d.indexStatement(covering, "orders"));
+
+        IndexModel unique = IndexModel.builder()
+                .indexName("uq_orders_code")
+                .columnNames(List.of("code"))
+                .includeColumns(List.of("status"))
+                .unique(true)
+                .build();
+        assertEquals("-- WARNING: MySQL has no INCLUDE; included columns [status] omitted from unique index\n"
+                        + "CREATE UNIQUE INDEX `uq_orders_code` ON `orders` (`code`);\n",
+                d.indexStatement(unique, "orders"));
+    }
+
+    @Test @DisplayName("접근 방식: FULLTEXT/SPATIAL은 CREATE FULLTEXT INDEX, HASH는 USING HASH, GIN은 거부")
+    void indexMethods() {
+        MySqlDialect d = newDialect();
+        IndexModel fulltext = IndexModel.builder().indexName("ft_product_name")
+                .columnNames(List.of("name", "description")).type("fulltext").unique(true).build();
+        IndexModel spatial = IndexModel.builder().indexName("sp_store_location").columnNames(List.of("location")).type("SPATIAL").build();
+        IndexModel hash = IndexModel.builder().indexName("ix_session_token").columnNames(List.of("token")).type("HASH").build();
+        IndexModel gin = IndexModel.builder().indexName("ix_doc_tags").columnNames(List.of("tags")).type("gin").build();
+
+        assertEquals("CREATE FULLTEXT INDEX `ft_product_name` ON `product` (`name`, `description`);\n",
+                d.indexStatement(fulltext, "product"));
+        assertEquals("CREATE SPATIAL INDEX `sp_store_location` ON `store` (`location`);\n", d.indexStatement(spatial, "store"));
+        assertEquals("CREATE INDEX `ix_session_token` ON `session` (`token`) USING HASH;\n", d.indexStatement(hash, "session"));
+        assertThrows(IllegalArgumentException.class, () -> d.indexStatement(gin, "doc"));
+    }
+
+    @Test @DisplayName("식·정렬 키: 함수형 키 파트 ((expr)), MySQL 기본과 다른 NULLS 위치는 경고 주석")
+    void expressionAndOrderedKeys() {
+        MySqlDialect d = newDialect();
+        List<IndexKeyPart> parts = IndexKeyPart.parseList("lower(email), created_at DESC NULLS LAST, id NULLS LAST");
+        IndexModel idx = IndexModel.builder()
+                .indexName("ix_users_email_lower")
+                .columnNames(parts.stream().map(IndexKeyPart::target).toList())
+                .keyParts(parts)
+                .build();
+
+        assertEquals("-- WARNING: MySQL does not support NULLS FIRST/LAST; ordering ignored for [id]\n"
+                        + "CREATE INDEX `ix_users_email_lower` ON `users` ((lower(email)), `created_at` DESC, `id`);\n",
+                d.indexStatement(idx, "users"));
+    }
+
+    @Test @DisplayName("파티셔닝: RANGE COLUMNS, 나머지 파티션은 MAXVALUE, 중간 추가는 REORGANIZE, HASH는 KEY")
+    void partitioning() {
+        MySqlDialect d = newDialect();
+        PartitionModel p2024 = PartitionModel.builder().name("p2024").values(List.of("'2025-01-01'")).build();
+        PartitionModel p2025 = PartitionModel.builder().name("p2025").values(List.of("'2026-01-01'")).build();
+        PartitionModel pmax = PartitionModel.builder().name("pmax").build();
+        PartitioningModel range = PartitioningModel.builder()
+                .strategy(PartitionStrategy.RANGE)
+                .columns(List.of("created_on"))
+                .partitions(List.of(p2024, p2025, pmax))
+                .build();
+
+        assertEquals("\n) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci"
+                        + "\nPARTITION BY RANGE COLUMNS(`created_on`) (\n"
+                        + "    PARTITION `p2024` VALUES LESS THAN ('2025-01-01'),\n"
+                        + "    PARTITION `p2025` VALUES LESS THAN ('2026-01-01'),\n"
+                        + "    PARTITION `pmax` VALUES LESS THAN (MAXVALUE)\n);",
+                d.closePartitionedTable("events", range));
+        assertEquals("ALTER TABLE `events` REORGANIZE PARTITION `pmax` INTO ("
+                        + "PARTITION `p2025` VALUES LESS THAN ('2026-01-01'), PARTITION `pmax` VALUES LESS THAN (MAXVALUE));\n",
+                d.getAddPartitionSql("events", range, p2025));
+        assertEquals("ALTER TABLE `events` DROP PARTITION `p2024`;\n", d.getDropPartitionSql("events", range, p2024));
+
+        PartitioningModel list = PartitioningModel.builder()
+                .strategy(PartitionStrategy.LIST)
+                .columns(List.of("region"))
+                .partitions(List.of(PartitionModel.builder().name("eu").values(List.of("'DE'", "'FR'")).build(),
+                        PartitionModel.builder().name("other").build()))
+                .build();
+        assertEquals("ALTER TABLE `orders` ADD PARTITION (PARTITION `eu` VALUES IN ('DE', 'FR'));\n",
+                d.getAddPartitionSql("orders", list, list.getPartitions().get(0)));
+        assertTrue(d.closePartitionedTable("orders", list)
+                .endsWith(");\n-- WARNING: MySQL LIST partitioning has no DEFAULT partition; skipped [other]"));
+
+        PartitioningModel hash = PartitioningModel.builder()
+                .strategy(PartitionStrategy.HASH).columns(List.of("user_id")).partitionCount(8).build();
+        assertTrue(d.closePartitionedTable("carts", hash).endsWith("\nPARTITION BY KEY(`user_id`) PARTITIONS 8;"));
+        assertThrows(IllegalArgumentException.class, () -> d.getAddPartitionSql("carts", hash, p2024));
+    }
+
+    @Test @DisplayName("테이블 옵션: 기본 옵션 뒤에 붙이고, ALTER는 바뀐 옵션만 설정하고 사라진 옵션은 기본값으로 되돌린다")
+    void tableOptions() {
+        MySqlDialect d = newDialect();
+        TableOptionsModel model = TableOptionsModel.of(
+                new String[]{"fillfactor=80"}, new String[]{"row_format=COMPRESSED", "KEY_BLOCK_SIZE = 8"});
+        Map<String, String> compressed = d.tableOptionsOf(model);
+
+        assertEquals("\n) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8;",
+                d.closeCreateTable(compressed));
+        assertEquals("\n) ENGINE=InnoDB DEFAULT CHARSET=latin1 COLLATE=utf8mb4_unicode_ci;",
+                d.closeCreateTable(d.tableOptionsOf(TableOptionsModel.of(new String[0], new String[]{"DEFAULT CHARSET=latin1"}))));
+
+        assertEquals("", d.getAlterTableOptionsSql("archive", compressed, compressed));
+        assertEquals("ALTER TABLE `archive` ROW_FORMAT=DYNAMIC, KEY_BLOCK_SIZE=0;\n",
+                d.getAlterTableOptionsSql("archive", compressed, Map.of("ROW_FORMAT", "DYNAMIC")));
+        // PostgreSQL 옵션은 보지 않는다
+        assertEquals(Map.of(), d.tableOptionsOf(TableOptionsModel.of(new String[]{"fillfactor=80"}, new String[0])));
+    }
+
     @Test @DisplayName("관계 SQL: NO_CONSTRAINT, 테이블 명시, ON DELETE/UPDATE, 복합 컬럼")
     void relationship_sqls() {
         MySqlDialect d = newDialect();
@@ -442,6 +557,23 @@ class MySqlDialectTest {
         assertEquals("VARCHAR(100)", d.getLiquibaseTypeName(c));
     }
 
+    @Test @DisplayName("UUID 컬럼: 저장 방식별 SQL 타입과 UUID 생성 기본값")
+    void uuidColumn_followsStorage() {
+        ColumnModel c = ColumnModel.builder()
+                .columnName("id")
+                .javaType("java.util.UUID")
+                .isNullable(false)
+                .generationStrategy(GenerationStrategy.UUID)
+                .build();
+
+        assertEquals("`id` BINARY(16) NOT NULL DEFAULT (UUID_TO_BIN(UUID()))",
+                new MySqlDialect().getColumnDefinitionSql(c));
+        assertEquals("`id` BINARY(16) NOT NULL DEFAULT (UUID_TO_BIN(UUID(), 1))",
+                new MySqlDialect(MySqlUuidStorage.BINARY_SWAP).getColumnDefinitionSql(c));
+        assertEquals("CHAR(36)", new MySqlDialect(MySqlUuidStorage.CHAR).getLiquibaseTypeName(c));
+        assertEquals("(UUID_TO_BIN(UUID(), 1))", new MySqlDialect(MySqlUuidStorage.BINARY_SWAP).getUuidDefaultValue(c));
+    }
+
     @Test @DisplayName("getLiquibaseTypeName — BigDecimal precision=0 → DECIMAL(10,2) fallback")
     void liquibase_bigDecimal_zeroPrecision_default() {
         MySqlDialect d = newDialect();
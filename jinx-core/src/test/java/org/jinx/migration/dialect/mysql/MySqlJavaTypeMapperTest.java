@@ -130,4 +130,42 @@ class MySqlJavaTypeMapperTest {
         Assertions.assertThat(unknown.getSqlType(0,0,0)).isEqualTo("TEXT");
         Assertions.assertThat(unknown.needsQuotes()).isTrue();
     }
+
+    @Nested
+    @DisplayName("UUID 저장 방식")
+    class UuidStorage {
+
+        @Test
+        @DisplayName("기본 UUID → BINARY(16), 따옴표 없는 16진 리터럴")
+        void defaultsToBinary() {
+            JavaTypeMapper.JavaType t = mapper.map("java.util.UUID");
+            Assertions.assertThat(t.getSqlType(0, 0, 0)).isEqualTo("BINARY(16)");
+            Assertions.assertThat(t.needsQuotes()).isFalse();
+        }
+
+        @Test
+        @DisplayName("CHAR 저장 방식은 기존 CHAR(36) 문자열 컬럼")
+        void charStorage() {
+            JavaTypeMapper.JavaType t = new MySqlJavaTypeMapper(MySqlUuidStorage.CHAR).map("java.util.UUID");
+            Assertions.assertThat(t.getSqlType(0, 0, 0)).isEqualTo("CHAR(36)");
+            Assertions.assertThat(t.needsQuotes()).isTrue();
+        }
+
+        @Test
+        @DisplayName("swap 리터럴은 UUID_TO_BIN(uuid, 1)과 같은 바이트 순서")
+        void swapLiteralMatchesUuidToBin() {
+            String uuid = "6ccd780c-baba-1026-9564-5b8c656024db";
+            Assertions.assertThat(MySqlUuidStorage.BINARY.literal(uuid))
+                    .isEqualTo("0x6CCD780CBABA102695645B8C656024DB");
+            Assertions.assertThat(MySqlUuidStorage.BINARY_SWAP.literal(uuid))
+                    .isEqualTo("0x1026BABA6CCD780C95645B8C656024DB");
+        }
+
+        @Test
+        @DisplayName("저장 방식 이름은 대소문자와 하이픈을 허용")
+        void parsesStorageName() {
+            Assertions.assertThat(MySqlUuidStorage.from("binary-swap")).isEqualTo(MySqlUuidStorage.BINARY_SWAP);
+            Assertions.assertThat(MySqlUuidStorage.from(" Char ")).isEqualTo(MySqlUuidStorage.CHAR);
+        }
+    }
 }
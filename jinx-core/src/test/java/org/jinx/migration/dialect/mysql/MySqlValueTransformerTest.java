@@ -40,5 +40,12 @@ class MySqlValueTransformerTest {
             String quoted = vt.quote("12345", dummyType);
             assertThat(quoted).isEqualTo("'12345'");
         }
+    
+        @Test @DisplayName("BINARY(16) UUID 기본값은 16진 리터럴로 변환")
+        void binaryUuidBecomesHexLiteral() {
+            JavaTypeMapper.JavaType uuidType = new MySqlJavaTypeMapper().map("java.util.UUID");
+            String quoted = vt.quote("6ccd780c-baba-1026-9564-5b8c656024db", uuidType);
+            assertThat(quoted).isEqualTo("0x6CCD780CBABA102695645B8C656024DB");
+        }
     }
 }
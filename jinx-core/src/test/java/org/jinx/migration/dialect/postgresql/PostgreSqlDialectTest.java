@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -102,6 +103,147 @@ class PostgreSqlDialectTest {
             assertFalse(close.contains("ENGINE"), "PG에는 ENGINE이 없어야 함");
             assertFalse(close.contains("CHARSET"), "PG에는 CHARSET이 없어야 함");
         }
+
+        @Test @DisplayName("RANGE 파티션 — PARTITION BY 후 자식 테이블, 첫 파티션은 MINVALUE부터, 나머지는 DEFAULT")
+        void closePartitionedTable_range() {
+            PartitioningModel p = PartitioningModel.builder()
+                    .strategy(PartitionStrategy.RANGE)
+                    .columns(List.of("created_on"))
+                    .partitions(List.of(
+                            PartitionModel.builder().name("p2024").values(List.of("'2025-01-01'")).build(),
+                            PartitionModel.builder().name("p2025").values(List.of("'2026-01-01'")).build(),
+                            PartitionModel.builder().name("pmax").build()))
+                    .build();
+
+            assertEquals("\n) PARTITION BY RANGE (\"created_on\");"
+                            + "\nCREATE TABLE \"events_p2024\" PARTITION OF \"events\" FOR VALUES FROM (MINVALUE) TO ('2025-01-01');"
+                            + "\nCREATE TABLE \"events_p2025\" PARTITION OF \"events\" FOR VALUES FROM ('2025-01-01') TO ('2026-01-01');"
+                            + "\nCREATE TABLE \"events_pmax\" PARTITION OF \"events\" DEFAULT;",
+                    newDialect().closePartitionedTable("events", p));
+            assertEquals("DROP TABLE IF EXISTS \"events_p2024\";\n",
+                    newDialect().getDropPartitionSql("events", p, p.getPartitions().get(0)));
+        }
+
+        @Test @DisplayName("LIST·HASH 파티션 — FOR VALUES IN, MODULUS/REMAINDER 자식 테이블")
+        void closePartitionedTable_listAndHash() {
+            PartitioningModel list = PartitioningModel.builder()
+                    .strategy(PartitionStrategy.LIST)
+                    .columns(List.of("region"))
+                    .partitions(List.of(PartitionModel.builder().name("eu").values(List.of("'DE'", "'FR'")).build()))
+                    .build();
+            PartitioningModel hash = PartitioningModel.builder()
+                    .strategy(PartitionStrategy.HASH)
+                    .columns(List.of("user_id"))
+                    .partitionCount(2)
+                    .build();
+
+            assertEquals("CREATE TABLE \"orders_eu\" PARTITION OF \"orders\" FOR VALUES IN ('DE', 'FR');\n",
+                    newDialect().getAddPartitionSql("orders", list, list.getPartitions().get(0)));
+            assertEquals("\n) PARTITION BY HASH (\"user_id\");"
+                            + "\nCREATE TABLE \"carts_p0\" PARTITION OF \"carts\" FOR VALUES WITH (MODULUS 2, REMAINDER 0);"
+                            + "\nCREATE TABLE \"carts_p1\" PARTITION OF \"carts\" FOR VALUES WITH (MODULUS 2, REMAINDER 1);",
+                    newDialect().closePartitionedTable("carts", hash));
+        }
+
+        @Test @DisplayName("RANGE 파티션 추가 — 마지막이면 CREATE만, 중간이면 뒤 파티션을 떼어 행을 옮기고 다시 붙임")
+        void addRangePartition_midSequenceSplitsNext() {
+            PartitionModel p2024 = PartitionModel.builder().name("p2024").values(List.of("'2025-01-01'")).build();
+            PartitionModel p2024h2 = PartitionModel.builder().name("p2024h2").values(List.of("'2025-07-01'")).build();
+            PartitionModel p2025 = PartitionModel.builder().name("p2025").values(List.of("'2026-01-01'")).build();
+            PartitioningModel p = PartitioningModel.builder()
+                    .strategy(PartitionStrategy.RANGE)
+                    .columns(List.of("created_on"))
+                    .partitions(List.of(p2024, p2024h2, p2025, PartitionModel.builder().name("pmax").build()))
+                    .build();
+
+            assertEquals("CREATE TABLE \"events_p2025\" PARTITION OF \"events\" FOR VALUES FROM ('2025-07-01') TO ('2026-01-01');\n",
+                    newDialect().getAddPartitionSql("events", p, p2025));
+
+            String sql = newDialect().getAddPartitionSql("events", p, p2024h2);
+            assertTrue(sql.contains("IF EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass('\"events_p2025\"')"
+                    + " AND inhparent = to_regclass('\"events\"')) THEN"));
+            assertTrue(sql.contains("ALTER TABLE \"events\" DETACH PARTITION \"events_p2025\";"));
+            assertTrue(sql.contains("CREATE TABLE \"events_p2024h2\" PARTITION OF \"events\" FOR VALUES FROM ('2025-01-01') TO ('2025-07-01');"));
+            assertTrue(sql.contains("DELETE FROM \"events_p2025\" WHERE (\"created_on\") < ('2025-07-01') RETURNING *"));
+            assertTrue(sql.contains("ALTER TABLE \"events\" ATTACH PARTITION \"events_p2025\" FOR VALUES FROM ('2025-07-01') TO ('2026-01-01');"));
+            assertTrue(sql.indexOf("DETACH") < sql.indexOf("CREATE TABLE") && sql.indexOf("CREATE TABLE") < sql.indexOf("ATTACH"));
+            assertTrue(sql.stripTrailing().endsWith("END $$;"));
+        }
+
+        @Test @DisplayName("파티션 테이블 이름 — 63바이트를 넘으면 자르고 전체 이름의 해시를 붙임")
+        void partitionTableName_clampedTo63Bytes() {
+            String table = "t".repeat(60);
+            PartitioningModel p = PartitioningModel.builder()
+                    .strategy(PartitionStrategy.LIST)
+                    .columns(List.of("region"))
+                    .partitions(List.of(
+                            PartitionModel.builder().name("europe").values(List.of("'DE'")).build(),
+                            PartitionModel.builder().name("europe_west").values(List.of("'FR'")).build()))
+                    .build();
+
+            String first = PostgreSqlDialect.clampIdentifier(table + "_europe");
+            String second = PostgreSqlDialect.clampIdentifier(table + "_europe_west");
+            assertEquals(PostgreSqlDialect.MAX_IDENTIFIER_BYTES, first.length());
+            assertNotEquals(first, second);
+            assertTrue(newDialect().getAddPartitionSql(table, p, p.getPartitions().get(0)).startsWith("CREATE TABLE \"" + first + "\""));
+            assertEquals("DROP TABLE IF EXISTS \"" + second + "\";\n",
+                    newDialect().getDropPartitionSql(table, p, p.getPartitions().get(1)));
+            assertEquals("events_p2024", PostgreSqlDialect.clampIdentifier("events_p2024"));
+        }
+
+        @Test @DisplayName("파티션 테이블 이름 — 63바이트를 넘으면 PostgreSQL이 잘라 둔 이전 이름은 지우지 않음")
+        void partitionTableName_doesNotTargetServerTruncatedName() {
+            String table = "t".repeat(60);
+            PartitioningModel p = PartitioningModel.builder()
+                    .strategy(PartitionStrategy.RANGE)
+                    .columns(List.of("created_at"))
+                    .partitions(List.of(PartitionModel.builder().name("p2024").values(List.of("'2025-01-01'")).build()))
+                    .build();
+            String truncated = (table + "_p2024").substring(0, PostgreSqlDialect.MAX_IDENTIFIER_BYTES);
+
+            String drop = newDialect().getDropPartitionSql(table, p, p.getPartitions().get(0));
+            String detach = newDialect().getExpirePartitionSql(table, p, p.getPartitions().get(0), true);
+
+            assertFalse(drop.contains("\"" + truncated + "\""));
+            assertFalse(detach.contains("\"" + truncated + "\""));
+            assertTrue(drop.contains(PostgreSqlDialect.clampIdentifier(table + "_p2024")));
+        }
+
+        @Test @DisplayName("테이블 옵션 — WITH (...), 바뀐 옵션만 SET, 사라진 옵션은 RESET")
+        void tableOptions() {
+            PostgreSqlDialect d = newDialect();
+            Map<String, String> hot = d.tableOptionsOf(TableOptionsModel.of(
+                    new String[]{"FILLFACTOR=80", "autovacuum_vacuum_scale_factor=0.05"}, new String[]{"ROW_FORMAT=COMPRESSED"}));
+
+            assertEquals("\n) WITH (fillfactor=80, autovacuum_vacuum_scale_factor=0.05);", d.closeCreateTable(hot));
+            assertEquals("", d.getAlterTableOptionsSql("orders", hot, hot));
+            assertEquals("ALTER TABLE \"orders\" SET (fillfactor=90);\n"
+                            + "ALTER TABLE \"orders\" RESET (autovacuum_vacuum_scale_factor);\n",
+                    d.getAlterTableOptionsSql("orders", hot, Map.of("fillfactor", "90")));
+        }
+
+        @Test @DisplayName("alignColumns — PK, 정렬 8/4/2/1바이트, 가변 길이 순. 같은 묶음은 이름 순, 꺼져 있으면 그대로")
+        void orderColumnsForCreate() {
+            List<ColumnModel> cols = List.of(
+                    col("active", "java.lang.Boolean"),
+                    col("name", "java.lang.String"),
+                    col("total", "java.lang.Long"),
+                    col("tenant_id", "java.lang.Integer"),
+                    col("memo", "java.lang.String"),
+                    col("created_at", "java.time.LocalDateTime"),
+                    col("flags", "byte"),
+                    col("id", "java.lang.Integer"),
+                    col("code", "java.lang.String"));
+
+            List<ColumnModel> ordered = new PostgreSqlDialect(false, true)
+                    .orderColumnsForCreate(cols, List.of("tenant_id", "id"));
+
+            assertEquals(List.of("tenant_id", "id", "created_at", "total", "flags", "active", "code", "memo", "name"),
+                    ordered.stream().map(ColumnModel::getColumnName).toList());
+            assertSame(cols, newDialect().orderColumnsForCreate(cols, List.of("id")));
+            assertEquals(8, PostgreSqlJavaTypeMapper.alignmentOf("double precision"));
+            assertEquals(0, PostgreSqlJavaTypeMapper.alignmentOf("NUMERIC(10,2)"));
+        }
     }
 
     // ══════════════════════════════════════════════════════════════════════════
@@ -497,6 +639,51 @@ class PostgreSqlDialectTest {
                     d.indexStatement(idx, "users"));
         }
 
+        @Test @DisplayName("커버링·부분 인덱스 — UNIQUE, DESC, INCLUDE, WHERE")
+        void coveringPartialIndex() {
+            PostgreSqlDialect d = newDialect();
+            IndexModel idx = IndexModel.builder()
+                    .indexName("ix_orders_user")
+                    .columnNames(List.of("user_id", "created_at"))
+                    .keyParts(IndexKeyPart.parseList("user_id, created_at DESC"))
+                    .includeColumns(List.of("status", "total"))
+                    .where("deleted_at IS NULL")
+                    .unique(true)
+                    .build();
+
+            assertEquals("CREATE UNIQUE INDEX \"ix_orders_user\" ON \"orders\" (\"user_id\", \"created_at\" DESC)"
+                            + " INCLUDE (\"status\", \"total\") WHERE deleted_at IS NULL;\n",
+                    d.indexStatement(idx, "orders"));
+        }
+
+        @Test @DisplayName("접근 방식 — GIN/BRIN은 USING, btree는 생략, FULLTEXT는 거부")
+        void indexMethods() {
+            PostgreSqlDialect d = newDialect();
+            IndexModel gin = IndexModel.builder().indexName("ix_doc_tags").columnNames(List.of("tags")).type("GIN").build();
+            IndexModel brin = IndexModel.builder().indexName("ix_events_at").columnNames(List.of("created_at")).type("brin").build();
+            IndexModel btree = IndexModel.builder().indexName("ix_events_kind").columnNames(List.of("kind")).type("btree").build();
+            IndexModel fulltext = IndexModel.builder().indexName("ix_doc_body").columnNames(List.of("body")).type("FULLTEXT").build();
+
+            assertEquals("CREATE INDEX \"ix_doc_tags\" ON \"doc\" USING gin (\"tags\");\n", d.indexStatement(gin, "doc"));
+            assertEquals("CREATE INDEX \"ix_events_at\" ON \"events\" USING brin (\"created_at\");\n", d.indexStatement(brin, "events"));
+            assertEquals("CREATE INDEX \"ix_events_kind\" ON \"events\" (\"kind\");\n", d.indexStatement(btree, "events"));
+            assertThrows(IllegalArgumentException.class, () -> d.indexStatement(fulltext, "doc"));
+        }
+
+        @Test @DisplayName("식·정렬 키 — (expr), DESC NULLS LAST")
+        void expressionAndOrderedKeys() {
+            PostgreSqlDialect d = newDialect();
+            List<IndexKeyPart> parts = IndexKeyPart.parseList("lower(email), created_at DESC NULLS LAST");
+            IndexModel idx = IndexModel.builder()
+                    .indexName("ix_users_email_lower")
+                    .columnNames(parts.stream().map(IndexKeyPart::target).toList())
+                    .keyParts(parts)
+                    .build();
+
+            assertEquals("CREATE INDEX \"ix_users_email_lower\" ON \"users\" ((lower(email)), \"created_at\" DESC NULLS LAST);\n",
+                    d.indexStatement(idx, "users"));
+        }
+
         @Test @DisplayName("DROP INDEX — ON table_name 없음 (MySQL과 다름)")
         void dropIndex_noOnClause() {
             PostgreSqlDialect d = newDialect();
@@ -523,6 +710,33 @@ class PostgreSqlDialectTest {
             assertTrue(sql.contains("DROP INDEX IF EXISTS \"ix_old\""));
             assertTrue(sql.contains("CREATE INDEX \"ix_new\""));
         }
+
+        @Test @DisplayName("concurrentIndexes — 기존 테이블 인덱스는 CONCURRENTLY로 추가/삭제")
+        void concurrentIndexes() {
+            PostgreSqlDialect d = new PostgreSqlDialect(true);
+            IndexModel idx = IndexModel.builder().indexName("ix_order_user").columnNames(List.of("user_id")).build();
+
+            StringBuilder add = new StringBuilder();
+            new PostgreSqlConcurrentIndexContributor("orders", idx, false).contribute(add, d);
+            StringBuilder drop = new StringBuilder();
+            new PostgreSqlConcurrentIndexContributor("orders", idx, true).contribute(drop, d);
+
+            assertTrue(d.isConcurrentIndexes());
+            assertEquals("CREATE INDEX CONCURRENTLY \"ix_order_user\" ON \"orders\" (\"user_id\");\n", add.toString());
+            assertEquals("DROP INDEX CONCURRENTLY IF EXISTS \"ix_order_user\";\n", drop.toString());
+            // CREATE TABLE 경로는 빈 테이블이므로 일반 구문 유지
+            assertEquals("CREATE INDEX \"ix_order_user\" ON \"orders\" (\"user_id\");\n", d.indexStatement(idx, "orders"));
+        }
+
+        @Test @DisplayName("indexStatementIfNotExists — 다시 실행해도 되는 IF NOT EXISTS 구문, CONCURRENTLY는 방언 설정을 따름")
+        void indexStatementIfNotExists() {
+            IndexModel idx = IndexModel.builder().indexName("ix_order_user").columnNames(List.of("user_id")).build();
+
+            assertEquals("CREATE INDEX IF NOT EXISTS \"ix_order_user\" ON \"orders\" (\"user_id\");\n",
+                    new PostgreSqlDialect(false).indexStatementIfNotExists(idx, "orders"));
+            assertEquals("CREATE INDEX CONCURRENTLY IF NOT EXISTS \"ix_order_user\" ON \"orders\" (\"user_id\");\n",
+                    new PostgreSqlDialect(true).indexStatementIfNotExists(idx, "orders"));
+        }
     }
 
     // ══════════════════════════════════════════════════════════════════════════
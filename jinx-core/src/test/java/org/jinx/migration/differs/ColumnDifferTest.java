@@ -654,6 +654,22 @@ class ColumnDifferTest {
                         && w.contains("verify compatibility")));
     }
 
+    @Test
+    @DisplayName("String ↔ UUID 전환은 UUID 저장 방식 변경으로 감지하고 백필 경고를 남겨야 함")
+    void shouldFlagUuidStorageChange() {
+        ColumnModel oldCol = createColumn("external_id", "java.lang.String", false);
+        ColumnModel newCol = createColumn("external_id", "java.util.UUID", false);
+
+        oldEntity.setColumnFromMap(Map.of("external_id", oldCol));
+        newEntity.setColumnFromMap(Map.of("external_id", newCol));
+
+        columnDiffer.diff(oldEntity, newEntity, modifiedEntityResult);
+
+        DiffResult.ColumnDiff diff = modifiedEntityResult.getColumnDiffs().get(0);
+        assertTrue(diff.getChangeDetail().contains("UUID storage changed"));
+        assertTrue(modifiedEntityResult.getWarnings().stream().anyMatch(w -> w.contains("requires a backfill")));
+    }
+
     private ColumnModel createColumn(String name, String javaType, boolean isNullable) {
         return ColumnModel.builder()
                 .columnName(name)
@@ -2,6 +2,7 @@ package org.jinx.migration.differs;
 
 import org.jinx.model.DiffResult;
 import org.jinx.model.EntityModel;
+import org.jinx.model.IndexKeyPart;
 import org.jinx.model.IndexModel;
 import org.jinx.model.naming.CaseNormalizer;
 import org.junit.jupiter.api.BeforeEach;
@@ -295,6 +296,81 @@ class IndexDifferTest {
         assertTrue(result.getIndexDiffs().isEmpty());
     }
 
+    @Test
+    @DisplayName("INCLUDE 컬럼, 정렬 방향, WHERE 변경은 MODIFIED, 오름차순 명시와 INCLUDE 순서는 변경 아님")
+    void shouldDetectIncludeAndSortOrderChanges() {
+        IndexModel oldIdx = createIndex("ix_orders_user", List.of("user_id", "created_at"));
+        oldIdx.setIncludeColumns(List.of("status", "total"));
+        IndexModel sameIdx = createIndex("ix_orders_user", List.of("user_id", "created_at"));
+        sameIdx.setIncludeColumns(List.of("TOTAL", "status"));
+        sameIdx.setKeyParts(List.of(new IndexKeyPart("user_id", false), new IndexKeyPart("created_at", false)));
+
+        oldEntity.setIndexes(Map.of("ix_orders_user", oldIdx));
+        newEntity.setIndexes(Map.of("ix_orders_user", sameIdx));
+        indexDiffer.diff(oldEntity, newEntity, modifiedEntityResult);
+        assertTrue(modifiedEntityResult.getIndexDiffs().isEmpty());
+
+        IndexModel newIdx = createIndex("ix_orders_user", List.of("user_id", "created_at"));
+        newIdx.setIncludeColumns(List.of("status"));
+        newIdx.setKeyParts(List.of(new IndexKeyPart("user_id", false), new IndexKeyPart("created_at", true)));
+        newIdx.setWhere("deleted_at IS NULL");
+        newEntity.setIndexes(Map.of("ix_orders_user", newIdx));
+        indexDiffer.diff(oldEntity, newEntity, modifiedEntityResult);
+
+        assertEquals(1, modifiedEntityResult.getIndexDiffs().size());
+        DiffResult.IndexDiff diff = modifiedEntityResult.getIndexDiffs().get(0);
+        assertEquals(DiffResult.IndexDiff.Type.MODIFIED, diff.getType());
+        assertTrue(diff.getChangeDetail().contains("where changed"));
+        assertTrue(diff.getChangeDetail().contains("sort order changed"));
+        assertTrue(diff.getChangeDetail().contains("include changed from [status, total] to [status]"));
+    }
+
+    @Test
+    @DisplayName("접근 방식 변경은 MODIFIED, 미지정과 btree는 같은 것으로 본다")
+    void shouldDetectIndexMethodChange() {
+        IndexModel oldIdx = createIndex("ix_events_at", List.of("created_at"));
+        IndexModel sameIdx = createIndex("ix_events_at", List.of("created_at"));
+        sameIdx.setType("btree");
+
+        oldEntity.setIndexes(Map.of("ix_events_at", oldIdx));
+        newEntity.setIndexes(Map.of("ix_events_at", sameIdx));
+        indexDiffer.diff(oldEntity, newEntity, modifiedEntityResult);
+        assertTrue(modifiedEntityResult.getIndexDiffs().isEmpty());
+
+        IndexModel brinIdx = createIndex("ix_events_at", List.of("created_at"));
+        brinIdx.setType("BRIN");
+        newEntity.setIndexes(Map.of("ix_events_at", brinIdx));
+        indexDiffer.diff(oldEntity, newEntity, modifiedEntityResult);
+
+        assertEquals(1, modifiedEntityResult.getIndexDiffs().size());
+        DiffResult.IndexDiff diff = modifiedEntityResult.getIndexDiffs().get(0);
+        assertEquals(DiffResult.IndexDiff.Type.MODIFIED, diff.getType());
+        assertEquals("method changed from BTREE to BRIN", diff.getChangeDetail());
+    }
+
+    @Test
+    @DisplayName("식 키는 공백·대소문자를 정규화해 비교하고 NULLS 위치 변경은 MODIFIED")
+    void shouldNormalizeExpressionKeys() {
+        IndexModel oldIdx = createIndex("ix_users_email", List.of("coalesce(nick, email)"));
+        oldIdx.setKeyParts(IndexKeyPart.parseList("coalesce(nick, email)"));
+        IndexModel sameIdx = createIndex("ix_users_email", List.of("COALESCE(nick,   email)"));
+        sameIdx.setKeyParts(IndexKeyPart.parseList("(COALESCE(nick,   email))"));
+
+        oldEntity.setIndexes(Map.of("ix_users_email", oldIdx));
+        newEntity.setIndexes(Map.of("ix_users_email", sameIdx));
+        indexDiffer.diff(oldEntity, newEntity, modifiedEntityResult);
+        assertTrue(modifiedEntityResult.getIndexDiffs().isEmpty());
+
+        IndexModel nullsIdx = createIndex("ix_users_email", List.of("coalesce(nick, email)"));
+        nullsIdx.setKeyParts(IndexKeyPart.parseList("coalesce(nick, email) NULLS FIRST"));
+        newEntity.setIndexes(Map.of("ix_users_email", nullsIdx));
+        indexDiffer.diff(oldEntity, newEntity, modifiedEntityResult);
+
+        assertEquals(1, modifiedEntityResult.getIndexDiffs().size());
+        assertEquals("sort order changed from [] to [asc nulls first]",
+                modifiedEntityResult.getIndexDiffs().get(0).getChangeDetail());
+    }
+
     private IndexModel createIndex(String name, List<String> columns) {
         return IndexModel.builder()
                 .indexName(name)
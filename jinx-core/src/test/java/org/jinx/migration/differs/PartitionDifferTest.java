@@ -0,0 +1,71 @@
+package org.jinx.migration.differs;
+
+import org.jinx.model.DiffResult;
+import org.jinx.model.EntityModel;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitionStrategy;
+import org.jinx.model.PartitioningModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionDifferTest {
+
+    private final PartitionDiffer differ = new PartitionDiffer();
+
+    @Test
+    @DisplayName("이름으로 맞춰 새 파티션은 ADDED, 사라진 파티션은 DROPPED")
+    void addedAndDroppedPartitions() {
+        EntityModel oldE = entity(range(part("p2023", "'2024-01-01'"), part("p2024", "'2025-01-01'")));
+        EntityModel newE = entity(range(part("P2024", "'2025-01-01'"), part("p2025", "'2026-01-01'")));
+
+        DiffResult.ModifiedEntity result = result(oldE, newE);
+        differ.diff(oldE, newE, result);
+
+        assertThat(result.getPartitionDiffs())
+                .extracting(d -> d.getType() + ":" + d.getPartition().getName())
+                .containsExactly("ADDED:p2025", "DROPPED:p2023");
+        assertThat(result.getWarnings()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("방식·키 변경, 범위 변경, 파티셔닝 해제는 경고만 남긴다")
+    void structuralChangesWarn() {
+        EntityModel ranged = entity(range(part("p2024", "'2025-01-01'")));
+        EntityModel moved = entity(range(part("p2024", "'2025-07-01'")));
+        EntityModel listed = entity(PartitioningModel.builder()
+                .strategy(PartitionStrategy.LIST).columns(List.of("created_on"))
+                .partitions(List.of(part("p2024", "'2024'"))).build());
+        EntityModel plain = entity(null);
+
+        for (EntityModel newE : List.of(moved, listed, plain)) {
+            DiffResult.ModifiedEntity result = result(ranged, newE);
+            differ.diff(ranged, newE, result);
+            assertThat(result.getPartitionDiffs()).isEmpty();
+            assertThat(result.getWarnings()).singleElement().asString().contains("manual migration required");
+        }
+    }
+
+    private static PartitioningModel range(PartitionModel... partitions) {
+        return PartitioningModel.builder()
+                .strategy(PartitionStrategy.RANGE)
+                .columns(List.of("created_on"))
+                .partitions(List.of(partitions))
+                .build();
+    }
+
+    private static PartitionModel part(String name, String bound) {
+        return PartitionModel.builder().name(name).values(List.of(bound)).build();
+    }
+
+    private static EntityModel entity(PartitioningModel partitioning) {
+        return EntityModel.builder().entityName("Event").tableName("events").partitioning(partitioning).build();
+    }
+
+    private static DiffResult.ModifiedEntity result(EntityModel oldE, EntityModel newE) {
+        return DiffResult.ModifiedEntity.builder().oldEntity(oldE).newEntity(newE).build();
+    }
+}
@@ -0,0 +1,51 @@
+package org.jinx.migration.differs;
+
+import org.jinx.model.DiffResult;
+import org.jinx.model.EntityModel;
+import org.jinx.model.TableOptionsModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TableOptionsDifferTest {
+
+    private final TableOptionsDiffer differ = new TableOptionsDiffer();
+
+    @Test
+    @DisplayName("순서만 다르거나 둘 다 없으면 차이가 없다")
+    void unchangedOptions() {
+        EntityModel oldE = entity(TableOptionsModel.of(new String[]{"fillfactor=80", "autovacuum_enabled=false"}, new String[0]));
+        EntityModel newE = entity(TableOptionsModel.of(new String[]{"AUTOVACUUM_ENABLED=false", "fillfactor=80"}, new String[0]));
+
+        DiffResult.ModifiedEntity result = result(oldE, newE);
+        differ.diff(oldE, newE, result);
+        assertThat(result.getTableOptionsDiff()).isNull();
+
+        DiffResult.ModifiedEntity none = result(entity(null), entity(null));
+        differ.diff(entity(null), entity(null), none);
+        assertThat(none.getTableOptionsDiff()).isNull();
+    }
+
+    @Test
+    @DisplayName("옵션이 생기거나 바뀌면 전후 옵션을 남긴다")
+    void changedOptions() {
+        EntityModel oldE = entity(null);
+        EntityModel newE = entity(TableOptionsModel.of(new String[0], new String[]{"ROW_FORMAT=COMPRESSED"}));
+
+        DiffResult.ModifiedEntity result = result(oldE, newE);
+        differ.diff(oldE, newE, result);
+
+        assertThat(result.getTableOptionsDiff()).isNotNull();
+        assertThat(result.getTableOptionsDiff().getOldOptions().isEmpty()).isTrue();
+        assertThat(result.getTableOptionsDiff().getNewOptions().getMysql()).containsEntry("ROW_FORMAT", "COMPRESSED");
+    }
+
+    private static EntityModel entity(TableOptionsModel options) {
+        return EntityModel.builder().entityName("Order").tableName("orders").tableOptions(options).build();
+    }
+
+    private static DiffResult.ModifiedEntity result(EntityModel oldE, EntityModel newE) {
+        return DiffResult.ModifiedEntity.builder().oldEntity(oldE).newEntity(newE).build();
+    }
+}
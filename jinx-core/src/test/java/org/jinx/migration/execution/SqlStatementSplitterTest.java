@@ -0,0 +1,75 @@
+package org.jinx.migration.execution;
+
+import org.jinx.migration.DatabaseType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementSplitterTest {
+
+    @Test
+    @DisplayName("세미콜론으로 나누고 주석만 있는 조각은 버린다")
+    void splitsOnSemicolonAndDropsComments() {
+        String script = """
+                -- Jinx Migration Header
+                -- jinx:head=sha256:abc
+
+                CREATE TABLE a (id BIGINT);
+                /* block */ CREATE TABLE b (id BIGINT);
+                -- trailing comment;
+                """;
+
+        assertThat(SqlStatementSplitter.split(script))
+                .containsExactly("CREATE TABLE a (id BIGINT)", "CREATE TABLE b (id BIGINT)");
+    }
+
+    @Test
+    @DisplayName("문자열과 따옴표 식별자 안의 세미콜론은 경계가 아니다")
+    void ignoresSemicolonsInQuotes() {
+        String script = "ALTER TABLE `a;b` COMMENT 'x;y''z';\nCOMMENT ON TABLE \"t;1\" IS 'c';";
+
+        assertThat(SqlStatementSplitter.split(script)).containsExactly(
+                "ALTER TABLE `a;b` COMMENT 'x;y''z'",
+                "COMMENT ON TABLE \"t;1\" IS 'c'");
+    }
+
+    @Test
+    @DisplayName("PostgreSQL 달러 인용 본문은 하나의 문장으로 유지한다")
+    void keepsDollarQuotedBodies() {
+        String script = """
+                DO $body$ BEGIN PERFORM 1; PERFORM 2; END $body$;
+                SELECT $$a;b$$;
+                """;
+
+        assertThat(SqlStatementSplitter.split(script)).containsExactly(
+                "DO $body$ BEGIN PERFORM 1; PERFORM 2; END $body$",
+                "SELECT $$a;b$$");
+    }
+
+    @Test
+    @DisplayName("마지막 문장에 세미콜론이 없어도 포함한다")
+    void includesUnterminatedLastStatement() {
+        assertThat(SqlStatementSplitter.split("DROP TABLE a;\nDROP TABLE b"))
+                .containsExactly("DROP TABLE a", "DROP TABLE b");
+    }
+
+    @Test
+    @DisplayName("표준 문자열의 백슬래시는 이스케이프가 아니다 — PostgreSQL에서 'C:\\'는 거기서 끝난다")
+    void backslashIsLiteralInStandardStrings() {
+        String script = "INSERT INTO t VALUES ('C:\\'); DROP TABLE t;";
+
+        assertThat(SqlStatementSplitter.split(script, DatabaseType.POSTGRESQL))
+                .containsExactly("INSERT INTO t VALUES ('C:\\')", "DROP TABLE t");
+        assertThat(SqlStatementSplitter.split(script)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("MySQL 문자열과 PostgreSQL E'...' 리터럴에서는 백슬래시가 다음 따옴표를 이스케이프한다")
+    void backslashEscapesInMySqlAndEscapeStrings() {
+        assertThat(SqlStatementSplitter.split("SELECT 'it\\'s; ok'; SELECT 2;", DatabaseType.MYSQL))
+                .containsExactly("SELECT 'it\\'s; ok'", "SELECT 2");
+        assertThat(SqlStatementSplitter.split("SELECT E'it\\'s; ok'; SELECT 2;", DatabaseType.POSTGRESQL))
+                .containsExactly("SELECT E'it\\'s; ok'", "SELECT 2");
+    }
+}
@@ -0,0 +1,106 @@
+package org.jinx.migration.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MigrationLockTest {
+
+    @Test
+    @DisplayName("PostgreSQL: 잠금을 얻을 때까지 pg_try_advisory_lock을 재시도하고 닫을 때 해제한다")
+    void postgres_pollsUntilAcquired() throws SQLException {
+        Connection connection = connection("PostgreSQL");
+        PreparedStatement stmt = mock(PreparedStatement.class);
+        ResultSet busy = resultSet(false);
+        ResultSet free = resultSet(true);
+        when(connection.prepareStatement(anyString())).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(busy, free, resultSet(true));
+
+        MigrationLock lock = MigrationLock.acquire(connection, "jinx_migration", Duration.ofSeconds(5));
+        assertThat(lock.isHeld()).isTrue();
+        assertThat(lock.probablyWaited()).isTrue();
+
+        lock.close();
+        assertThat(lock.isHeld()).isFalse();
+        verify(connection).prepareStatement("SELECT pg_advisory_unlock(?)");
+        verify(stmt, times(2)).setLong(1, MigrationLock.lockKey("jinx_migration"));
+    }
+
+    @Test
+    @DisplayName("MySQL: GET_LOCK이 0을 반환하면 타임아웃 예외를 던진다")
+    void mysql_timeout() throws SQLException {
+        Connection connection = connection("MySQL");
+        PreparedStatement stmt = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(stmt);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getInt(1)).thenReturn(0);
+
+        assertThatThrownBy(() -> MigrationLock.acquire(connection, "jinx_migration", Duration.ofMillis(1500)))
+                .isInstanceOf(SQLTimeoutException.class)
+                .hasMessageContaining("jinx_migration");
+        // 밀리초 타임아웃은 초 단위로 올림
+        verify(stmt).setLong(2, 2L);
+    }
+
+    @Test
+    @DisplayName("잠금 키는 이름에 대해 결정적이다")
+    void lockKey_isDeterministic() {
+        assertThat(MigrationLock.lockKey("jinx_migration")).isEqualTo(MigrationLock.lockKey("jinx_migration"));
+        assertThat(MigrationLock.lockKey("jinx_migration")).isNotEqualTo(MigrationLock.lockKey("other"));
+    }
+
+    @Test
+    @DisplayName("잠금 이름은 MySQL은 DB(catalog), PostgreSQL은 스키마 단위이고, 없으면 기본 이름이다")
+    void nameFor_scopesToDatabase() throws SQLException {
+        Connection mysql = connection("MySQL");
+        when(mysql.getCatalog()).thenReturn("tenant_a");
+        Connection postgres = connection("PostgreSQL");
+        when(postgres.getSchema()).thenReturn("tenant_b");
+
+        assertThat(MigrationLock.nameFor(mysql)).isEqualTo("jinx_migration:tenant_a");
+        assertThat(MigrationLock.nameFor(postgres)).isEqualTo("jinx_migration:tenant_b");
+        assertThat(MigrationLock.nameFor(connection("MariaDB"))).isEqualTo(MigrationLock.DEFAULT_NAME);
+    }
+
+    @Test
+    @DisplayName("MySQL 잠금 이름이 64자를 넘으면 해시를 붙여 64자로 줄이고, 접두사가 같아도 서로 다르다")
+    void mySqlLockName_truncatesWithHash() {
+        String a = "jinx_migration:" + "x".repeat(60) + "_a";
+        String b = "jinx_migration:" + "x".repeat(60) + "_b";
+
+        assertThat(MigrationLock.mySqlLockName("jinx_migration:short")).isEqualTo("jinx_migration:short");
+        assertThat(MigrationLock.mySqlLockName(a)).hasSize(64).isNotEqualTo(MigrationLock.mySqlLockName(b));
+    }
+
+    private static Connection connection(String product) throws SQLException {
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn(product);
+        return connection;
+    }
+
+    private static ResultSet resultSet(boolean value) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getBoolean(1)).thenReturn(value);
+        return rs;
+    }
+}
@@ -0,0 +1,135 @@
+package org.jinx.migration.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MigrationToolIntegrationTest {
+
+    private static final String HASH = "ab".repeat(32);
+
+    private Connection connection;
+    private MigrationToolIntegration integration;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:mti_" + UUID.randomUUID().toString().replace("-", ""), "sa", "");
+        integration = new MigrationToolIntegration(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("Liquibase 해시 검사는 comments LIKE로 DB에서 매칭한다")
+    void liquibase_matchesInDatabase() throws SQLException {
+        execute("CREATE TABLE DATABASECHANGELOG (id VARCHAR(255), exectype VARCHAR(10), comments VARCHAR(255), dateexecuted TIMESTAMP)");
+        execute("INSERT INTO DATABASECHANGELOG VALUES ('1', 'EXECUTED', 'other', CURRENT_TIMESTAMP)");
+        execute("INSERT INTO DATABASECHANGELOG VALUES ('2', 'EXECUTED', 'jinxHead=sha256:" + HASH + "', CURRENT_TIMESTAMP)");
+        execute("INSERT INTO DATABASECHANGELOG VALUES ('3', 'FAILED', 'jinxHead=sha256:" + "cd".repeat(32) + "', CURRENT_TIMESTAMP)");
+
+        assertThat(integration.isAppliedViaLiquibase(HASH)).isTrue();
+        assertThat(integration.isAppliedViaLiquibase("sha256:" + HASH)).isTrue();
+        assertThat(integration.isAppliedViaLiquibase("cd".repeat(32))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Flyway 해시 검사는 '_'를 와일드카드가 아닌 문자로 매칭한다")
+    void flyway_escapesUnderscore() throws SQLException {
+        execute("CREATE TABLE flyway_schema_history (version VARCHAR(50), description VARCHAR(200), script VARCHAR(1000), success BOOLEAN, installed_on TIMESTAMP)");
+        // '_' 대신 'X'가 들어간 스크립트명은 매칭되면 안 됨
+        execute("INSERT INTO flyway_schema_history VALUES ('1', 'migration', 'V1__migration__jinxHeadXsha256X" + HASH + ".sql', TRUE, CURRENT_TIMESTAMP)");
+
+        assertThat(integration.isAppliedViaFlyway(HASH)).isFalse();
+
+        execute("INSERT INTO flyway_schema_history VALUES ('2', 'migration', 'V2__migration__jinxHead_sha256_" + HASH + ".sql', TRUE, CURRENT_TIMESTAMP)");
+
+        assertThat(integration.isAppliedViaFlyway(HASH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Liquibase/Flyway 검사는 그 도구의 이력 테이블만 본다 — jinx 이력에만 있는 해시는 찾지 않는다")
+    void toolChecks_ignoreJinxHistory() throws SQLException {
+        integration.recordSchemaApplication("sha256:" + HASH, "1", 120L, 3);
+        execute("CREATE TABLE DATABASECHANGELOG (id VARCHAR(255), exectype VARCHAR(10), comments VARCHAR(255), dateexecuted TIMESTAMP)");
+        execute("CREATE TABLE flyway_schema_history (version VARCHAR(50), description VARCHAR(200), script VARCHAR(1000), success BOOLEAN, installed_on TIMESTAMP)");
+
+        MigrationToolIntegration fresh = new MigrationToolIntegration(connection);
+        assertThat(fresh.isAppliedViaJinxState(HASH)).isTrue();
+        assertThat(fresh.isAppliedViaLiquibase(HASH)).isFalse();
+        assertThat(fresh.isAppliedViaFlyway(HASH)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스키마 이력은 추가만 되며 같은 해시는 다시 기록하지 않는다")
+    void schemaHistory_isAppendOnly() throws SQLException {
+        // UPSERT 문법이 없는 DB(H2)에서도 상태 행 갱신이 중복 오류 없이 반복됨
+        String next = "cd".repeat(32);
+        integration.recordSchemaApplication(HASH, "1", 120L, 3);
+        integration.recordSchemaApplication(HASH, "1-again", 999L, 9);
+        integration.recordSchemaApplication(next, "2", null, null);
+
+        assertThat(queryLong("SELECT COUNT(*) FROM jinx_schema_history")).isEqualTo(2);
+        assertThat(queryLong("SELECT COUNT(*) FROM jinx_schema_state")).isEqualTo(1);
+        assertThat(queryLong("SELECT statement_count FROM jinx_schema_history WHERE schema_hash = '" + HASH + "'"))
+                .isEqualTo(3);
+
+        // 현재 상태는 최신 해시지만 이전 해시도 이력에서 조회됨
+        MigrationToolIntegration fresh = new MigrationToolIntegration(connection);
+        assertThat(fresh.isAppliedViaJinxState(next)).isTrue();
+        assertThat(fresh.isAppliedViaJinxState(HASH)).isTrue();
+        assertThat(fresh.isAppliedViaJinxState("ef".repeat(32))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이력 테이블이 없으면 기존 상태 테이블로 확인한다")
+    void jinxState_fallsBackToStateRow() throws SQLException {
+        execute("CREATE TABLE jinx_schema_state (id SMALLINT PRIMARY KEY, current_hash VARCHAR(128) NOT NULL, "
+                + "version VARCHAR(50), applied_at TIMESTAMP, applied_by VARCHAR(100))");
+        execute("INSERT INTO jinx_schema_state VALUES (1, '" + HASH + "', '1', CURRENT_TIMESTAMP, 'sa')");
+
+        assertThat(integration.isAppliedViaJinxState(HASH)).isTrue();
+        assertThat(integration.isAppliedViaJinxState("cd".repeat(32))).isFalse();
+    }
+
+    @Test
+    @DisplayName("advisory lock이 없는 DB에서는 잠금 없이 통과한다")
+    void lock_isNoOpWithoutAdvisoryLocks() throws SQLException {
+        try (MigrationLock lock = integration.lock(Duration.ofSeconds(1))) {
+            assertThat(lock.isHeld()).isFalse();
+            assertThat(lock.probablyWaited()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("LIKE 패턴은 escape 문자와 와일드카드를 이스케이프한다")
+    void containsPattern_escapesWildcards() {
+        assertThat(MigrationToolIntegration.containsPattern("a_b%c!d")).isEqualTo("%a!_b!%c!!d%");
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try (Statement stmt = connection.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
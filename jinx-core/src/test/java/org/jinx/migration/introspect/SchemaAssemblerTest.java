@@ -0,0 +1,98 @@
+package org.jinx.migration.introspect;
+
+import org.jinx.migration.spi.SqlTypeName;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.ConstraintType;
+import org.jinx.model.EntityModel;
+import org.jinx.model.GenerationStrategy;
+import org.jinx.model.OnDeleteAction;
+import org.jinx.model.RelationshipModel;
+import org.jinx.model.SchemaModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaAssemblerTest {
+
+    @Test
+    @DisplayName("카탈로그 행으로 테이블/컬럼/PK/유니크/FK/인덱스/시퀀스를 조립한다")
+    void assemblesSchemaFromRows() {
+        CatalogRows rows = new CatalogRows(
+                List.of(new CatalogRows.Table("users", "회원"), new CatalogRows.Table("orders", "")),
+                List.of(
+                        new CatalogRows.Column("orders", "user_id", 2, "bigint", false, null, false, null),
+                        new CatalogRows.Column("orders", "id", 1, "bigint", false, null, true, null),
+                        new CatalogRows.Column("orders", "amount", 3, "numeric(12,2)", true, "0", false, null),
+                        new CatalogRows.Column("users", "id", 1, "bigint", false, null, true, null),
+                        new CatalogRows.Column("users", "email", 2, "character varying(120)", false, null, false, "login"),
+                        new CatalogRows.Column("views_only", "x", 1, "int", true, null, false, null)),
+                List.of(
+                        pk("users", "users_pkey", "id", 1),
+                        pk("orders", "orders_pkey", "id", 1),
+                        new CatalogRows.ConstraintColumn("users", "uk_users_email", CatalogRows.ConstraintKind.UNIQUE,
+                                "email", 1, null, null, null, null),
+                        new CatalogRows.ConstraintColumn("orders", "fk_orders_user", CatalogRows.ConstraintKind.FOREIGN_KEY,
+                                "user_id", 1, "users", "id", "SET NULL", "NO ACTION")),
+                List.of(
+                        new CatalogRows.IndexColumn("orders", "ix_orders_user_amount", false, "amount", 2, "btree", null, false),
+                        new CatalogRows.IndexColumn("orders", "ix_orders_user_amount", false, "user_id", 1, "btree", null, false),
+                        new CatalogRows.IndexColumn("orders", "ix_orders_user_amount", false, "id", 3, "btree", null, true)),
+                List.of(new CatalogRows.Sequence("invoice_seq", 1L, 50L, 1L, Long.MAX_VALUE, 1L)));
+
+        SchemaModel schema = SchemaAssembler.assemble(rows);
+
+        assertThat(schema.getEntities()).containsOnlyKeys("users", "orders");
+
+        EntityModel users = schema.getEntities().get("users");
+        assertThat(users.getComment()).isEqualTo("회원");
+        ColumnModel email = users.findColumn("users", "email");
+        assertThat(email.getJavaType()).isEqualTo("java.lang.String");
+        assertThat(email.getLength()).isEqualTo(120);
+        assertThat(email.getSqlTypeOverride()).isEqualTo("character varying(120)");
+        assertThat(email.isNullable()).isFalse();
+        assertThat(users.findColumn("users", "id").isPrimaryKey()).isTrue();
+        assertThat(users.findColumn("users", "id").getGenerationStrategy()).isEqualTo(GenerationStrategy.IDENTITY);
+        assertThat(users.getConstraints().get("uk_users_email").getType()).isEqualTo(ConstraintType.UNIQUE);
+
+        EntityModel orders = schema.getEntities().get("orders");
+        ColumnModel amount = orders.findColumn("orders", "amount");
+        assertThat(amount.getJavaType()).isEqualTo("java.math.BigDecimal");
+        assertThat(amount.getPrecision()).isEqualTo(12);
+        assertThat(amount.getScale()).isEqualTo(2);
+        assertThat(amount.getDefaultValue()).isEqualTo("0");
+
+        RelationshipModel fk = orders.getRelationships().get("fk_orders_user");
+        assertThat(fk.getColumns()).containsExactly("user_id");
+        assertThat(fk.getReferencedTable()).isEqualTo("users");
+        assertThat(fk.getReferencedColumns()).containsExactly("id");
+        assertThat(fk.getOnDelete()).isEqualTo(OnDeleteAction.SET_NULL);
+
+        // 키 순서는 position 기준
+        assertThat(orders.getIndexes().get("ix_orders_user_amount").getColumnNames()).containsExactly("user_id", "amount");
+        // INCLUDE 컬럼은 키와 분리
+        assertThat(orders.getIndexes().get("ix_orders_user_amount").getIncludeColumns()).containsExactly("id");
+
+        assertThat(schema.getSequences().get("invoice_seq").getAllocationSize()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("DB별 타입 표기를 같은 기본 이름으로 정규화한다")
+    void normalizesTypeNames() {
+        assertThat(SqlTypeName.parse("character varying(100)")).isEqualTo(new SqlTypeName("varchar", List.of(100)));
+        assertThat(SqlTypeName.parse("VARCHAR(100)")).isEqualTo(new SqlTypeName("varchar", List.of(100)));
+        assertThat(SqlTypeName.parse("timestamp(6) without time zone").base()).isEqualTo("timestamp");
+        assertThat(SqlTypeName.parse("datetime(6)").base()).isEqualTo("timestamp");
+        assertThat(SqlTypeName.parse("bigint unsigned").base()).isEqualTo("bigint");
+        assertThat(SqlTypeName.parse("int4").base()).isEqualTo("integer");
+        assertThat(SqlTypeName.parse("tinyint(1)").javaType()).isEqualTo("java.lang.Boolean");
+        assertThat(SqlTypeName.parse("decimal(10,2)")).isEqualTo(new SqlTypeName("numeric", List.of(10, 2)));
+    }
+
+    private static CatalogRows.ConstraintColumn pk(String table, String name, String column, int position) {
+        return new CatalogRows.ConstraintColumn(table, name, CatalogRows.ConstraintKind.PRIMARY_KEY, column, position,
+                null, null, null, null);
+    }
+}
@@ -0,0 +1,184 @@
+package org.jinx.migration.introspect;
+
+import org.jinx.migration.dialect.postgresql.PostgreSqlJavaTypeMapper;
+import org.jinx.migration.spi.SqlTypeName;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.DiffResult;
+import org.jinx.model.EntityModel;
+import org.jinx.model.IndexModel;
+import org.jinx.model.SchemaModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaDriftDetectorTest {
+
+    private final SchemaDriftDetector detector = new SchemaDriftDetector(new PostgreSqlJavaTypeMapper(), true);
+
+    @Test
+    @DisplayName("기대 스키마와 라이브 스키마가 같으면 드리프트가 없다")
+    void noDriftWhenInSync() {
+        SchemaModel expected = schema(users(expectedColumn("email", "java.lang.String", 120, false)));
+        SchemaModel live = schema(users(liveColumn("email", "character varying(120)", false)));
+
+        SchemaDriftDetector.DriftReport report = detector.detect(expected, live);
+
+        assertThat(report.hasDrift()).isFalse();
+        assertThat(report.correctiveDiff().getModifiedTables()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("누락/초과 컬럼과 타입·NULL 허용 차이를 드리프트로 보고하고 교정 diff를 만든다")
+    void reportsColumnDrift() {
+        SchemaModel expected = schema(users(
+                expectedColumn("email", "java.lang.String", 120, false),
+                expectedColumn("nickname", "java.lang.String", 50, true)));
+        SchemaModel live = schema(users(
+                liveColumn("email", "character varying(80)", true),
+                liveColumn("legacy_flag", "boolean", true)));
+
+        SchemaDriftDetector.DriftReport report = detector.detect(expected, live);
+
+        assertThat(report.drifts()).extracting(SchemaDrift::kind).containsExactlyInAnyOrder(
+                SchemaDrift.Kind.COLUMN_NULLABILITY,
+                SchemaDrift.Kind.COLUMN_TYPE,
+                SchemaDrift.Kind.MISSING_COLUMN,
+                SchemaDrift.Kind.UNEXPECTED_COLUMN);
+
+        DiffResult.ModifiedEntity modified = report.correctiveDiff().getModifiedTables().get(0);
+        assertThat(modified.getColumnDiffs())
+                .extracting(d -> d.getType() + ":" + d.getColumn().getColumnName())
+                .containsExactlyInAnyOrder("MODIFIED:email", "ADDED:nickname", "DROPPED:legacy_flag");
+        DiffResult.ColumnDiff emailDiff = modified.getColumnDiffs().stream()
+                .filter(d -> d.getType() == DiffResult.ColumnDiff.Type.MODIFIED)
+                .findFirst().orElseThrow();
+        assertThat(emailDiff.getOldColumn().getSqlTypeOverride()).isEqualTo("character varying(80)");
+    }
+
+    @Test
+    @DisplayName("누락된 인덱스는 이름이 달라도 컬럼 시그니처로 비교해 ADDED 인덱스 diff를 만든다")
+    void reportsMissingIndexBySignature() {
+        EntityModel expectedUsers = users(expectedColumn("email", "java.lang.String", 120, false));
+        expectedUsers.getIndexes().put("ix_users_email", index("ix_users_email", "email"));
+        expectedUsers.getIndexes().put("ix_users_created", index("ix_users_created", "created_at"));
+        expectedUsers.putColumn(expectedColumn("created_at", "java.time.LocalDateTime", 0, true));
+
+        EntityModel liveUsers = users(
+                liveColumn("email", "varchar(120)", false),
+                liveColumn("created_at", "timestamp without time zone", true));
+        liveUsers.getIndexes().put("users_email_idx", index("users_email_idx", "email"));
+
+        SchemaDriftDetector.DriftReport report = detector.detect(schema(expectedUsers), schema(liveUsers));
+
+        assertThat(report.drifts()).singleElement()
+                .satisfies(d -> {
+                    assertThat(d.kind()).isEqualTo(SchemaDrift.Kind.MISSING_INDEX);
+                    assertThat(d.object()).isEqualTo("created_at");
+                });
+        DiffResult.IndexDiff indexDiff = report.correctiveDiff().getModifiedTables().get(0).getIndexDiffs().get(0);
+        assertThat(indexDiff.getType()).isEqualTo(DiffResult.IndexDiff.Type.ADDED);
+        assertThat(indexDiff.getIndex().getIndexName()).isEqualTo("ix_users_created");
+    }
+
+    @Test
+    @DisplayName("키가 같아도 INCLUDE 컬럼이 다르면 다른 인덱스로 본다")
+    void includeColumnsArePartOfIndexSignature() {
+        EntityModel expectedUsers = users(
+                expectedColumn("email", "java.lang.String", 120, false),
+                expectedColumn("created_at", "java.time.LocalDateTime", 0, true));
+        IndexModel covering = index("ix_users_email", "email");
+        covering.setIncludeColumns(List.of("created_at"));
+        expectedUsers.getIndexes().put("ix_users_email", covering);
+
+        EntityModel liveUsers = users(
+                liveColumn("email", "varchar(120)", false),
+                liveColumn("created_at", "timestamp without time zone", true));
+        liveUsers.getIndexes().put("ix_users_email", index("ix_users_email", "email"));
+
+        SchemaDriftDetector.DriftReport report = detector.detect(schema(expectedUsers), schema(liveUsers));
+
+        assertThat(report.drifts()).extracting(SchemaDrift::kind)
+                .containsExactlyInAnyOrder(SchemaDrift.Kind.MISSING_INDEX, SchemaDrift.Kind.UNEXPECTED_INDEX);
+    }
+
+    @Test
+    @DisplayName("누락 테이블은 추가 대상이고, 초과 테이블은 경고만 남기며 jinx 관리 테이블은 무시한다")
+    void tablesLevelDrift() {
+        EntityModel orders = EntityModel.builder().entityName("Order").tableName("orders").build();
+        orders.putColumn(ColumnModel.builder().tableName("orders").columnName("id").javaType("java.lang.Long")
+                .isPrimaryKey(true).isNullable(false).build());
+        SchemaModel expected = schema(users(expectedColumn("email", "java.lang.String", 120, false)), orders);
+
+        EntityModel audit = EntityModel.builder().entityName("audit_log").tableName("audit_log").build();
+        EntityModel history = EntityModel.builder().entityName("jinx_schema_history").tableName("jinx_schema_history").build();
+        SchemaModel live = schema(users(liveColumn("email", "varchar(120)", false)), audit, history);
+
+        SchemaDriftDetector.DriftReport report = detector.detect(expected, live);
+
+        assertThat(report.drifts()).extracting(d -> d.kind() + ":" + d.table())
+                .containsExactlyInAnyOrder("MISSING_TABLE:orders", "UNEXPECTED_TABLE:audit_log");
+        assertThat(report.correctiveDiff().getAddedTables()).extracting(EntityModel::getTableName)
+                .containsExactly("orders");
+        assertThat(report.correctiveDiff().getDroppedTables()).isEmpty();
+        assertThat(report.correctiveDiff().getWarnings()).anyMatch(w -> w.contains("audit_log"));
+    }
+
+    @Test
+    @DisplayName("타입 비교는 DB별 별칭과 무제한 인자를 같은 타입으로 본다")
+    void sameTypeNormalizesAliases() {
+        assertThat(SchemaDriftDetector.sameType("VARCHAR(120)", "character varying(120)")).isTrue();
+        assertThat(SchemaDriftDetector.sameType("NUMERIC(10,2)", "numeric")).isTrue();
+        assertThat(SchemaDriftDetector.sameType("TIMESTAMP", "datetime(6)")).isTrue();
+        assertThat(SchemaDriftDetector.sameType("VARCHAR(120)", "varchar(80)")).isFalse();
+        assertThat(SchemaDriftDetector.sameType("BIGINT", "integer")).isFalse();
+    }
+
+    private static SchemaModel schema(EntityModel... entities) {
+        Map<String, EntityModel> map = new LinkedHashMap<>();
+        for (EntityModel entity : entities) {
+            map.put(entity.getEntityName(), entity);
+        }
+        return SchemaModel.builder().entities(map).build();
+    }
+
+    private static EntityModel users(ColumnModel... columns) {
+        EntityModel entity = EntityModel.builder().entityName("User").tableName("users").build();
+        for (ColumnModel column : columns) {
+            entity.putColumn(column);
+        }
+        return entity;
+    }
+
+    private static ColumnModel expectedColumn(String name, String javaType, int length, boolean nullable) {
+        return ColumnModel.builder()
+                .tableName("users")
+                .columnName(name)
+                .javaType(javaType)
+                .length(length)
+                .isNullable(nullable)
+                .build();
+    }
+
+    private static ColumnModel liveColumn(String name, String sqlType, boolean nullable) {
+        return ColumnModel.builder()
+                .tableName("users")
+                .columnName(name)
+                .javaType(SqlTypeName.parse(sqlType).javaType())
+                .sqlTypeOverride(sqlType)
+                .isNullable(nullable)
+                .build();
+    }
+
+    private static IndexModel index(String name, String... columns) {
+        return IndexModel.builder()
+                .indexName(name)
+                .tableName("users")
+                .columnNames(List.of(columns))
+                .build();
+    }
+}
@@ -320,6 +320,51 @@ class LiquibaseVisitorExtraTest {
         assertEquals(before + 2, visitor.getChangeSets().size());
     }
 
+    @Test
+    @DisplayName("visitAddedIndex: GIN·INCLUDE·WHERE 인덱스는 방언 DDL을 sql change로 싣는다")
+    void visitAddedIndex_nativeSqlForMethodIncludeWhere() {
+        org.jinx.migration.spi.dialect.DdlDialect ddl = mock(org.jinx.migration.spi.dialect.DdlDialect.class);
+        when(bundle.ddl()).thenReturn(ddl);
+        when(bundle.databaseType()).thenReturn(org.jinx.migration.DatabaseType.POSTGRESQL);
+        when(ddl.indexStatement(any(IndexModel.class), eq("docs")))
+                .thenReturn("CREATE INDEX \"ix_docs_body\" ON \"docs\" USING gin (\"body\");\n");
+
+        IndexModel gin = IndexModel.builder().indexName("ix_docs_body").tableName("docs")
+                .columnNames(List.of("body")).type("gin").build();
+        visitor.visitAddedIndex(gin);
+
+        Change change = visitor.getChangeSets().get(visitor.getChangeSets().size() - 1).getChangeSet().getChanges().get(0);
+        SqlConfig sql = assertInstanceOf(SqlChange.class, change).getConfig();
+        assertEquals("postgresql", sql.getDbms());
+        assertEquals("CREATE INDEX \"ix_docs_body\" ON \"docs\" USING gin (\"body\");", sql.getSql());
+
+        IndexModel plain = IndexModel.builder().indexName("ix_docs_title").tableName("docs")
+                .columnNames(List.of("title")).type("btree").unique(true).build();
+        visitor.visitAddedIndex(plain);
+        Change create = visitor.getChangeSets().get(visitor.getChangeSets().size() - 1).getChangeSet().getChanges().get(0);
+        assertEquals(Boolean.TRUE, assertInstanceOf(CreateIndexChange.class, create).getConfig().getUnique());
+    }
+
+    @Test
+    @DisplayName("visitAddedIndex: 식 키는 computed, 내림차순 키는 descending 컬럼으로 싣는다")
+    void visitAddedIndex_computedAndDescendingColumns() {
+        List<IndexKeyPart> parts = IndexKeyPart.parseList("lower(email), created_at DESC");
+        IndexModel idx = IndexModel.builder().indexName("ix_users_email_lower").tableName("users")
+                .columnNames(parts.stream().map(IndexKeyPart::target).toList())
+                .keyParts(parts)
+                .build();
+
+        visitor.visitAddedIndex(idx);
+
+        Change change = visitor.getChangeSets().get(visitor.getChangeSets().size() - 1).getChangeSet().getChanges().get(0);
+        List<ColumnWrapper> columns = assertInstanceOf(CreateIndexChange.class, change).getConfig().getColumns();
+        assertEquals("lower(email)", columns.get(0).getConfig().getName());
+        assertEquals(Boolean.TRUE, columns.get(0).getConfig().getComputed());
+        assertNull(columns.get(0).getConfig().getDescending());
+        assertEquals(Boolean.TRUE, columns.get(1).getConfig().getDescending());
+        assertNull(columns.get(1).getConfig().getComputed());
+    }
+
     // ===== 제약 =====
 
     @Test
@@ -0,0 +1,145 @@
+package org.jinx.migration.partition;
+
+import org.jinx.migration.dialect.mysql.MySqlDialect;
+import org.jinx.migration.dialect.postgresql.PostgreSqlDialect;
+import org.jinx.migration.partition.RollingPartitionPlanner.AttachState;
+import org.jinx.migration.partition.RollingPartitionPlanner.Period;
+import org.jinx.migration.partition.RollingPartitionPlanner.Plan;
+import org.jinx.migration.partition.RollingPartitionPolicy.ExpireAction;
+import org.jinx.migration.partition.RollingPartitionPolicy.Interval;
+import org.jinx.model.EntityModel;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitionStrategy;
+import org.jinx.model.PartitioningModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RollingPartitionPlannerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 17);
+
+    @Test
+    @DisplayName("현재 달부터 ahead개 뒤까지 만들고, retention 밖의 catchUp개를 만료시킨다. 선언된 파티션 이름은 유지한다")
+    void monthlyPlan() {
+        RollingPartitionPlanner planner = new RollingPartitionPlanner(
+                new RollingPartitionPolicy(Interval.MONTH, 2, 3, 2, ExpireAction.DROP));
+
+        Plan plan = planner.plan(entity(range(part("march", "'2025-04-01'"))), TODAY);
+
+        assertThat(plan.skipped()).isFalse();
+        assertThat(plan.create()).extracting(Period::name).containsExactly("march", "p202504", "p202505");
+        assertThat(plan.create().get(0).from()).isEqualTo(LocalDate.of(2025, 3, 1));
+        assertThat(plan.expire()).extracting(Period::name).containsExactly("p202410", "p202411");
+        assertThat(plan.expire().get(1).to()).isEqualTo(LocalDate.of(2024, 12, 1));
+    }
+
+    @Test
+    @DisplayName("RANGE가 아니거나 키 컬럼이 여러 개인 테이블은 건너뛴다")
+    void skipsUnsupportedTables() {
+        RollingPartitionPlanner planner = new RollingPartitionPlanner(
+                new RollingPartitionPolicy(Interval.DAY, 1, 1, 1, ExpireAction.DROP));
+        PartitioningModel twoKeys = PartitioningModel.builder()
+                .strategy(PartitionStrategy.RANGE).columns(List.of("y", "m")).build();
+
+        Plan plan = planner.plan(entity(twoKeys), TODAY);
+
+        assertThat(plan.skipped()).isTrue();
+        assertThat(planner.render(plan, new PostgreSqlDialect())).startsWith("-- events skipped:");
+        assertThat(planner.plan(entity(null), TODAY).skipReason()).isEqualTo("not RANGE partitioned");
+    }
+
+    @Test
+    @DisplayName("PostgreSQL — IF NOT EXISTS로 만들고 DEFAULT 파티션이 없으면 DETACH CONCURRENTLY로 떼어 낸다")
+    void rendersPostgreSql() {
+        RollingPartitionPlanner planner = new RollingPartitionPlanner(
+                new RollingPartitionPolicy(Interval.YEAR, 0, 1, 1, ExpireAction.DETACH));
+
+        String sql = planner.render(planner.plan(entity(range()), TODAY), new PostgreSqlDialect());
+
+        assertThat(sql).isEqualTo("-- detach events.p2023 [2023-01-01, 2024-01-01)\n"
+                + "ALTER TABLE \"events\" DETACH PARTITION \"events_p2023\" CONCURRENTLY;\n"
+                + "-- ensure events.p2025 [2025-01-01, 2026-01-01)\n"
+                + "CREATE TABLE IF NOT EXISTS \"events_p2025\" PARTITION OF \"events\""
+                + " FOR VALUES FROM ('2025-01-01') TO ('2026-01-01');\n");
+    }
+
+    @Test
+    @DisplayName("PostgreSQL — 이미 떼어 낸 파티션은 건너뛰고, 끊긴 떼어 내기는 FINALIZE로 마무리한다")
+    void postgreSqlDetachFollowsAttachState() {
+        RollingPartitionPlanner planner = new RollingPartitionPlanner(
+                new RollingPartitionPolicy(Interval.YEAR, 0, 1, 1, ExpireAction.DETACH));
+        Plan plan = planner.plan(entity(range()), TODAY);
+        PostgreSqlDialect dialect = new PostgreSqlDialect();
+
+        assertThat(planner.render(plan, dialect, period -> AttachState.DETACHED))
+                .startsWith("-- detach events.p2023 [2023-01-01, 2024-01-01) already detached\n-- ensure ")
+                .doesNotContain("DETACH PARTITION");
+        assertThat(planner.render(plan, dialect, period -> AttachState.DETACH_PENDING))
+                .contains("ALTER TABLE \"events\" DETACH PARTITION \"events_p2023\" FINALIZE;\n")
+                .doesNotContain("CONCURRENTLY");
+        assertThat(dialect.getPartitionAttachedQuery("events", plan.expire().get(0).toPartition()))
+                .isEqualTo("SELECT inhdetachpending FROM pg_inherits"
+                        + " WHERE inhrelid = to_regclass('\"events_p2023\"') AND inhparent = to_regclass('\"events\"')");
+    }
+
+    @Test
+    @DisplayName("PostgreSQL — DEFAULT 파티션이 있으면 붙어 있을 때만 일반 DETACH를 실행한다")
+    void postgreSqlDetachWithDefaultPartitionIsGuarded() {
+        RollingPartitionPlanner planner = new RollingPartitionPlanner(
+                new RollingPartitionPolicy(Interval.YEAR, 0, 1, 1, ExpireAction.DETACH));
+        PartitionModel other = PartitionModel.builder().name("other").build();
+
+        String sql = planner.render(planner.plan(entity(range(other)), TODAY), new PostgreSqlDialect());
+
+        assertThat(sql).contains("DO $$\nBEGIN\n"
+                        + "    IF EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass('\"events_p2023\"')"
+                        + " AND inhparent = to_regclass('\"events\"')) THEN\n"
+                        + "        ALTER TABLE \"events\" DETACH PARTITION \"events_p2023\";\n"
+                        + "    END IF;\n"
+                        + "END $$;\n")
+                .doesNotContain("CONCURRENTLY");
+    }
+
+    @Test
+    @DisplayName("MySQL — information_schema로 확인한 뒤 MAXVALUE 파티션을 나누고, DETACH는 거부한다")
+    void rendersMySql() {
+        PartitioningModel withMax = range(part("pmax", "MAXVALUE"));
+        RollingPartitionPlanner planner = new RollingPartitionPlanner(
+                new RollingPartitionPolicy(Interval.YEAR, 0, 1, 1, ExpireAction.DROP));
+
+        String sql = planner.render(planner.plan(entity(withMax), TODAY), new MySqlDialect());
+
+        assertThat(sql)
+                .contains("SELECT IF(COUNT(*) > 0, 'ALTER TABLE `events` DROP PARTITION `p2023`', 'DO 0')")
+                .contains("SELECT IF(COUNT(*) = 0, 'ALTER TABLE `events` REORGANIZE PARTITION `pmax` INTO")
+                .contains("VALUES LESS THAN (''2026-01-01'')")
+                .contains("AND PARTITION_NAME = 'p2025');\nPREPARE jinx_stmt FROM @jinx_sql;\nEXECUTE jinx_stmt;");
+
+        RollingPartitionPlanner detach = new RollingPartitionPlanner(
+                new RollingPartitionPolicy(Interval.YEAR, 0, 1, 1, ExpireAction.DETACH));
+        assertThatThrownBy(() -> detach.render(detach.plan(entity(withMax), TODAY), new MySqlDialect()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static EntityModel entity(PartitioningModel partitioning) {
+        return EntityModel.builder().entityName("Event").tableName("events").partitioning(partitioning).build();
+    }
+
+    private static PartitioningModel range(PartitionModel... partitions) {
+        return PartitioningModel.builder()
+                .strategy(PartitionStrategy.RANGE)
+                .columns(List.of("created_on"))
+                .partitions(List.of(partitions))
+                .build();
+    }
+
+    private static PartitionModel part(String name, String bound) {
+        return PartitionModel.builder().name(name).values(List.of(bound)).build();
+    }
+}
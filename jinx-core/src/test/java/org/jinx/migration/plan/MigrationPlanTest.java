@@ -0,0 +1,212 @@
+package org.jinx.migration.plan;
+
+import org.jinx.migration.DatabaseType;
+import org.jinx.migration.MigrationGenerator;
+import org.jinx.migration.MigrationInfo;
+import org.jinx.migration.differs.SchemaDiffer;
+import org.jinx.migration.dialect.mysql.MySqlDialect;
+import org.jinx.migration.plan.PlanOperation.Kind;
+import org.jinx.model.ColumnKey;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.DialectBundle;
+import org.jinx.model.DiffResult;
+import org.jinx.model.EntityModel;
+import org.jinx.model.PartitionModel;
+import org.jinx.model.PartitionStrategy;
+import org.jinx.model.PartitioningModel;
+import org.jinx.model.RelationshipModel;
+import org.jinx.model.SchemaModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MigrationPlanTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final DialectBundle mysql = DialectBundle.builder(new MySqlDialect(), DatabaseType.MYSQL).build();
+
+    @Test
+    @DisplayName("계획은 테이블 DROP/ADD를 의존성 순서로, MODIFY_TABLE 뒤에 내용 연산을 둔다")
+    void plan_ordersOperations() {
+        MigrationPlan plan = MigrationPlanner.plan(forwardDiff(), "v1", new MigrationInfo("base", "head", "v2"));
+
+        assertThat(plan.getOperations()).extracting(PlanOperation::getKind)
+                .containsExactly(Kind.ADD_TABLE, Kind.MODIFY_TABLE, Kind.ADD_COLUMN);
+        assertThat(plan.getOperations().get(0).getTable()).isEqualTo("orders");
+        assertThat(plan.getOperations().get(2).getColumn().getColumnName()).isEqualTo("email");
+        assertThat(plan.getMigrationInfo().getHeadHash()).isEqualTo("head");
+    }
+
+    @Test
+    @DisplayName("invert는 ADD/DROP을 뒤집고 버전과 해시를 맞바꾸며, 두 번 뒤집으면 원래 계획이 된다")
+    void invert_swapsOperationsAndVersions() {
+        MigrationPlan plan = MigrationPlanner.plan(forwardDiff(), "v1", new MigrationInfo("base", "head", "v2"));
+
+        MigrationPlan inverted = plan.invert();
+
+        assertThat(inverted.isRollback()).isTrue();
+        assertThat(inverted.getVersion()).isEqualTo("v1");
+        assertThat(inverted.getBaselineHash()).isEqualTo("head");
+        assertThat(inverted.getOperations()).extracting(PlanOperation::getKind)
+                .containsExactly(Kind.DROP_TABLE, Kind.MODIFY_TABLE, Kind.DROP_COLUMN);
+        assertThat(inverted.invert()).isEqualTo(plan);
+    }
+
+    @Test
+    @DisplayName("뒤집은 계획의 롤백 SQL은 diff를 다시 계산한 결과와 같은 문장을 만든다")
+    void invertedPlan_rendersSameRollbackAsRediff() {
+        MigrationPlan plan = MigrationPlanner.plan(forwardDiff(), "v1", null);
+
+        String fromPlan = new MigrationGenerator(mysql, null, true).generateSql(plan.invert().toDiffResult());
+        String fromRediff = new MigrationGenerator(mysql, oldSchema(), true)
+                .generateSql(new SchemaDiffer().diff(newSchema(), oldSchema()));
+
+        assertThat(fromPlan).contains("DROP TABLE IF EXISTS `orders`", "DROP COLUMN `email`");
+        assertThat(statements(fromPlan)).containsExactlyInAnyOrderElementsOf(statements(fromRediff));
+    }
+
+    @Test
+    @DisplayName("계획 파일은 plan-<version>.json으로 기록되고 같은 계획으로 읽힌다")
+    void planFile_roundTrips() throws IOException {
+        MigrationPlan plan = MigrationPlanner.plan(forwardDiff(), "v1", new MigrationInfo("base", "head", "v2"));
+
+        Path file = MigrationPlanFiles.write(tempDir, plan);
+        MigrationPlan read = MigrationPlanFiles.read(file);
+
+        assertThat(file.getFileName().toString()).isEqualTo("plan-v2.json");
+        assertThat(read.getOperations()).extracting(PlanOperation::getKind)
+                .containsExactlyElementsOf(plan.getOperations().stream().map(PlanOperation::getKind).toList());
+        assertThat(new MigrationGenerator(mysql, null, false).generateSql(read.toDiffResult()))
+                .isEqualTo(new MigrationGenerator(mysql, null, false).generateSql(plan.toDiffResult()));
+    }
+
+    @Test
+    @DisplayName("파티션 추가/삭제는 계획과 계획 파일을 거쳐 ALTER TABLE ... PARTITION으로 렌더링된다")
+    void partitionChanges_surviveThePlanFile() throws IOException {
+        DiffResult diff = new SchemaDiffer().diff(
+                schema("v1", events("p2024", "'2025-01-01'")),
+                schema("v2", events("p2025", "'2026-01-01'")));
+
+        MigrationPlan plan = MigrationPlanFiles.read(MigrationPlanFiles.write(tempDir,
+                MigrationPlanner.plan(diff, "v1", new MigrationInfo("base", "head", "v2"))));
+
+        assertThat(plan.getOperations()).extracting(PlanOperation::getKind)
+                .containsExactly(Kind.MODIFY_TABLE, Kind.ADD_PARTITION, Kind.DROP_PARTITION);
+        assertThat(new MigrationGenerator(mysql, null, false).generateSql(plan.toDiffResult()))
+                .contains("ALTER TABLE `events` DROP PARTITION `p2024`;",
+                        "ALTER TABLE `events` ADD PARTITION (PARTITION `p2025` VALUES LESS THAN ('2026-01-01'));");
+        assertThat(new MigrationGenerator(mysql, null, true).generateSql(plan.invert().toDiffResult()))
+                .contains("ALTER TABLE `events` DROP PARTITION `p2025`;",
+                        "ALTER TABLE `events` ADD PARTITION (PARTITION `p2024` VALUES LESS THAN ('2025-01-01'));");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식 버전의 계획 파일은 거부한다")
+    void read_rejectsUnknownFormatVersion() throws IOException {
+        Path file = tempDir.resolve("plan-v9.json");
+        Files.writeString(file, "{\"formatVersion\":99,\"operations\":[]}");
+
+        assertThatThrownBy(() -> MigrationPlanFiles.read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("format version 99");
+    }
+
+    @Test
+    @DisplayName("MODIFY_TABLE 없이 나온 내용 연산은 복원할 수 없다")
+    void toDiffResult_rejectsOrphanContentOperation() {
+        MigrationPlan plan = MigrationPlan.builder()
+                .operations(List.of(PlanOperation.builder().kind(Kind.ADD_COLUMN).table("users").build()))
+                .build();
+
+        assertThatThrownBy(plan::toDiffResult)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("MODIFY_TABLE");
+    }
+
+    private DiffResult forwardDiff() {
+        return new SchemaDiffer().diff(oldSchema(), newSchema());
+    }
+
+    private SchemaModel oldSchema() {
+        return schema("v1", users(false));
+    }
+
+    private SchemaModel newSchema() {
+        return schema("v2", users(true), orders());
+    }
+
+    private static List<String> statements(String sql) {
+        return sql.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("--"))
+                .toList();
+    }
+
+    private static SchemaModel schema(String version, EntityModel... entities) {
+        Map<String, EntityModel> map = new HashMap<>();
+        for (EntityModel entity : entities) {
+            map.put(entity.getEntityName(), entity);
+        }
+        return SchemaModel.builder().version(version).entities(map).build();
+    }
+
+    private static EntityModel users(boolean withEmail) {
+        EntityModel users = EntityModel.builder().entityName("User").tableName("users").build();
+        users.getColumns().put(ColumnKey.of("users", "id"), column("users", "id", true));
+        if (withEmail) {
+            users.getColumns().put(ColumnKey.of("users", "email"), ColumnModel.builder()
+                    .tableName("users").columnName("email").javaType("java.lang.String").length(255).build());
+        }
+        return users;
+    }
+
+    private static EntityModel orders() {
+        EntityModel orders = EntityModel.builder().entityName("Order").tableName("orders").build();
+        orders.getColumns().put(ColumnKey.of("orders", "id"), column("orders", "id", true));
+        orders.getColumns().put(ColumnKey.of("orders", "user_id"), column("orders", "user_id", false));
+        orders.getRelationships().put("fk_orders_user", RelationshipModel.builder()
+                .constraintName("fk_orders_user")
+                .tableName("orders")
+                .columns(List.of("user_id"))
+                .referencedTable("users")
+                .referencedColumns(List.of("id"))
+                .build());
+        return orders;
+    }
+
+    private static EntityModel events(String partition, String upperBound) {
+        EntityModel events = EntityModel.builder().entityName("Event").tableName("events")
+                .partitioning(PartitioningModel.builder()
+                        .strategy(PartitionStrategy.RANGE)
+                        .columns(List.of("created_on"))
+                        .partitions(List.of(PartitionModel.builder().name(partition).values(List.of(upperBound)).build()))
+                        .build())
+                .build();
+        events.getColumns().put(ColumnKey.of("events", "id"), column("events", "id", true));
+        events.getColumns().put(ColumnKey.of("events", "created_on"), ColumnModel.builder()
+                .tableName("events").columnName("created_on").javaType("java.time.LocalDate").isPrimaryKey(true).build());
+        return events;
+    }
+
+    private static ColumnModel column(String table, String name, boolean primaryKey) {
+        return ColumnModel.builder()
+                .tableName(table)
+                .columnName(name)
+                .javaType("java.lang.Long")
+                .isPrimaryKey(primaryKey)
+                .isNullable(!primaryKey)
+                .build();
+    }
+}
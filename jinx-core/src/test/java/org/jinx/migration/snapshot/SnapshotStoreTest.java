@@ -0,0 +1,108 @@
+package org.jinx.migration.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jinx.model.ColumnKey;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.EntityModel;
+import org.jinx.model.SchemaModel;
+import org.jinx.model.SequenceModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("저장소에 기록한 엔티티는 이름으로 개별 조회할 수 있다")
+    void write_thenLookupSingleEntity() throws IOException {
+        SchemaModel schema = schema("v1", entity("User"), entity("Order"), entity("Address"));
+        Path store = tempDir.resolve("schema.jxs");
+
+        SnapshotStore.write(store, new InMemorySchemaSnapshot(schema, objectMapper), objectMapper);
+        SchemaSnapshot snapshot = SnapshotStore.open(store, objectMapper);
+
+        assertThat(snapshot.getVersion()).isEqualTo("v1");
+        assertThat(snapshot.entityNames()).containsExactly("Address", "Order", "User");
+        assertThat(snapshot.loadEntity("Order")).isEqualTo(schema.getEntities().get("Order"));
+        assertThat(snapshot.loadEntity("Missing")).isNull();
+    }
+
+    @Test
+    @DisplayName("저장소의 지문과 헤더는 JSON 스냅샷과 같다")
+    void fingerprintsAndHeader_matchJsonSnapshot() throws IOException {
+        SchemaModel schema = schema("v1", entity("User"), entity("Order"));
+        schema.getSequences().put("order_seq", SequenceModel.builder().name("order_seq").build());
+        Path json = tempDir.resolve("schema.json");
+        objectMapper.writeValue(json.toFile(), schema);
+        Path store = tempDir.resolve("schema.jxs");
+
+        SchemaSnapshot jsonSnapshot = new StreamingSchemaLoader(objectMapper).open(json);
+        SnapshotStore.write(store, jsonSnapshot, objectMapper);
+        SchemaSnapshot storeSnapshot = SnapshotStore.open(store, objectMapper);
+
+        assertThat(storeSnapshot.fingerprint("User")).isEqualTo(jsonSnapshot.fingerprint("User"));
+        assertThat(storeSnapshot.fingerprint("Order")).isEqualTo(jsonSnapshot.fingerprint("Order"));
+        assertThat(storeSnapshot.header().getSequences()).containsKey("order_seq");
+        assertThat(SnapshotDiffScope.narrow(jsonSnapshot, storeSnapshot).unchangedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("빈 스키마도 기록하고 열 수 있다")
+    void emptySchema_roundTrips() throws IOException {
+        Path store = tempDir.resolve("empty.jxs");
+
+        SnapshotStore.write(store, new InMemorySchemaSnapshot(schema("initial"), objectMapper), objectMapper);
+
+        assertThat(SnapshotStore.open(store, objectMapper).entityNames()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장소 형식이 아닌 파일은 IOException으로 거부한다")
+    void open_rejectsForeignFile() throws IOException {
+        Path file = tempDir.resolve("not-a-store.jxs");
+        Files.writeString(file, "{\"version\":\"v1\"}");
+
+        assertThatThrownBy(() -> SnapshotStore.open(file, objectMapper))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a jinx snapshot store");
+    }
+
+    private SchemaModel schema(String version, EntityModel... entities) {
+        Map<String, EntityModel> map = new HashMap<>();
+        for (EntityModel entity : entities) {
+            map.put(entity.getEntityName(), entity);
+        }
+        return SchemaModel.builder()
+                .version(version)
+                .entities(map)
+                .build();
+    }
+
+    private EntityModel entity(String name) {
+        EntityModel entity = EntityModel.builder()
+                .entityName(name)
+                .tableName(name.toLowerCase())
+                .build();
+        entity.getColumns().put(ColumnKey.of(entity.getTableName(), "id"), ColumnModel.builder()
+                .tableName(entity.getTableName())
+                .columnName("id")
+                .javaType("java.lang.Long")
+                .isPrimaryKey(true)
+                .build());
+        return entity;
+    }
+}
@@ -0,0 +1,159 @@
+package org.jinx.migration.snapshot;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.jinx.migration.baseline.BaselineManager;
+import org.jinx.model.ColumnKey;
+import org.jinx.model.ColumnModel;
+import org.jinx.model.EntityModel;
+import org.jinx.model.SchemaModel;
+import org.jinx.model.SequenceModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingSchemaLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    // HEAD 스냅샷을 기록하는 프로세서와 동일한 설정
+    private final ObjectMapper headMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    // baseline을 기록하는 BaselineManager와 동일한 설정
+    private final ObjectMapper baselineMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    @Test
+    @DisplayName("인덱싱된 바이트 범위로 디코딩한 엔티티는 전체 역직렬화 결과와 같다")
+    void loadEntity_matchesFullDeserialization() throws IOException {
+        Path file = write(headMapper, "head.json", schema("v1", entity("User", "java.lang.Long"), entity("Order", "java.lang.Long")));
+
+        SchemaSnapshot snapshot = new StreamingSchemaLoader(headMapper).open(file);
+        SchemaModel full = headMapper.readValue(file.toFile(), SchemaModel.class);
+
+        assertThat(snapshot.getVersion()).isEqualTo("v1");
+        assertThat(snapshot.entityNames()).containsExactly("Order", "User");
+        assertThat(snapshot.loadEntity("User")).isEqualTo(full.getEntities().get("User"));
+        assertThat(snapshot.loadEntity("Order")).isEqualTo(full.getEntities().get("Order"));
+        assertThat(snapshot.loadEntity("Missing")).isNull();
+    }
+
+    @Test
+    @DisplayName("엔티티 외 섹션은 header에 즉시 로딩된다")
+    void header_containsNonEntitySections() throws IOException {
+        SchemaModel schema = schema("v1", entity("User", "java.lang.Long"));
+        schema.getSequences().put("user_seq", SequenceModel.builder().name("user_seq").build());
+        Path file = write(headMapper, "head.json", schema);
+
+        SchemaModel header = new StreamingSchemaLoader(headMapper).open(file).header();
+
+        assertThat(header.getVersion()).isEqualTo("v1");
+        assertThat(header.getSequences()).containsKey("user_seq");
+        assertThat(header.getEntities()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구조 지문은 필드 순서, 들여쓰기, null 필드 생략과 무관하다")
+    void fingerprint_ignoresFormattingDifferences() throws IOException {
+        SchemaModel schema = schema("v1", entity("User", "java.lang.Long"));
+        Path head = write(headMapper, "head.json", schema);
+        Path baseline = write(baselineMapper, "baseline.json", schema);
+
+        SchemaSnapshot headSnapshot = new StreamingSchemaLoader(headMapper).open(head);
+        SchemaSnapshot baselineSnapshot = new StreamingSchemaLoader(baselineMapper).open(baseline);
+
+        assertThat(headSnapshot.fingerprint("User")).isEqualTo(baselineSnapshot.fingerprint("User"));
+        assertThat(new InMemorySchemaSnapshot(schema, headMapper).fingerprint("User"))
+                .isEqualTo(headSnapshot.fingerprint("User"));
+    }
+
+    @Test
+    @DisplayName("컬럼 타입이 바뀌면 구조 지문도 바뀐다")
+    void fingerprint_changesWithContent() throws IOException {
+        Path before = write(headMapper, "before.json", schema("v1", entity("User", "java.lang.Long")));
+        Path after = write(headMapper, "after.json", schema("v2", entity("User", "java.lang.String")));
+
+        StreamingSchemaLoader loader = new StreamingSchemaLoader(headMapper);
+
+        assertThat(loader.open(before).fingerprint("User")).isNotEqualTo(loader.open(after).fingerprint("User"));
+    }
+
+    @Test
+    @DisplayName("diff 범위는 지문이 다른 엔티티와 한쪽에만 있는 엔티티만 포함한다")
+    void narrow_keepsOnlyChangedEntities() throws IOException {
+        Path baseline = write(baselineMapper, "baseline.json", schema("v1",
+                entity("Same", "java.lang.Long"),
+                entity("Changed", "java.lang.Long"),
+                entity("Dropped", "java.lang.Long")));
+        Path head = write(headMapper, "head.json", schema("v2",
+                entity("Same", "java.lang.Long"),
+                entity("Changed", "java.lang.String"),
+                entity("Added", "java.lang.Long")));
+
+        SnapshotDiffScope.Narrowed scope = SnapshotDiffScope.narrow(
+                new StreamingSchemaLoader(baselineMapper).open(baseline),
+                new StreamingSchemaLoader(headMapper).open(head));
+
+        assertThat(scope.unchangedCount()).isEqualTo(1);
+        assertThat(scope.baseline().getEntities()).containsOnlyKeys("Changed", "Dropped");
+        assertThat(scope.head().getEntities()).containsOnlyKeys("Changed", "Added");
+        assertThat(scope.head().getVersion()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("지연 로딩 모델의 해시는 전체 로딩 모델의 해시와 같다")
+    void lazySchemaModel_hashesLikeEagerModel() throws IOException {
+        SchemaModel schema = schema("v1", entity("User", "java.lang.Long"), entity("Order", "java.lang.Long"));
+        Path file = write(headMapper, "head.json", schema);
+        BaselineManager baselineManager = new BaselineManager(tempDir);
+
+        SchemaModel lazy = new StreamingSchemaLoader(headMapper).open(file).toSchemaModel();
+        SchemaModel eager = headMapper.readValue(file.toFile(), SchemaModel.class);
+
+        assertThat(lazy.getEntities()).hasSize(2).containsKey("User");
+        assertThat(baselineManager.generateSchemaHash(lazy)).isEqualTo(baselineManager.generateSchemaHash(eager));
+    }
+
+    private Path write(ObjectMapper mapper, String fileName, SchemaModel schema) throws IOException {
+        Path file = tempDir.resolve(fileName);
+        mapper.writeValue(file.toFile(), schema);
+        return file;
+    }
+
+    private SchemaModel schema(String version, EntityModel... entities) {
+        Map<String, EntityModel> map = new HashMap<>();
+        for (EntityModel entity : entities) {
+            map.put(entity.getEntityName(), entity);
+        }
+        return SchemaModel.builder()
+                .version(version)
+                .entities(map)
+                .build();
+    }
+
+    private EntityModel entity(String name, String idType) {
+        EntityModel entity = EntityModel.builder()
+                .entityName(name)
+                .tableName(name.toLowerCase())
+                .build();
+        entity.getColumns().put(ColumnKey.of(entity.getTableName(), "id"), ColumnModel.builder()
+                .tableName(entity.getTableName())
+                .columnName("id")
+                .javaType(idType)
+                .isPrimaryKey(true)
+                .build());
+        return entity;
+    }
+}
@@ -0,0 +1,66 @@
+package org.jinx.migration.telemetry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DdlStatementTest {
+
+    @Test
+    @DisplayName("테이블 단위 DDL을 분류하고 인용부호와 스키마 접두사를 제거한다")
+    void classifiesTableStatements() {
+        assertThat(DdlStatement.classify("CREATE TABLE IF NOT EXISTS `shop`.`orders` (id BIGINT)"))
+                .isEqualTo(new DdlStatement(DdlOperation.CREATE_TABLE, "orders"));
+        assertThat(DdlStatement.classify("drop table \"Users\""))
+                .isEqualTo(new DdlStatement(DdlOperation.DROP_TABLE, "Users"));
+        assertThat(DdlStatement.classify("ALTER TABLE old_name RENAME TO new_name"))
+                .isEqualTo(new DdlStatement(DdlOperation.RENAME_TABLE, "old_name"));
+    }
+
+    @Test
+    @DisplayName("ALTER TABLE의 동작별로 컬럼/제약/인덱스 작업을 구분한다")
+    void classifiesAlterActions() {
+        assertThat(op("ALTER TABLE users ADD COLUMN age INT")).isEqualTo(DdlOperation.ADD_COLUMN);
+        assertThat(op("ALTER TABLE users ADD age INT")).isEqualTo(DdlOperation.ADD_COLUMN);
+        assertThat(op("ALTER TABLE users DROP COLUMN age")).isEqualTo(DdlOperation.DROP_COLUMN);
+        assertThat(op("ALTER TABLE users MODIFY COLUMN name VARCHAR(100) NOT NULL")).isEqualTo(DdlOperation.MODIFY_COLUMN);
+        assertThat(op("ALTER TABLE users ALTER COLUMN name TYPE VARCHAR(100)")).isEqualTo(DdlOperation.MODIFY_COLUMN);
+        assertThat(op("ALTER TABLE users RENAME COLUMN name TO full_name")).isEqualTo(DdlOperation.RENAME_COLUMN);
+        assertThat(op("ALTER TABLE users ADD PRIMARY KEY (id)")).isEqualTo(DdlOperation.ADD_PRIMARY_KEY);
+        assertThat(op("ALTER TABLE users ADD CONSTRAINT pk_users PRIMARY KEY (id)")).isEqualTo(DdlOperation.ADD_PRIMARY_KEY);
+        assertThat(op("ALTER TABLE orders ADD CONSTRAINT fk_user FOREIGN KEY (user_id) REFERENCES users (id)"))
+                .isEqualTo(DdlOperation.ADD_FOREIGN_KEY);
+        assertThat(op("ALTER TABLE users ADD CONSTRAINT uk_email UNIQUE (email)")).isEqualTo(DdlOperation.ADD_CONSTRAINT);
+        assertThat(op("ALTER TABLE orders DROP FOREIGN KEY fk_user")).isEqualTo(DdlOperation.DROP_FOREIGN_KEY);
+        assertThat(op("ALTER TABLE users DROP CONSTRAINT uk_email")).isEqualTo(DdlOperation.DROP_CONSTRAINT);
+        assertThat(op("ALTER TABLE users DROP PRIMARY KEY")).isEqualTo(DdlOperation.DROP_PRIMARY_KEY);
+    }
+
+    @Test
+    @DisplayName("인덱스 문장은 인덱스 이름이 아니라 대상 테이블을 기록한다")
+    void classifiesIndexStatements() {
+        assertThat(DdlStatement.classify("CREATE UNIQUE INDEX CONCURRENTLY ix_users_email ON public.users (email)"))
+                .isEqualTo(new DdlStatement(DdlOperation.CREATE_INDEX, "users"));
+        assertThat(DdlStatement.classify("DROP INDEX ix_users_email ON users"))
+                .isEqualTo(new DdlStatement(DdlOperation.DROP_INDEX, "users"));
+        // PostgreSQL DROP INDEX에는 테이블이 없음
+        assertThat(DdlStatement.classify("DROP INDEX IF EXISTS ix_users_email"))
+                .isEqualTo(new DdlStatement(DdlOperation.DROP_INDEX, null));
+    }
+
+    @Test
+    @DisplayName("시퀀스, 코멘트, DML과 알 수 없는 문장을 분류한다")
+    void classifiesOtherStatements() {
+        assertThat(op("CREATE SEQUENCE invoice_seq START WITH 1")).isEqualTo(DdlOperation.SEQUENCE);
+        assertThat(DdlStatement.classify("COMMENT ON COLUMN users.email IS 'login'"))
+                .isEqualTo(new DdlStatement(DdlOperation.COMMENT, "users"));
+        assertThat(DdlStatement.classify("INSERT INTO jinx_seq_table VALUES ('a', 1)"))
+                .isEqualTo(new DdlStatement(DdlOperation.DML, "jinx_seq_table"));
+        assertThat(op("SET lock_timeout = '5s'")).isEqualTo(DdlOperation.OTHER);
+    }
+
+    private static DdlOperation op(String sql) {
+        return DdlStatement.classify(sql).operation();
+    }
+}
@@ -0,0 +1,55 @@
+package org.jinx.migration.telemetry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DdlTelemetryStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final DdlTelemetry INDEX_BUILD = new DdlTelemetry("abc", "V1__a.sql", 2, "orders",
+            DdlOperation.CREATE_INDEX, "mysql", 1_500, 3L, 250_000L, Instant.parse("2024-01-01T00:00:00Z"));
+    private static final DdlTelemetry ADD_COLUMN = new DdlTelemetry(null, "V1__a.sql", 3, "users",
+            DdlOperation.ADD_COLUMN, "postgresql", 12, null, null, Instant.parse("2024-01-01T00:00:01Z"));
+
+    @Test
+    @DisplayName("JDBC 저장소는 테이블을 만들어 추가하고 DB 제품별로 읽는다")
+    void jdbcStoreRoundTrip() throws Exception {
+        String url = "jdbc:h2:mem:telemetry_" + UUID.randomUUID().toString().replace("-", "");
+        try (Connection conn = DriverManager.getConnection(url, "sa", "")) {
+            JdbcDdlTelemetryStore store = new JdbcDdlTelemetryStore(conn);
+            assertThat(store.load(null)).isEmpty();
+
+            store.append(List.of(INDEX_BUILD, ADD_COLUMN));
+            store.append(List.of(INDEX_BUILD));
+
+            assertThat(store.load(null)).hasSize(3);
+            assertThat(store.load("postgresql")).containsExactly(ADD_COLUMN);
+            assertThat(store.load("mysql")).allSatisfy(t -> assertThat(t).isEqualTo(INDEX_BUILD));
+        }
+    }
+
+    @Test
+    @DisplayName("JSONL 저장소는 한 줄에 하나씩 이어 쓰고 null 값을 보존한다")
+    void jsonlStoreRoundTrip() throws Exception {
+        JsonlDdlTelemetryStore store = new JsonlDdlTelemetryStore(tempDir.resolve("nested/ddl-telemetry.jsonl"));
+        assertThat(store.load(null)).isEmpty();
+
+        store.append(List.of(INDEX_BUILD));
+        store.append(List.of(ADD_COLUMN));
+
+        assertThat(store.load(null)).containsExactly(INDEX_BUILD, ADD_COLUMN);
+        assertThat(store.load("mysql")).containsExactly(INDEX_BUILD);
+    }
+}
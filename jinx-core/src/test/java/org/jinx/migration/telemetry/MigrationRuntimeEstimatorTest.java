@@ -0,0 +1,53 @@
+package org.jinx.migration.telemetry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MigrationRuntimeEstimatorTest {
+
+    @Test
+    @DisplayName("행 수가 다른 표본이 있으면 작업별 직선으로 테이블 크기에 비례해 추정한다")
+    void scalesWithTableRows() {
+        MigrationRuntimeEstimator estimator = new MigrationRuntimeEstimator(List.of(
+                sample(DdlOperation.CREATE_INDEX, 1_000L, 20),
+                sample(DdlOperation.CREATE_INDEX, 11_000L, 120),
+                sample(DdlOperation.CREATE_INDEX, 21_000L, 220)));
+
+        MigrationRuntimeEstimator.Estimate estimate = estimator.estimate(MigrationRuntimeEstimator.plan(
+                List.of("CREATE INDEX ix_orders_user ON orders (user_id)"),
+                Map.of("orders", 100_000L)));
+
+        // 10ms + 0.01ms/row
+        assertThat(estimate.statements().get(0).estimatedMillis()).isEqualTo(1_010L);
+        assertThat(estimate.statements().get(0).sampleCount()).isEqualTo(3);
+        assertThat(estimate.totalMillis()).isEqualTo(1_010L);
+    }
+
+    @Test
+    @DisplayName("테이블 크기를 모르면 중앙값을 쓰고, 표본 없는 작업은 합계에서 제외한다")
+    void fallsBackToMedianAndSkipsUnknownOperations() {
+        MigrationRuntimeEstimator estimator = new MigrationRuntimeEstimator(List.of(
+                sample(DdlOperation.ADD_COLUMN, null, 5),
+                sample(DdlOperation.ADD_COLUMN, null, 7),
+                sample(DdlOperation.ADD_COLUMN, null, 100)));
+
+        MigrationRuntimeEstimator.Estimate estimate = estimator.estimate(MigrationRuntimeEstimator.plan(
+                List.of("ALTER TABLE users ADD COLUMN age INT", "ALTER TABLE users DROP COLUMN legacy"),
+                Map.of()));
+
+        assertThat(estimate.statements().get(0).estimatedMillis()).isEqualTo(7L);
+        assertThat(estimate.statements().get(1).estimatedMillis()).isNull();
+        assertThat(estimate.totalMillis()).isEqualTo(7L);
+        assertThat(estimate.unestimatedCount()).isEqualTo(1);
+    }
+
+    private static DdlTelemetry sample(DdlOperation operation, Long rows, long elapsed) {
+        return new DdlTelemetry("h", "V1__m.sql", 0, "t", operation, "mysql", elapsed, null, rows, Instant.EPOCH);
+    }
+}
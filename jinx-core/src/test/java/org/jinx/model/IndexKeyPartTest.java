@@ -0,0 +1,46 @@
+package org.jinx.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexKeyPartTest {
+
+    @Test
+    @DisplayName("키 명세: 컬럼, DESC, NULLS, 식을 구분하고 괄호 안 쉼표는 나누지 않는다")
+    void parseList() {
+        List<IndexKeyPart> parts = IndexKeyPart.parseList(
+                "tenant_id, created_at desc nulls last, lower(email), (coalesce(nick, 'a,b')) DESC");
+
+        assertThat(parts).hasSize(4);
+        assertThat(parts.get(0).isPlain()).isTrue();
+        assertThat(parts.get(1)).isEqualTo(new IndexKeyPart("created_at", true, null, IndexKeyPart.NullsOrder.LAST));
+        assertThat(parts.get(2)).isEqualTo(IndexKeyPart.expression("lower(email)", false, null));
+        assertThat(parts.get(3)).isEqualTo(IndexKeyPart.expression("coalesce(nick, 'a,b')", true, null));
+        assertThat(parts).extracting(IndexKeyPart::target)
+                .containsExactly("tenant_id", "created_at", "lower(email)", "coalesce(nick, 'a,b')");
+    }
+
+    @Test
+    @DisplayName("평범한 오름차순 컬럼만 있으면 keyParts를 남기지 않는다")
+    void nullIfPlain() {
+        assertThat(IndexKeyPart.nullIfPlain(IndexKeyPart.parseList("a, b ASC"))).isNull();
+        assertThat(IndexKeyPart.nullIfPlain(IndexKeyPart.parseList("a, b NULLS FIRST"))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("JSON 직렬화에 도우미 메서드가 속성으로 섞이지 않는다")
+    void jsonRoundTrip() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        IndexKeyPart part = IndexKeyPart.expression("lower(email)", true, IndexKeyPart.NullsOrder.FIRST);
+
+        String json = mapper.writeValueAsString(part);
+
+        assertThat(json).doesNotContain("plain");
+        assertThat(mapper.readValue(json, IndexKeyPart.class)).isEqualTo(part);
+    }
+}
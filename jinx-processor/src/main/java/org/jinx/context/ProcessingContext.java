@@ -4,11 +4,14 @@ import lombok.Getter;
 import org.jinx.descriptor.AttributeDescriptor;
 import org.jinx.descriptor.AttributeDescriptorFactory;
 import org.jinx.manager.ConstraintManager;
+import org.jinx.migration.snapshot.InMemorySchemaSnapshot;
+import org.jinx.migration.snapshot.SnapshotStore;
 import org.jinx.model.ColumnModel;
 import org.jinx.model.EntityModel;
 import org.jinx.model.SchemaModel;
 import org.jinx.naming.DefaultNaming;
 import org.jinx.naming.Naming;
+import org.jinx.options.JinxOptions;
 import org.jinx.processor.JpaSqlGeneratorProcessor;
 import org.jinx.spi.naming.JinxNamingStrategy;
 import org.jinx.spi.naming.impl.NoOpNamingStrategy;
@@ -23,7 +26,10 @@ import javax.tools.Diagnostic;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -113,6 +119,9 @@ public class ProcessingContext {
             try (Writer writer = file.openWriter()) {
                 JpaSqlGeneratorProcessor.OBJECT_MAPPER.writeValue(writer, schemaModel);
             }
+            if (isSnapshotStoreEnabled()) {
+                saveSnapshotStore();
+            }
         } catch (IOException e) {
             processingEnv.getMessager().printMessage(javax.tools.Diagnostic.Kind.ERROR,
                     "Failed to write schema file: " + e.getMessage());
@@ -120,6 +129,32 @@ public class ProcessingContext {
         System.out.println("Schema JSON written.");
     }
 
+    private boolean isSnapshotStoreEnabled() {
+        Map<String, String> options = processingEnv.getOptions();
+        return options != null && Boolean.parseBoolean(options.get(JinxOptions.Snapshot.STORE_KEY));
+    }
+
+    /**
+     * JSON 옆에 엔티티 단위 임의 접근이 가능한 인덱스 스냅샷(schema-&lt;version&gt;.jxs)을 기록합니다.
+     * Filer 스트림은 위치 지정 쓰기를 지원하지 않으므로 임시 파일에 만든 뒤 복사합니다.
+     */
+    private void saveSnapshotStore() throws IOException {
+        String fileName = "jinx/schema-" + schemaModel.getVersion() + JinxOptions.Snapshot.STORE_EXTENSION;
+        Path temp = Files.createTempFile("jinx-schema-", JinxOptions.Snapshot.STORE_EXTENSION);
+        try {
+            SnapshotStore.write(temp,
+                    new InMemorySchemaSnapshot(schemaModel, JpaSqlGeneratorProcessor.OBJECT_MAPPER),
+                    JpaSqlGeneratorProcessor.OBJECT_MAPPER);
+            FileObject store = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", fileName);
+            try (OutputStream out = store.openOutputStream()) {
+                Files.copy(temp, out);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
     public Optional<String> findPrimaryKeyColumnName(EntityModel entityModel) {
         return entityModel.getColumns().values().stream()
                 .filter(ColumnModel::isPrimaryKey)
@@ -3,14 +3,19 @@ package org.jinx.handler;
 import jakarta.persistence.Column;
 import org.jinx.annotation.Constraint;
 import org.jinx.annotation.Constraints;
+import org.jinx.annotation.Index;
 import org.jinx.context.ProcessingContext;
 import org.jinx.descriptor.AttributeDescriptor;
 import org.jinx.model.ConstraintModel;
 import org.jinx.model.ConstraintType;
+import org.jinx.model.IndexKeyPart;
+import org.jinx.model.IndexMethod;
+import org.jinx.model.IndexModel;
 import org.jinx.model.OnDeleteAction;
 import org.jinx.model.OnUpdateAction;
 
 import javax.lang.model.element.Element;
+import javax.tools.Diagnostic;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -20,7 +25,8 @@ import java.util.List;
  * <p>
  * This handler discovers constraint annotations on elements and attributes,
  * converts them into {@link ConstraintModel} instances, and adds them to a list
- * for further processing by other handlers.
+ * for further processing by other handlers. Jinx {@link Index} annotations are
+ * converted into {@link IndexModel} instances the same way.
  */
 public class ConstraintHandler {
     private final ProcessingContext context;
@@ -111,6 +117,39 @@ public class ConstraintHandler {
         }
     }
 
+    /**
+     * Processes Jinx {@code @Index} annotations (repeatable) on an entity type.
+     * Unnamed indexes are named by {@code Naming.ixName}; only descending keys are kept as key parts,
+     * and only non-BTREE access methods are stored as the index type.
+     *
+     * @param element The entity type to inspect for annotations.
+     * @param tableName The name of the table the indexes belong to.
+     * @param indexes The list to which the created {@link IndexModel}s will be added.
+     */
+    public void processIndexes(Element element, String tableName, List<IndexModel> indexes) {
+        for (Index ix : element.getAnnotationsByType(Index.class)) {
+            List<IndexKeyPart> parts = IndexKeyPart.parseList(ix.columnList());
+            if (parts.isEmpty()) {
+                context.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "@Index must declare at least one column in columnList", element);
+                continue;
+            }
+            List<String> columns = parts.stream().map(IndexKeyPart::target).toList();
+            List<String> include = Arrays.stream(ix.include()).map(String::trim).filter(c -> !c.isEmpty()).toList();
+
+            indexes.add(IndexModel.builder()
+                    .indexName(ix.name().isBlank() ? context.getNaming().ixName(tableName, columns) : ix.name())
+                    .tableName(tableName)
+                    .columnNames(columns)
+                    .keyParts(IndexKeyPart.nullIfPlain(parts))
+                    .includeColumns(include.isEmpty() ? null : include)
+                    .where(nullIfBlank(ix.where()))
+                    .unique(ix.unique() ? Boolean.TRUE : null)
+                    .type(ix.method() == IndexMethod.BTREE ? null : ix.method().name())
+                    .build());
+        }
+    }
+
     private ConstraintType inferConstraintType(Element element, String fieldName) {
         Column col = element.getAnnotation(Column.class);
         if (col != null && col.unique()) return ConstraintType.UNIQUE;
@@ -7,6 +7,7 @@ import org.jinx.descriptor.FieldAttributeDescriptor;
 import org.jinx.model.ColumnModel;
 import org.jinx.model.ConstraintModel;
 import org.jinx.model.EntityModel;
+import org.jinx.model.IndexKeyPart;
 import org.jinx.model.IndexModel;
 import org.jinx.model.RelationshipModel;
 import org.jinx.model.RelationshipType;
@@ -260,11 +261,11 @@ public class ElementCollectionHandler {
                 }
             }
             
-            // Validate columns referenced by indexes.
+            // Validate columns referenced by indexes; expression keys (e.g. lower(tag)) are not column names.
             for (IndexModel ix : pendingIndexes) {
-                for (String colName : ix.getColumnNames()) {
-                    if (!cols.contains(colName.toLowerCase(java.util.Locale.ROOT))) {
-                        addError("Index '" + ix.getIndexName() + "' refers to unknown column: " + colName);
+                for (IndexKeyPart part : IndexKeyPart.partsOf(ix)) {
+                    if (!part.hasExpression() && !cols.contains(part.getColumn().toLowerCase(java.util.Locale.ROOT))) {
+                        addError("Index '" + ix.getIndexName() + "' refers to unknown column: " + part.getColumn());
                     }
                 }
             }
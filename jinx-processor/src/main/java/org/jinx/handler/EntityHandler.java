@@ -3,6 +3,9 @@ package org.jinx.handler;
 import jakarta.persistence.*;
 import org.jinx.context.ProcessingContext;
 import org.jinx.descriptor.AttributeDescriptor;
+import org.jinx.annotation.Partition;
+import org.jinx.annotation.Partitioned;
+import org.jinx.annotation.TableOptions;
 import org.jinx.handler.builtins.SecondaryTableAdapter;
 import org.jinx.handler.builtins.TableAdapter;
 import org.jinx.handler.relationship.RelationshipSupport;
@@ -66,6 +69,9 @@ public class EntityHandler {
 
         // 2. Process table metadata
         processTableMetadata(typeElement, entity);
+        processJinxIndexes(typeElement, entity);
+        processPartitioning(typeElement, entity);
+        processTableOptions(typeElement, entity);
 
         // 3. Process sequence/table generators
         processGenerators(typeElement);
@@ -234,6 +240,49 @@ public class EntityHandler {
         tableOpt.ifPresent(table -> processTableLike(new TableAdapter(table, context), entity));
     }
 
+    /**
+     * Jinx {@code @Index} carries INCLUDE/WHERE, so it replaces a same-named {@code @Table} index.
+     */
+    private void processJinxIndexes(TypeElement typeElement, EntityModel entity) {
+        List<IndexModel> indexes = new ArrayList<>();
+        constraintHandler.processIndexes(typeElement, entity.getTableName(), indexes);
+        indexes.forEach(ix -> entity.getIndexes().put(ix.getIndexName(), ix));
+    }
+
+    /**
+     * Captures {@code @Partitioned}; key columns are checked against the PK and unique keys in the final round.
+     */
+    private void processPartitioning(TypeElement typeElement, EntityModel entity) {
+        Partitioned partitioned = typeElement.getAnnotation(Partitioned.class);
+        if (partitioned == null) return;
+
+        List<PartitionModel> partitions = new ArrayList<>();
+        for (Partition p : partitioned.partitions()) {
+            partitions.add(PartitionModel.builder()
+                    .name(p.name())
+                    .values(Arrays.stream(p.values()).map(String::trim).toList())
+                    .build());
+        }
+        entity.setPartitioning(PartitioningModel.builder()
+                .strategy(partitioned.strategy())
+                .columns(Arrays.stream(partitioned.columns()).map(String::trim).toList())
+                .partitions(partitions)
+                .partitionCount(partitioned.count() > 0 ? partitioned.count() : null)
+                .build());
+    }
+
+    private void processTableOptions(TypeElement typeElement, EntityModel entity) {
+        TableOptions options = typeElement.getAnnotation(TableOptions.class);
+        if (options == null) return;
+
+        try {
+            entity.setTableOptions(TableOptionsModel.of(options.postgresql(), options.mysql()));
+        } catch (IllegalArgumentException e) {
+            context.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Invalid @TableOptions on " + typeElement.getSimpleName() + ": " + e.getMessage(), typeElement);
+        }
+    }
+
     private void processGenerators(TypeElement typeElement) {
         sequenceHandler.processSequenceGenerators(typeElement);
         tableGeneratorHandler.processTableGenerators(typeElement);
@@ -1,6 +1,8 @@
 package org.jinx.handler;
 
+import jakarta.persistence.Index;
 import org.jinx.model.ConstraintModel;
+import org.jinx.model.IndexKeyPart;
 import org.jinx.model.IndexModel;
 
 import java.util.List;
@@ -15,4 +17,18 @@ public interface TableLike {
     List<ConstraintModel> getConstraints();
     List<IndexModel> getIndexes();
 
+    /**
+     * Starts an {@link IndexModel} from a JPA {@code @Index}, parsing {@code columnList}
+     * ({@code "a, b DESC NULLS LAST, lower(c)"}) with {@link IndexKeyPart#parseList} so every adapter keeps
+     * sort order and expression keys the same way. Callers check for an empty column list and fill in the
+     * name and table.
+     */
+    static IndexModel.IndexModelBuilder indexBuilder(Index idx) {
+        List<IndexKeyPart> parts = IndexKeyPart.parseList(idx.columnList());
+        return IndexModel.builder()
+                .indexName(idx.name())
+                .columnNames(parts.stream().map(IndexKeyPart::target).toList())
+                .keyParts(IndexKeyPart.nullIfPlain(parts))
+                .unique(idx.unique() ? Boolean.TRUE : null);
+    }
 }
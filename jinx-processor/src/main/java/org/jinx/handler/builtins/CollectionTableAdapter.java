@@ -60,28 +60,19 @@ public class CollectionTableAdapter implements TableLike {
     public List<IndexModel> getIndexes() {
         List<IndexModel> indexes = new ArrayList<>();
         for (Index index : collectionTable.indexes()) {
-            // First, trim column names and remove empty tokens.
-            List<String> columnNames = Arrays.stream(index.columnList().split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .toList();
-            
+            IndexModel parsed = TableLike.indexBuilder(index).build();
+            List<String> columnNames = parsed.getColumnNames();
+
             // Skip if the column list is empty.
             if (columnNames.isEmpty()) {
                 continue;
             }
-            
-            // Generate index name from the trimmed column list.
-            String indexName = index.name().isEmpty()
-                ? context.getNaming().ixName(getName(), columnNames)
-                : index.name();
-            
-            IndexModel indexModel = IndexModel.builder()
-                .indexName(indexName)
+
+            // Generate index name from the parsed key columns.
+            indexes.add(parsed.toBuilder()
+                .indexName(index.name().isEmpty() ? context.getNaming().ixName(getName(), columnNames) : index.name())
                 .tableName(getName())
-                .columnNames(columnNames)
-                .build();
-            indexes.add(indexModel);
+                .build());
         }
         return indexes;
     }
@@ -73,10 +73,7 @@ public class SecondaryTableAdapter implements TableLike {
     public List<IndexModel> getIndexes() {
         List<IndexModel> indexes = new ArrayList<>();
         for (Index idx : secondaryTable.indexes()) {
-            indexes.add(IndexModel.builder()
-                    .indexName(idx.name())
-                    .columnNames(Arrays.asList(idx.columnList().split(",\\s*")))
-                    .build());
+            indexes.add(TableLike.indexBuilder(idx).build());
         }
         return indexes;
     }
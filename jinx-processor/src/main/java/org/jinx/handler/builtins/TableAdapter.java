@@ -69,10 +69,7 @@ public class TableAdapter implements TableLike {
     public List<IndexModel> getIndexes() {
         List<IndexModel> indexes = new ArrayList<>();
         for (Index idx : table.indexes()) {
-            indexes.add(IndexModel.builder()
-                    .indexName(idx.name())
-                    .columnNames(Arrays.asList(idx.columnList().split(",\\s*")))
-                    .build());
+            indexes.add(TableLike.indexBuilder(idx).build());
         }
         return indexes;
     }
@@ -9,6 +9,8 @@ import org.jinx.handler.*;
 import org.jinx.model.ClassInfoModel;
 import org.jinx.model.EntityModel;
 import org.jinx.model.SchemaModel;
+import org.jinx.migration.advisor.PartitionKeyValidator;
+import org.jinx.migration.advisor.RedundantIndexAnalyzer;
 import org.jinx.options.JinxOptions;
 import org.jinx.spi.naming.JinxNamingStrategy;
 import org.jinx.spi.naming.impl.NoOpNamingStrategy;
@@ -305,12 +307,66 @@ public class JpaSqlGeneratorProcessor extends AbstractProcessor {
                     em.setValid(false);
                 }
             }
-            
+
+            // 6. Partition keys must be part of the PK and every unique key
+            reportInvalidPartitioning();
+
+            // 7. Redundant index lint (warnings only)
+            if (isRedundantIndexLintEnabled()) {
+                reportRedundantIndexes();
+            }
+
             context.saveModelToJson();
         }
         return true;
     }
 
+    private void reportInvalidPartitioning() {
+        PartitionKeyValidator validator = new PartitionKeyValidator();
+        for (Map.Entry<String, EntityModel> e : context.getSchemaModel().getEntities().entrySet()) {
+            EntityModel em = e.getValue();
+            if (!em.isValid()) continue;
+            List<String> errors = validator.validate(em);
+            if (errors.isEmpty()) continue;
+            String entityName = em.getFqcn() != null ? em.getFqcn() : e.getKey();
+            TypeElement te = context.getElementUtils().getTypeElement(entityName);
+            for (String error : errors) {
+                if (te != null) {
+                    context.getMessager().printMessage(Diagnostic.Kind.ERROR, error, te);
+                } else {
+                    context.getMessager().printMessage(Diagnostic.Kind.ERROR, error);
+                }
+            }
+            em.setValid(false);
+        }
+    }
+
+    private boolean isRedundantIndexLintEnabled() {
+        Map<String, String> options = processingEnv.getOptions();
+        return options == null || !"false".equalsIgnoreCase(options.get(JinxOptions.Lint.REDUNDANT_INDEXES_KEY));
+    }
+
+    /**
+     * Warns about indexes that duplicate the PK, a unique constraint or a left prefix of a wider index.
+     * Disable with {@code -A}{@value JinxOptions.Lint#REDUNDANT_INDEXES_KEY}{@code =false}.
+     */
+    private void reportRedundantIndexes() {
+        RedundantIndexAnalyzer analyzer = new RedundantIndexAnalyzer();
+        for (Map.Entry<String, EntityModel> e : context.getSchemaModel().getEntities().entrySet()) {
+            EntityModel em = e.getValue();
+            if (!em.isValid()) continue;
+            for (RedundantIndexAnalyzer.Finding finding : analyzer.analyze(em)) {
+                String entityName = em.getFqcn() != null ? em.getFqcn() : e.getKey();
+                TypeElement te = context.getElementUtils().getTypeElement(entityName);
+                if (te != null) {
+                    context.getMessager().printMessage(Diagnostic.Kind.WARNING, finding.message(), te);
+                } else {
+                    context.getMessager().printMessage(Diagnostic.Kind.WARNING, finding.message());
+                }
+            }
+        }
+    }
+
     public void processRetryTasks() {
         entityHandler.runDeferredPostProcessing();
 
@@ -3,9 +3,14 @@ package org.jinx.handler;
 import jakarta.persistence.Column;
 import org.jinx.annotation.Constraint;
 import org.jinx.annotation.Constraints;
+import org.jinx.annotation.Index;
 import org.jinx.context.ProcessingContext;
 import org.jinx.model.ConstraintModel;
 import org.jinx.model.ConstraintType;
+import org.jinx.model.IndexKeyPart;
+import org.jinx.model.IndexMethod;
+import org.jinx.model.IndexModel;
+import org.jinx.naming.DefaultNaming;
 import org.jinx.model.OnDeleteAction;
 import org.jinx.model.OnUpdateAction;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import java.util.ArrayList;
 import java.util.List;
@@ -189,4 +195,51 @@ class ConstraintHandlerTest {
         // Then
         assertThat(constraintsList).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should convert Jinx @Index into IndexModel with include columns, predicate and sort order")
+    void processIndexes_WithIncludeWhereAndDesc_AddsIndexModels() {
+        // Given
+        TypeElement type = mock(TypeElement.class);
+        Index covering = mock(Index.class);
+        when(covering.name()).thenReturn("ix_orders_user_created");
+        when(covering.columnList()).thenReturn("user_id, created_at DESC");
+        when(covering.include()).thenReturn(new String[]{"status", " total "});
+        when(covering.where()).thenReturn("deleted_at IS NULL");
+        when(covering.unique()).thenReturn(false);
+        when(covering.method()).thenReturn(IndexMethod.BTREE);
+        Index unnamed = mock(Index.class);
+        when(unnamed.name()).thenReturn("");
+        when(unnamed.columnList()).thenReturn("code");
+        when(unnamed.include()).thenReturn(new String[]{});
+        when(unnamed.where()).thenReturn("");
+        when(unnamed.unique()).thenReturn(true);
+        when(unnamed.method()).thenReturn(IndexMethod.HASH);
+        when(type.getAnnotationsByType(Index.class)).thenReturn(new Index[]{covering, unnamed});
+        when(context.getNaming()).thenReturn(new DefaultNaming(63));
+        List<IndexModel> indexes = new ArrayList<>();
+
+        // When
+        constraintHandler.processIndexes(type, "orders", indexes);
+
+        // Then
+        assertThat(indexes).hasSize(2);
+        IndexModel first = indexes.get(0);
+        assertThat(first.getIndexName()).isEqualTo("ix_orders_user_created");
+        assertThat(first.getTableName()).isEqualTo("orders");
+        assertThat(first.getColumnNames()).containsExactly("user_id", "created_at");
+        assertThat(first.getKeyParts()).extracting(IndexKeyPart::isDescending).containsExactly(false, true);
+        assertThat(first.getIncludeColumns()).containsExactly("status", "total");
+        assertThat(first.getWhere()).isEqualTo("deleted_at IS NULL");
+        assertThat(first.getUnique()).isNull();
+        assertThat(first.getType()).isNull();
+
+        IndexModel second = indexes.get(1);
+        assertThat(second.getIndexName()).isEqualTo(new DefaultNaming(63).ixName("orders", List.of("code")));
+        assertThat(second.getKeyParts()).isNull();
+        assertThat(second.getIncludeColumns()).isNull();
+        assertThat(second.getWhere()).isNull();
+        assertThat(second.getUnique()).isTrue();
+        assertThat(second.getType()).isEqualTo("HASH");
+    }
 }
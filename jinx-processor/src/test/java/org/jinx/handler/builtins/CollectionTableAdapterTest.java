@@ -274,6 +274,25 @@ class CollectionTableAdapterTest {
         assertThat(indexes.get(0).getIndexName()).isEqualTo("idx_valid");
     }
 
+    @Test
+    @DisplayName("getIndexes - 정렬 방향·표현식 키와 unique를 보존")
+    void getIndexes_KeepsKeyPartsAndUnique() {
+        // GIVEN
+        Index index = createIndex("idx_recent", "created_at DESC, lower(tag)", true);
+        CollectionTable collectionTable = createCollectionTable("test_table", "", "", new Index[]{index}, new UniqueConstraint[]{});
+        CollectionTableAdapter adapter = new CollectionTableAdapter(collectionTable, context);
+
+        // WHEN
+        IndexModel indexModel = adapter.getIndexes().get(0);
+
+        // THEN
+        assertThat(indexModel.getColumnNames()).containsExactly("created_at", "lower(tag)").inOrder();
+        assertThat(indexModel.getKeyParts()).hasSize(2);
+        assertThat(indexModel.getKeyParts().get(0).isDescending()).isTrue();
+        assertThat(indexModel.getKeyParts().get(1).hasExpression()).isTrue();
+        assertThat(indexModel.getUnique()).isTrue();
+    }
+
     @Test
     @DisplayName("getIndexes - 여러 개의 인덱스")
     void getIndexes_WithMultipleIndexes() {
@@ -343,10 +343,25 @@ class SecondaryTableAdapterTest {
         SecondaryTableAdapter adapter = new SecondaryTableAdapter(table, ctx);
 
         List<IndexModel> indexes = adapter.getIndexes();
-        // ,\\s* 정규표현식은 콤마 뒤의 공백만 제거함
         assertThat(indexes.get(0).getColumnNames()).containsExactly("first_name", "last_name", "birth_date").inOrder();
     }
 
+    @Test
+    @DisplayName("getIndexes() - 정렬 방향과 표현식 키는 keyParts로 보존")
+    void getIndexesKeepsKeyParts() {
+        Index idx = createIndex("idx_recent", "created_at DESC, lower(email)");
+        SecondaryTable table = createSecondaryTable("users", "", "", "",
+            new Index[]{idx}, new UniqueConstraint[]{}, new CheckConstraint[]{});
+
+        SecondaryTableAdapter adapter = new SecondaryTableAdapter(table, ctx);
+
+        IndexModel index = adapter.getIndexes().get(0);
+        assertThat(index.getColumnNames()).containsExactly("created_at", "lower(email)").inOrder();
+        assertThat(index.getKeyParts()).hasSize(2);
+        assertThat(index.getKeyParts().get(0).isDescending()).isTrue();
+        assertThat(index.getKeyParts().get(1).hasExpression()).isTrue();
+    }
+
     @Test
     @DisplayName("getIndexes() - 여러 인덱스 처리")
     void getIndexesHandlesMultipleIndexes() {
@@ -1,7 +1,10 @@
 package org.jinx.processor;
 
+import com.google.testing.compile.JavaFileObjects;
 import org.jinx.model.EntityModel;
+import org.jinx.model.IndexModel;
 import org.jinx.model.SchemaModel;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.Optional;
@@ -32,4 +35,63 @@ class ElementCollectionProcessingTest extends AbstractProcessorTest {
                 .anyMatch(e -> "book_tags".equalsIgnoreCase(e.getTableName())))
                 .isTrue();
     }
+
+    @Test
+    @DisplayName("@CollectionTable 인덱스의 식 키는 컬럼 존재 검증에서 제외된다")
+    void collectionTableIndex_allowsExpressionKeys() {
+        var compilation = compile(JavaFileObjects.forSourceString("test.Article", """
+            package test;
+
+            import jakarta.persistence.*;
+            import java.util.HashSet;
+            import java.util.Set;
+
+            @Entity
+            @Table(name = "articles")
+            public class Article {
+                @Id
+                private Long id;
+
+                @ElementCollection
+                @CollectionTable(name = "article_tags", joinColumns = @JoinColumn(name = "article_id"),
+                        indexes = @Index(name = "ix_article_tags_lower", columnList = "lower(tag), article_id"))
+                @Column(name = "tag")
+                private Set<String> tags = new HashSet<>();
+            }
+            """));
+
+        SchemaModel schema = assertCompilationSuccessAndGetSchema(compilation).orElseThrow();
+        EntityModel tags = schema.getEntities().values().stream()
+                .filter(e -> "article_tags".equalsIgnoreCase(e.getTableName()))
+                .findFirst()
+                .orElseThrow();
+        IndexModel index = tags.getIndexes().get("ix_article_tags_lower");
+        assertThat(index).isNotNull();
+        assertThat(index.getColumnNames()).containsExactly("lower(tag)", "article_id");
+    }
+
+    @Test
+    @DisplayName("@CollectionTable 인덱스가 없는 컬럼을 가리키면 컴파일 오류가 난다")
+    void collectionTableIndex_rejectsUnknownColumn() {
+        assertCompilationError("refers to unknown column: missing", JavaFileObjects.forSourceString("test.Article", """
+            package test;
+
+            import jakarta.persistence.*;
+            import java.util.HashSet;
+            import java.util.Set;
+
+            @Entity
+            @Table(name = "articles")
+            public class Article {
+                @Id
+                private Long id;
+
+                @ElementCollection
+                @CollectionTable(name = "article_tags", joinColumns = @JoinColumn(name = "article_id"),
+                        indexes = @Index(name = "ix_article_tags_missing", columnList = "lower(tag), missing"))
+                @Column(name = "tag")
+                private Set<String> tags = new HashSet<>();
+            }
+            """));
+    }
 }
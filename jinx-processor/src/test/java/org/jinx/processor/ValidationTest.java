@@ -11,4 +11,12 @@ class ValidationTest extends AbstractProcessorTest {
                 source("entities/InvalidUser.java")
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPartitionKeyOutsidePrimaryKeyShouldFail() {
+        assertCompilationError(
+                "Primary key [id] of partitioned table events must include all partition key columns [created_on].",
+                source("entities/partitioned/PartitionedEvent.java")
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package entities.partitioned;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.jinx.annotation.Partition;
+import org.jinx.annotation.Partitioned;
+import org.jinx.model.PartitionStrategy;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "events")
+@Partitioned(strategy = PartitionStrategy.RANGE, columns = "created_on", partitions = {
+        @Partition(name = "p2024", values = "'2025-01-01'"),
+        @Partition(name = "pmax")
+})
+public class PartitionedEvent {
+    @Id
+    private Long id;
+
+    @Column(name = "created_on")
+    private LocalDate createdOn;
+}